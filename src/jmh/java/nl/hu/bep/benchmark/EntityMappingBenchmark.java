@@ -0,0 +1,96 @@
+package nl.hu.bep.benchmark;
+
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.domain.value.Dimensions;
+import nl.hu.bep.domain.enums.SubstrateType;
+import nl.hu.bep.presentation.dto.mapper.EntityMapper;
+import nl.hu.bep.presentation.dto.response.AccessoryResponse;
+import nl.hu.bep.presentation.dto.response.AquariumResponse;
+import nl.hu.bep.presentation.dto.response.InhabitantResponse;
+import nl.hu.bep.presentation.dto.response.OrnamentResponse;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain reconstruction and domain-to-DTO mapping, the per-row work behind every list endpoint.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityMappingBenchmark {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private EntityMapper mapper;
+    private Aquarium aquarium;
+    private Accessory accessory;
+    private Inhabitant inhabitant;
+    private Ornament ornament;
+    private List<Inhabitant> inhabitants;
+
+    @Setup
+    public void setUp() {
+        mapper = new EntityMapper();
+        aquarium = Aquarium.reconstruct(42L, "Community Tank", new Dimensions(100.0, 40.0, 50.0),
+                SubstrateType.SAND, WaterType.FRESHWATER, 25.0, AquariumState.RUNNING, CREATED,
+                "Black", "Planted community tank", CREATED, 1L, 7L);
+        accessory = Accessory.reconstruct("Lighting", 11L, "Fluval Plant 3.0", "FL-2024-001", 7L, 42L,
+                "Silver", "Main light", CREATED, false, 0, true, LocalTime.of(8, 0), LocalTime.of(20, 0), 0, 0, 0);
+        inhabitant = reconstructInhabitant(101L);
+        ornament = Ornament.reconstruct(5L, "Castle", "Resin castle", "Grey", "Resin", true, 7L, 42L, CREATED);
+        inhabitants = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            inhabitants.add(reconstructInhabitant(id));
+        }
+    }
+
+    @Benchmark
+    public Inhabitant reconstructInhabitant() {
+        return reconstructInhabitant(101L);
+    }
+
+    @Benchmark
+    public AquariumResponse mapAquarium() {
+        return mapper.mapToAquariumResponse(aquarium);
+    }
+
+    @Benchmark
+    public AccessoryResponse mapAccessory() {
+        return mapper.mapToAccessoryResponse(accessory);
+    }
+
+    @Benchmark
+    public InhabitantResponse mapInhabitant() {
+        return mapper.mapToInhabitantResponse(inhabitant);
+    }
+
+    @Benchmark
+    public OrnamentResponse mapOrnament() {
+        return mapper.mapToOrnamentResponse(ornament);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<InhabitantResponse> mapHundredInhabitants() {
+        return mapper.mapToInhabitantResponses(inhabitants);
+    }
+
+    private static Inhabitant reconstructInhabitant(long id) {
+        return Inhabitant.reconstruct("Fish", id, "Paracheirodon innesi", "Blue", 12, true, WaterType.FRESHWATER,
+                7L, "Neon tetras", "School of neons", CREATED, 42L, false, false, false);
+    }
+}
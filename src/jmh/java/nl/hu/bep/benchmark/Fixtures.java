@@ -0,0 +1,109 @@
+package nl.hu.bep.benchmark;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Representative rows for each table, shaped like what the PostgreSQL driver returns for {@code SELECT *}.
+ */
+public final class Fixtures {
+
+    private static final Timestamp CREATED = Timestamp.valueOf(LocalDateTime.of(2024, 6, 1, 12, 0));
+
+    private Fixtures() {
+    }
+
+    public static Map<String, Object> aquariumRow() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 42L);
+        row.put("name", "Community Tank");
+        row.put("length", 100.0);
+        row.put("width", 40.0);
+        row.put("height", 50.0);
+        row.put("substrate", "SAND");
+        row.put("water_type", "FRESHWATER");
+        row.put("temperature", 25.0);
+        row.put("state", "RUNNING");
+        row.put("current_state_start_time", CREATED);
+        row.put("color", "Black");
+        row.put("description", "Planted community tank");
+        row.put("date_created", CREATED);
+        row.put("owner_id", 7L);
+        row.put("aquarium_manager_id", 1L);
+        return row;
+    }
+
+    public static Map<String, Object> accessoryRow() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 11L);
+        row.put("accessory_type", "Lighting");
+        row.put("model", "Fluval Plant 3.0");
+        row.put("serial_number", "FL-2024-001");
+        row.put("color", "Silver");
+        row.put("description", "Main light");
+        row.put("date_created", CREATED);
+        row.put("owner_id", 7L);
+        row.put("aquarium_id", 42L);
+        row.put("is_external", false);
+        row.put("capacity_liters", null);
+        row.put("is_led", true);
+        row.put("time_on", Time.valueOf(LocalTime.of(8, 0)));
+        row.put("time_off", Time.valueOf(LocalTime.of(20, 0)));
+        row.put("min_temperature", null);
+        row.put("max_temperature", null);
+        row.put("current_temperature", null);
+        return row;
+    }
+
+    public static Map<String, Object> inhabitantRow() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 101L);
+        row.put("inhabitant_type", "Fish");
+        row.put("species", "Paracheirodon innesi");
+        row.put("color", "Blue");
+        row.put("count", 12);
+        row.put("is_schooling", true);
+        row.put("water_type", "FRESHWATER");
+        row.put("name", "Neon tetras");
+        row.put("description", "School of neons");
+        row.put("date_created", CREATED);
+        row.put("owner_id", 7L);
+        row.put("aquarium_id", 42L);
+        row.put("is_aggressive_eater", false);
+        row.put("requires_special_food", false);
+        row.put("is_snail_eater", false);
+        return row;
+    }
+
+    public static Map<String, Object> ornamentRow() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 5L);
+        row.put("name", "Castle");
+        row.put("description", "Resin castle");
+        row.put("color", "Grey");
+        row.put("material", "Resin");
+        row.put("is_air_pump_compatible", true);
+        row.put("date_created", CREATED);
+        row.put("owner_id", 7L);
+        row.put("aquarium_id", 42L);
+        return row;
+    }
+
+    public static Map<String, Object> ownerRow() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 7L);
+        row.put("first_name", "Test");
+        row.put("last_name", "Owner");
+        row.put("email", "test@aquarium.com");
+        row.put("password", "$2a$10$e8h4q2VfAzv3u.TgXm7hYOHkGX4hjI4fL.CaHu.WVqKYqUB8ys.q2");
+        row.put("role", "OWNER");
+        row.put("last_login", CREATED);
+        row.put("date_created", CREATED);
+        row.put("aquarium_manager_id", 1L);
+        return row;
+    }
+}
@@ -0,0 +1,98 @@
+package nl.hu.bep.benchmark;
+
+import nl.hu.bep.config.ConnectionPermits;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A burst of concurrent requests, each making three short-lived JDBC round trips the way the
+ * repositories do, on a Tomcat-sized platform pool versus one virtual thread per request. Round trips
+ * are simulated by parking while holding a connection permit, so no database is needed. VIRTUAL needs
+ * a Java 21 runtime: {@code mvn -Pbenchmarks,java21 test-compile exec:exec -Djmh.args=RequestExecution}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestExecutionBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int QUERIES_PER_REQUEST = 3;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String mode;
+
+    @Param({"20", "100"})
+    public int maxConnections;
+
+    @Param({"2000"})
+    public int requests;
+
+    @Param({"5"})
+    public int roundTripMillis;
+
+    private ExecutorService executor;
+    private ConnectionPermits permits;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        executor = mode.equals("PLATFORM")
+                ? Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)
+                : virtualThreadExecutor();
+        permits = new ConnectionPermits(maxConnections, TimeUnit.MINUTES.toMillis(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void burst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            executor.execute(() -> {
+                try {
+                    handleRequest();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void handleRequest() {
+        for (int query = 0; query < QUERIES_PER_REQUEST; query++) {
+            try {
+                permits.acquire();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            try {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(roundTripMillis));
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private static ExecutorService virtualThreadExecutor() throws ReflectiveOperationException {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("VIRTUAL mode needs a Java 21 runtime (" + Runtime.version() + ")", e);
+        }
+    }
+}
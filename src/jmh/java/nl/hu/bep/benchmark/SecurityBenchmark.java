@@ -0,0 +1,41 @@
+package nl.hu.bep.benchmark;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import nl.hu.bep.domain.utils.Validator;
+import nl.hu.bep.security.application.service.JwtService;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request security work: token verification in the security filter and email validation at login.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SecurityBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        token = jwtService.generateToken(7L, "test@aquarium.com");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public DecodedJWT verifyToken() {
+        return jwtService.verifyToken(token);
+    }
+
+    @Benchmark
+    public String validateEmail() {
+        return Validator.email("first.last+filter@sub.example.com");
+    }
+}
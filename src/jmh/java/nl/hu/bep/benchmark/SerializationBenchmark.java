@@ -0,0 +1,60 @@
+package nl.hu.bep.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nl.hu.bep.config.JacksonConfig;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.enums.SubstrateType;
+import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.presentation.dto.response.ApiResponse;
+import nl.hu.bep.presentation.dto.response.AquariumResponse;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of API envelopes with the application's configured {@link ObjectMapper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    private ObjectMapper mapper;
+    private ApiResponse<AquariumResponse> single;
+    private ApiResponse<List<AquariumResponse>> page;
+
+    @Setup
+    public void setUp() {
+        mapper = new JacksonConfig().getContext(ApiResponse.class);
+        List<AquariumResponse> aquariums = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            aquariums.add(aquarium(id));
+        }
+        single = ApiResponse.success(aquarium(42L), "Aquarium retrieved successfully");
+        page = ApiResponse.success(aquariums, "Aquariums retrieved successfully");
+    }
+
+    @Benchmark
+    public byte[] serializeSingleAquarium() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializeFiftyAquariums() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    private static AquariumResponse aquarium(long id) {
+        LocalDateTime created = LocalDateTime.of(2024, 6, 1, 12, 0);
+        return new AquariumResponse(id, "Tank " + id, 100.0, 40.0, 50.0, SubstrateType.SAND, WaterType.FRESHWATER,
+                25.0, AquariumState.RUNNING, created, "Black", "Planted community tank", created, 7L, 1L);
+    }
+}
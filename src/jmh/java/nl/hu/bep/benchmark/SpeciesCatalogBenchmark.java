@@ -0,0 +1,50 @@
+package nl.hu.bep.benchmark;
+
+import nl.hu.bep.application.species.SpeciesTrie;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Species autocomplete lookups against a catalog of {@code speciesCount} names. A one-letter prefix
+ * visits a large part of the trie and is the slowest case a user can trigger.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpeciesCatalogBenchmark {
+
+    private static final String[] WORDS = {"Neon", "Cardinal", "Cherry", "Tiger", "Dwarf", "Golden", "Blue",
+            "Red", "Zebra", "Pygmy", "Tetra", "Barb", "Shrimp", "Snail", "Gourami", "Danio", "Pleco", "Coral"};
+
+    @Param({"5000"})
+    public int speciesCount;
+
+    private SpeciesTrie trie;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        trie = new SpeciesTrie();
+        for (int i = 0; i < speciesCount; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            trie.add(name, random.nextInt(100));
+        }
+    }
+
+    @Benchmark
+    public List<SpeciesTrie.Match> completeOneLetter() {
+        return trie.complete("n", 10);
+    }
+
+    @Benchmark
+    public List<SpeciesTrie.Match> completeWord() {
+        return trie.complete("neon te", 10);
+    }
+}
@@ -0,0 +1,106 @@
+package nl.hu.bep.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ResultSet} backed by a column map, so row mappers can be benchmarked without a database.
+ * Only the getters the repositories use are supported, by label and by index, plus the metadata calls
+ * needed to resolve indexes. The proxy dispatch cost is constant across runs.
+ */
+public final class StubResultSet implements InvocationHandler {
+
+    private final Map<String, Object> row;
+    private final List<String> labels;
+    private final int rowCount;
+    private int position;
+    private boolean lastWasNull;
+
+    private StubResultSet(Map<String, Object> row, int rowCount) {
+        this.row = row;
+        this.labels = new ArrayList<>(row.keySet());
+        this.rowCount = rowCount;
+    }
+
+    /** A result set whose {@code next} always succeeds, for mapping the current row repeatedly. */
+    public static ResultSet of(Map<String, Object> row) {
+        return create(new StubResultSet(row, Integer.MAX_VALUE));
+    }
+
+    /** A result set that returns the same row {@code rowCount} times, rewound with {@code beforeFirst}. */
+    public static ResultSet repeating(Map<String, Object> row, int rowCount) {
+        return create(new StubResultSet(row, rowCount));
+    }
+
+    private static ResultSet create(StubResultSet handler) {
+        return (ResultSet) Proxy.newProxyInstance(
+                StubResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class},
+                handler);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        switch (name) {
+            case "wasNull":
+                return lastWasNull;
+            case "next":
+                return position++ < rowCount;
+            case "beforeFirst":
+                position = 0;
+                return null;
+            case "close":
+                return null;
+            case "isClosed":
+                return Boolean.FALSE;
+            case "getMetaData":
+                return metaData();
+            default:
+                break;
+        }
+        if (args == null || args.length != 1) {
+            throw new UnsupportedOperationException(name);
+        }
+        String column;
+        if (args[0] instanceof String label) {
+            column = label;
+        } else if (args[0] instanceof Integer index) {
+            column = labels.get(index - 1);
+        } else {
+            throw new UnsupportedOperationException(name);
+        }
+        Object value = row.get(column);
+        lastWasNull = value == null;
+        return switch (name) {
+            case "getString" -> value == null ? null : value.toString();
+            case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+            case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+            case "getDouble" -> value == null ? 0.0 : ((Number) value).doubleValue();
+            case "getBoolean" -> value != null && (Boolean) value;
+            case "getTimestamp" -> (Timestamp) value;
+            case "getTime" -> (Time) value;
+            case "getObject" -> value;
+            default -> throw new UnsupportedOperationException(name);
+        };
+    }
+
+    private ResultSetMetaData metaData() {
+        return (ResultSetMetaData) Proxy.newProxyInstance(
+                StubResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSetMetaData.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> labels.size();
+                    case "getColumnLabel", "getColumnName" -> labels.get((Integer) args[0] - 1);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,106 @@
+package nl.hu.bep.data;
+
+import nl.hu.bep.benchmark.Fixtures;
+import nl.hu.bep.benchmark.StubResultSet;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.Owner;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning {@code SELECT *} rows into domain objects: one row including column resolution, and a
+ * whole result set where the resolved mapper is reused. Lives in the data package because the mapping
+ * methods are protected.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RowMappingBenchmark {
+
+    private AquariumRepositoryImpl aquariumRepository;
+    private AccessoryRepositoryImpl accessoryRepository;
+    private InhabitantRepositoryImpl inhabitantRepository;
+    private OrnamentRepositoryImpl ornamentRepository;
+    private OwnerRepositoryImpl ownerRepository;
+
+    private ResultSet aquariumRow;
+    private ResultSet accessoryRow;
+    private ResultSet inhabitantRow;
+    private ResultSet ornamentRow;
+    private ResultSet ownerRow;
+    private ResultSet aquariumRows;
+    private ResultSet accessoryRows;
+
+    @Param({"1000"})
+    private int rowCount;
+
+    @Setup
+    public void setUp() {
+        aquariumRepository = new AquariumRepositoryImpl(null);
+        accessoryRepository = new AccessoryRepositoryImpl(null);
+        inhabitantRepository = new InhabitantRepositoryImpl(null);
+        ornamentRepository = new OrnamentRepositoryImpl(null);
+        ownerRepository = new OwnerRepositoryImpl(null);
+
+        aquariumRow = StubResultSet.of(Fixtures.aquariumRow());
+        accessoryRow = StubResultSet.of(Fixtures.accessoryRow());
+        inhabitantRow = StubResultSet.of(Fixtures.inhabitantRow());
+        ornamentRow = StubResultSet.of(Fixtures.ornamentRow());
+        ownerRow = StubResultSet.of(Fixtures.ownerRow());
+        aquariumRows = StubResultSet.repeating(Fixtures.aquariumRow(), rowCount);
+        accessoryRows = StubResultSet.repeating(Fixtures.accessoryRow(), rowCount);
+    }
+
+    @Benchmark
+    public Aquarium mapAquarium() throws SQLException {
+        return aquariumRepository.mapRow(aquariumRow);
+    }
+
+    @Benchmark
+    public Accessory mapAccessory() throws SQLException {
+        return accessoryRepository.mapRow(accessoryRow);
+    }
+
+    @Benchmark
+    public Inhabitant mapInhabitant() throws SQLException {
+        return inhabitantRepository.mapRow(inhabitantRow);
+    }
+
+    @Benchmark
+    public Ornament mapOrnament() throws SQLException {
+        return ornamentRepository.mapRow(ornamentRow);
+    }
+
+    @Benchmark
+    public Owner mapOwner() throws SQLException {
+        return ownerRepository.mapRow(ownerRow);
+    }
+
+    @Benchmark
+    public List<Aquarium> mapAquariumList() throws SQLException {
+        aquariumRows.beforeFirst();
+        List<Aquarium> result = new ArrayList<>(rowCount);
+        aquariumRepository.mapAll(aquariumRows, result);
+        return result;
+    }
+
+    @Benchmark
+    public List<Accessory> mapAccessoryList() throws SQLException {
+        accessoryRows.beforeFirst();
+        List<Accessory> result = new ArrayList<>(rowCount);
+        accessoryRepository.mapAll(accessoryRows, result);
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+package nl.hu.bep;
+
+import lombok.extern.slf4j.Slf4j;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.security.application.service.JwtService;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The training run behind the AppCDS archive: sends the embedded server one of each common kind of
+ * request so that Jersey, HK2, Jackson, java-jwt and the error paths load the classes they need at run
+ * time, not just at boot. No database is needed. Requests that need one fail, and that loads the
+ * pgjdbc and exception-mapping classes as well.
+ */
+@Slf4j
+final class CdsTraining {
+
+    private static final String LOGIN_BODY = "{\"email\":\"training@aquarium.local\",\"password\":\"training\"}";
+
+    private CdsTraining() {
+    }
+
+    static void exercise(URI rootUri) {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String bearer = AquariumConstants.BEARER_SCHEME + " " + new JwtService().generateToken(1L, "training@aquarium.local");
+
+        List<HttpRequest> requests = List.of(
+                get(rootUri, "health").build(),
+                get(rootUri, "metrics").build(),
+                get(rootUri, "api/").build(),
+                get(rootUri, "api/health/ready").build(),
+                get(rootUri, "api/aquariums").build(),
+                get(rootUri, "api/aquariums").header("Authorization", bearer).build(),
+                get(rootUri, "api/aquariums/1").header("Authorization", bearer).build(),
+                HttpRequest.newBuilder(rootUri.resolve("api/aquariums"))
+                        .method("OPTIONS", HttpRequest.BodyPublishers.noBody()).build(),
+                HttpRequest.newBuilder(rootUri.resolve("api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(LOGIN_BODY)).build());
+
+        for (HttpRequest request : requests) {
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                log.info("Training {} {} -> {}", request.method(), request.uri().getPath(), response.statusCode());
+            } catch (IOException e) {
+                log.warn("Training {} {} failed: {}", request.method(), request.uri().getPath(), e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static HttpRequest.Builder get(URI rootUri, String path) {
+        return HttpRequest.newBuilder(rootUri.resolve(path)).timeout(Duration.ofSeconds(10)).GET();
+    }
+}
@@ -0,0 +1,121 @@
+package nl.hu.bep;
+
+import lombok.extern.slf4j.Slf4j;
+import nl.hu.bep.application.metrics.RequestMetrics;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.config.JerseyCorsFilter;
+import org.glassfish.grizzly.http.server.HttpHandler;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.grizzly.http.server.Response;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Runs {@link AquariumApplication} on an embedded Grizzly server instead of deploying the WAR into Tomcat.
+ * Nothing is scanned at startup: Weld is not on the launcher's classpath and Jersey only sees the packages
+ * {@link AquariumApplication} lists. {@code /health} and {@code /metrics} answer as they do in the WAR,
+ * and the time to first accepted request is logged and exported as a gauge. With
+ * {@code -Daquarium.cds.training=true} the launcher runs {@link CdsTraining} and exits, which is how the
+ * {@code appcds} profile records its class-data-sharing archive.
+ *
+ * <pre>
+ * mvn -Pembedded package -DskipTests
+ * java -jar target/embedded/aquarium-api-embedded.jar
+ * </pre>
+ */
+@Slf4j
+public final class EmbeddedServer {
+
+    static final String HOST_PROPERTY = "aquarium.http.host";
+    static final String CDS_TRAINING_PROPERTY = "aquarium.cds.training";
+    static final String DEFAULT_PORT = "8080";
+
+    private EmbeddedServer() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long launchStart = System.nanoTime();
+        String host = System.getProperty(HOST_PROPERTY, "0.0.0.0");
+        String port = System.getenv().getOrDefault("PORT", DEFAULT_PORT);
+        HttpServer server = start(URI.create("http://" + host + ":" + port + "/"));
+        long bootMillis = (System.nanoTime() - launchStart) / 1_000_000;
+        long jvmUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        StatusHandlers.startupSeconds = jvmUptimeMillis / 1000.0;
+        log.info("Aquarium API listening on port {}: application booted in {} ms, {} ms since JVM start",
+                port, bootMillis, jvmUptimeMillis);
+
+        if (Boolean.getBoolean(CDS_TRAINING_PROPERTY)) {
+            CdsTraining.exercise(URI.create("http://localhost:" + port + "/"));
+            server.shutdownNow();
+            // The archive is written as the VM exits
+            System.exit(0);
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(server::shutdownNow, "embedded-server-shutdown"));
+        Thread.currentThread().join();
+    }
+
+    static HttpServer start(URI rootUri) {
+        AquariumApplication application = new AquariumApplication();
+        application.register(JerseyCorsFilter.class);
+        // Grizzly honours @ApplicationPath("/api"), so the application is mounted at the root
+        HttpServer server = GrizzlyHttpServerFactory.createHttpServer(rootUri, application, false);
+        server.getServerConfiguration().addHttpHandler(new StatusHandlers.Health(), AquariumConstants.HEALTH_PATH);
+        server.getServerConfiguration().addHttpHandler(new StatusHandlers.Metrics(), "/metrics");
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start embedded server on " + rootUri, e);
+        }
+        return server;
+    }
+
+    /**
+     * The embedded equivalents of {@code HealthCheckServlet} and {@code MetricsServlet}, which need a
+     * servlet container.
+     */
+    static final class StatusHandlers {
+
+        static volatile double startupSeconds = Double.NaN;
+
+        private StatusHandlers() {
+        }
+
+        static final class Health extends HttpHandler {
+            @Override
+            public void service(Request request, Response response) throws IOException {
+                response.setContentType("application/json");
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                if ("HEAD".equals(request.getMethod().getMethodString())) {
+                    return;
+                }
+                response.getWriter().write(String.format(
+                        "{\"status\":\"UP\",\"timestamp\":%d,\"service\":\"AquariumAPI\"}",
+                        System.currentTimeMillis()));
+            }
+        }
+
+        static final class Metrics extends HttpHandler {
+            @Override
+            public void service(Request request, Response response) throws IOException {
+                response.setContentType("text/plain; version=0.0.4");
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                StringBuilder body = new StringBuilder(RequestMetrics.getInstance().scrape());
+                if (!Double.isNaN(startupSeconds)) {
+                    body.append("# HELP aquarium_startup_seconds Time from JVM start to the first accepted request\n")
+                            .append("# TYPE aquarium_startup_seconds gauge\n")
+                            .append("aquarium_startup_seconds ")
+                            .append(String.format(Locale.ROOT, "%.3f", startupSeconds))
+                            .append('\n');
+                }
+                response.getWriter().write(body.toString());
+            }
+        }
+    }
+}
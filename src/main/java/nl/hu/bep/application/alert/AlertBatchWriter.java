@@ -0,0 +1,167 @@
+package nl.hu.bep.application.alert;
+
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.data.interfaces.ThermostatAlertRepository;
+import nl.hu.bep.domain.ThermostatAlert;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.glassfish.hk2.api.PostConstruct;
+import org.glassfish.hk2.api.PreDestroy;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers alerts and writes them with one batched INSERT per flush instead of a round trip per alert.
+ * Flushes happen on a fixed interval, as soon as a full batch is queued, and on shutdown.
+ *
+ * <p>A batch the database rejects for a constraint violation, such as an alert for a thermostat deleted
+ * since it was queued, is written again row by row so only the offending alerts are dropped. Any other
+ * failure puts the batch back in the queue for the next flush.
+ */
+@Slf4j
+public class AlertBatchWriter implements PostConstruct, PreDestroy {
+
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+
+    private final ThermostatAlertRepository alertRepository;
+    private final BlockingQueue<ThermostatAlert> pending =
+            new LinkedBlockingQueue<>(AquariumConstants.ALERT_QUEUE_CAPACITY);
+    // A lock rather than synchronized: flush blocks on JDBC and must not pin a virtual thread's carrier
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private ScheduledExecutorService flusher;
+
+    @Inject
+    public AlertBatchWriter(ThermostatAlertRepository alertRepository) {
+        this.alertRepository = alertRepository;
+    }
+
+    @Override
+    public void postConstruct() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "thermostat-alert-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = AquariumConstants.ALERT_FLUSH_INTERVAL_SECONDS;
+        flusher.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void preDestroy() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flushSafely();
+    }
+
+    public void enqueue(ThermostatAlert alert) {
+        if (!pending.offer(alert)) {
+            log.warn("Alert queue full, dropping {} alert for accessory {}", alert.type(), alert.accessoryId());
+            return;
+        }
+        if (flusher != null && pending.size() >= AquariumConstants.ALERT_BATCH_SIZE) {
+            flusher.execute(this::flushSafely);
+        }
+    }
+
+    /**
+     * Writes everything queued so far. Runs on the writer's own thread and at shutdown, never for a reader.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            for (List<ThermostatAlert> batch = nextBatch(); !batch.isEmpty(); batch = nextBatch()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** Drops the queued alerts of an accessory that no longer exists, so they never reach the database. */
+    public void discard(Long accessoryId) {
+        pending.removeIf(alert -> alert.accessoryId().equals(accessoryId));
+    }
+
+    /** The alerts of {@code ownerId} still waiting to be written, oldest first. */
+    public List<ThermostatAlert> pendingFor(Long ownerId) {
+        List<ThermostatAlert> alerts = new ArrayList<>();
+        for (ThermostatAlert alert : pending) {
+            if (alert.ownerId().equals(ownerId)) {
+                alerts.add(alert);
+            }
+        }
+        return alerts;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private List<ThermostatAlert> nextBatch() {
+        List<ThermostatAlert> batch = new ArrayList<>(AquariumConstants.ALERT_BATCH_SIZE);
+        pending.drainTo(batch, AquariumConstants.ALERT_BATCH_SIZE);
+        return batch;
+    }
+
+    private void write(List<ThermostatAlert> batch) {
+        try {
+            alertRepository.insertAll(batch);
+            return;
+        } catch (RuntimeException e) {
+            if (!isRejected(e)) {
+                requeue(batch);
+                throw e;
+            }
+            log.warn("Batch of {} thermostat alerts rejected, writing them one by one: {}", batch.size(), e.getMessage());
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            ThermostatAlert alert = batch.get(i);
+            try {
+                alertRepository.insertAll(List.of(alert));
+            } catch (RuntimeException e) {
+                if (!isRejected(e)) {
+                    requeue(batch.subList(i, batch.size()));
+                    throw e;
+                }
+                log.warn("Dropping {} alert for accessory {}: {}", alert.type(), alert.accessoryId(), e.getMessage());
+            }
+        }
+    }
+
+    private void requeue(List<ThermostatAlert> alerts) {
+        for (ThermostatAlert alert : alerts) {
+            if (!pending.offer(alert)) {
+                log.warn("Alert queue full, dropping {} alert for accessory {}", alert.type(), alert.accessoryId());
+            }
+        }
+    }
+
+    /** Whether the database refused the data itself (SQLState class 23) rather than failing to run the insert. */
+    private static boolean isRejected(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+                return sqlException.getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION);
+            }
+        }
+        return false;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Writing thermostat alerts failed: {}", e.getMessage(), e);
+        }
+    }
+}
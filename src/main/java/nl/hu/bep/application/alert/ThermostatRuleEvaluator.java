@@ -0,0 +1,193 @@
+package nl.hu.bep.application.alert;
+
+import nl.hu.bep.domain.ThermostatAlert;
+
+/**
+ * Tracks the alert state of every thermostat and decides whether a new reading should raise an alert.
+ *
+ * <p>State lives in parallel primitive arrays behind an open-addressing table keyed by accessory id,
+ * so evaluating a reading allocates nothing. A sensor leaves an excursion only once it is back inside
+ * its range by the hysteresis margin, and the same alert is not raised twice for one sensor within
+ * the cooldown window. Not thread-safe; callers serialize access.
+ */
+public class ThermostatRuleEvaluator {
+
+    private static final long EMPTY = 0L;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final byte IN_RANGE = 0;
+    private static final byte TOO_COLD = 1;
+    private static final byte TOO_HOT = 2;
+
+    private final double hysteresis;
+    private final long cooldownMillis;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private byte[] states = new byte[INITIAL_CAPACITY];
+    private boolean[] excursionAlerted = new boolean[INITIAL_CAPACITY];
+    private byte[] lastAlertStates = new byte[INITIAL_CAPACITY];
+    private long[] lastAlertAt = new long[INITIAL_CAPACITY];
+    private int size;
+
+    public ThermostatRuleEvaluator(double hysteresis, long cooldownMillis) {
+        this.hysteresis = hysteresis;
+        this.cooldownMillis = cooldownMillis;
+    }
+
+    /**
+     * Feeds a reading for a sensor and returns the alert to raise, or {@code null} if nothing changed
+     * or the alert is suppressed by the cooldown.
+     */
+    public ThermostatAlert.Type evaluate(long accessoryId, double current, double min, double max, long nowMillis) {
+        if (accessoryId <= 0) {
+            throw new IllegalArgumentException("Accessory id must be positive");
+        }
+        int slot = slotFor(accessoryId);
+        byte previous = states[slot];
+        byte next = nextState(previous, current, min, max);
+        if (next == previous) {
+            return null;
+        }
+        states[slot] = next;
+
+        if (next == IN_RANGE) {
+            boolean notify = excursionAlerted[slot];
+            excursionAlerted[slot] = false;
+            return notify ? ThermostatAlert.Type.BACK_IN_RANGE : null;
+        }
+
+        boolean coolingDown = lastAlertStates[slot] == next && nowMillis - lastAlertAt[slot] < cooldownMillis;
+        excursionAlerted[slot] = !coolingDown;
+        if (coolingDown) {
+            return null;
+        }
+        lastAlertStates[slot] = next;
+        lastAlertAt[slot] = nowMillis;
+        return next == TOO_COLD ? ThermostatAlert.Type.TOO_COLD : ThermostatAlert.Type.TOO_HOT;
+    }
+
+    public void forget(long accessoryId) {
+        int slot = indexOf(accessoryId);
+        if (slot < 0) {
+            return;
+        }
+        // Backward-shift deletion keeps every remaining key reachable from its home slot.
+        int mask = keys.length - 1;
+        int hole = slot;
+        int probe = (hole + 1) & mask;
+        while (keys[probe] != EMPTY) {
+            int home = home(keys[probe], mask);
+            if (((probe - home) & mask) >= ((probe - hole) & mask)) {
+                moveSlot(probe, hole);
+                hole = probe;
+            }
+            probe = (probe + 1) & mask;
+        }
+        clearSlot(hole);
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private byte nextState(byte previous, double current, double min, double max) {
+        if (current < min) {
+            return TOO_COLD;
+        }
+        if (current > max) {
+            return TOO_HOT;
+        }
+        // Narrow ranges would otherwise never clear the margin, so cap it at half the range.
+        double margin = Math.min(hysteresis, (max - min) / 2);
+        if (previous == TOO_COLD && current < min + margin) {
+            return TOO_COLD;
+        }
+        if (previous == TOO_HOT && current > max - margin) {
+            return TOO_HOT;
+        }
+        return IN_RANGE;
+    }
+
+    private int slotFor(long key) {
+        int slot = indexOf(key);
+        if (slot >= 0) {
+            return slot;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        slot = home(key, mask);
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        lastAlertAt[slot] = Long.MIN_VALUE;
+        size++;
+        return slot;
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int slot = home(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        byte[] oldStates = states;
+        boolean[] oldAlerted = excursionAlerted;
+        byte[] oldLastStates = lastAlertStates;
+        long[] oldLastAt = lastAlertAt;
+
+        keys = new long[capacity];
+        states = new byte[capacity];
+        excursionAlerted = new boolean[capacity];
+        lastAlertStates = new byte[capacity];
+        lastAlertAt = new long[capacity];
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            int slot = home(oldKeys[i], mask);
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            states[slot] = oldStates[i];
+            excursionAlerted[slot] = oldAlerted[i];
+            lastAlertStates[slot] = oldLastStates[i];
+            lastAlertAt[slot] = oldLastAt[i];
+        }
+    }
+
+    private void moveSlot(int from, int to) {
+        keys[to] = keys[from];
+        states[to] = states[from];
+        excursionAlerted[to] = excursionAlerted[from];
+        lastAlertStates[to] = lastAlertStates[from];
+        lastAlertAt[to] = lastAlertAt[from];
+    }
+
+    private void clearSlot(int slot) {
+        keys[slot] = EMPTY;
+        states[slot] = IN_RANGE;
+        excursionAlerted[slot] = false;
+        lastAlertStates[slot] = IN_RANGE;
+        lastAlertAt[slot] = 0L;
+    }
+
+    private static int home(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,46 @@
+package nl.hu.bep.application.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches one computed value per owner until that owner's data changes.
+ *
+ * <p>Every entry remembers the owner's version at the time it was computed, and invalidation only bumps
+ * the version. A value computed concurrently with an invalidation is therefore never served, without
+ * holding a lock while the (database-backed) loader runs.
+ */
+public class OwnerScopedCache<V> {
+
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Long, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private record Entry<V>(long version, V value) {}
+
+    public V get(Long ownerId, Supplier<V> loader) {
+        long version = versionOf(ownerId).get();
+        Entry<V> entry = entries.get(ownerId);
+        if (entry != null && entry.version() == version) {
+            return entry.value();
+        }
+        V value = loader.get();
+        entries.put(ownerId, new Entry<>(version, value));
+        return value;
+    }
+
+    public void invalidate(Long ownerId) {
+        if (ownerId != null) {
+            versionOf(ownerId).incrementAndGet();
+        }
+    }
+
+    public void invalidateAll() {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+    }
+
+    private AtomicLong versionOf(Long ownerId) {
+        return versions.computeIfAbsent(ownerId, id -> new AtomicLong());
+    }
+}
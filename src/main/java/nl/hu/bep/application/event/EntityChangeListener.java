@@ -0,0 +1,39 @@
+package nl.hu.bep.application.event;
+
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.enums.WaterType;
+
+/**
+ * Callback for components that keep derived state (counters, indexes, caches) in sync with writes.
+ * All methods are invoked after the repository write succeeded; implement only the ones you need.
+ */
+public interface EntityChangeListener {
+
+    default void aquariumCreated(Aquarium aquarium) {}
+
+    default void aquariumUpdated(AquariumState previousState, Aquarium aquarium) {}
+
+    default void aquariumDeleted(Aquarium aquarium) {}
+
+    default void inhabitantCreated(Inhabitant inhabitant) {}
+
+    default void inhabitantUpdated(WaterType previousWaterType, Inhabitant inhabitant) {}
+
+    default void inhabitantDeleted(Inhabitant inhabitant) {}
+
+    default void accessoryCreated(Accessory accessory) {}
+
+    default void accessoryUpdated(Accessory accessory) {}
+
+    default void accessoryDeleted(Accessory accessory) {}
+
+    default void ornamentCreated(Ornament ornament) {}
+
+    default void ornamentUpdated(Ornament ornament) {}
+
+    default void ornamentDeleted(Ornament ornament) {}
+}
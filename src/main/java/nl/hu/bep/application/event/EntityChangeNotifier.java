@@ -0,0 +1,105 @@
+package nl.hu.bep.application.event;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.enums.WaterType;
+import org.glassfish.hk2.api.IterableProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Fans entity writes out to every bound {@link EntityChangeListener}.
+ * A failing listener is logged and skipped so derived state can never break a write.
+ */
+@Slf4j
+public class EntityChangeNotifier {
+
+    private final IterableProvider<EntityChangeListener> listenerProvider;
+    private volatile List<EntityChangeListener> listeners;
+
+    @Inject
+    public EntityChangeNotifier(IterableProvider<EntityChangeListener> listenerProvider) {
+        this.listenerProvider = listenerProvider;
+    }
+
+    public EntityChangeNotifier(List<EntityChangeListener> listeners) {
+        this.listenerProvider = null;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    public void aquariumCreated(Aquarium aquarium) {
+        publish(listener -> listener.aquariumCreated(aquarium));
+    }
+
+    public void aquariumUpdated(AquariumState previousState, Aquarium aquarium) {
+        publish(listener -> listener.aquariumUpdated(previousState, aquarium));
+    }
+
+    public void aquariumDeleted(Aquarium aquarium) {
+        publish(listener -> listener.aquariumDeleted(aquarium));
+    }
+
+    public void inhabitantCreated(Inhabitant inhabitant) {
+        publish(listener -> listener.inhabitantCreated(inhabitant));
+    }
+
+    public void inhabitantUpdated(WaterType previousWaterType, Inhabitant inhabitant) {
+        publish(listener -> listener.inhabitantUpdated(previousWaterType, inhabitant));
+    }
+
+    public void inhabitantDeleted(Inhabitant inhabitant) {
+        publish(listener -> listener.inhabitantDeleted(inhabitant));
+    }
+
+    public void accessoryCreated(Accessory accessory) {
+        publish(listener -> listener.accessoryCreated(accessory));
+    }
+
+    public void accessoryUpdated(Accessory accessory) {
+        publish(listener -> listener.accessoryUpdated(accessory));
+    }
+
+    public void accessoryDeleted(Accessory accessory) {
+        publish(listener -> listener.accessoryDeleted(accessory));
+    }
+
+    public void ornamentCreated(Ornament ornament) {
+        publish(listener -> listener.ornamentCreated(ornament));
+    }
+
+    public void ornamentUpdated(Ornament ornament) {
+        publish(listener -> listener.ornamentUpdated(ornament));
+    }
+
+    public void ornamentDeleted(Ornament ornament) {
+        publish(listener -> listener.ornamentDeleted(ornament));
+    }
+
+    private void publish(Consumer<EntityChangeListener> event) {
+        for (EntityChangeListener listener : getListeners()) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException e) {
+                log.error("Entity change listener {} failed: {}", listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private List<EntityChangeListener> getListeners() {
+        List<EntityChangeListener> resolved = listeners;
+        if (resolved == null) {
+            List<EntityChangeListener> found = new ArrayList<>();
+            listenerProvider.forEach(found::add);
+            resolved = List.copyOf(found);
+            listeners = resolved;
+        }
+        return resolved;
+    }
+}
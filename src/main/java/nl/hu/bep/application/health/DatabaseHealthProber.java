@@ -0,0 +1,120 @@
+package nl.hu.bep.application.health;
+
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.config.DatabaseManager;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.glassfish.hk2.api.PostConstruct;
+import org.glassfish.hk2.api.PreDestroy;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Probes the database in the background and caches the result, so health and readiness requests
+ * never open a connection themselves.
+ *
+ * <p>The schema version is read from the {@value #SCHEMA_VERSION_TABLE} table when it exists; a
+ * database without it is still reported as up, just without a version.
+ */
+@Slf4j
+public class DatabaseHealthProber implements PostConstruct, PreDestroy {
+
+    static final String SCHEMA_VERSION_TABLE = "schema_version";
+    private static final String PING_SQL = "SELECT 1";
+    private static final String SCHEMA_VERSION_SQL = "SELECT MAX(version) FROM " + SCHEMA_VERSION_TABLE;
+
+    private final DatabaseManager databaseManager;
+    private final Clock clock;
+
+    private volatile DatabaseProbe latestProbe;
+    private ScheduledExecutorService prober;
+
+    @Inject
+    public DatabaseHealthProber(DatabaseManager databaseManager) {
+        this(databaseManager, Clock.systemDefaultZone());
+    }
+
+    DatabaseHealthProber(DatabaseManager databaseManager, Clock clock) {
+        this.databaseManager = databaseManager;
+        this.clock = clock;
+        this.latestProbe = DatabaseProbe.unknown();
+    }
+
+    @Override
+    public void postConstruct() {
+        prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "database-health-prober");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Probe once up front so the first readiness check already has a result to report
+        probe();
+        long interval = AquariumConstants.HEALTH_PROBE_INTERVAL_SECONDS;
+        prober.scheduleWithFixedDelay(this::probe, interval, interval, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void preDestroy() {
+        if (prober != null) {
+            prober.shutdownNow();
+        }
+    }
+
+    public DatabaseProbe getLatestProbe() {
+        return latestProbe;
+    }
+
+    /**
+     * Ready means the last probe succeeded and is recent enough to trust. A prober that has stopped
+     * running makes the instance unready rather than reporting a stale UP forever.
+     */
+    public boolean isReady() {
+        DatabaseProbe probe = latestProbe;
+        return probe.isUp() && !isStale(probe);
+    }
+
+    public boolean isStale(DatabaseProbe probe) {
+        if (probe.checkedAt() == null) {
+            return true;
+        }
+        Duration age = Duration.between(probe.checkedAt(), LocalDateTime.now(clock));
+        return age.getSeconds() >= AquariumConstants.HEALTH_PROBE_STALE_AFTER_SECONDS;
+    }
+
+    void probe() {
+        LocalDateTime checkedAt = LocalDateTime.now(clock);
+        try (Connection connection = databaseManager.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(AquariumConstants.HEALTH_PROBE_TIMEOUT_SECONDS);
+            long start = System.nanoTime();
+            try (ResultSet rs = statement.executeQuery(PING_SQL)) {
+                rs.next();
+            }
+            long roundTripNanos = System.nanoTime() - start;
+            latestProbe = DatabaseProbe.up(roundTripNanos, readSchemaVersion(statement), checkedAt);
+        } catch (SQLException | RuntimeException e) {
+            if (latestProbe.isUp()) {
+                log.warn("Database health probe failed: {}", e.getMessage());
+            }
+            latestProbe = DatabaseProbe.down(e.getMessage(), checkedAt);
+        }
+    }
+
+    private String readSchemaVersion(Statement statement) {
+        try (ResultSet rs = statement.executeQuery(SCHEMA_VERSION_SQL)) {
+            return rs.next() ? rs.getString(1) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package nl.hu.bep.application.health;
+
+import java.time.LocalDateTime;
+
+/**
+ * Result of one database health probe. {@code checkedAt} is null until the first probe has run.
+ */
+public record DatabaseProbe(Status status, long roundTripNanos, String schemaVersion, String message,
+                            LocalDateTime checkedAt) {
+
+    public enum Status { UNKNOWN, UP, DOWN }
+
+    static DatabaseProbe unknown() {
+        return new DatabaseProbe(Status.UNKNOWN, 0, null, "Database has not been probed yet", null);
+    }
+
+    static DatabaseProbe up(long roundTripNanos, String schemaVersion, LocalDateTime checkedAt) {
+        return new DatabaseProbe(Status.UP, roundTripNanos, schemaVersion, "Database connection successful", checkedAt);
+    }
+
+    static DatabaseProbe down(String reason, LocalDateTime checkedAt) {
+        return new DatabaseProbe(Status.DOWN, 0, null, "Database health check failed: " + reason, checkedAt);
+    }
+
+    public boolean isUp() {
+        return status == Status.UP;
+    }
+}
@@ -0,0 +1,88 @@
+package nl.hu.bep.application.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear latency histogram in the spirit of HdrHistogram.
+ *
+ * <p>Every power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, which keeps the relative
+ * error of reported quantiles around 3% from one nanosecond up to about 68 seconds. Recording is a bucket
+ * index computation and two atomic adds, so it allocates nothing and never blocks.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 35;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        totalNanos.addAndGet(value);
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Copies the current bucket counts. Buckets are read one at a time, so a snapshot taken while
+     * requests are being recorded may be off by the few requests that completed during the copy.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(copy, count, totalNanos.get(), maxNanos.get());
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /** Highest value that still falls into the given bucket. */
+    static long highestValueIn(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    public record Snapshot(long[] counts, long count, long totalNanos, long maxNanos) {
+
+        /** Returns the latency at or below which the given fraction of recorded requests fall. */
+        public long valueAtQuantile(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueIn(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
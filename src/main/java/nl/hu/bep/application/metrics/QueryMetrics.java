@@ -0,0 +1,138 @@
+package nl.hu.bep.application.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import nl.hu.bep.config.AquariumConstants;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC statistics keyed by SQL template. Templates are the prepared statement text with {@code ?}
+ * placeholders, so parameter values are never captured.
+ *
+ * <p>Statements slower than the threshold are logged. A stack trace showing the caller is attached to
+ * at most one slow-query log line per template per sampling interval, so a hot slow query can't flood
+ * the log. The threshold defaults to {@link AquariumConstants#SLOW_QUERY_THRESHOLD_MILLIS} and can be
+ * overridden with the {@value #SLOW_QUERY_THRESHOLD_PROPERTY} system property.
+ */
+@Slf4j
+public class QueryMetrics {
+
+    static final String SLOW_QUERY_THRESHOLD_PROPERTY = "aquarium.jdbc.slowQueryMillis";
+    private static final QueryMetrics INSTANCE = new QueryMetrics(
+            TimeUnit.MILLISECONDS.toNanos(Long.getLong(SLOW_QUERY_THRESHOLD_PROPERTY, AquariumConstants.SLOW_QUERY_THRESHOLD_MILLIS)),
+            TimeUnit.SECONDS.toNanos(AquariumConstants.SLOW_QUERY_STACK_INTERVAL_SECONDS));
+
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private final LatencyHistogram connectionAcquire = new LatencyHistogram();
+    private final long slowThresholdNanos;
+    private final long stackIntervalNanos;
+
+    public QueryMetrics(long slowThresholdNanos, long stackIntervalNanos) {
+        this.slowThresholdNanos = slowThresholdNanos;
+        this.stackIntervalNanos = stackIntervalNanos;
+    }
+
+    public static QueryMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    public void recordConnectionAcquire(long elapsedNanos) {
+        connectionAcquire.record(elapsedNanos);
+    }
+
+    /**
+     * Records one statement, timed from execution until its results are mapped.
+     */
+    public void recordQuery(String sql, long elapsedNanos, int rowCount) {
+        Template template = templateFor(sql);
+        template.latency.record(elapsedNanos);
+        template.rows.addAndGet(rowCount);
+        if (elapsedNanos >= slowThresholdNanos) {
+            template.slowCalls.incrementAndGet();
+            logSlowQuery(template, elapsedNanos, rowCount);
+        }
+    }
+
+    /**
+     * Records a statement that threw. Its time counts towards the template's latency like any other call,
+     * so a query that times out or deadlocks shows up among the slowest instead of vanishing.
+     */
+    public void recordFailure(String sql, long elapsedNanos) {
+        Template template = templateFor(sql);
+        template.latency.record(elapsedNanos);
+        template.failedCalls.incrementAndGet();
+        if (elapsedNanos >= slowThresholdNanos) {
+            template.slowCalls.incrementAndGet();
+            log.warn("Slow query failed after {} ms: {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), template.sql);
+        }
+    }
+
+    public long getSlowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    public LatencyHistogram.Snapshot getConnectionAcquireSnapshot() {
+        return connectionAcquire.snapshot();
+    }
+
+    /** Returns the templates with the highest p99 latency, slowest first. */
+    public List<TemplateStats> findSlowest(int limit) {
+        return templates.values().stream()
+                .map(Template::stats)
+                .sorted(Comparator.comparingLong(TemplateStats::p99Nanos)
+                        .thenComparingLong(TemplateStats::maxNanos)
+                        .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private void logSlowQuery(Template template, long elapsedNanos, int rowCount) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        long now = System.nanoTime();
+        long lastStack = template.lastStackLoggedAt.get();
+        if (now - lastStack >= stackIntervalNanos && template.lastStackLoggedAt.compareAndSet(lastStack, now)) {
+            log.warn("Slow query took {} ms and mapped {} rows: {}", elapsedMillis, rowCount, template.sql,
+                    new Throwable("Slow query call site"));
+        } else {
+            log.warn("Slow query took {} ms and mapped {} rows: {}", elapsedMillis, rowCount, template.sql);
+        }
+    }
+
+    private Template templateFor(String sql) {
+        Template template = templates.get(sql);
+        return template != null ? template : templates.computeIfAbsent(sql, this::newTemplate);
+    }
+
+    private Template newTemplate(String sql) {
+        return new Template(sql, System.nanoTime() - stackIntervalNanos);
+    }
+
+    public record TemplateStats(String sql, long calls, long rowsMapped, long slowCalls, long failedCalls,
+                                long meanNanos, long p50Nanos, long p99Nanos, long maxNanos) {}
+
+    private static final class Template {
+        private final String sql;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong slowCalls = new AtomicLong();
+        private final AtomicLong failedCalls = new AtomicLong();
+        private final AtomicLong lastStackLoggedAt;
+
+        private Template(String sql, long lastStackLoggedAt) {
+            this.sql = sql;
+            this.lastStackLoggedAt = new AtomicLong(lastStackLoggedAt);
+        }
+
+        private TemplateStats stats() {
+            LatencyHistogram.Snapshot snapshot = latency.snapshot();
+            long mean = snapshot.count() == 0 ? 0 : snapshot.totalNanos() / snapshot.count();
+            return new TemplateStats(sql, snapshot.count(), rows.get(), slowCalls.get(), failedCalls.get(), mean,
+                    snapshot.valueAtQuantile(0.5), snapshot.valueAtQuantile(0.99), snapshot.maxNanos());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package nl.hu.bep.application.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Process-wide request metrics: latency per resource method, responses by status code, exceptions by
+ * type and status, and in-flight gauges. Recording touches only pre-allocated atomics; the Prometheus
+ * text is built on scrape.
+ *
+ * <p>A single instance is shared between the Jersey filters and {@code MetricsServlet}, which lives
+ * outside the HK2 container.
+ */
+public class RequestMetrics {
+
+    static final double[] QUANTILES = {0.5, 0.99, 0.999};
+    private static final int STATUS_CODES = 600;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final RequestMetrics INSTANCE = new RequestMetrics();
+
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<Class<?>, AtomicLongArray> exceptions = new ConcurrentHashMap<>();
+    private final AtomicLongArray responsesByStatus = new AtomicLongArray(STATUS_CODES);
+    private final AtomicLong inFlight = new AtomicLong();
+
+    public static RequestMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /** Returns the metrics of a resource method, creating them on the first request only. */
+    public Endpoint endpoint(Method resourceMethod) {
+        Endpoint endpoint = endpoints.get(resourceMethod);
+        return endpoint != null ? endpoint : endpoints.computeIfAbsent(resourceMethod, Endpoint::new);
+    }
+
+    public void requestStarted(Endpoint endpoint) {
+        inFlight.incrementAndGet();
+        endpoint.inFlight.incrementAndGet();
+    }
+
+    public void requestCompleted(Endpoint endpoint, int status, long elapsedNanos) {
+        inFlight.decrementAndGet();
+        endpoint.inFlight.decrementAndGet();
+        endpoint.latency.record(elapsedNanos);
+        if (status >= 400) {
+            endpoint.errors.incrementAndGet();
+        }
+        recordStatus(status);
+    }
+
+    /** Counts a response that never reached a resource method, such as an unmatched path. */
+    public void recordStatus(int status) {
+        if (status >= 0 && status < STATUS_CODES) {
+            responsesByStatus.incrementAndGet(status);
+        }
+    }
+
+    public void recordException(Throwable exception, int status) {
+        if (status < 0 || status >= STATUS_CODES) {
+            return;
+        }
+        AtomicLongArray byStatus = exceptions.get(exception.getClass());
+        if (byStatus == null) {
+            byStatus = exceptions.computeIfAbsent(exception.getClass(), type -> new AtomicLongArray(STATUS_CODES));
+        }
+        byStatus.incrementAndGet(status);
+    }
+
+    public long inFlight() {
+        return inFlight.get();
+    }
+
+    /** Renders all metrics in the Prometheus text exposition format (version 0.0.4). */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+
+        out.append("# HELP aquarium_http_requests_in_flight Requests currently being processed.\n")
+                .append("# TYPE aquarium_http_requests_in_flight gauge\n")
+                .append("aquarium_http_requests_in_flight ").append(inFlight.get()).append('\n');
+
+        out.append("# HELP aquarium_http_responses_total Responses sent, by status code.\n")
+                .append("# TYPE aquarium_http_responses_total counter\n");
+        for (int status = 0; status < STATUS_CODES; status++) {
+            long count = responsesByStatus.get(status);
+            if (count > 0) {
+                out.append("aquarium_http_responses_total{status=\"").append(status).append("\"} ")
+                        .append(count).append('\n');
+            }
+        }
+
+        out.append("# HELP aquarium_http_exceptions_total Exceptions mapped to error responses, by type and status code.\n")
+                .append("# TYPE aquarium_http_exceptions_total counter\n");
+        exceptions.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(Class::getSimpleName)))
+                .forEach(entry -> {
+                    for (int status = 0; status < STATUS_CODES; status++) {
+                        long count = entry.getValue().get(status);
+                        if (count > 0) {
+                            out.append("aquarium_http_exceptions_total{exception=\"")
+                                    .append(entry.getKey().getSimpleName()).append("\",status=\"").append(status)
+                                    .append("\"} ").append(count).append('\n');
+                        }
+                    }
+                });
+
+        var sortedEndpoints = endpoints.values().stream().sorted(Comparator.comparing(Endpoint::name)).toList();
+
+        out.append("# HELP aquarium_http_request_duration_seconds Request latency per resource method.\n")
+                .append("# TYPE aquarium_http_request_duration_seconds summary\n");
+        for (Endpoint endpoint : sortedEndpoints) {
+            LatencyHistogram.Snapshot snapshot = endpoint.latency.snapshot();
+            for (double quantile : QUANTILES) {
+                out.append("aquarium_http_request_duration_seconds{endpoint=\"").append(endpoint.name)
+                        .append("\",quantile=\"").append(quantile).append("\"} ")
+                        .append(snapshot.valueAtQuantile(quantile) / NANOS_PER_SECOND).append('\n');
+            }
+            out.append("aquarium_http_request_duration_seconds_sum{endpoint=\"").append(endpoint.name).append("\"} ")
+                    .append(snapshot.totalNanos() / NANOS_PER_SECOND).append('\n');
+            out.append("aquarium_http_request_duration_seconds_count{endpoint=\"").append(endpoint.name).append("\"} ")
+                    .append(snapshot.count()).append('\n');
+        }
+
+        out.append("# HELP aquarium_http_endpoint_errors_total Responses with status 400 or higher, per resource method.\n")
+                .append("# TYPE aquarium_http_endpoint_errors_total counter\n");
+        for (Endpoint endpoint : sortedEndpoints) {
+            out.append("aquarium_http_endpoint_errors_total{endpoint=\"").append(endpoint.name).append("\"} ")
+                    .append(endpoint.errors.get()).append('\n');
+        }
+
+        out.append("# HELP aquarium_http_endpoint_requests_in_flight Requests currently being processed, per resource method.\n")
+                .append("# TYPE aquarium_http_endpoint_requests_in_flight gauge\n");
+        for (Endpoint endpoint : sortedEndpoints) {
+            out.append("aquarium_http_endpoint_requests_in_flight{endpoint=\"").append(endpoint.name).append("\"} ")
+                    .append(endpoint.inFlight.get()).append('\n');
+        }
+        return out.toString();
+    }
+
+    public static final class Endpoint {
+        private final String name;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong inFlight = new AtomicLong();
+
+        private Endpoint(Method resourceMethod) {
+            this.name = resourceMethod.getDeclaringClass().getSimpleName() + "." + resourceMethod.getName();
+        }
+
+        public String name() {
+            return name;
+        }
+    }
+}
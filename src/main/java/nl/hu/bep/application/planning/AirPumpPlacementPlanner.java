@@ -0,0 +1,84 @@
+package nl.hu.bep.application.planning;
+
+import nl.hu.bep.domain.AquariumFiltration;
+import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.enums.AquariumState;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Matches unplaced air-pump-compatible ornaments to the aquariums that benefit most from extra aeration.
+ *
+ * <p>Tanks without a filter come first, then tanks whose filters are undersized, then tanks with only
+ * internal filters, then tanks with an external filter. Larger tanks win ties. Tanks that already hold an
+ * air-pump-compatible ornament and inactive tanks are skipped. Each tank gets at most one suggestion.
+ */
+public final class AirPumpPlacementPlanner {
+
+    public enum Reason {
+        NO_FILTER,
+        UNDER_FILTERED,
+        INTERNAL_FILTER_ONLY,
+        EXTERNAL_FILTER
+    }
+
+    public record Placement(Ornament ornament, AquariumFiltration aquarium, Reason reason) {}
+
+    public record Plan(List<Placement> placements, List<Ornament> unmatched) {}
+
+    private record Candidate(AquariumFiltration aquarium, Reason reason) {}
+
+    private static final Comparator<Candidate> PRIORITY = Comparator
+            .comparing(Candidate::reason)
+            .thenComparing(Comparator.comparingDouble((Candidate c) -> c.aquarium().getVolumeInLiters()).reversed())
+            .thenComparing(c -> c.aquarium().aquariumId());
+
+    private AirPumpPlacementPlanner() {
+    }
+
+    public static Plan plan(List<AquariumFiltration> aquariums, List<Ornament> ornaments) {
+        Set<Long> aerated = new HashSet<>();
+        List<Ornament> unplaced = new ArrayList<>();
+        for (Ornament ornament : ornaments) {
+            if (!ornament.isAirPumpCompatible()) {
+                continue;
+            }
+            if (ornament.getAquariumId() != null) {
+                aerated.add(ornament.getAquariumId());
+            } else {
+                unplaced.add(ornament);
+            }
+        }
+        unplaced.sort(Comparator.comparing(Ornament::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (AquariumFiltration aquarium : aquariums) {
+            if (aquarium.state() != AquariumState.INACTIVE && !aerated.contains(aquarium.aquariumId())) {
+                candidates.add(new Candidate(aquarium, reasonFor(aquarium)));
+            }
+        }
+        candidates.sort(PRIORITY);
+
+        int matched = Math.min(unplaced.size(), candidates.size());
+        List<Placement> placements = new ArrayList<>(matched);
+        for (int i = 0; i < matched; i++) {
+            Candidate candidate = candidates.get(i);
+            placements.add(new Placement(unplaced.get(i), candidate.aquarium(), candidate.reason()));
+        }
+        return new Plan(placements, List.copyOf(unplaced.subList(matched, unplaced.size())));
+    }
+
+    private static Reason reasonFor(AquariumFiltration aquarium) {
+        if (!aquarium.hasFilter()) {
+            return Reason.NO_FILTER;
+        }
+        if (aquarium.isUnderFiltered()) {
+            return Reason.UNDER_FILTERED;
+        }
+        return aquarium.hasExternalFilter() ? Reason.EXTERNAL_FILTER : Reason.INTERNAL_FILTER_ONLY;
+    }
+}
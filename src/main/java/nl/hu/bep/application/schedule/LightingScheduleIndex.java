@@ -0,0 +1,196 @@
+package nl.hu.bep.application.schedule;
+
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of lighting schedules over the minutes of a day.
+ * On-periods live in a segment tree so "which lights are on at minute t" only visits
+ * the ~11 nodes on one root-to-leaf path. Schedules that wrap past midnight are stored
+ * as two segments. Switch moments are kept in sorted maps for window queries.
+ */
+public class LightingScheduleIndex {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int LEAVES = Integer.highestOneBit(MINUTES_PER_DAY - 1) << 1;
+
+    public record LightSchedule(long accessoryId, Long aquariumId, int turnOnMinute, int turnOffMinute) {
+        public LocalTime turnOnTime() {
+            return LocalTime.of(turnOnMinute / 60, turnOnMinute % 60);
+        }
+
+        public LocalTime turnOffTime() {
+            return LocalTime.of(turnOffMinute / 60, turnOffMinute % 60);
+        }
+
+        boolean isAlwaysOn() {
+            return turnOnMinute == turnOffMinute;
+        }
+    }
+
+    public record SwitchEvent(LightSchedule light, boolean turningOn, int minute, int minutesFromStart) {}
+
+    private final Map<Long, LightSchedule> schedules = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private final Set<Long>[] segments = new Set[2 * LEAVES];
+    private final NavigableMap<Integer, Set<Long>> turnOnAt = new TreeMap<>();
+    private final NavigableMap<Integer, Set<Long>> turnOffAt = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    public void put(long accessoryId, Long aquariumId, LocalTime turnOnTime, LocalTime turnOffTime) {
+        LightSchedule schedule = new LightSchedule(accessoryId, aquariumId,
+                toMinuteOfDay(turnOnTime), toMinuteOfDay(turnOffTime));
+        lock.writeLock().lock();
+        try {
+            LightSchedule previous = schedules.put(accessoryId, schedule);
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(schedule);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long accessoryId) {
+        lock.writeLock().lock();
+        try {
+            LightSchedule previous = schedules.remove(accessoryId);
+            if (previous != null) {
+                unindex(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return schedules.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<LightSchedule> findOnAt(LocalTime time) {
+        lock.readLock().lock();
+        try {
+            List<LightSchedule> result = new ArrayList<>();
+            for (int node = toMinuteOfDay(time) + LEAVES; node >= 1; node >>= 1) {
+                Set<Long> ids = segments[node];
+                if (ids != null) {
+                    for (Long id : ids) {
+                        result.add(schedules.get(id));
+                    }
+                }
+            }
+            result.sort(Comparator.comparingLong(LightSchedule::accessoryId));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns every switch event in {@code [from, from + minutes)}, wrapping past midnight,
+     * ordered by how soon it happens.
+     */
+    public List<SwitchEvent> findSwitchesWithin(LocalTime from, int minutes) {
+        int start = toMinuteOfDay(from);
+        int length = Math.min(Math.max(minutes, 0), MINUTES_PER_DAY);
+        lock.readLock().lock();
+        try {
+            List<SwitchEvent> result = new ArrayList<>();
+            collectSwitches(turnOnAt, true, start, length, result);
+            collectSwitches(turnOffAt, false, start, length, result);
+            result.sort(Comparator.comparingInt(SwitchEvent::minutesFromStart)
+                    .thenComparingLong(event -> event.light().accessoryId()));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collectSwitches(NavigableMap<Integer, Set<Long>> events, boolean turningOn,
+                                 int start, int length, List<SwitchEvent> result) {
+        int end = start + length;
+        addSwitches(events.subMap(start, true, Math.min(end, MINUTES_PER_DAY), false), turningOn, start, result);
+        if (end > MINUTES_PER_DAY) {
+            addSwitches(events.subMap(0, true, end - MINUTES_PER_DAY, false), turningOn, start, result);
+        }
+    }
+
+    private void addSwitches(SortedMap<Integer, Set<Long>> events, boolean turningOn, int start, List<SwitchEvent> result) {
+        events.forEach((minute, ids) -> {
+            int offset = Math.floorMod(minute - start, MINUTES_PER_DAY);
+            for (Long id : ids) {
+                result.add(new SwitchEvent(schedules.get(id), turningOn, minute, offset));
+            }
+        });
+    }
+
+    private void index(LightSchedule schedule) {
+        updateSegments(schedule, true);
+        if (!schedule.isAlwaysOn()) {
+            turnOnAt.computeIfAbsent(schedule.turnOnMinute(), k -> new HashSet<>()).add(schedule.accessoryId());
+            turnOffAt.computeIfAbsent(schedule.turnOffMinute(), k -> new HashSet<>()).add(schedule.accessoryId());
+        }
+    }
+
+    private void unindex(LightSchedule schedule) {
+        updateSegments(schedule, false);
+        removeFrom(turnOnAt, schedule.turnOnMinute(), schedule.accessoryId());
+        removeFrom(turnOffAt, schedule.turnOffMinute(), schedule.accessoryId());
+    }
+
+    private void updateSegments(LightSchedule schedule, boolean add) {
+        int on = schedule.turnOnMinute();
+        int off = schedule.turnOffMinute();
+        if (on < off) {
+            updateRange(on, off, schedule.accessoryId(), add);
+        } else {
+            // wraps past midnight (or is on all day when on == off)
+            updateRange(on, MINUTES_PER_DAY, schedule.accessoryId(), add);
+            updateRange(0, off, schedule.accessoryId(), add);
+        }
+    }
+
+    private void updateRange(int from, int to, long accessoryId, boolean add) {
+        for (int l = from + LEAVES, r = to + LEAVES; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                updateNode(l++, accessoryId, add);
+            }
+            if ((r & 1) == 1) {
+                updateNode(--r, accessoryId, add);
+            }
+        }
+    }
+
+    private void updateNode(int node, long accessoryId, boolean add) {
+        if (add) {
+            if (segments[node] == null) {
+                segments[node] = new HashSet<>();
+            }
+            segments[node].add(accessoryId);
+        } else if (segments[node] != null) {
+            segments[node].remove(accessoryId);
+            if (segments[node].isEmpty()) {
+                segments[node] = null;
+            }
+        }
+    }
+
+    private static void removeFrom(NavigableMap<Integer, Set<Long>> events, int minute, long accessoryId) {
+        Set<Long> ids = events.get(minute);
+        if (ids != null && ids.remove(accessoryId) && ids.isEmpty()) {
+            events.remove(minute);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package nl.hu.bep.application.schedule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Next-due maintenance per aquarium, ordered by due time.
+ *
+ * <p>Backed by a sorted set rather than {@link java.util.PriorityQueue} so that rescheduling an
+ * aquarium is a logarithmic remove and re-insert, and "due before T" / "due between T1 and T2"
+ * are range views instead of a scan.
+ */
+public class MaintenanceQueue {
+
+    private static final Comparator<Entry> DUE_ORDER =
+            Comparator.comparing(Entry::dueAt).thenComparingLong(Entry::aquariumId);
+
+    private final NavigableSet<Entry> queue = new TreeSet<>(DUE_ORDER);
+    private final Map<Long, Entry> entriesByAquarium = new HashMap<>();
+
+    public record Entry(long aquariumId, String aquariumName, LocalDateTime dueAt, int intervalDays) {}
+
+    public synchronized void schedule(long aquariumId, String aquariumName, LocalDateTime dueAt, int intervalDays) {
+        remove(aquariumId);
+        Entry entry = new Entry(aquariumId, aquariumName, dueAt, intervalDays);
+        queue.add(entry);
+        entriesByAquarium.put(aquariumId, entry);
+    }
+
+    public synchronized void remove(long aquariumId) {
+        Entry existing = entriesByAquarium.remove(aquariumId);
+        if (existing != null) {
+            queue.remove(existing);
+        }
+    }
+
+    public synchronized Entry peek() {
+        return queue.isEmpty() ? null : queue.first();
+    }
+
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * Entries due strictly before {@code now}, most overdue first.
+     */
+    public synchronized List<Entry> findOverdue(LocalDateTime now) {
+        return new ArrayList<>(queue.headSet(probe(now), false));
+    }
+
+    /**
+     * Entries due at or after {@code now} and no later than {@code until}, soonest first.
+     */
+    public synchronized List<Entry> findDueBetween(LocalDateTime now, LocalDateTime until) {
+        if (until.isBefore(now)) {
+            return List.of();
+        }
+        return new ArrayList<>(queue.subSet(probe(now), true, probe(until, Long.MAX_VALUE), true));
+    }
+
+    private static Entry probe(LocalDateTime dueAt) {
+        return probe(dueAt, Long.MIN_VALUE);
+    }
+
+    private static Entry probe(LocalDateTime dueAt, long aquariumId) {
+        return new Entry(aquariumId, null, dueAt, 0);
+    }
+}
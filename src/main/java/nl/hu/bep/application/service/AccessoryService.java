@@ -1,5 +1,6 @@
 package nl.hu.bep.application.service;
 
+import nl.hu.bep.application.event.EntityChangeNotifier;
 import nl.hu.bep.data.interfaces.AccessoryRepository;
 import nl.hu.bep.data.interfaces.AquariumRepository;
 import nl.hu.bep.domain.Accessory;
@@ -8,6 +9,7 @@ import nl.hu.bep.exception.ApplicationException;
 import nl.hu.bep.presentation.dto.mapper.EntityMapper;
 import nl.hu.bep.presentation.dto.request.AccessoryRequest;
 import nl.hu.bep.presentation.dto.response.AccessoryResponse;
+import nl.hu.bep.presentation.dto.response.AccessorySummaryResponse;
 
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -22,14 +24,17 @@ public class AccessoryService {
     private final AccessoryRepository accessoryRepository;
     private final AquariumRepository aquariumRepository;
     private final EntityMapper entityMapper;
+    private final EntityChangeNotifier changeNotifier;
 
     @Inject
     public AccessoryService(AccessoryRepository accessoryRepository,
                            AquariumRepository aquariumRepository,
-                           EntityMapper entityMapper) {
+                           EntityMapper entityMapper,
+                           EntityChangeNotifier changeNotifier) {
         this.accessoryRepository = accessoryRepository;
         this.aquariumRepository = aquariumRepository;
         this.entityMapper = entityMapper;
+        this.changeNotifier = changeNotifier;
     }
 
     public List<AccessoryResponse> getAllAccessories(Long ownerId) {
@@ -38,6 +43,12 @@ public class AccessoryService {
                 .collect(Collectors.toList());
     }
 
+    public List<AccessorySummaryResponse> getAccessorySummaries(Long ownerId) {
+        return accessoryRepository.findSummariesByOwnerId(ownerId).stream()
+                .map(entityMapper::mapToAccessorySummaryResponse)
+                .collect(Collectors.toList());
+    }
+
     public AccessoryResponse getAccessory(Long accessoryId, Long requestingOwnerId) {
         Accessory accessory = findOwnedAccessory(accessoryId, requestingOwnerId);
         return entityMapper.mapToAccessoryResponse(accessory);
@@ -69,6 +80,7 @@ public class AccessoryService {
         }
 
         Accessory savedAccessory = accessoryRepository.insert(accessory);
+        changeNotifier.accessoryCreated(savedAccessory);
         return entityMapper.mapToAccessoryResponse(savedAccessory);
     }
 
@@ -91,13 +103,15 @@ public class AccessoryService {
         }
 
         Accessory updatedAccessory = accessoryRepository.update(accessory);
+        changeNotifier.accessoryUpdated(updatedAccessory);
         return entityMapper.mapToAccessoryResponse(updatedAccessory);
     }
 
     @Transactional
     public void deleteAccessory(Long accessoryId, Long requestingOwnerId) {
-        findOwnedAccessory(accessoryId, requestingOwnerId); // Validates ownership
+        Accessory accessory = findOwnedAccessory(accessoryId, requestingOwnerId); // Validates ownership
         accessoryRepository.deleteById(accessoryId);
+        changeNotifier.accessoryDeleted(accessory);
         log.info("Accessory {} deleted by owner {}", accessoryId, requestingOwnerId);
     }
 
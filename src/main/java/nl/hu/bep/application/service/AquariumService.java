@@ -1,12 +1,15 @@
 package nl.hu.bep.application.service;
 
+import nl.hu.bep.application.event.EntityChangeNotifier;
 import nl.hu.bep.data.interfaces.AquariumRepository;
 import nl.hu.bep.data.interfaces.OwnerRepository;
 import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.enums.AquariumState;
 import nl.hu.bep.exception.ApplicationException;
 import nl.hu.bep.presentation.dto.mapper.EntityMapper;
 import nl.hu.bep.presentation.dto.request.AquariumRequest;
 import nl.hu.bep.presentation.dto.response.AquariumResponse;
+import nl.hu.bep.presentation.dto.response.AquariumSummaryResponse;
 
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -21,14 +24,17 @@ public class AquariumService {
     private final AquariumRepository aquariumRepository;
     private final OwnerRepository ownerRepository;
     private final EntityMapper entityMapper;
+    private final EntityChangeNotifier changeNotifier;
 
     @Inject
     public AquariumService(AquariumRepository aquariumRepository,
                           OwnerRepository ownerRepository,
-                          EntityMapper entityMapper) {
+                          EntityMapper entityMapper,
+                          EntityChangeNotifier changeNotifier) {
         this.aquariumRepository = aquariumRepository;
         this.ownerRepository = ownerRepository;
         this.entityMapper = entityMapper;
+        this.changeNotifier = changeNotifier;
     }
 
     public List<AquariumResponse> getAllAquariums(Long ownerId) {
@@ -37,6 +43,12 @@ public class AquariumService {
                 .collect(Collectors.toList());
     }
 
+    public List<AquariumSummaryResponse> getAquariumSummaries(Long ownerId) {
+        return aquariumRepository.findSummariesByOwnerId(ownerId).stream()
+                .map(entityMapper::mapToAquariumSummaryResponse)
+                .collect(Collectors.toList());
+    }
+
     public AquariumResponse getAquarium(Long aquariumId, Long requestingOwnerId) {
         Aquarium aquarium = findOwnedAquarium(aquariumId, requestingOwnerId);
         return entityMapper.mapToAquariumResponse(aquarium);
@@ -60,12 +72,14 @@ public class AquariumService {
 
         aquarium.assignToOwner(ownerId);
         Aquarium savedAquarium = aquariumRepository.insert(aquarium);
+        changeNotifier.aquariumCreated(savedAquarium);
         return entityMapper.mapToAquariumResponse(savedAquarium);
     }
 
     @Transactional
     public AquariumResponse updateAquarium(Long aquariumId, AquariumRequest request, Long requestingOwnerId) {
         Aquarium aquarium = findOwnedAquarium(aquariumId, requestingOwnerId);
+        AquariumState previousState = aquarium.getState();
 
         aquarium.update(
                 request.name(),
@@ -79,13 +93,15 @@ public class AquariumService {
         );
 
         Aquarium updatedAquarium = aquariumRepository.update(aquarium);
+        changeNotifier.aquariumUpdated(previousState, updatedAquarium);
         return entityMapper.mapToAquariumResponse(updatedAquarium);
     }
 
     @Transactional
     public void deleteAquarium(Long aquariumId, Long requestingOwnerId) {
-        findOwnedAquarium(aquariumId, requestingOwnerId); // Validates ownership
+        Aquarium aquarium = findOwnedAquarium(aquariumId, requestingOwnerId); // Validates ownership
         aquariumRepository.deleteById(aquariumId);
+        changeNotifier.aquariumDeleted(aquarium);
         log.info("Aquarium {} deleted by owner {}", aquariumId, requestingOwnerId);
     }
 
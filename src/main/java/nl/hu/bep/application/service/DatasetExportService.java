@@ -0,0 +1,112 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.transfer.DatasetExport;
+import nl.hu.bep.application.transfer.DatasetFormat;
+import nl.hu.bep.application.transfer.DatasetWriter;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.data.interfaces.DatasetRepository;
+import nl.hu.bep.domain.enums.DatasetEntity;
+import nl.hu.bep.exception.ApplicationException;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports an owner's aquariums, accessories, ornaments and inhabitants as a file written while the rows
+ * are read, so a backup of any size needs the same small amount of memory.
+ *
+ * <p>An export keeps its database connection until the client has downloaded the whole file, so only a
+ * few may run at once; the rest of the connection permits stay free for ordinary requests.
+ */
+@Slf4j
+public class DatasetExportService {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final DatasetRepository datasetRepository;
+    private final Semaphore exportSlots;
+
+    @Inject
+    public DatasetExportService(DatasetRepository datasetRepository) {
+        this(datasetRepository, AquariumConstants.MAX_CONCURRENT_EXPORTS);
+    }
+
+    DatasetExportService(DatasetRepository datasetRepository, int maxConcurrentExports) {
+        this.datasetRepository = datasetRepository;
+        this.exportSlots = new Semaphore(maxConcurrentExports);
+    }
+
+    /**
+     * Validates the request and returns the export to stream. Failures are reported here, before the
+     * response starts, rather than halfway through the file. The export holds one of the export slots
+     * until its body has been written.
+     *
+     * @param entities the entities to include, or empty for all of them
+     */
+    public DatasetExport prepareExport(Long ownerId, DatasetFormat format, Set<DatasetEntity> entities, boolean gzip) {
+        Set<DatasetEntity> exported = entities.isEmpty() ? EnumSet.allOf(DatasetEntity.class) : EnumSet.copyOf(entities);
+        if (format.holdsSingleEntity() && exported.size() != 1) {
+            throw new ApplicationException.ValidationException(
+                    "A " + format + " export holds exactly one entity; choose it with the entity parameter");
+        }
+
+        if (!exportSlots.tryAcquire()) {
+            throw new ApplicationException.ConflictException("Too many exports are running; try again shortly");
+        }
+
+        String baseName = "aquarium-export-" + (exported.size() == 1 ? exported.iterator().next().label() + "-" : "")
+                + LocalDate.now() + "." + format.extension();
+        return gzip
+                ? new DatasetExport(baseName + ".gz", "application/gzip",
+                        holdingSlot(output -> writeCompressed(ownerId, format, exported, output)))
+                : new DatasetExport(baseName, format.mediaType(),
+                        holdingSlot(output -> write(ownerId, format, exported, output)));
+    }
+
+    /** Gives the export slot back once {@code body} has been written, whether or not that succeeded. */
+    private DatasetExport.Body holdingSlot(DatasetExport.Body body) {
+        AtomicBoolean released = new AtomicBoolean();
+        return output -> {
+            try {
+                body.writeTo(output);
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    exportSlots.release();
+                }
+            }
+        };
+    }
+
+    private void writeCompressed(Long ownerId, DatasetFormat format, Set<DatasetEntity> entities, OutputStream output)
+            throws IOException {
+        GZIPOutputStream compressed = new GZIPOutputStream(output, GZIP_BUFFER_SIZE);
+        write(ownerId, format, entities, compressed);
+        compressed.finish();
+    }
+
+    private void write(Long ownerId, DatasetFormat format, Set<DatasetEntity> entities, OutputStream output)
+            throws IOException {
+        long start = System.nanoTime();
+        DatasetWriter writer = format.newWriter(output);
+        try {
+            for (DatasetEntity entity : entities) {
+                datasetRepository.streamOwnedRows(entity, ownerId, writer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+        log.info("Exported {} of owner {} as {} in {} ms",
+                entities, ownerId, format, (System.nanoTime() - start) / 1_000_000);
+    }
+}
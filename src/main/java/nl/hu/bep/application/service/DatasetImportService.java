@@ -0,0 +1,339 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.event.EntityChangeNotifier;
+import nl.hu.bep.application.transfer.DatasetFormat;
+import nl.hu.bep.application.transfer.DatasetReader;
+import nl.hu.bep.application.transfer.DatasetRecord;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.data.interfaces.AccessoryRepository;
+import nl.hu.bep.data.interfaces.AquariumRepository;
+import nl.hu.bep.data.interfaces.InhabitantRepository;
+import nl.hu.bep.data.interfaces.OrnamentRepository;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.enums.DatasetEntity;
+import nl.hu.bep.domain.enums.SubstrateType;
+import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.domain.summary.AquariumSummary;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.DatasetImportErrorResponse;
+import nl.hu.bep.presentation.dto.response.DatasetImportResponse;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Imports a file as {@link DatasetExportService} writes it into an owner's account. The upload is read
+ * one record at a time and each record is validated by the domain factories the API uses. Valid records
+ * are inserted {@value AquariumConstants#IMPORT_BATCH_SIZE} at a time as one JDBC batch in its own
+ * transaction; invalid ones are skipped and reported by line. A file of any length needs one batch and
+ * the error report in memory.
+ *
+ * <p>Everything is created anew for the importing owner. Aquarium ids in the file are mapped to the
+ * aquariums created from them, so accessories, ornaments and inhabitants end up in the right tank; an
+ * aquarium id that is not in the file must be one of the owner's existing aquariums.
+ */
+@Slf4j
+public class DatasetImportService {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final AquariumRepository aquariumRepository;
+    private final AccessoryRepository accessoryRepository;
+    private final OrnamentRepository ornamentRepository;
+    private final InhabitantRepository inhabitantRepository;
+    private final EntityChangeNotifier changeNotifier;
+
+    @Inject
+    public DatasetImportService(AquariumRepository aquariumRepository,
+                                AccessoryRepository accessoryRepository,
+                                OrnamentRepository ornamentRepository,
+                                InhabitantRepository inhabitantRepository,
+                                EntityChangeNotifier changeNotifier) {
+        this.aquariumRepository = aquariumRepository;
+        this.accessoryRepository = accessoryRepository;
+        this.ornamentRepository = ornamentRepository;
+        this.inhabitantRepository = inhabitantRepository;
+        this.changeNotifier = changeNotifier;
+    }
+
+    /**
+     * Batches committed before the upload breaks off stay imported; the error says how many there were.
+     *
+     * @param entities the entity a CSV file holds; empty for NDJSON, which names the entity on every line
+     */
+    public DatasetImportResponse importDataset(Long ownerId, DatasetFormat format, Set<DatasetEntity> entities,
+                                               boolean gzip, InputStream input) {
+        DatasetEntity fileEntity = null;
+        if (format.holdsSingleEntity()) {
+            if (entities.size() != 1) {
+                throw new ApplicationException.ValidationException(
+                        "A " + format + " import holds exactly one entity; name it with the entity parameter");
+            }
+            fileEntity = entities.iterator().next();
+        } else if (!entities.isEmpty()) {
+            throw new ApplicationException.ValidationException(
+                    "A " + format + " import names the entity on every line; leave out the entity parameter");
+        }
+
+        long start = System.nanoTime();
+        ImportRun run = new ImportRun(ownerId);
+        try {
+            InputStream source = gzip ? new GZIPInputStream(input, GZIP_BUFFER_SIZE) : input;
+            DatasetReader reader = format.newReader(source, fileEntity);
+            for (DatasetRecord record = reader.next(); record != null; record = reader.next()) {
+                run.accept(record);
+            }
+        } catch (IOException e) {
+            throw new ApplicationException.ValidationException("The upload could not be read after line "
+                    + run.lastLine + " (" + e.getMessage() + "); " + run.importedCount()
+                    + " records before it were imported", e);
+        }
+        run.flush();
+
+        DatasetImportResponse report = run.report();
+        log.info("Imported {} records of owner {} from {} with {} failures in {} ms",
+                report.imported(), ownerId, format, report.failed(), (System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    private record Pending(long line, Long sourceId, Object entity) {}
+
+    /** The state of one import: the batch being filled, the aquarium id mapping and the report. */
+    private final class ImportRun {
+        private final Long ownerId;
+        private final Map<Long, Long> aquariumIds = new HashMap<>();
+        private Set<Long> ownedAquariumIds;
+
+        private final List<Pending> pending = new ArrayList<>(AquariumConstants.IMPORT_BATCH_SIZE);
+        private DatasetEntity pendingEntity;
+
+        private final Map<DatasetEntity, Long> imported = new EnumMap<>(DatasetEntity.class);
+        private final List<DatasetImportErrorResponse> errors = new ArrayList<>();
+        private long failed;
+        private long lastLine;
+
+        ImportRun(Long ownerId) {
+            this.ownerId = ownerId;
+        }
+
+        void accept(DatasetRecord record) {
+            lastLine = record.line();
+            if (record.isMalformed()) {
+                fail(record.line(), record.problem());
+                return;
+            }
+            // A batch holds one entity; sending it first also gives the aquariums in it their new ids
+            if (record.entity() != pendingEntity) {
+                flush();
+                pendingEntity = record.entity();
+            }
+            try {
+                Long sourceId = record.entity() == DatasetEntity.AQUARIUM ? record.id("id") : null;
+                pending.add(new Pending(record.line(), sourceId, create(record)));
+            } catch (ApplicationException e) {
+                fail(record.line(), e.getMessage());
+                return;
+            }
+            if (pending.size() == AquariumConstants.IMPORT_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                switch (pendingEntity) {
+                    case AQUARIUM -> {
+                        List<Aquarium> saved = aquariumRepository.insertAll(pendingAs(Aquarium.class));
+                        for (int i = 0; i < saved.size(); i++) {
+                            Long sourceId = pending.get(i).sourceId();
+                            if (sourceId != null) {
+                                aquariumIds.put(sourceId, saved.get(i).getId());
+                            }
+                            changeNotifier.aquariumCreated(saved.get(i));
+                        }
+                    }
+                    case ACCESSORY -> accessoryRepository.insertAll(pendingAs(Accessory.class))
+                            .forEach(changeNotifier::accessoryCreated);
+                    case ORNAMENT -> ornamentRepository.insertAll(pendingAs(Ornament.class))
+                            .forEach(changeNotifier::ornamentCreated);
+                    case INHABITANT -> inhabitantRepository.insertAll(pendingAs(Inhabitant.class))
+                            .forEach(changeNotifier::inhabitantCreated);
+                }
+                imported.merge(pendingEntity, (long) pending.size(), Long::sum);
+            } catch (ApplicationException.ConflictException e) {
+                log.warn("Import batch of {} {} rows for owner {} was rolled back: {}", pending.size(),
+                        pendingEntity.label(), ownerId, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                for (Pending rolledBack : pending) {
+                    fail(rolledBack.line(), "Not saved: the batch holding this line was rolled back");
+                }
+            }
+            pending.clear();
+        }
+
+        long importedCount() {
+            return imported.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        DatasetImportResponse report() {
+            return new DatasetImportResponse(importedCount(), new EnumMap<>(imported), failed,
+                    List.copyOf(errors), failed > errors.size());
+        }
+
+        private Object create(DatasetRecord record) {
+            return switch (record.entity()) {
+                case AQUARIUM -> createAquarium(record);
+                case ACCESSORY -> createAccessory(record);
+                case ORNAMENT -> createOrnament(record);
+                case INHABITANT -> createInhabitant(record);
+            };
+        }
+
+        private Aquarium createAquarium(DatasetRecord record) {
+            Aquarium aquarium = Aquarium.create(
+                    record.text("name"),
+                    required(record.decimal("length"), "length"),
+                    required(record.decimal("width"), "width"),
+                    required(record.decimal("height"), "height"),
+                    record.choice("substrate", SubstrateType.class),
+                    record.choice("waterType", WaterType.class),
+                    record.text("color"),
+                    record.text("description"),
+                    record.choice("state", AquariumState.class)
+            );
+            aquarium.assignToOwner(ownerId);
+            Double temperature = record.decimal("temperature");
+            if (temperature != null) {
+                aquarium.updateTemperature(temperature);
+            }
+            return aquarium;
+        }
+
+        private Accessory createAccessory(DatasetRecord record) {
+            Accessory accessory = Accessory.createFromType(
+                    record.text("accessoryType"),
+                    record.text("model"),
+                    record.text("serialNumber"),
+                    Boolean.TRUE.equals(record.flag("isExternal")),
+                    Objects.requireNonNullElse(record.whole("capacityLiters"), 0),
+                    Boolean.TRUE.equals(record.flag("isLed")),
+                    record.time("timeOn"),
+                    record.time("timeOff"),
+                    Objects.requireNonNullElse(record.decimal("minTemperature"), 0.0),
+                    Objects.requireNonNullElse(record.decimal("maxTemperature"), 0.0),
+                    Objects.requireNonNullElse(record.decimal("currentTemperature"), 0.0),
+                    ownerId,
+                    record.text("color"),
+                    record.text("description")
+            );
+            Long aquariumId = aquariumId(record);
+            if (aquariumId != null) {
+                accessory.assignToAquarium(aquariumId, ownerId);
+            }
+            return accessory;
+        }
+
+        private Ornament createOrnament(DatasetRecord record) {
+            Ornament ornament = Ornament.create(
+                    record.text("name"),
+                    ownerId,
+                    Optional.ofNullable(record.text("description")),
+                    Optional.ofNullable(record.text("color")),
+                    Optional.ofNullable(record.text("material")),
+                    Optional.ofNullable(record.flag("isAirPumpCompatible"))
+            );
+            Long aquariumId = aquariumId(record);
+            if (aquariumId != null) {
+                ornament.assignToAquarium(aquariumId, ownerId);
+            }
+            return ornament;
+        }
+
+        private Inhabitant createInhabitant(DatasetRecord record) {
+            Inhabitant inhabitant = Inhabitant.create(
+                    required(record.text("inhabitantType"), "inhabitantType"),
+                    record.text("species"),
+                    record.text("name"),
+                    ownerId,
+                    Optional.ofNullable(record.text("color")),
+                    Optional.ofNullable(record.whole("count")),
+                    Optional.ofNullable(record.flag("isSchooling")),
+                    Optional.ofNullable(record.choice("waterType", WaterType.class)),
+                    Optional.ofNullable(record.text("description")),
+                    new Inhabitant.InhabitantProperties(
+                            Boolean.TRUE.equals(record.flag("isAggressiveEater")),
+                            Boolean.TRUE.equals(record.flag("requiresSpecialFood")),
+                            Boolean.TRUE.equals(record.flag("isSnailEater"))
+                    )
+            );
+            Long aquariumId = aquariumId(record);
+            if (aquariumId != null) {
+                inhabitant.assignToAquarium(aquariumId, ownerId);
+            }
+            return inhabitant;
+        }
+
+        /** The aquarium a record is placed in: one imported from this file, or one the owner already has. */
+        private Long aquariumId(DatasetRecord record) {
+            Long aquariumId = record.id("aquariumId");
+            if (aquariumId == null) {
+                return null;
+            }
+            Long importedId = aquariumIds.get(aquariumId);
+            if (importedId != null) {
+                return importedId;
+            }
+            if (ownedAquariumIds == null) {
+                ownedAquariumIds = aquariumRepository.findSummariesByOwnerId(ownerId).stream()
+                        .map(AquariumSummary::id)
+                        .collect(Collectors.toSet());
+            }
+            if (!ownedAquariumIds.contains(aquariumId)) {
+                throw new ApplicationException.ValidationException(
+                        "Aquarium " + aquariumId + " is not in this file and not one of your aquariums");
+            }
+            return aquariumId;
+        }
+
+        private <T> List<T> pendingAs(Class<T> type) {
+            List<T> entities = new ArrayList<>(pending.size());
+            for (Pending record : pending) {
+                entities.add(type.cast(record.entity()));
+            }
+            return entities;
+        }
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < AquariumConstants.MAX_IMPORT_ERRORS) {
+                errors.add(new DatasetImportErrorResponse(line, message));
+            }
+        }
+    }
+
+    private static <V> V required(V value, String field) {
+        if (value == null) {
+            throw new ApplicationException.ValidationException("Field '" + field + "' is required");
+        }
+        return value;
+    }
+}
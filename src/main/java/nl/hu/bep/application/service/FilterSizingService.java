@@ -0,0 +1,272 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.cache.OwnerScopedCache;
+import nl.hu.bep.application.event.EntityChangeListener;
+import nl.hu.bep.data.interfaces.FiltrationRepository;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.AquariumFiltration;
+import nl.hu.bep.domain.accessories.Filter;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.presentation.dto.response.FilterSizingReportResponse;
+import nl.hu.bep.presentation.dto.response.FilterSizingResponse;
+import nl.hu.bep.security.application.service.AuthorizationService;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reports aquariums whose filters are too small for their volume, per owner and fleet-wide.
+ *
+ * <p>The aquarium/filter pairing is loaded once with a single joined query and then patched in memory
+ * from accessory and aquarium writes, so refreshing the index never goes back to the database.
+ * Finished reports are cached until a write touches the owner they belong to.
+ */
+@Slf4j
+public class FilterSizingService implements EntityChangeListener {
+
+    private final FiltrationRepository filtrationRepository;
+    private final AuthorizationService authorizationService;
+
+    private final Map<Long, Map<Long, AquariumFiltration>> aquariumsByOwner = new HashMap<>();
+    private final Map<Long, AquariumFiltration> aquariumsById = new HashMap<>();
+    private final Map<Long, Long> aquariumByFilter = new HashMap<>();
+    private final OwnerScopedCache<FilterSizingReportResponse> ownerReports = new OwnerScopedCache<>();
+    // Guards the maps above. The first load holds it across the joined query, hence no monitor
+    private final ReentrantLock indexLock = new ReentrantLock();
+    private volatile FilterSizingReportResponse fleetReport;
+    private volatile boolean loaded;
+
+    @Inject
+    public FilterSizingService(FiltrationRepository filtrationRepository, AuthorizationService authorizationService) {
+        this.filtrationRepository = filtrationRepository;
+        this.authorizationService = authorizationService;
+    }
+
+    public FilterSizingReportResponse getOwnerReport(Long ownerId) {
+        ensureLoaded();
+        return ownerReports.get(ownerId, () -> buildReport(ownerId));
+    }
+
+    public FilterSizingReportResponse getFleetReport(Long requestingOwnerId) {
+        authorizationService.requireAdmin(requestingOwnerId);
+        ensureLoaded();
+        FilterSizingReportResponse report = fleetReport;
+        if (report != null) {
+            return report;
+        }
+        indexLock.lock();
+        try {
+            if (fleetReport == null) {
+                fleetReport = buildReport(null);
+            }
+            return fleetReport;
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    @Override
+    public void accessoryCreated(Accessory accessory) {
+        indexLock.lock();
+        try {
+            if (loaded && accessory instanceof Filter filter) {
+                relocate(filter);
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    @Override
+    public void accessoryUpdated(Accessory accessory) {
+        indexLock.lock();
+        try {
+            if (loaded && accessory instanceof Filter filter) {
+                relocate(filter);
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    @Override
+    public void accessoryDeleted(Accessory accessory) {
+        indexLock.lock();
+        try {
+            if (loaded && accessory instanceof Filter filter && filter.getId() != null) {
+                detach(filter.getId());
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    @Override
+    public void aquariumCreated(Aquarium aquarium) {
+        indexLock.lock();
+        try {
+            if (loaded) {
+                upsert(aquarium);
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    @Override
+    public void aquariumUpdated(AquariumState previousState, Aquarium aquarium) {
+        indexLock.lock();
+        try {
+            if (loaded) {
+                upsert(aquarium);
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    @Override
+    public void aquariumDeleted(Aquarium aquarium) {
+        indexLock.lock();
+        try {
+            if (!loaded || aquarium.getId() == null) {
+                return;
+            }
+            AquariumFiltration removed = aquariumsById.remove(aquarium.getId());
+            if (removed != null) {
+                removed.filters().forEach(filter -> aquariumByFilter.remove(filter.getId()));
+                ownerAquariums(removed.ownerId()).remove(removed.aquariumId());
+                changed(removed.ownerId());
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        indexLock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            List<AquariumFiltration> aquariums = filtrationRepository.findAll();
+            aquariums.forEach(this::store);
+            loaded = true;
+            log.info("Filter sizing index loaded with {} aquariums", aquariums.size());
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private FilterSizingReportResponse buildReport(Long ownerId) {
+        indexLock.lock();
+        try {
+            Collection<AquariumFiltration> aquariums = ownerId == null
+                    ? aquariumsById.values()
+                    : ownerAquariums(ownerId).values();
+
+            int checked = 0;
+            List<FilterSizingResponse> underFiltered = new ArrayList<>();
+            for (AquariumFiltration aquarium : aquariums) {
+                if (aquarium.state() == AquariumState.INACTIVE) {
+                    continue;
+                }
+                checked++;
+                if (aquarium.isUnderFiltered()) {
+                    underFiltered.add(toResponse(aquarium));
+                }
+            }
+            underFiltered.sort((a, b) -> Long.compare(a.aquariumId(), b.aquariumId()));
+            return new FilterSizingReportResponse(checked, underFiltered);
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void relocate(Filter filter) {
+        if (filter.getId() == null) {
+            return;
+        }
+        detach(filter.getId());
+        AquariumFiltration target = filter.getAquariumId() != null ? aquariumsById.get(filter.getAquariumId()) : null;
+        if (target == null) {
+            return;
+        }
+        List<Filter> filters = new ArrayList<>(target.filters());
+        filters.add(filter);
+        store(withFilters(target, filters));
+        changed(target.ownerId());
+    }
+
+    private void detach(Long filterId) {
+        Long aquariumId = aquariumByFilter.remove(filterId);
+        AquariumFiltration current = aquariumId != null ? aquariumsById.get(aquariumId) : null;
+        if (current == null) {
+            return;
+        }
+        List<Filter> filters = new ArrayList<>(current.filters());
+        filters.removeIf(existing -> filterId.equals(existing.getId()));
+        store(withFilters(current, filters));
+        changed(current.ownerId());
+    }
+
+    private void upsert(Aquarium aquarium) {
+        if (aquarium.getId() == null || aquarium.getOwnerId() == null) {
+            return;
+        }
+        AquariumFiltration existing = aquariumsById.get(aquarium.getId());
+        List<Filter> filters = existing != null ? existing.filters() : List.of();
+        if (existing != null && !existing.ownerId().equals(aquarium.getOwnerId())) {
+            ownerAquariums(existing.ownerId()).remove(existing.aquariumId());
+            changed(existing.ownerId());
+        }
+        store(new AquariumFiltration(aquarium.getId(), aquarium.getOwnerId(), aquarium.getName(),
+                aquarium.getState(), aquarium.getDimensions(), filters));
+        changed(aquarium.getOwnerId());
+    }
+
+    private void store(AquariumFiltration aquarium) {
+        aquariumsById.put(aquarium.aquariumId(), aquarium);
+        ownerAquariums(aquarium.ownerId()).put(aquarium.aquariumId(), aquarium);
+        aquarium.filters().forEach(filter -> aquariumByFilter.put(filter.getId(), aquarium.aquariumId()));
+    }
+
+    private Map<Long, AquariumFiltration> ownerAquariums(Long ownerId) {
+        return aquariumsByOwner.computeIfAbsent(ownerId, id -> new TreeMap<>());
+    }
+
+    private void changed(Long ownerId) {
+        ownerReports.invalidate(ownerId);
+        fleetReport = null;
+    }
+
+    private static AquariumFiltration withFilters(AquariumFiltration aquarium, List<Filter> filters) {
+        return new AquariumFiltration(aquarium.aquariumId(), aquarium.ownerId(), aquarium.aquariumName(),
+                aquarium.state(), aquarium.dimensions(), filters);
+    }
+
+    private static FilterSizingResponse toResponse(AquariumFiltration aquarium) {
+        double volume = aquarium.getVolumeInLiters();
+        int largest = aquarium.filters().stream().mapToInt(Filter::getCapacityLiters).max().orElse(0);
+        return new FilterSizingResponse(
+                aquarium.aquariumId(),
+                aquarium.aquariumName(),
+                aquarium.ownerId(),
+                volume,
+                (int) Math.ceil(volume * 2),
+                largest,
+                aquarium.filters().size());
+    }
+}
@@ -0,0 +1,206 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.event.EntityChangeListener;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.data.interfaces.StatisticsRepository;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.presentation.dto.response.FleetStatisticsResponse;
+import nl.hu.bep.security.application.service.AuthorizationService;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.glassfish.hk2.api.PostConstruct;
+import org.glassfish.hk2.api.PreDestroy;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fleet-wide counters maintained on every write, so admin dashboards never scan whole tables.
+ * The counters drift if a write bypasses the services, so they are periodically overwritten
+ * with the result of GROUP BY queries.
+ */
+@Slf4j
+public class FleetStatisticsService implements EntityChangeListener, PostConstruct, PreDestroy {
+
+    private static final AquariumState[] STATES = AquariumState.values();
+    private static final WaterType[] WATER_TYPES = WaterType.values();
+
+    private final StatisticsRepository statisticsRepository;
+    private final AuthorizationService authorizationService;
+
+    private final AtomicLongArray aquariumsByState = new AtomicLongArray(STATES.length);
+    private final AtomicLongArray inhabitantsByWaterType = new AtomicLongArray(WATER_TYPES.length);
+    private final Map<String, AtomicLong> inhabitantsByType = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> accessoriesByType = new ConcurrentHashMap<>();
+
+    // Serialises reconciliations, which wait on four GROUP BY queries; a monitor would pin a virtual thread
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private volatile LocalDateTime lastReconciled;
+    private ScheduledExecutorService reconciler;
+
+    @Inject
+    public FleetStatisticsService(StatisticsRepository statisticsRepository,
+                                  AuthorizationService authorizationService) {
+        this.statisticsRepository = statisticsRepository;
+        this.authorizationService = authorizationService;
+    }
+
+    @Override
+    public void postConstruct() {
+        reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fleet-statistics-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = AquariumConstants.STATISTICS_RECONCILE_INTERVAL_MINUTES;
+        reconciler.scheduleWithFixedDelay(this::reconcileSafely, 0, interval, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void preDestroy() {
+        if (reconciler != null) {
+            reconciler.shutdownNow();
+        }
+    }
+
+    public FleetStatisticsResponse getFleetStatistics(Long requestingOwnerId) {
+        authorizationService.requireAdmin(requestingOwnerId);
+        if (lastReconciled == null) {
+            reconcile();
+        }
+
+        Map<AquariumState, Long> aquariums = new EnumMap<>(AquariumState.class);
+        for (AquariumState state : STATES) {
+            aquariums.put(state, aquariumsByState.get(state.ordinal()));
+        }
+        Map<WaterType, Long> waterTypes = new EnumMap<>(WaterType.class);
+        for (WaterType waterType : WATER_TYPES) {
+            waterTypes.put(waterType, inhabitantsByWaterType.get(waterType.ordinal()));
+        }
+
+        return new FleetStatisticsResponse(
+                aquariums,
+                snapshot(inhabitantsByType),
+                waterTypes,
+                snapshot(accessoriesByType),
+                lastReconciled
+        );
+    }
+
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            Map<String, Long> states = statisticsRepository.countAquariumsByState();
+            Map<String, Long> waterTypes = statisticsRepository.countInhabitantsByWaterType();
+            Map<String, Long> inhabitantTypes = statisticsRepository.countInhabitantsByType();
+            Map<String, Long> accessoryTypes = statisticsRepository.countAccessoriesByType();
+
+            for (AquariumState state : STATES) {
+                aquariumsByState.set(state.ordinal(), states.getOrDefault(state.name(), 0L));
+            }
+            for (WaterType waterType : WATER_TYPES) {
+                inhabitantsByWaterType.set(waterType.ordinal(), waterTypes.getOrDefault(waterType.name(), 0L));
+            }
+            replace(inhabitantsByType, inhabitantTypes);
+            replace(accessoriesByType, accessoryTypes);
+
+            lastReconciled = LocalDateTime.now();
+            log.debug("Fleet statistics reconciled at {}", lastReconciled);
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    @Override
+    public void aquariumCreated(Aquarium aquarium) {
+        increment(aquariumsByState, aquarium.getState(), 1);
+    }
+
+    @Override
+    public void aquariumUpdated(AquariumState previousState, Aquarium aquarium) {
+        if (previousState != aquarium.getState()) {
+            increment(aquariumsByState, previousState, -1);
+            increment(aquariumsByState, aquarium.getState(), 1);
+        }
+    }
+
+    @Override
+    public void aquariumDeleted(Aquarium aquarium) {
+        increment(aquariumsByState, aquarium.getState(), -1);
+    }
+
+    @Override
+    public void inhabitantCreated(Inhabitant inhabitant) {
+        increment(inhabitantsByWaterType, inhabitant.getWaterType(), 1);
+        increment(inhabitantsByType, inhabitant.getInhabitantType(), 1);
+    }
+
+    @Override
+    public void inhabitantUpdated(WaterType previousWaterType, Inhabitant inhabitant) {
+        if (previousWaterType != inhabitant.getWaterType()) {
+            increment(inhabitantsByWaterType, previousWaterType, -1);
+            increment(inhabitantsByWaterType, inhabitant.getWaterType(), 1);
+        }
+    }
+
+    @Override
+    public void inhabitantDeleted(Inhabitant inhabitant) {
+        increment(inhabitantsByWaterType, inhabitant.getWaterType(), -1);
+        increment(inhabitantsByType, inhabitant.getInhabitantType(), -1);
+    }
+
+    @Override
+    public void accessoryCreated(Accessory accessory) {
+        increment(accessoriesByType, accessory.getAccessoryType(), 1);
+    }
+
+    @Override
+    public void accessoryDeleted(Accessory accessory) {
+        increment(accessoriesByType, accessory.getAccessoryType(), -1);
+    }
+
+    private void reconcileSafely() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("Fleet statistics reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    private static void increment(AtomicLongArray counters, Enum<?> key, long delta) {
+        if (key != null) {
+            counters.addAndGet(key.ordinal(), delta);
+        }
+    }
+
+    private static void increment(Map<String, AtomicLong> counters, String key, long delta) {
+        if (key != null) {
+            counters.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+        }
+    }
+
+    private static void replace(Map<String, AtomicLong> counters, Map<String, Long> counts) {
+        counters.keySet().retainAll(counts.keySet());
+        counts.forEach((key, count) -> counters.computeIfAbsent(key, k -> new AtomicLong()).set(count));
+    }
+
+    private static Map<String, Long> snapshot(Map<String, AtomicLong> counters) {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((key, count) -> result.put(key, count.get()));
+        return result;
+    }
+}
@@ -0,0 +1,71 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.health.DatabaseHealthProber;
+import nl.hu.bep.application.health.DatabaseProbe;
+import nl.hu.bep.application.metrics.LatencyHistogram;
+import nl.hu.bep.application.metrics.RequestMetrics;
+import nl.hu.bep.config.ConnectionPermits;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.presentation.dto.response.DatabaseHealthResponse;
+import nl.hu.bep.presentation.dto.response.LivenessResponse;
+import nl.hu.bep.presentation.dto.response.ReadinessResponse;
+
+import jakarta.inject.Inject;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Liveness only says the process is serving requests; readiness also requires a recent successful
+ * database probe. Neither touches the database: both read what {@link DatabaseHealthProber} cached.
+ * Readiness also reports how many connection permits are taken and waited for, which is the pool
+ * saturation of this setup.
+ */
+public class HealthService {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final DatabaseHealthProber prober;
+    private final DatabaseManager databaseManager;
+    private final RequestMetrics requestMetrics;
+
+    @Inject
+    public HealthService(DatabaseHealthProber prober, DatabaseManager databaseManager) {
+        this(prober, databaseManager, RequestMetrics.getInstance());
+    }
+
+    HealthService(DatabaseHealthProber prober, DatabaseManager databaseManager, RequestMetrics requestMetrics) {
+        this.prober = prober;
+        this.databaseManager = databaseManager;
+        this.requestMetrics = requestMetrics;
+    }
+
+    public LivenessResponse getLiveness() {
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        return new LivenessResponse("UP", uptimeMillis / 1000);
+    }
+
+    public ReadinessResponse getReadiness() {
+        LatencyHistogram.Snapshot acquire = databaseManager.getQueryMetrics().getConnectionAcquireSnapshot();
+        ConnectionPermits permits = databaseManager.getConnectionPermits();
+        return new ReadinessResponse(
+                prober.isReady() ? "READY" : "NOT_READY",
+                getDatabaseHealth(),
+                requestMetrics.inFlight(),
+                acquire.count(),
+                acquire.valueAtQuantile(0.99) / NANOS_PER_MILLI,
+                permits.getInUse(),
+                permits.getWaiting(),
+                permits.getMaxPermits());
+    }
+
+    public DatabaseHealthResponse getDatabaseHealth() {
+        DatabaseProbe probe = prober.getLatestProbe();
+        return new DatabaseHealthResponse(
+                probe.status().name(),
+                probe.message(),
+                probe.isUp() ? probe.roundTripNanos() / NANOS_PER_MILLI : null,
+                probe.schemaVersion(),
+                probe.checkedAt(),
+                prober.isStale(probe));
+    }
+}
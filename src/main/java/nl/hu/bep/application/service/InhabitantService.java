@@ -1,13 +1,17 @@
 package nl.hu.bep.application.service;
 
+import nl.hu.bep.application.event.EntityChangeNotifier;
+import nl.hu.bep.domain.InhabitantFilter;
 import nl.hu.bep.data.interfaces.InhabitantRepository;
 import nl.hu.bep.data.interfaces.AquariumRepository;
 import nl.hu.bep.domain.Inhabitant;
 import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.enums.WaterType;
 import nl.hu.bep.exception.ApplicationException;
 import nl.hu.bep.presentation.dto.mapper.EntityMapper;
 import nl.hu.bep.presentation.dto.request.InhabitantRequest;
 import nl.hu.bep.presentation.dto.response.InhabitantResponse;
+import nl.hu.bep.presentation.dto.response.InhabitantSummaryResponse;
 
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -23,14 +27,17 @@ public class InhabitantService {
     private final InhabitantRepository inhabitantRepository;
     private final AquariumRepository aquariumRepository;
     private final EntityMapper entityMapper;
+    private final EntityChangeNotifier changeNotifier;
 
     @Inject
     public InhabitantService(InhabitantRepository inhabitantRepository,
                             AquariumRepository aquariumRepository,
-                            EntityMapper entityMapper) {
+                            EntityMapper entityMapper,
+                            EntityChangeNotifier changeNotifier) {
         this.inhabitantRepository = inhabitantRepository;
         this.aquariumRepository = aquariumRepository;
         this.entityMapper = entityMapper;
+        this.changeNotifier = changeNotifier;
     }
 
     public List<InhabitantResponse> getAllInhabitants(Long ownerId) {
@@ -39,6 +46,18 @@ public class InhabitantService {
                 .collect(Collectors.toList());
     }
 
+    public List<InhabitantResponse> getAllInhabitants(Long ownerId, InhabitantFilter filter) {
+        return inhabitantRepository.findByOwnerId(ownerId, filter).stream()
+                .map(entityMapper::mapToInhabitantResponse)
+                .collect(Collectors.toList());
+    }
+
+    public List<InhabitantSummaryResponse> getInhabitantSummaries(Long ownerId, InhabitantFilter filter) {
+        return inhabitantRepository.findSummariesByOwnerId(ownerId, filter).stream()
+                .map(entityMapper::mapToInhabitantSummaryResponse)
+                .collect(Collectors.toList());
+    }
+
     public InhabitantResponse getInhabitant(Long inhabitantId, Long requestingOwnerId) {
         Inhabitant inhabitant = findOwnedInhabitant(inhabitantId, requestingOwnerId);
         return entityMapper.mapToInhabitantResponse(inhabitant);
@@ -70,12 +89,14 @@ public class InhabitantService {
         }
 
         Inhabitant savedInhabitant = inhabitantRepository.insert(inhabitant);
+        changeNotifier.inhabitantCreated(savedInhabitant);
         return entityMapper.mapToInhabitantResponse(savedInhabitant);
     }
 
     @Transactional
     public InhabitantResponse updateInhabitant(Long inhabitantId, InhabitantRequest request, Long requestingOwnerId) {
         Inhabitant inhabitant = findOwnedInhabitant(inhabitantId, requestingOwnerId);
+        WaterType previousWaterType = inhabitant.getWaterType();
 
         inhabitant.update(
                 Optional.ofNullable(request.name()),
@@ -95,13 +116,15 @@ public class InhabitantService {
         }
 
         Inhabitant updatedInhabitant = inhabitantRepository.update(inhabitant);
+        changeNotifier.inhabitantUpdated(previousWaterType, updatedInhabitant);
         return entityMapper.mapToInhabitantResponse(updatedInhabitant);
     }
 
     @Transactional
     public void deleteInhabitant(Long inhabitantId, Long requestingOwnerId) {
-        findOwnedInhabitant(inhabitantId, requestingOwnerId); // Validates ownership
+        Inhabitant inhabitant = findOwnedInhabitant(inhabitantId, requestingOwnerId); // Validates ownership
         inhabitantRepository.deleteById(inhabitantId);
+        changeNotifier.inhabitantDeleted(inhabitant);
         log.info("Inhabitant {} deleted by owner {}", inhabitantId, requestingOwnerId);
     }
 
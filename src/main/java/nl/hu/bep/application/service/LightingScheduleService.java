@@ -0,0 +1,154 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.event.EntityChangeListener;
+import nl.hu.bep.application.schedule.LightingScheduleIndex;
+import nl.hu.bep.data.interfaces.AccessoryRepository;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.accessories.Lighting;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.LightingScheduleResponse;
+import nl.hu.bep.presentation.dto.response.LightingSwitchResponse;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Answers "which lights are on" and "what switches soon" from per-owner in-memory indexes.
+ * The indexes are loaded once from the database and then kept current through accessory writes.
+ */
+@Slf4j
+public class LightingScheduleService implements EntityChangeListener {
+
+    private static final String LIGHTING_TYPE = "Lighting";
+
+    private final AccessoryRepository accessoryRepository;
+    private final Map<Long, LightingScheduleIndex> indexesByOwner = new ConcurrentHashMap<>();
+    // Held while the lights are first read from the database; a monitor would pin a virtual thread there
+    private final ReentrantLock indexLock = new ReentrantLock();
+    private volatile boolean loaded;
+
+    @Inject
+    public LightingScheduleService(AccessoryRepository accessoryRepository) {
+        this.accessoryRepository = accessoryRepository;
+    }
+
+    public List<LightingScheduleResponse> getLightsOnAt(Long ownerId, LocalTime time) {
+        return indexFor(ownerId).findOnAt(time).stream()
+                .map(light -> new LightingScheduleResponse(
+                        light.accessoryId(),
+                        light.aquariumId(),
+                        light.turnOnTime(),
+                        light.turnOffTime()))
+                .collect(Collectors.toList());
+    }
+
+    public List<LightingSwitchResponse> getUpcomingSwitches(Long ownerId, LocalTime from, int minutes) {
+        if (minutes <= 0 || minutes > LightingScheduleIndex.MINUTES_PER_DAY) {
+            throw new ApplicationException.ValidationException(
+                    "Window must be between 1 and " + LightingScheduleIndex.MINUTES_PER_DAY + " minutes");
+        }
+        return indexFor(ownerId).findSwitchesWithin(from, minutes).stream()
+                .map(event -> new LightingSwitchResponse(
+                        event.light().accessoryId(),
+                        event.light().aquariumId(),
+                        event.turningOn() ? "ON" : "OFF",
+                        event.turningOn() ? event.light().turnOnTime() : event.light().turnOffTime(),
+                        event.minutesFromStart()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void accessoryCreated(Accessory accessory) {
+        indexLock.lock();
+        try {
+            if (loaded && accessory instanceof Lighting lighting) {
+                index(lighting);
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    @Override
+    public void accessoryUpdated(Accessory accessory) {
+        indexLock.lock();
+        try {
+            if (!loaded || accessory.getId() == null) {
+                return;
+            }
+            if (accessory instanceof Lighting lighting) {
+                index(lighting);
+            } else {
+                unindex(accessory);
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    @Override
+    public void accessoryDeleted(Accessory accessory) {
+        indexLock.lock();
+        try {
+            if (loaded && accessory instanceof Lighting && accessory.getId() != null) {
+                unindex(accessory);
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private LightingScheduleIndex indexFor(Long ownerId) {
+        ensureLoaded();
+        return indexesByOwner.computeIfAbsent(ownerId, id -> new LightingScheduleIndex());
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        indexLock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            List<Accessory> lights = accessoryRepository.findByType(LIGHTING_TYPE);
+            for (Accessory accessory : lights) {
+                if (accessory instanceof Lighting lighting) {
+                    index(lighting);
+                }
+            }
+            loaded = true;
+            log.info("Lighting schedule index loaded with {} lights", lights.size());
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void index(Lighting lighting) {
+        if (lighting.getId() == null) {
+            return;
+        }
+        if (lighting.getTurnOnTime() == null || lighting.getTurnOffTime() == null) {
+            // An update that clears either time takes the light off its schedule
+            unindex(lighting);
+            return;
+        }
+        indexesByOwner.computeIfAbsent(lighting.getOwnerId(), id -> new LightingScheduleIndex())
+                .put(lighting.getId(), lighting.getAquariumId(), lighting.getTurnOnTime(), lighting.getTurnOffTime());
+    }
+
+    private void unindex(Accessory accessory) {
+        LightingScheduleIndex index = indexesByOwner.get(accessory.getOwnerId());
+        if (index != null) {
+            index.remove(accessory.getId());
+        }
+    }
+}
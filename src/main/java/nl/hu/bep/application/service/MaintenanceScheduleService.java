@@ -0,0 +1,141 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.event.EntityChangeListener;
+import nl.hu.bep.application.schedule.MaintenanceQueue;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.data.interfaces.AquariumRepository;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.MaintenanceDueResponse;
+import nl.hu.bep.presentation.dto.response.MaintenanceScheduleResponse;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps a per-owner queue of next-due maintenance, rescheduled whenever an aquarium is written.
+ * Only running aquariums are queued; the due date comes from {@link Aquarium#getNextMaintenanceDue()}.
+ */
+@Slf4j
+public class MaintenanceScheduleService implements EntityChangeListener {
+
+    private final AquariumRepository aquariumRepository;
+    private final Clock clock;
+    private final Map<Long, MaintenanceQueue> queuesByOwner = new ConcurrentHashMap<>();
+    // Not a monitor: the first load reads every aquarium while holding it
+    private final ReentrantLock queueLock = new ReentrantLock();
+    private volatile boolean loaded;
+
+    @Inject
+    public MaintenanceScheduleService(AquariumRepository aquariumRepository) {
+        this(aquariumRepository, Clock.systemDefaultZone());
+    }
+
+    MaintenanceScheduleService(AquariumRepository aquariumRepository, Clock clock) {
+        this.aquariumRepository = aquariumRepository;
+        this.clock = clock;
+    }
+
+    public MaintenanceScheduleResponse getMaintenanceSchedule(Long ownerId, int withinDays) {
+        if (withinDays < 0 || withinDays > AquariumConstants.MAX_MAINTENANCE_WINDOW_DAYS) {
+            throw new ApplicationException.ValidationException(
+                    "Window must be between 0 and " + AquariumConstants.MAX_MAINTENANCE_WINDOW_DAYS + " days");
+        }
+        MaintenanceQueue queue = queueFor(ownerId);
+        LocalDateTime now = LocalDateTime.now(clock);
+        return new MaintenanceScheduleResponse(
+                toResponses(queue.findOverdue(now)),
+                toResponses(queue.findDueBetween(now, now.plusDays(withinDays))));
+    }
+
+    @Override
+    public void aquariumCreated(Aquarium aquarium) {
+        queueLock.lock();
+        try {
+            if (loaded) {
+                schedule(aquarium);
+            }
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    @Override
+    public void aquariumUpdated(AquariumState previousState, Aquarium aquarium) {
+        queueLock.lock();
+        try {
+            if (loaded) {
+                schedule(aquarium);
+            }
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    @Override
+    public void aquariumDeleted(Aquarium aquarium) {
+        queueLock.lock();
+        try {
+            if (loaded && aquarium.getId() != null && aquarium.getOwnerId() != null) {
+                queueFor(aquarium.getOwnerId()).remove(aquarium.getId());
+            }
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private MaintenanceQueue queueFor(Long ownerId) {
+        ensureLoaded();
+        return queuesByOwner.computeIfAbsent(ownerId, id -> new MaintenanceQueue());
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        queueLock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            List<Aquarium> aquariums = aquariumRepository.findAll();
+            aquariums.forEach(this::schedule);
+            loaded = true;
+            log.info("Maintenance queue loaded with {} aquariums", aquariums.size());
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private void schedule(Aquarium aquarium) {
+        if (aquarium.getId() == null || aquarium.getOwnerId() == null) {
+            return;
+        }
+        MaintenanceQueue queue = queuesByOwner.computeIfAbsent(aquarium.getOwnerId(), id -> new MaintenanceQueue());
+        LocalDateTime due = aquarium.getNextMaintenanceDue();
+        if (due == null) {
+            queue.remove(aquarium.getId());
+        } else {
+            queue.schedule(aquarium.getId(), aquarium.getName(), due, aquarium.getRecommendedMaintenanceIntervalDays());
+        }
+    }
+
+    private List<MaintenanceDueResponse> toResponses(List<MaintenanceQueue.Entry> entries) {
+        return entries.stream()
+                .map(entry -> new MaintenanceDueResponse(
+                        entry.aquariumId(),
+                        entry.aquariumName(),
+                        entry.dueAt(),
+                        entry.intervalDays()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,103 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.cache.OwnerScopedCache;
+import nl.hu.bep.application.event.EntityChangeListener;
+import nl.hu.bep.application.planning.AirPumpPlacementPlanner;
+import nl.hu.bep.data.interfaces.FiltrationRepository;
+import nl.hu.bep.data.interfaces.OrnamentRepository;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.presentation.dto.response.AirPumpPlanResponse;
+import nl.hu.bep.presentation.dto.response.OrnamentPlacementResponse;
+
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Suggests where an owner's air-pump-compatible ornaments should go.
+ * Plans are cached per owner and dropped when that owner's ornaments, accessories or aquariums change.
+ */
+public class OrnamentPlacementService implements EntityChangeListener {
+
+    private final FiltrationRepository filtrationRepository;
+    private final OrnamentRepository ornamentRepository;
+    private final OwnerScopedCache<AirPumpPlanResponse> planCache = new OwnerScopedCache<>();
+
+    @Inject
+    public OrnamentPlacementService(FiltrationRepository filtrationRepository, OrnamentRepository ornamentRepository) {
+        this.filtrationRepository = filtrationRepository;
+        this.ornamentRepository = ornamentRepository;
+    }
+
+    public AirPumpPlanResponse getAirPumpPlan(Long ownerId) {
+        return planCache.get(ownerId, () -> buildPlan(ownerId));
+    }
+
+    @Override
+    public void ornamentCreated(Ornament ornament) {
+        planCache.invalidate(ornament.getOwnerId());
+    }
+
+    @Override
+    public void ornamentUpdated(Ornament ornament) {
+        planCache.invalidate(ornament.getOwnerId());
+    }
+
+    @Override
+    public void ornamentDeleted(Ornament ornament) {
+        planCache.invalidate(ornament.getOwnerId());
+    }
+
+    @Override
+    public void accessoryCreated(Accessory accessory) {
+        planCache.invalidate(accessory.getOwnerId());
+    }
+
+    @Override
+    public void accessoryUpdated(Accessory accessory) {
+        planCache.invalidate(accessory.getOwnerId());
+    }
+
+    @Override
+    public void accessoryDeleted(Accessory accessory) {
+        planCache.invalidate(accessory.getOwnerId());
+    }
+
+    @Override
+    public void aquariumCreated(Aquarium aquarium) {
+        planCache.invalidate(aquarium.getOwnerId());
+    }
+
+    @Override
+    public void aquariumUpdated(AquariumState previousState, Aquarium aquarium) {
+        planCache.invalidate(aquarium.getOwnerId());
+    }
+
+    @Override
+    public void aquariumDeleted(Aquarium aquarium) {
+        planCache.invalidate(aquarium.getOwnerId());
+    }
+
+    private AirPumpPlanResponse buildPlan(Long ownerId) {
+        AirPumpPlacementPlanner.Plan plan = AirPumpPlacementPlanner.plan(
+                filtrationRepository.findByOwnerId(ownerId),
+                ornamentRepository.findByOwnerId(ownerId));
+
+        List<OrnamentPlacementResponse> suggestions = plan.placements().stream()
+                .map(placement -> new OrnamentPlacementResponse(
+                        placement.ornament().getId(),
+                        placement.ornament().getName(),
+                        placement.aquarium().aquariumId(),
+                        placement.aquarium().aquariumName(),
+                        placement.reason().name()))
+                .collect(Collectors.toList());
+        List<Long> unmatched = plan.unmatched().stream()
+                .map(Ornament::getId)
+                .collect(Collectors.toList());
+        return new AirPumpPlanResponse(suggestions, unmatched);
+    }
+}
@@ -1,5 +1,6 @@
 package nl.hu.bep.application.service;
 
+import nl.hu.bep.application.event.EntityChangeNotifier;
 import nl.hu.bep.data.interfaces.OrnamentRepository;
 import nl.hu.bep.data.interfaces.OwnerRepository;  
 import nl.hu.bep.data.interfaces.AquariumRepository;
@@ -9,6 +10,7 @@ import nl.hu.bep.exception.ApplicationException;
 import nl.hu.bep.presentation.dto.mapper.EntityMapper;
 import nl.hu.bep.presentation.dto.request.OrnamentRequest;
 import nl.hu.bep.presentation.dto.response.OrnamentResponse;
+import nl.hu.bep.presentation.dto.response.OrnamentSummaryResponse;
 
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -25,16 +27,19 @@ public class OrnamentService {
     private final OwnerRepository ownerRepository;
     private final AquariumRepository aquariumRepository;
     private final EntityMapper entityMapper;
+    private final EntityChangeNotifier changeNotifier;
 
     @Inject
     public OrnamentService(OrnamentRepository ornamentRepository,
                           OwnerRepository ownerRepository,
                           AquariumRepository aquariumRepository,
-                          EntityMapper entityMapper) {
+                          EntityMapper entityMapper,
+                          EntityChangeNotifier changeNotifier) {
         this.ornamentRepository = ornamentRepository;
         this.ownerRepository = ownerRepository;
         this.aquariumRepository = aquariumRepository;
         this.entityMapper = entityMapper;
+        this.changeNotifier = changeNotifier;
     }
 
     public List<OrnamentResponse> getAllOrnaments(Long ownerId) {
@@ -43,6 +48,12 @@ public class OrnamentService {
                 .collect(Collectors.toList());
     }
 
+    public List<OrnamentSummaryResponse> getOrnamentSummaries(Long ownerId) {
+        return ornamentRepository.findSummariesByOwnerId(ownerId).stream()
+                .map(entityMapper::mapToOrnamentSummaryResponse)
+                .collect(Collectors.toList());
+    }
+
     public OrnamentResponse getOrnament(Long ornamentId, Long requestingOwnerId) {
         Ornament ornament = findOwnedOrnament(ornamentId, requestingOwnerId);
         return entityMapper.mapToOrnamentResponse(ornament);
@@ -73,6 +84,7 @@ public class OrnamentService {
         }
 
         Ornament savedOrnament = ornamentRepository.insert(ornament);
+        changeNotifier.ornamentCreated(savedOrnament);
         return entityMapper.mapToOrnamentResponse(savedOrnament);
     }
 
@@ -96,13 +108,15 @@ public class OrnamentService {
         }
 
         Ornament updatedOrnament = ornamentRepository.update(ornament);
+        changeNotifier.ornamentUpdated(updatedOrnament);
         return entityMapper.mapToOrnamentResponse(updatedOrnament);
     }
 
     @Transactional
     public void deleteOrnament(Long ornamentId, Long requestingOwnerId) {
-        findOwnedOrnament(ornamentId, requestingOwnerId); // Validates ownership
+        Ornament ornament = findOwnedOrnament(ornamentId, requestingOwnerId); // Validates ownership
         ornamentRepository.deleteById(ornamentId);
+        changeNotifier.ornamentDeleted(ornament);
         log.info("Ornament {} deleted by owner {}", ornamentId, requestingOwnerId);
     }
 
@@ -0,0 +1,66 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.metrics.LatencyHistogram;
+import nl.hu.bep.application.metrics.QueryMetrics;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.QueryStatisticsResponse;
+import nl.hu.bep.presentation.dto.response.QueryTemplateResponse;
+import nl.hu.bep.security.application.service.AuthorizationService;
+
+import jakarta.inject.Inject;
+
+import java.util.List;
+
+/**
+ * Admin view over the JDBC statistics collected by {@link DatabaseManager}.
+ */
+public class QueryStatisticsService {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final DatabaseManager databaseManager;
+    private final AuthorizationService authorizationService;
+
+    @Inject
+    public QueryStatisticsService(DatabaseManager databaseManager, AuthorizationService authorizationService) {
+        this.databaseManager = databaseManager;
+        this.authorizationService = authorizationService;
+    }
+
+    public QueryStatisticsResponse getSlowestQueries(Long requestingOwnerId, int limit) {
+        authorizationService.requireAdmin(requestingOwnerId);
+        if (limit <= 0 || limit > AquariumConstants.MAX_SLOW_QUERY_REPORT_SIZE) {
+            throw new ApplicationException.ValidationException(
+                    "Limit must be between 1 and " + AquariumConstants.MAX_SLOW_QUERY_REPORT_SIZE);
+        }
+
+        QueryMetrics metrics = databaseManager.getQueryMetrics();
+        LatencyHistogram.Snapshot acquire = metrics.getConnectionAcquireSnapshot();
+        List<QueryTemplateResponse> slowest = metrics.findSlowest(limit).stream()
+                .map(stats -> new QueryTemplateResponse(
+                        stats.sql(),
+                        stats.calls(),
+                        stats.rowsMapped(),
+                        stats.slowCalls(),
+                        stats.failedCalls(),
+                        toMillis(stats.meanNanos()),
+                        toMillis(stats.p50Nanos()),
+                        toMillis(stats.p99Nanos()),
+                        toMillis(stats.maxNanos())))
+                .toList();
+
+        return new QueryStatisticsResponse(
+                acquire.count(),
+                toMillis(acquire.valueAtQuantile(0.5)),
+                toMillis(acquire.valueAtQuantile(0.99)),
+                toMillis(acquire.maxNanos()),
+                metrics.getSlowThresholdMillis(),
+                slowest);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,156 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.tracing.Tracer;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.data.interfaces.SearchRepository;
+import nl.hu.bep.domain.summary.SearchHit;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.mapper.EntityMapper;
+import nl.hu.bep.presentation.dto.response.SearchHitResponse;
+import nl.hu.bep.presentation.dto.response.SearchResultResponse;
+
+import jakarta.inject.Inject;
+import org.glassfish.hk2.api.PostConstruct;
+import org.glassfish.hk2.api.PreDestroy;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Searches an owner's aquariums, inhabitants and ornaments at once. Each type is one indexed query;
+ * the queries run in parallel and their hits are merged by rank into a single page.
+ *
+ * <p>The workers carry the caller's logging MDC. Trace spans belong to the request thread, so each
+ * query's span is recorded there once its result is joined.
+ */
+public class SearchService implements PostConstruct, PreDestroy {
+
+    private static final Comparator<SearchHit> BY_RANK = Comparator.comparingDouble(SearchHit::rank).reversed()
+            .thenComparing(SearchHit::type)
+            .thenComparing(SearchHit::id);
+
+    private final SearchRepository searchRepository;
+    private final EntityMapper entityMapper;
+    private final DatabaseManager databaseManager;
+    private final Tracer tracer = Tracer.getInstance();
+
+    private ExecutorService searchers;
+
+    @Inject
+    public SearchService(SearchRepository searchRepository, EntityMapper entityMapper, DatabaseManager databaseManager) {
+        this.searchRepository = searchRepository;
+        this.entityMapper = entityMapper;
+        this.databaseManager = databaseManager;
+    }
+
+    @Override
+    public void postConstruct() {
+        // A worker per connection permit: any more would only wait for a permit while holding a thread
+        int workers = databaseManager.getConnectionPermits().getMaxPermits();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(workers, workers,
+                AquariumConstants.SEARCH_WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "search-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        searchers = pool;
+    }
+
+    @Override
+    public void preDestroy() {
+        if (searchers != null) {
+            searchers.shutdownNow();
+        }
+    }
+
+    /**
+     * @param types the entity types to search, or empty for all of them
+     */
+    public SearchResultResponse search(Long ownerId, String terms, Set<SearchHit.Type> types, int offset, int limit) {
+        validate(terms, offset, limit);
+        String query = terms.strip();
+        Set<SearchHit.Type> searched = types.isEmpty() ? EnumSet.allOf(SearchHit.Type.class) : types;
+
+        // The top offset + limit hits of each type are enough to fill the page; one more tells if another follows
+        int hitsPerType = offset + limit + 1;
+        Map<String, String> logContext = MDC.getCopyOfContextMap();
+        List<CompletableFuture<TypeResult>> pending = searched.stream()
+                .map(type -> CompletableFuture.supplyAsync(
+                        () -> searchType(type, ownerId, query, hitsPerType, logContext), searchers))
+                .toList();
+        List<SearchHit> merged = new ArrayList<>();
+        for (CompletableFuture<TypeResult> future : pending) {
+            TypeResult result = join(future);
+            tracer.recordSpan("SearchRepository.search(" + result.type() + ")", result.startNanos(), result.endNanos());
+            merged.addAll(result.hits());
+        }
+        merged.sort(BY_RANK);
+
+        int end = Math.min(merged.size(), offset + limit);
+        List<SearchHitResponse> page = offset >= end ? List.of() : merged.subList(offset, end).stream()
+                .map(entityMapper::mapToSearchHitResponse)
+                .toList();
+        return new SearchResultResponse(query, offset, limit, merged.size() > offset + limit, page);
+    }
+
+    private TypeResult searchType(SearchHit.Type type, Long ownerId, String query, int maxHits,
+                                  Map<String, String> logContext) {
+        if (logContext != null) {
+            MDC.setContextMap(logContext);
+        }
+        try {
+            long start = System.nanoTime();
+            List<SearchHit> hits = searchRepository.search(type, ownerId, query, maxHits);
+            return new TypeResult(type, hits, start, System.nanoTime());
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void validate(String terms, int offset, int limit) {
+        if (terms == null || terms.isBlank()) {
+            throw new ApplicationException.ValidationException("Search query is required");
+        }
+        if (terms.length() > AquariumConstants.MAX_SEARCH_TERMS_LENGTH) {
+            throw new ApplicationException.ValidationException(
+                    "Search query cannot exceed " + AquariumConstants.MAX_SEARCH_TERMS_LENGTH + " characters");
+        }
+        if (limit <= 0 || limit > AquariumConstants.MAX_SEARCH_PAGE_SIZE) {
+            throw new ApplicationException.ValidationException(
+                    "Limit must be between 1 and " + AquariumConstants.MAX_SEARCH_PAGE_SIZE);
+        }
+        if (offset < 0 || offset > AquariumConstants.MAX_SEARCH_OFFSET) {
+            throw new ApplicationException.ValidationException(
+                    "Offset must be between 0 and " + AquariumConstants.MAX_SEARCH_OFFSET);
+        }
+    }
+
+    private static TypeResult join(CompletableFuture<TypeResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record TypeResult(SearchHit.Type type, List<SearchHit> hits, long startNanos, long endNanos) {}
+}
@@ -0,0 +1,131 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.event.EntityChangeListener;
+import nl.hu.bep.application.species.SpeciesTrie;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.data.interfaces.StatisticsRepository;
+import nl.hu.bep.data.interfaces.StatisticsRepository.SpeciesCounts;
+import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.SpeciesSuggestionResponse;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Species autocomplete served from memory. The catalog is the bundled reference list plus every species
+ * already used by an inhabitant, loaded once from the database and then kept current through inhabitant
+ * writes, so a lookup never runs a query.
+ *
+ * <p>Popularity is additive, so an insert must not be counted twice. One that commits before the counts
+ * are read is already in them, even if its event only gets here after loading; the counts come with the
+ * highest inhabitant id they include, and created inhabitants up to that id are skipped. Deletes cannot be
+ * told apart that way: one that commits while the counts are read may lower its species by one extra.
+ * Popularity only orders suggestions, so that drift is left for the next restart to correct.
+ */
+@Slf4j
+public class SpeciesCatalogService implements EntityChangeListener {
+
+    static final String REFERENCE_LIST = "species/reference-species.txt";
+
+    private final StatisticsRepository statisticsRepository;
+    private final SpeciesTrie catalog = new SpeciesTrie();
+    // The first load waits on a connection and the count query while holding this, so not a monitor
+    private final ReentrantLock catalogLock = new ReentrantLock();
+    private long lastCountedId;
+    private volatile boolean loaded;
+
+    @Inject
+    public SpeciesCatalogService(StatisticsRepository statisticsRepository) {
+        this.statisticsRepository = statisticsRepository;
+    }
+
+    public List<SpeciesSuggestionResponse> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new ApplicationException.ValidationException("Species prefix is required");
+        }
+        if (limit <= 0 || limit > AquariumConstants.MAX_SPECIES_SUGGESTIONS) {
+            throw new ApplicationException.ValidationException(
+                    "Limit must be between 1 and " + AquariumConstants.MAX_SPECIES_SUGGESTIONS);
+        }
+        ensureLoaded();
+        return catalog.complete(prefix, limit).stream()
+                .map(match -> new SpeciesSuggestionResponse(match.species(), match.popularity()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void inhabitantCreated(Inhabitant inhabitant) {
+        catalogLock.lock();
+        try {
+            if (loaded && !isCounted(inhabitant)) {
+                catalog.add(inhabitant.getSpecies(), 1);
+            }
+        } finally {
+            catalogLock.unlock();
+        }
+    }
+
+    @Override
+    public void inhabitantDeleted(Inhabitant inhabitant) {
+        catalogLock.lock();
+        try {
+            if (loaded) {
+                catalog.add(inhabitant.getSpecies(), -1);
+            }
+        } finally {
+            catalogLock.unlock();
+        }
+    }
+
+    /** Whether the load already counted {@code inhabitant}, because the count query saw its row. */
+    private boolean isCounted(Inhabitant inhabitant) {
+        Long id = inhabitant.getId();
+        return id != null && id <= lastCountedId;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        catalogLock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            SpeciesCounts inUse = statisticsRepository.countInhabitantsBySpecies();
+            // Reference names go in first, so their spelling wins over a differently cased duplicate
+            for (String line : readReferenceList().split("\\R")) {
+                String species = line.strip();
+                if (!species.isEmpty() && !species.startsWith("#")) {
+                    catalog.add(species, 0);
+                }
+            }
+            inUse.bySpecies().forEach((species, count) ->
+                    catalog.add(species, (int) Math.min(count, Integer.MAX_VALUE)));
+            lastCountedId = inUse.lastInhabitantId();
+            loaded = true;
+            log.info("Species catalog loaded with {} species, {} in use", catalog.size(), inUse.bySpecies().size());
+        } finally {
+            catalogLock.unlock();
+        }
+    }
+
+    private static String readReferenceList() {
+        try (InputStream input = SpeciesCatalogService.class.getClassLoader().getResourceAsStream(REFERENCE_LIST)) {
+            if (input == null) {
+                throw new IllegalStateException(REFERENCE_LIST + " not found on classpath");
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read " + REFERENCE_LIST, e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.alert.AlertBatchWriter;
+import nl.hu.bep.application.alert.ThermostatRuleEvaluator;
+import nl.hu.bep.application.event.EntityChangeListener;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.data.interfaces.ThermostatAlertRepository;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.ThermostatAlert;
+import nl.hu.bep.domain.accessories.Thermostat;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.ThermostatAlertResponse;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates every thermostat write against its range and keeps a per-owner alert feed.
+ *
+ * <p>Alerts reach the database in batches. The feed merges the owner's stored alerts with those still
+ * queued, so it shows new alerts right away without writing the queue on a read.
+ */
+@Slf4j
+public class ThermostatAlertService implements EntityChangeListener {
+
+    private static final Comparator<ThermostatAlert> NEWEST_FIRST =
+            Comparator.comparing(ThermostatAlert::raisedAt).reversed();
+
+    private final AlertBatchWriter alertWriter;
+    private final ThermostatAlertRepository alertRepository;
+    private final Clock clock;
+    private final ThermostatRuleEvaluator evaluator = new ThermostatRuleEvaluator(
+            AquariumConstants.THERMOSTAT_ALERT_HYSTERESIS,
+            TimeUnit.MINUTES.toMillis(AquariumConstants.THERMOSTAT_ALERT_COOLDOWN_MINUTES));
+
+    @Inject
+    public ThermostatAlertService(AlertBatchWriter alertWriter, ThermostatAlertRepository alertRepository) {
+        this(alertWriter, alertRepository, Clock.systemDefaultZone());
+    }
+
+    ThermostatAlertService(AlertBatchWriter alertWriter, ThermostatAlertRepository alertRepository, Clock clock) {
+        this.alertWriter = alertWriter;
+        this.alertRepository = alertRepository;
+        this.clock = clock;
+    }
+
+    public List<ThermostatAlertResponse> getAlerts(Long ownerId, int limit) {
+        if (limit <= 0 || limit > AquariumConstants.MAX_ALERT_FEED_SIZE) {
+            throw new ApplicationException.ValidationException(
+                    "Limit must be between 1 and " + AquariumConstants.MAX_ALERT_FEED_SIZE);
+        }
+        List<ThermostatAlert> stored = alertRepository.findRecentByOwner(ownerId, limit);
+        // Read after the stored feed, so an alert written in between is missing from one read, never listed twice
+        List<ThermostatAlert> feed = new ArrayList<>(alertWriter.pendingFor(ownerId));
+        Collections.reverse(feed);
+        feed.addAll(stored);
+        // Stable, so a queued alert stays ahead of a stored one raised at the same moment
+        feed.sort(NEWEST_FIRST);
+        return feed.stream()
+                .limit(limit)
+                .map(alert -> new ThermostatAlertResponse(
+                        alert.id(),
+                        alert.accessoryId(),
+                        alert.aquariumId(),
+                        alert.type().name(),
+                        alert.temperature(),
+                        alert.minTemperature(),
+                        alert.maxTemperature(),
+                        alert.raisedAt()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void accessoryCreated(Accessory accessory) {
+        if (accessory instanceof Thermostat thermostat) {
+            evaluate(thermostat);
+        }
+    }
+
+    @Override
+    public void accessoryUpdated(Accessory accessory) {
+        if (accessory instanceof Thermostat thermostat) {
+            evaluate(thermostat);
+        }
+    }
+
+    @Override
+    public synchronized void accessoryDeleted(Accessory accessory) {
+        if (accessory instanceof Thermostat && accessory.getId() != null) {
+            evaluator.forget(accessory.getId());
+            alertWriter.discard(accessory.getId());
+        }
+    }
+
+    private synchronized void evaluate(Thermostat thermostat) {
+        if (thermostat.getId() == null) {
+            return;
+        }
+        ThermostatAlert.Type type = evaluator.evaluate(
+                thermostat.getId(),
+                thermostat.getCurrentTemperature(),
+                thermostat.getMinTemperature(),
+                thermostat.getMaxTemperature(),
+                clock.millis());
+        if (type == null) {
+            return;
+        }
+        log.debug("Thermostat {} raised {}", thermostat.getId(), type);
+        alertWriter.enqueue(new ThermostatAlert(
+                null,
+                thermostat.getId(),
+                thermostat.getOwnerId(),
+                thermostat.getAquariumId(),
+                type,
+                thermostat.getCurrentTemperature(),
+                thermostat.getMinTemperature(),
+                thermostat.getMaxTemperature(),
+                LocalDateTime.now(clock)));
+    }
+}
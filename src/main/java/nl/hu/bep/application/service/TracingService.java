@@ -0,0 +1,70 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.tracing.CompletedTrace;
+import nl.hu.bep.application.tracing.Tracer;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.SlowTraceReportResponse;
+import nl.hu.bep.presentation.dto.response.SpanResponse;
+import nl.hu.bep.presentation.dto.response.TraceResponse;
+import nl.hu.bep.security.application.service.AuthorizationService;
+
+import jakarta.inject.Inject;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Admin view over the slow request traces retained by {@link Tracer}.
+ */
+public class TracingService {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Tracer tracer;
+    private final AuthorizationService authorizationService;
+
+    @Inject
+    public TracingService(AuthorizationService authorizationService) {
+        this(Tracer.getInstance(), authorizationService);
+    }
+
+    TracingService(Tracer tracer, AuthorizationService authorizationService) {
+        this.tracer = tracer;
+        this.authorizationService = authorizationService;
+    }
+
+    public SlowTraceReportResponse getSlowTraces(Long requestingOwnerId, int limit, String correlationId) {
+        authorizationService.requireAdmin(requestingOwnerId);
+        if (limit <= 0 || limit > AquariumConstants.TRACE_BUFFER_SIZE) {
+            throw new ApplicationException.ValidationException(
+                    "Limit must be between 1 and " + AquariumConstants.TRACE_BUFFER_SIZE);
+        }
+
+        List<TraceResponse> traces = tracer.getSlowTraces().findRecent().stream()
+                .filter(trace -> correlationId == null || correlationId.equals(trace.correlationId()))
+                .limit(limit)
+                .map(TracingService::toResponse)
+                .toList();
+        return new SlowTraceReportResponse(tracer.getSlowThresholdMillis(), traces);
+    }
+
+    private static TraceResponse toResponse(CompletedTrace trace) {
+        List<SpanResponse> spans = trace.spans().stream()
+                .map(span -> new SpanResponse(
+                        span.name(),
+                        span.depth(),
+                        span.offsetNanos() / NANOS_PER_MILLI,
+                        span.durationNanos() / NANOS_PER_MILLI))
+                .toList();
+        return new TraceResponse(
+                trace.correlationId(),
+                trace.name(),
+                trace.status(),
+                LocalDateTime.ofInstant(trace.startedAt(), ZoneId.systemDefault()),
+                trace.durationNanos() / NANOS_PER_MILLI,
+                spans,
+                trace.droppedSpans());
+    }
+}
@@ -0,0 +1,199 @@
+package nl.hu.bep.application.species;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Case-insensitive prefix index over species names for autocomplete. Nodes are slots in parallel
+ * primitive arrays (label, first child, next sibling, species ending here) instead of objects, so a
+ * catalog of thousands of names is a handful of arrays and a lookup allocates only its result.
+ *
+ * <p>A lookup walks the prefix, then visits the subtree below it and keeps the most popular names.
+ * Popularity is the number of inhabitants using a name and is adjusted as inhabitants come and go.
+ */
+public class SpeciesTrie {
+
+    /** Node 0 is the root, which is never a child or sibling, so 0 doubles as "no node". */
+    private static final int ROOT = 0;
+    private static final int NO_NODE = 0;
+    private static final int NO_SPECIES = -1;
+    private static final int INITIAL_NODES = 1024;
+    private static final int INITIAL_SPECIES = 128;
+
+    public record Match(String species, int popularity) {}
+
+    private char[] labels = new char[INITIAL_NODES];
+    private int[] firstChild = new int[INITIAL_NODES];
+    private int[] nextSibling = new int[INITIAL_NODES];
+    private int[] speciesAt = new int[INITIAL_NODES];
+    private int nodeCount = 1;
+
+    private String[] names = new String[INITIAL_SPECIES];
+    private int[] popularity = new int[INITIAL_SPECIES];
+    private int speciesCount;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SpeciesTrie() {
+        speciesAt[ROOT] = NO_SPECIES;
+    }
+
+    /**
+     * Adds {@code delta} to the popularity of {@code species}, registering the name first if needed.
+     * Popularity never drops below zero. The spelling a name was first registered with is kept.
+     */
+    public void add(String species, int delta) {
+        String name = displayName(species);
+        if (name.isEmpty()) {
+            return;
+        }
+        String key = name.toLowerCase(Locale.ROOT);
+        lock.writeLock().lock();
+        try {
+            int node = ROOT;
+            for (int i = 0; i < key.length(); i++) {
+                node = childOrCreate(node, key.charAt(i));
+            }
+            int index = speciesAt[node];
+            if (index == NO_SPECIES) {
+                index = newSpecies(name);
+                speciesAt[node] = index;
+            }
+            popularity[index] = (int) Math.max(0, Math.min(Integer.MAX_VALUE, (long) popularity[index] + delta));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code limit} most popular names starting with {@code prefix}, ignoring case; ties are
+     * ordered alphabetically.
+     */
+    public List<Match> complete(String prefix, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1: " + limit);
+        }
+        String key = displayName(prefix).toLowerCase(Locale.ROOT);
+        int[] best = new int[limit];
+        int found = 0;
+        lock.readLock().lock();
+        try {
+            int start = ROOT;
+            for (int i = 0; i < key.length(); i++) {
+                start = child(start, key.charAt(i));
+                if (start == NO_NODE) {
+                    return List.of();
+                }
+            }
+
+            found = offer(best, found, speciesAt[start]);
+            int[] stack = new int[32];
+            int depth = 0;
+            if (firstChild[start] != NO_NODE) {
+                stack[depth++] = firstChild[start];
+            }
+            while (depth > 0) {
+                int node = stack[--depth];
+                found = offer(best, found, speciesAt[node]);
+                if (depth + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                if (nextSibling[node] != NO_NODE) {
+                    stack[depth++] = nextSibling[node];
+                }
+                if (firstChild[node] != NO_NODE) {
+                    stack[depth++] = firstChild[node];
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(found);
+            for (int i = 0; i < found; i++) {
+                matches.add(new Match(names[best[i]], popularity[best[i]]));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return speciesCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Keeps {@code best} sorted by rank while inserting {@code index}; returns the new fill. */
+    private int offer(int[] best, int found, int index) {
+        if (index == NO_SPECIES) {
+            return found;
+        }
+        int position = found < best.length ? found : best.length - 1;
+        if (found == best.length && !ranksBefore(index, best[position])) {
+            return found;
+        }
+        while (position > 0 && ranksBefore(index, best[position - 1])) {
+            best[position] = best[position - 1];
+            position--;
+        }
+        best[position] = index;
+        return Math.min(found + 1, best.length);
+    }
+
+    private boolean ranksBefore(int candidate, int other) {
+        if (popularity[candidate] != popularity[other]) {
+            return popularity[candidate] > popularity[other];
+        }
+        return names[candidate].compareToIgnoreCase(names[other]) < 0;
+    }
+
+    private int child(int parent, char label) {
+        for (int node = firstChild[parent]; node != NO_NODE; node = nextSibling[node]) {
+            if (labels[node] == label) {
+                return node;
+            }
+        }
+        return NO_NODE;
+    }
+
+    private int childOrCreate(int parent, char label) {
+        int existing = child(parent, label);
+        if (existing != NO_NODE) {
+            return existing;
+        }
+        if (nodeCount == labels.length) {
+            int capacity = labels.length * 2;
+            labels = Arrays.copyOf(labels, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            speciesAt = Arrays.copyOf(speciesAt, capacity);
+        }
+        int node = nodeCount++;
+        labels[node] = label;
+        firstChild[node] = NO_NODE;
+        speciesAt[node] = NO_SPECIES;
+        nextSibling[node] = firstChild[parent];
+        firstChild[parent] = node;
+        return node;
+    }
+
+    private int newSpecies(String name) {
+        if (speciesCount == names.length) {
+            names = Arrays.copyOf(names, names.length * 2);
+            popularity = Arrays.copyOf(popularity, popularity.length * 2);
+        }
+        names[speciesCount] = name;
+        return speciesCount++;
+    }
+
+    /** Trimmed, with runs of whitespace collapsed, so "Neon  tetra " and "neon tetra" are one name. */
+    private static String displayName(String species) {
+        return species == null ? "" : species.strip().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,14 @@
+package nl.hu.bep.application.tracing;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A finished request trace. Spans are ordered by start time; offsets are relative to the start of the
+ * trace, and {@code depth} is the nesting level at which the span was opened.
+ */
+public record CompletedTrace(String correlationId, String name, int status, Instant startedAt,
+                             long durationNanos, List<SpanRecord> spans, int droppedSpans) {
+
+    public record SpanRecord(String name, int depth, long offsetNanos, long durationNanos) {}
+}
@@ -0,0 +1,86 @@
+package nl.hu.bep.application.tracing;
+
+import org.aopalliance.intercept.ConstructorInterceptor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.glassfish.hk2.api.Filter;
+import org.glassfish.hk2.api.InterceptionService;
+import org.glassfish.hk2.api.PostConstruct;
+import org.glassfish.hk2.api.PreDestroy;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Wraps every public method of the application and security services in a tracing span, named
+ * {@code ServiceClass.method}. HK2 applies this to services it creates, so services need no tracing
+ * code of their own.
+ */
+public class ServiceTracingInterceptionService implements InterceptionService {
+
+    private static final List<String> SERVICE_PACKAGES = List.of(
+            "nl.hu.bep.application.service.",
+            "nl.hu.bep.security.application.service.");
+
+    private final Tracer tracer;
+
+    public ServiceTracingInterceptionService() {
+        this(Tracer.getInstance());
+    }
+
+    ServiceTracingInterceptionService(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Filter getDescriptorFilter() {
+        return descriptor -> {
+            String implementation = descriptor.getImplementation();
+            return implementation != null && isServiceClass(implementation);
+        };
+    }
+
+    @Override
+    public List<MethodInterceptor> getMethodInterceptors(Method method) {
+        if (!isTraced(method)) {
+            return null;
+        }
+        String spanName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        MethodInterceptor interceptor = invocation -> {
+            try (Tracer.Span span = tracer.span(spanName)) {
+                return invocation.proceed();
+            }
+        };
+        return List.of(interceptor);
+    }
+
+    @Override
+    public List<ConstructorInterceptor> getConstructorInterceptors(Constructor<?> constructor) {
+        return null;
+    }
+
+    static boolean isTraced(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        return isServiceClass(declaringClass.getName())
+                && Modifier.isPublic(method.getModifiers())
+                && !Modifier.isStatic(method.getModifiers())
+                && !method.isSynthetic()
+                && !isLifecycleCallback(method);
+    }
+
+    private static boolean isServiceClass(String className) {
+        for (String servicePackage : SERVICE_PACKAGES) {
+            if (className.startsWith(servicePackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLifecycleCallback(Method method) {
+        return method.getParameterCount() == 0
+                && (PostConstruct.class.isAssignableFrom(method.getDeclaringClass()) && method.getName().equals("postConstruct")
+                || PreDestroy.class.isAssignableFrom(method.getDeclaringClass()) && method.getName().equals("preDestroy"));
+    }
+}
@@ -0,0 +1,46 @@
+package nl.hu.bep.application.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring of the most recent slow traces. Writers claim a slot with one atomic increment and
+ * overwrite whatever was there, so adding never blocks and memory stays bounded.
+ */
+public class SlowTraceBuffer {
+
+    private final AtomicReferenceArray<CompletedTrace> slots;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public SlowTraceBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(CompletedTrace trace) {
+        int slot = (int) (cursor.getAndIncrement() % slots.length());
+        slots.set(slot, trace);
+    }
+
+    /** Returns the retained traces, most recent first. */
+    public List<CompletedTrace> findRecent() {
+        long newest = cursor.get() - 1;
+        int count = (int) Math.min(newest + 1, slots.length());
+        List<CompletedTrace> traces = new ArrayList<>(count);
+        for (long position = newest; position > newest - count; position--) {
+            CompletedTrace trace = slots.get((int) (position % slots.length()));
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
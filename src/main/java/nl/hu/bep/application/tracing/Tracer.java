@@ -0,0 +1,136 @@
+package nl.hu.bep.application.tracing;
+
+import nl.hu.bep.config.AquariumConstants;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process request tracing. A trace is bound to the request thread between {@link #startTrace} and
+ * {@link #finishTrace}; spans opened on that thread are attached to it. Calls made while no trace is
+ * active (background jobs, tests) get a shared no-op span, so instrumented code pays only a thread-local
+ * lookup.
+ *
+ * <p>Finished traces slower than the threshold are kept in a {@link SlowTraceBuffer}. The threshold
+ * defaults to {@link AquariumConstants#TRACE_SLOW_THRESHOLD_MILLIS} and can be overridden with the
+ * {@value #SLOW_TRACE_THRESHOLD_PROPERTY} system property.
+ */
+public class Tracer {
+
+    static final String SLOW_TRACE_THRESHOLD_PROPERTY = "aquarium.tracing.slowMillis";
+    private static final Tracer INSTANCE = new Tracer(
+            TimeUnit.MILLISECONDS.toNanos(Long.getLong(SLOW_TRACE_THRESHOLD_PROPERTY, AquariumConstants.TRACE_SLOW_THRESHOLD_MILLIS)),
+            new SlowTraceBuffer(AquariumConstants.TRACE_BUFFER_SIZE));
+    private static final Span NOOP_SPAN = () -> { };
+
+    private final ThreadLocal<ActiveTrace> current = new ThreadLocal<>();
+    private final long slowThresholdNanos;
+    private final SlowTraceBuffer slowTraces;
+
+    public Tracer(long slowThresholdNanos, SlowTraceBuffer slowTraces) {
+        this.slowThresholdNanos = slowThresholdNanos;
+        this.slowTraces = slowTraces;
+    }
+
+    public static Tracer getInstance() {
+        return INSTANCE;
+    }
+
+    /** Binds a new trace to the current thread, replacing any trace a previous request left behind. */
+    public void startTrace(String correlationId, String name) {
+        current.set(new ActiveTrace(correlationId, name));
+    }
+
+    public String currentCorrelationId() {
+        ActiveTrace trace = current.get();
+        return trace != null ? trace.correlationId : null;
+    }
+
+    /**
+     * Ends the current trace and returns it, or {@code null} if none was active. Traces at or over the
+     * slow threshold are retained for the admin endpoint.
+     */
+    public CompletedTrace finishTrace(int status) {
+        ActiveTrace trace = current.get();
+        if (trace == null) {
+            return null;
+        }
+        current.remove();
+        CompletedTrace completed = trace.complete(status, System.nanoTime());
+        if (completed.durationNanos() >= slowThresholdNanos) {
+            slowTraces.add(completed);
+        }
+        return completed;
+    }
+
+    /** Opens a span on the current trace; close it to record its duration. */
+    public Span span(String name) {
+        ActiveTrace trace = current.get();
+        if (trace == null) {
+            return NOOP_SPAN;
+        }
+        return trace.open(name, System.nanoTime());
+    }
+
+    /** Records a span that has already finished, such as a statement timed by the caller. */
+    public void recordSpan(String name, long startNanos, long endNanos) {
+        ActiveTrace trace = current.get();
+        if (trace != null) {
+            trace.record(name, trace.depth, startNanos, endNanos);
+        }
+    }
+
+    public SlowTraceBuffer getSlowTraces() {
+        return slowTraces;
+    }
+
+    public long getSlowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class ActiveTrace {
+        private final String correlationId;
+        private final String name;
+        private final Instant startedAt = Instant.now();
+        private final long startNanos = System.nanoTime();
+        private final List<CompletedTrace.SpanRecord> spans = new ArrayList<>();
+        private int depth;
+        private int droppedSpans;
+
+        private ActiveTrace(String correlationId, String name) {
+            this.correlationId = correlationId;
+            this.name = name;
+        }
+
+        private Span open(String spanName, long spanStart) {
+            int spanDepth = depth++;
+            return () -> {
+                depth = spanDepth;
+                record(spanName, spanDepth, spanStart, System.nanoTime());
+            };
+        }
+
+        private void record(String spanName, int spanDepth, long spanStart, long spanEnd) {
+            if (spans.size() >= AquariumConstants.MAX_SPANS_PER_TRACE) {
+                droppedSpans++;
+                return;
+            }
+            spans.add(new CompletedTrace.SpanRecord(spanName, spanDepth, spanStart - startNanos, spanEnd - spanStart));
+        }
+
+        private CompletedTrace complete(int status, long endNanos) {
+            List<CompletedTrace.SpanRecord> ordered = new ArrayList<>(spans);
+            ordered.sort((a, b) -> Long.compare(a.offsetNanos(), b.offsetNanos()));
+            return new CompletedTrace(correlationId, name, status, startedAt, endNanos - startNanos,
+                    List.copyOf(ordered), droppedSpans);
+        }
+    }
+}
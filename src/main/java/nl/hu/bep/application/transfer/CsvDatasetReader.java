@@ -0,0 +1,185 @@
+package nl.hu.bep.application.transfer;
+
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.domain.enums.DatasetEntity;
+import nl.hu.bep.exception.ApplicationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads RFC 4180 CSV of one entity, as {@link CsvDatasetWriter} writes it: a header row of field
+ * names, then one record per row. Quoted fields may hold commas, quotes and line breaks; an empty
+ * unquoted field is null and {@code ""} is the empty string. Records are numbered by the line they
+ * start on.
+ */
+class CsvDatasetReader implements DatasetReader {
+
+    private static final int END = -1;
+    private static final int NOTHING = -2;
+
+    private final Reader reader;
+    private final DatasetEntity entity;
+    private final List<String> values = new ArrayList<>();
+    private final StringBuilder value = new StringBuilder();
+    private List<String> header;
+
+    private int pushedBack = NOTHING;
+    private long line = 1;
+    private long recordLine;
+    private int recordLength;
+    private String problem;
+
+    CsvDatasetReader(InputStream input, DatasetEntity entity) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.entity = entity;
+    }
+
+    @Override
+    public DatasetRecord next() throws IOException {
+        if (header == null && !readHeader()) {
+            return null;
+        }
+        while (readRecord()) {
+            if (problem != null) {
+                return DatasetRecord.malformed(recordLine, problem);
+            }
+            if (values.size() == 1 && values.get(0) == null) {
+                continue;
+            }
+            if (values.size() != header.size()) {
+                return DatasetRecord.malformed(recordLine,
+                        "Expected " + header.size() + " fields but found " + values.size());
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                fields.put(header.get(i), values.get(i));
+            }
+            return DatasetRecord.of(recordLine, entity, fields);
+        }
+        return null;
+    }
+
+    /** Nothing can be read without field names, so a bad header rejects the whole file. */
+    private boolean readHeader() throws IOException {
+        if (!readRecord()) {
+            return false;
+        }
+        if (problem != null) {
+            throw new ApplicationException.ValidationException("Invalid CSV header: " + problem);
+        }
+        header = new ArrayList<>(values.size());
+        for (String field : values) {
+            if (field == null || field.isBlank()) {
+                throw new ApplicationException.ValidationException("Invalid CSV header: empty field name");
+            }
+            header.add(field.strip());
+        }
+        return true;
+    }
+
+    /** Reads the next record into {@link #values}; returns false at the end of the input. */
+    private boolean readRecord() throws IOException {
+        values.clear();
+        problem = null;
+        recordLine = line;
+        recordLength = 0;
+        int c = read();
+        if (c == END) {
+            return false;
+        }
+        while (true) {
+            value.setLength(0);
+            boolean quoted = c == '"';
+            if (quoted) {
+                c = readQuoted();
+            } else {
+                while (!endsValue(c)) {
+                    if (c == '"') {
+                        fail("Quote inside an unquoted field");
+                    }
+                    append(c);
+                    c = read();
+                }
+            }
+            values.add(quoted || !value.isEmpty() ? value.toString() : null);
+
+            if (c == ',') {
+                c = read();
+                continue;
+            }
+            if (c == '\r') {
+                int next = read();
+                if (next != '\n') {
+                    pushedBack = next;
+                }
+            }
+            return true;
+        }
+    }
+
+    /** Reads a quoted value after its opening quote; returns the first character after it. */
+    private int readQuoted() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == END) {
+                fail("Quoted field is not closed");
+                return END;
+            }
+            if (c == '"') {
+                c = read();
+                if (c != '"') {
+                    if (!endsValue(c)) {
+                        fail("Unexpected text after a closing quote");
+                        while (!endsValue(c)) {
+                            c = read();
+                        }
+                    }
+                    return c;
+                }
+            }
+            append(c);
+        }
+    }
+
+    private static boolean endsValue(int c) {
+        return c == ',' || c == '\r' || c == '\n' || c == END;
+    }
+
+    /** Keeps a runaway record, such as one with an unclosed quote, from filling memory. */
+    private void append(int c) {
+        if (++recordLength > AquariumConstants.MAX_IMPORT_RECORD_LENGTH) {
+            fail("Record is longer than " + AquariumConstants.MAX_IMPORT_RECORD_LENGTH + " characters");
+            return;
+        }
+        value.append((char) c);
+    }
+
+    private void fail(String message) {
+        if (problem == null) {
+            problem = message;
+        }
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushedBack != NOTHING) {
+            c = pushedBack;
+            pushedBack = NOTHING;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+}
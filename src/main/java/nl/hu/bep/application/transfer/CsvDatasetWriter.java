@@ -0,0 +1,90 @@
+package nl.hu.bep.application.transfer;
+
+import nl.hu.bep.domain.enums.DatasetEntity;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV of a single entity: a header row of field names, then one row per record. Values
+ * containing a comma, quote or line break are quoted; null is an empty field.
+ */
+class CsvDatasetWriter implements DatasetWriter {
+
+    private static final String LINE_END = "\r\n";
+
+    private final Writer writer;
+    private boolean begun;
+
+    CsvDatasetWriter(OutputStream output) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void begin(DatasetEntity entity, List<String> fields) {
+        if (begun) {
+            throw new IllegalStateException("A CSV file holds one entity");
+        }
+        begun = true;
+        try {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(fields.get(i));
+            }
+            writer.write(LINE_END);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void row(Object[] values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writeField(values[i].toString());
+                }
+            }
+            writer.write(LINE_END);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (!needsQuotes(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        // Quoting an empty string keeps it apart from null
+        return value.isEmpty();
+    }
+}
@@ -0,0 +1,16 @@
+package nl.hu.bep.application.transfer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A validated export, ready to be written to a response. Nothing is read from the database until
+ * {@link Body#writeTo} runs.
+ */
+public record DatasetExport(String fileName, String mediaType, Body body) {
+
+    @FunctionalInterface
+    public interface Body {
+        void writeTo(OutputStream output) throws IOException;
+    }
+}
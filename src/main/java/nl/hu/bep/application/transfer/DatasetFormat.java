@@ -0,0 +1,52 @@
+package nl.hu.bep.application.transfer;
+
+import nl.hu.bep.domain.enums.DatasetEntity;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * File formats for dataset export and import. NDJSON holds every entity, one JSON object per line tagged with an
+ * {@code entity} field; CSV holds a single entity with a header row.
+ */
+public enum DatasetFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    DatasetFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public boolean holdsSingleEntity() {
+        return this == CSV;
+    }
+
+    public DatasetWriter newWriter(OutputStream output) {
+        return switch (this) {
+            case NDJSON -> new NdjsonDatasetWriter(output);
+            case CSV -> new CsvDatasetWriter(output);
+        };
+    }
+
+    /**
+     * @param entity what the records of a CSV file are; NDJSON names the entity on every line instead
+     */
+    public DatasetReader newReader(InputStream input, DatasetEntity entity) {
+        return switch (this) {
+            case NDJSON -> new NdjsonDatasetReader(input);
+            case CSV -> new CsvDatasetReader(input, entity);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package nl.hu.bep.application.transfer;
+
+import java.io.IOException;
+
+/**
+ * Reads an import file one record at a time, holding no more than the current record in memory.
+ */
+public interface DatasetReader {
+
+    /**
+     * The next record, or null at the end of the input. A record that cannot be parsed comes back as
+     * {@link DatasetRecord#malformed}, after which reading continues with the record that follows it.
+     */
+    DatasetRecord next() throws IOException;
+}
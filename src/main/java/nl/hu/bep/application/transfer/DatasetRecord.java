@@ -0,0 +1,108 @@
+package nl.hu.bep.application.transfer;
+
+import nl.hu.bep.domain.enums.DatasetEntity;
+import nl.hu.bep.exception.ApplicationException;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One record read from an import file: the entity it describes and its fields as text, keyed by the
+ * field names of the export. A line that could not be parsed is a record with a {@code problem} and
+ * no fields, so reading can go on with the next line.
+ *
+ * <p>The typed accessors return null for a missing or null field and throw a
+ * {@link ApplicationException.ValidationException} naming the field when its text does not parse.
+ */
+public record DatasetRecord(long line, DatasetEntity entity, Map<String, String> fields, String problem) {
+
+    public static DatasetRecord of(long line, DatasetEntity entity, Map<String, String> fields) {
+        return new DatasetRecord(line, entity, fields, null);
+    }
+
+    public static DatasetRecord malformed(long line, String problem) {
+        return new DatasetRecord(line, null, Map.of(), problem);
+    }
+
+    public boolean isMalformed() {
+        return problem != null;
+    }
+
+    public String text(String field) {
+        return fields.get(field);
+    }
+
+    public Double decimal(String field) {
+        String value = value(field);
+        try {
+            return value == null ? null : Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw invalid(field, "a number", value);
+        }
+    }
+
+    /** Also accepts a whole number written as a decimal, such as the {@code 120.0} of a DOUBLE column. */
+    public Integer whole(String field) {
+        String value = value(field);
+        try {
+            return value == null ? null : new BigDecimal(value).intValueExact();
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw invalid(field, "a whole number", value);
+        }
+    }
+
+    public Long id(String field) {
+        String value = value(field);
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw invalid(field, "an id", value);
+        }
+    }
+
+    public Boolean flag(String field) {
+        String value = value(field);
+        if (value == null) {
+            return null;
+        }
+        if (value.equalsIgnoreCase("true")) {
+            return Boolean.TRUE;
+        }
+        if (value.equalsIgnoreCase("false")) {
+            return Boolean.FALSE;
+        }
+        throw invalid(field, "true or false", value);
+    }
+
+    public LocalTime time(String field) {
+        String value = value(field);
+        try {
+            return value == null ? null : LocalTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw invalid(field, "a time like 08:30", value);
+        }
+    }
+
+    public <E extends Enum<E>> E choice(String field, Class<E> type) {
+        String value = value(field);
+        try {
+            return value == null ? null : Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw invalid(field, "a " + type.getSimpleName(), value);
+        }
+    }
+
+    /** The stripped text of {@code field}, with blank treated as missing. */
+    private String value(String field) {
+        String value = fields.get(field);
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    private static ApplicationException.ValidationException invalid(String field, String expected, String value) {
+        return new ApplicationException.ValidationException(
+                "Field '" + field + "' must be " + expected + ", got '" + value + "'");
+    }
+}
@@ -0,0 +1,15 @@
+package nl.hu.bep.application.transfer;
+
+import nl.hu.bep.data.interfaces.DatasetRepository;
+
+import java.io.IOException;
+
+/**
+ * Writes rows straight to an output stream as the repository reads them. Write failures surface as
+ * {@link java.io.UncheckedIOException}, since the repository callback cannot throw checked exceptions.
+ */
+public interface DatasetWriter extends DatasetRepository.RowSink {
+
+    /** Writes out anything still buffered, without closing the stream. */
+    void finish() throws IOException;
+}
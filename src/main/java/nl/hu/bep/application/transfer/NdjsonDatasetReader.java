@@ -0,0 +1,109 @@
+package nl.hu.bep.application.transfer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.domain.enums.DatasetEntity;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads the lines {@link NdjsonDatasetWriter} writes. Each line gets its own streaming parser, so a
+ * broken line is reported on its own instead of ending the import. Blank lines are skipped and lines
+ * longer than {@value AquariumConstants#MAX_IMPORT_RECORD_LENGTH} characters are rejected unread.
+ */
+class NdjsonDatasetReader implements DatasetReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Reader reader;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber;
+    private boolean ended;
+
+    NdjsonDatasetReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public DatasetRecord next() throws IOException {
+        while (!ended) {
+            boolean complete = readLine();
+            lineNumber++;
+            if (!complete) {
+                return DatasetRecord.malformed(lineNumber,
+                        "Line is longer than " + AquariumConstants.MAX_IMPORT_RECORD_LENGTH + " characters");
+            }
+            String json = line.toString();
+            if (!json.isBlank()) {
+                return parse(lineNumber, json);
+            }
+        }
+        return null;
+    }
+
+    /** Reads up to the next line break; returns false if the line did not fit and was cut short. */
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        boolean fits = true;
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (line.length() < AquariumConstants.MAX_IMPORT_RECORD_LENGTH) {
+                line.append((char) c);
+            } else {
+                fits = false;
+            }
+        }
+        ended = c == -1;
+        if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        return fits;
+    }
+
+    private static DatasetRecord parse(long lineNumber, String json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return DatasetRecord.malformed(lineNumber, "Expected a JSON object");
+            }
+            String label = null;
+            Map<String, String> fields = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (value.isStructStart()) {
+                    return DatasetRecord.malformed(lineNumber, "Field '" + field + "' must be a plain value");
+                }
+                String text = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                if (NdjsonDatasetWriter.ENTITY_FIELD.equals(field)) {
+                    label = text;
+                } else {
+                    fields.put(field, text);
+                }
+            }
+            if (parser.nextToken() != null) {
+                return DatasetRecord.malformed(lineNumber, "Expected one JSON object per line");
+            }
+
+            Optional<DatasetEntity> entity = DatasetEntity.fromLabel(label);
+            if (entity.isEmpty()) {
+                return DatasetRecord.malformed(lineNumber, label == null
+                        ? "Missing '" + NdjsonDatasetWriter.ENTITY_FIELD + "' field"
+                        : "Unknown entity '" + label + "'");
+            }
+            return DatasetRecord.of(lineNumber, entity.get(), fields);
+        } catch (JsonProcessingException e) {
+            return DatasetRecord.malformed(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+}
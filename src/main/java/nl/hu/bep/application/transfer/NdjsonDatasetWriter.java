@@ -0,0 +1,80 @@
+package nl.hu.bep.application.transfer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import nl.hu.bep.domain.enums.DatasetEntity;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * One JSON object per line: {@code {"entity":"aquarium","id":1,"name":"Reef",...}}. Nulls are written,
+ * so every line of an entity has the same fields.
+ */
+class NdjsonDatasetWriter implements DatasetWriter {
+
+    static final String ENTITY_FIELD = "entity";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+    private String entityLabel;
+    private List<String> fields;
+
+    NdjsonDatasetWriter(OutputStream output) {
+        try {
+            generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8);
+            // Lines are separated explicitly below instead of by Jackson's default space
+            generator.setRootValueSeparator(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void begin(DatasetEntity entity, List<String> fields) {
+        this.entityLabel = entity.label();
+        this.fields = fields;
+    }
+
+    @Override
+    public void row(Object[] values) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField(ENTITY_FIELD, entityLabel);
+            for (int i = 0; i < values.length; i++) {
+                generator.writeFieldName(fields.get(i));
+                writeValue(values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Boolean bool) {
+            generator.writeBoolean(bool);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+            generator.writeNumber(((Number) value).longValue());
+        } else if (value instanceof BigDecimal decimal) {
+            generator.writeNumber(decimal);
+        } else if (value instanceof Number number) {
+            generator.writeNumber(number.doubleValue());
+        } else {
+            // java.time values print as ISO-8601, the format the API uses
+            generator.writeString(value.toString());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package nl.hu.bep.config;
 
+import java.util.List;
+
 // IDK if this is a good practice, but it seems good to have 
 
 public final class AquariumConstants {
@@ -12,6 +14,7 @@ public final class AquariumConstants {
     public static final long DEFAULT_AQUARIUM_MANAGER_ID = 1L;
     public static final int DEFAULT_INHABITANT_COUNT = 1;
     public static final boolean DEFAULT_SCHOOLING = false;
+    public static final List<String> INHABITANT_TYPES = List.of("Fish", "Plant", "Snail", "Shrimp", "Crayfish", "Coral");
     
     public static final int MIN_AQUARIUM_NAME_LENGTH = 1;
     public static final int MAX_AQUARIUM_NAME_LENGTH = 100;
@@ -25,6 +28,41 @@ public final class AquariumConstants {
     
     public static final int CONNECTION_TIMEOUT_SECONDS = 30;
     public static final int QUERY_TIMEOUT_SECONDS = 10;
+    public static final long STATISTICS_RECONCILE_INTERVAL_MINUTES = 15;
+
+    public static final double THERMOSTAT_ALERT_HYSTERESIS = 0.5;
+    public static final long THERMOSTAT_ALERT_COOLDOWN_MINUTES = 30;
+    public static final long ALERT_FLUSH_INTERVAL_SECONDS = 5;
+    public static final int ALERT_BATCH_SIZE = 100;
+    public static final int ALERT_QUEUE_CAPACITY = 10_000;
+    public static final int MAX_ALERT_FEED_SIZE = 200;
+    public static final int MAX_MAINTENANCE_WINDOW_DAYS = 90;
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    public static final int MAX_SEARCH_PAGE_SIZE = 50;
+    public static final int MAX_SEARCH_OFFSET = 500;
+    public static final int MAX_SEARCH_TERMS_LENGTH = 200;
+    public static final long SEARCH_WORKER_KEEP_ALIVE_SECONDS = 60;
+    public static final int DEFAULT_SPECIES_SUGGESTIONS = 10;
+    public static final int MAX_SPECIES_SUGGESTIONS = 25;
+    public static final int EXPORT_FETCH_SIZE = 500;
+    public static final int MAX_CONCURRENT_EXPORTS = 4;
+    public static final int IMPORT_BATCH_SIZE = 500;
+    public static final int MAX_IMPORT_RECORD_LENGTH = 65_536;
+    public static final int MAX_IMPORT_ERRORS = 100;
+    public static final long SLOW_QUERY_THRESHOLD_MILLIS = 250;
+    public static final long SLOW_QUERY_STACK_INTERVAL_SECONDS = 60;
+    public static final int MAX_SLOW_QUERY_REPORT_SIZE = 50;
+    public static final long HEALTH_PROBE_INTERVAL_SECONDS = 5;
+    public static final long HEALTH_PROBE_STALE_AFTER_SECONDS = 15;
+    public static final int HEALTH_PROBE_TIMEOUT_SECONDS = 2;
+    public static final int REQUEST_LOG_SAMPLE_RATE = 100;
+    public static final long TRACE_SLOW_THRESHOLD_MILLIS = 500;
+    public static final int TRACE_BUFFER_SIZE = 128;
+    public static final int MAX_SPANS_PER_TRACE = 256;
+    public static final int MAX_CORRELATION_ID_LENGTH = 64;
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
+    public static final int DEFAULT_MAX_DATABASE_CONNECTIONS = 20;
+    public static final long CONNECTION_PERMIT_TIMEOUT_MILLIS = 5000;
     
     public static final String API_BASE_PATH = "/api";
     public static final String AUTH_BASE_PATH = "/auth";
@@ -33,10 +71,16 @@ public final class AquariumConstants {
     public static final String ACCESSORIES_PATH = "/accessories";
     public static final String ORNAMENTS_PATH = "/ornaments";
     public static final String STATUS_PATH = "/status";
+    public static final String ADMIN_PATH = "/admin";
+    public static final String HEALTH_PATH = "/health";
     
     public static final String LOGIN_ENDPOINT = API_BASE_PATH + AUTH_BASE_PATH + "/login";
     public static final String REGISTER_ENDPOINT = API_BASE_PATH + AUTH_BASE_PATH + "/register";
     
+    public static final String CORS_ALLOWED_ORIGIN = "*";
+    public static final String CORS_ALLOWED_METHODS = "GET, POST, PUT, DELETE, OPTIONS";
+    public static final String CORS_ALLOWED_HEADERS = "Origin, Content-Type, Accept, Authorization";
+
     public static final String BEARER_SCHEME = "Bearer";
     public static final String[] PUBLIC_ENDPOINTS = {
         REGISTER_ENDPOINT,
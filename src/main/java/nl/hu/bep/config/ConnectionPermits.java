@@ -0,0 +1,86 @@
+package nl.hu.bep.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of JDBC connections open at once. There is no pool, so without this every request
+ * thread opens its own connection; with virtual threads that would be every in-flight request. Callers
+ * that cannot get a permit within the timeout fail fast instead of queueing on the database.
+ */
+public class ConnectionPermits {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long timeoutMillis;
+
+    public ConnectionPermits(int maxPermits, long timeoutMillis) {
+        if (maxPermits < 1) {
+            throw new IllegalArgumentException("At least one connection permit is required");
+        }
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public void acquire() throws SQLException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection");
+        }
+        if (!acquired) {
+            throw new SQLTransientConnectionException(
+                    "No database connection available within " + timeoutMillis + " ms");
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * Returns a view of {@code connection} that gives its permit back on the first {@code close()}.
+     */
+    public Connection releaseOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getInUse() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+}
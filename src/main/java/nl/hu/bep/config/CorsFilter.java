@@ -16,9 +16,9 @@ public class CorsFilter implements Filter {
         HttpServletRequest request = (HttpServletRequest) servletRequest;
         HttpServletResponse response = (HttpServletResponse) servletResponse;
         
-        response.setHeader("Access-Control-Allow-Origin", "*");
-        response.setHeader("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
-        response.setHeader("Access-Control-Allow-Headers", "Origin, Content-Type, Accept, Authorization");
+        response.setHeader("Access-Control-Allow-Origin", AquariumConstants.CORS_ALLOWED_ORIGIN);
+        response.setHeader("Access-Control-Allow-Methods", AquariumConstants.CORS_ALLOWED_METHODS);
+        response.setHeader("Access-Control-Allow-Headers", AquariumConstants.CORS_ALLOWED_HEADERS);
         response.setHeader("Access-Control-Allow-Credentials", "true");
         
         if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
@@ -1,25 +1,53 @@
 package nl.hu.bep.config;
 
 import lombok.extern.slf4j.Slf4j;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import nl.hu.bep.application.metrics.QueryMetrics;
+import nl.hu.bep.application.tracing.Tracer;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Slf4j
 public class DatabaseManager {
+    private static final String FAILED_SPAN_SUFFIX = " (failed)";
     private final String jdbcUrl;
     private final String username;
     private final String password;
+    private final QueryMetrics queryMetrics;
+    private final ConnectionPermits connectionPermits;
+    private final SchemaMigrator schemaMigrator;
+    private final ReentrantLock migrationLock = new ReentrantLock();
+    private volatile boolean schemaCurrent;
+    private final Tracer tracer = Tracer.getInstance();
 
     public DatabaseManager(String driver, String jdbcUrl, String username, String password) {
+        this(driver, jdbcUrl, username, password, QueryMetrics.getInstance());
+    }
+
+    public DatabaseManager(String driver, String jdbcUrl, String username, String password, QueryMetrics queryMetrics) {
+        this(driver, jdbcUrl, username, password, queryMetrics, new ConnectionPermits(
+                AquariumConstants.DEFAULT_MAX_DATABASE_CONNECTIONS, AquariumConstants.CONNECTION_PERMIT_TIMEOUT_MILLIS));
+    }
+
+    public DatabaseManager(String driver, String jdbcUrl, String username, String password, QueryMetrics queryMetrics,
+                           ConnectionPermits connectionPermits) {
+        this(driver, jdbcUrl, username, password, queryMetrics, connectionPermits, new SchemaMigrator());
+    }
+
+    /**
+     * @param schemaMigrator applied lazily before the first connection is handed out, or {@code null} to
+     *                       leave the schema alone
+     */
+    public DatabaseManager(String driver, String jdbcUrl, String username, String password, QueryMetrics queryMetrics,
+                           ConnectionPermits connectionPermits, SchemaMigrator schemaMigrator) {
         this.jdbcUrl = jdbcUrl;
         this.username = username;
         this.password = password;
+        this.queryMetrics = queryMetrics;
+        this.connectionPermits = connectionPermits;
+        this.schemaMigrator = schemaMigrator;
+        this.schemaCurrent = schemaMigrator == null;
         try {
             Class.forName(driver);
         } catch (ClassNotFoundException e) {
@@ -27,35 +55,88 @@ public class DatabaseManager {
         }
     }
 
+    /**
+     * Opens a connection once a permit is free. The permit is returned when the connection is closed,
+     * so callers must keep using try-with-resources. The first call also brings the schema up to date.
+     */
     public Connection getConnection() throws SQLException {
-        if (username != null && password != null) {
-            return DriverManager.getConnection(jdbcUrl, username, password);
+        if (!schemaCurrent) {
+            migrateSchema();
         }
-        return DriverManager.getConnection(jdbcUrl);
+        return openConnection();
     }
 
+    private Connection openConnection() throws SQLException {
+        long start = System.nanoTime();
+        connectionPermits.acquire();
+        Connection connection;
+        try {
+            connection = username != null && password != null
+                    ? DriverManager.getConnection(jdbcUrl, username, password)
+                    : DriverManager.getConnection(jdbcUrl);
+        } catch (SQLException | RuntimeException e) {
+            connectionPermits.release();
+            throw e;
+        }
+        long end = System.nanoTime();
+        queryMetrics.recordConnectionAcquire(end - start);
+        tracer.recordSpan("JDBC connection", start, end);
+        return connectionPermits.releaseOnClose(connection);
+    }
+
+    /**
+     * Records a statement against its SQL template. Pass the statement text as prepared, never with
+     * parameter values inlined.
+     */
+    public void recordQuery(String sql, long startNanos, int rowCount) {
+        long end = System.nanoTime();
+        queryMetrics.recordQuery(sql, end - startNanos, rowCount);
+        tracer.recordSpan(sql, startNanos, end);
+    }
+
+    /** Records a statement that threw, so failures are counted and timed against the same template. */
+    public void recordFailedQuery(String sql, long startNanos) {
+        long end = System.nanoTime();
+        queryMetrics.recordFailure(sql, end - startNanos);
+        tracer.recordSpan(sql + FAILED_SPAN_SUFFIX, startNanos, end);
+    }
+
+    public QueryMetrics getQueryMetrics() {
+        return queryMetrics;
+    }
+
+    public ConnectionPermits getConnectionPermits() {
+        return connectionPermits;
+    }
+
+    /**
+     * Applies pending migrations now rather than on first use.
+     */
     public void initializeSchema() {
-        log.info("Initializing database schema...");
-        try (Connection connection = getConnection();
-             Statement statement = connection.createStatement();
-             InputStream is = getClass().getClassLoader().getResourceAsStream("schema.sql")) {
+        try {
+            migrateSchema();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to migrate database schema", e);
+        }
+    }
 
-            if (is == null) {
-                throw new RuntimeException("schema.sql not found on classpath");
+    private void migrateSchema() throws SQLException {
+        if (schemaMigrator == null) {
+            return;
+        }
+        migrationLock.lock();
+        try {
+            if (schemaCurrent) {
+                return;
             }
-
-            StringBuilder script = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(is))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    script.append(line).append(System.lineSeparator());
-                }
+            try (Connection connection = openConnection()) {
+                schemaMigrator.migrate(connection);
+            } catch (IllegalStateException e) {
+                throw new SQLException("Schema migration failed: " + e.getMessage(), e);
             }
-            statement.execute(script.toString());
-            log.info("Database schema initialized successfully.");
-
-        } catch (SQLException | IOException e) {
-            throw new RuntimeException("Failed to execute database schema script", e);
+            schemaCurrent = true;
+        } finally {
+            migrationLock.unlock();
         }
     }
-} 
\ No newline at end of file
+}
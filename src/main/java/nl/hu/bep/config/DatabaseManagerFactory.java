@@ -1,20 +1,34 @@
 package nl.hu.bep.config;
 
+import nl.hu.bep.application.metrics.QueryMetrics;
 import org.glassfish.hk2.api.Factory;
 
 public class DatabaseManagerFactory implements Factory<DatabaseManager> {
 
+    // System properties win over DATABASE_URL so the app can be pointed at a local stand-in database
+    static final String DRIVER_PROPERTY = "aquarium.jdbc.driver";
+    static final String URL_PROPERTY = "aquarium.jdbc.url";
+    static final String USERNAME_PROPERTY = "aquarium.jdbc.username";
+    static final String PASSWORD_PROPERTY = "aquarium.jdbc.password";
+    static final String MAX_CONNECTIONS_PROPERTY = "aquarium.jdbc.maxConnections";
+    static final String MIGRATIONS_ENABLED_PROPERTY = "aquarium.migrations.enabled";
+
     @Override
     public DatabaseManager provide() {
-        String driver = "org.postgresql.Driver";
-        String jdbcUrl = System.getenv("DATABASE_URL");
+        String driver = System.getProperty(DRIVER_PROPERTY, "org.postgresql.Driver");
+        String jdbcUrl = System.getProperty(URL_PROPERTY, System.getenv("DATABASE_URL"));
         if (jdbcUrl == null || jdbcUrl.isBlank()) {
             throw new IllegalStateException("DATABASE_URL environment variable must be set for production.");
         }
-        return new DatabaseManager(driver, jdbcUrl, null, null);
+        int maxConnections = Integer.getInteger(MAX_CONNECTIONS_PROPERTY, AquariumConstants.DEFAULT_MAX_DATABASE_CONNECTIONS);
+        return new DatabaseManager(driver, jdbcUrl,
+                System.getProperty(USERNAME_PROPERTY), System.getProperty(PASSWORD_PROPERTY),
+                QueryMetrics.getInstance(),
+                new ConnectionPermits(maxConnections, AquariumConstants.CONNECTION_PERMIT_TIMEOUT_MILLIS),
+                Boolean.parseBoolean(System.getProperty(MIGRATIONS_ENABLED_PROPERTY, "true")) ? new SchemaMigrator() : null);
     }
 
     @Override
     public void dispose(DatabaseManager instance) {
     }
-} 
\ No newline at end of file
+} 
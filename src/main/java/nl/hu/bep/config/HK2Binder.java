@@ -1,12 +1,19 @@
 package nl.hu.bep.config;
 
 import jakarta.inject.Singleton;
+import nl.hu.bep.application.alert.AlertBatchWriter;
+import nl.hu.bep.application.event.EntityChangeListener;
+import nl.hu.bep.application.event.EntityChangeNotifier;
+import nl.hu.bep.application.health.DatabaseHealthProber;
+import nl.hu.bep.application.tracing.ServiceTracingInterceptionService;
 import nl.hu.bep.application.service.*;
 import nl.hu.bep.data.*;
 import nl.hu.bep.data.interfaces.*;
 import nl.hu.bep.presentation.dto.mapper.EntityMapper;
 import nl.hu.bep.security.application.service.AuthenticationService;
+import nl.hu.bep.security.application.service.AuthorizationService;
 import nl.hu.bep.security.application.service.JwtService;
+import org.glassfish.hk2.api.InterceptionService;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
 
 public class HK2Binder extends AbstractBinder {
@@ -21,13 +28,37 @@ public class HK2Binder extends AbstractBinder {
         bind(AccessoryRepositoryImpl.class).to(AccessoryRepository.class).in(Singleton.class);
         bind(InhabitantRepositoryImpl.class).to(InhabitantRepository.class).in(Singleton.class);
         bind(OrnamentRepositoryImpl.class).to(OrnamentRepository.class).in(Singleton.class);
+        bind(StatisticsRepositoryImpl.class).to(StatisticsRepository.class).in(Singleton.class);
+        bind(ThermostatAlertRepositoryImpl.class).to(ThermostatAlertRepository.class).in(Singleton.class);
+        bind(FiltrationRepositoryImpl.class).to(FiltrationRepository.class).in(Singleton.class);
+        bind(SearchRepositoryImpl.class).to(SearchRepository.class).in(Singleton.class);
+        bind(DatasetRepositoryImpl.class).to(DatasetRepository.class).in(Singleton.class);
 
         bindAsContract(AuthenticationService.class).in(Singleton.class);
+        bindAsContract(AuthorizationService.class).in(Singleton.class);
         bindAsContract(JwtService.class).in(Singleton.class);
         bindAsContract(AquariumService.class).in(Singleton.class);
         bindAsContract(AccessoryService.class).in(Singleton.class);
         bindAsContract(InhabitantService.class).in(Singleton.class);
         bindAsContract(OrnamentService.class).in(Singleton.class);
+        bindAsContract(SearchService.class).in(Singleton.class);
+        bindAsContract(DatasetExportService.class).in(Singleton.class);
+        bindAsContract(DatasetImportService.class).in(Singleton.class);
+        bindAsContract(QueryStatisticsService.class).in(Singleton.class);
+        bindAsContract(DatabaseHealthProber.class).in(Singleton.class);
+        bindAsContract(HealthService.class).in(Singleton.class);
+        bindAsContract(TracingService.class).in(Singleton.class);
+        bind(ServiceTracingInterceptionService.class).to(InterceptionService.class).in(Singleton.class);
+
+        bindAsContract(EntityChangeNotifier.class).in(Singleton.class);
+        bind(FleetStatisticsService.class).to(FleetStatisticsService.class).to(EntityChangeListener.class).in(Singleton.class);
+        bind(LightingScheduleService.class).to(LightingScheduleService.class).to(EntityChangeListener.class).in(Singleton.class);
+        bind(MaintenanceScheduleService.class).to(MaintenanceScheduleService.class).to(EntityChangeListener.class).in(Singleton.class);
+        bind(OrnamentPlacementService.class).to(OrnamentPlacementService.class).to(EntityChangeListener.class).in(Singleton.class);
+        bind(FilterSizingService.class).to(FilterSizingService.class).to(EntityChangeListener.class).in(Singleton.class);
+        bind(SpeciesCatalogService.class).to(SpeciesCatalogService.class).to(EntityChangeListener.class).in(Singleton.class);
+        bindAsContract(AlertBatchWriter.class).in(Singleton.class);
+        bind(ThermostatAlertService.class).to(ThermostatAlertService.class).to(EntityChangeListener.class).in(Singleton.class);
         
         bindAsContract(EntityMapper.class).in(Singleton.class);
     }
@@ -8,6 +8,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.PrintWriter;
 
+/**
+ * Liveness probe: answers without touching the database. Readiness, which depends on the cached
+ * database probe, is served at {@code /api/health/ready}.
+ */
 @WebServlet(name = "HealthCheckServlet", urlPatterns = {"/health"}, loadOnStartup = 1)
 public class HealthCheckServlet extends HttpServlet {
     
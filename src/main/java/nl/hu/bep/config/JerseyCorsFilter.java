@@ -0,0 +1,34 @@
+package nl.hu.bep.config;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * {@link CorsFilter} for the embedded launcher, where there is no servlet filter chain. Preflight
+ * requests are answered before matching, so they never reach authentication.
+ */
+@PreMatching
+public class JerseyCorsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (HttpMethod.OPTIONS.equalsIgnoreCase(requestContext.getMethod())) {
+            requestContext.abortWith(Response.ok().build());
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        MultivaluedMap<String, Object> headers = responseContext.getHeaders();
+        headers.putSingle("Access-Control-Allow-Origin", AquariumConstants.CORS_ALLOWED_ORIGIN);
+        headers.putSingle("Access-Control-Allow-Methods", AquariumConstants.CORS_ALLOWED_METHODS);
+        headers.putSingle("Access-Control-Allow-Headers", AquariumConstants.CORS_ALLOWED_HEADERS);
+        headers.putSingle("Access-Control-Allow-Credentials", "true");
+    }
+}
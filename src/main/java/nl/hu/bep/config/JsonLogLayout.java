@@ -0,0 +1,64 @@
+package nl.hu.bep.config;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+
+import java.time.Instant;
+
+/**
+ * Writes each log event as one compact JSON object per line, which log collectors can index without
+ * a parsing rule. Only the fields we actually query on are emitted.
+ */
+public class JsonLogLayout extends LayoutBase<ILoggingEvent> {
+
+    public static final String CORRELATION_ID_MDC_KEY = "correlationId";
+
+    @Override
+    public String doLayout(ILoggingEvent event) {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"timestamp\":\"").append(Instant.ofEpochMilli(event.getTimeStamp())).append('"');
+        json.append(",\"level\":\"").append(event.getLevel()).append('"');
+        appendField(json, "logger", event.getLoggerName());
+        appendField(json, "thread", event.getThreadName());
+        String correlationId = event.getMDCPropertyMap().get(CORRELATION_ID_MDC_KEY);
+        if (correlationId != null) {
+            appendField(json, "correlationId", correlationId);
+        }
+        appendField(json, "message", event.getFormattedMessage());
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            appendField(json, "exception", ThrowableProxyUtil.asString(throwable));
+        }
+        return json.append('}').append(CoreConstants.LINE_SEPARATOR).toString();
+    }
+
+    private static void appendField(StringBuilder json, String name, String value) {
+        json.append(",\"").append(name).append("\":");
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
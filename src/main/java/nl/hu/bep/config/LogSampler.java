@@ -0,0 +1,25 @@
+package nl.hu.bep.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets one in every {@code rate} calls through, for log statements that would otherwise fire on every
+ * request. Check the log level first so the counter is only touched when the line could be written:
+ * {@code if (log.isDebugEnabled() && sampler.sample())}.
+ */
+public final class LogSampler {
+
+    private final long rate;
+    private final AtomicLong counter = new AtomicLong();
+
+    public LogSampler(long rate) {
+        if (rate < 1) {
+            throw new IllegalArgumentException("Sample rate must be at least 1");
+        }
+        this.rate = rate;
+    }
+
+    public boolean sample() {
+        return counter.getAndIncrement() % rate == 0;
+    }
+}
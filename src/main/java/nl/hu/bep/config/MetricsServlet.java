@@ -0,0 +1,31 @@
+package nl.hu.bep.config;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import nl.hu.bep.application.metrics.RequestMetrics;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+@WebServlet(name = "MetricsServlet", urlPatterns = {"/metrics"}, loadOnStartup = 1)
+public class MetricsServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4";
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        response.setContentType(PROMETHEUS_CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+        response.setStatus(HttpServletResponse.SC_OK);
+
+        try (PrintWriter writer = response.getWriter()) {
+            writer.print(RequestMetrics.getInstance().scrape());
+            writer.flush();
+        }
+    }
+}
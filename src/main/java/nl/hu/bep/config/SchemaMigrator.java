@@ -0,0 +1,241 @@
+package nl.hu.bep.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Applies the versioned scripts listed in {@code db/migration/index.txt}, each once, and records them in
+ * {@code schema_version} with a checksum. When the database is already current this costs one query and
+ * runs no DDL. A database created before migrations existed is recognised by its {@code owners} table
+ * and recorded at V1 without touching it.
+ *
+ * <p>A script containing a {@code -- dialect: PostgreSQL} line uses features only that database has. On
+ * any other database (the in-memory H2 the tests run on) it is recorded as applied without running, so
+ * later migrations still apply in order.
+ */
+@Slf4j
+public class SchemaMigrator {
+
+    public static final String VERSION_TABLE = "schema_version";
+    static final String MIGRATION_DIRECTORY = "db/migration/";
+    static final String MIGRATION_INDEX = MIGRATION_DIRECTORY + "index.txt";
+    private static final String BASELINE_MARKER_TABLE = "owners";
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final Pattern DIALECT = Pattern.compile(
+            "^--\\s*dialect:\\s*(\\w+)\\s*$", Pattern.MULTILINE | Pattern.CASE_INSENSITIVE);
+
+    private final List<Migration> migrations;
+
+    public SchemaMigrator() {
+        this(loadFromClasspath());
+    }
+
+    SchemaMigrator(List<Migration> migrations) {
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version() <= migrations.get(i - 1).version()) {
+                throw new IllegalStateException("Migrations must be listed in increasing version order: "
+                        + migrations.get(i - 1).fileName() + " before " + migrations.get(i).fileName());
+            }
+        }
+        this.migrations = List.copyOf(migrations);
+    }
+
+    /**
+     * Brings the schema up to date using {@code connection}, which the caller closes.
+     *
+     * @return the number of migrations applied
+     */
+    public int migrate(Connection connection) throws SQLException {
+        long start = System.nanoTime();
+        Map<Integer, String> applied = findApplied(connection);
+        if (applied == null) {
+            applied = createVersionTable(connection);
+        }
+
+        List<Migration> pending = new ArrayList<>();
+        int current = applied.keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+        for (Migration migration : migrations) {
+            String checksum = applied.get(migration.version());
+            if (checksum == null) {
+                if (migration.version() < current) {
+                    throw new IllegalStateException(migration.fileName()
+                            + " is older than the applied version " + current + " and cannot be applied out of order");
+                }
+                pending.add(migration);
+            } else if (!checksum.equals(migration.checksum())) {
+                throw new IllegalStateException(migration.fileName()
+                        + " has changed since it was applied; add a new migration instead of editing it");
+            }
+        }
+
+        for (Migration migration : pending) {
+            apply(connection, migration);
+            current = migration.version();
+        }
+        log.info("Database schema at version {} ({} applied, checked in {} ms)",
+                current, pending.size(), (System.nanoTime() - start) / 1_000_000);
+        return pending.size();
+    }
+
+    public List<Migration> getMigrations() {
+        return migrations;
+    }
+
+    private Map<Integer, String> findApplied(Connection connection) throws SQLException {
+        if (!tableExists(connection, VERSION_TABLE)) {
+            return null;
+        }
+        Map<Integer, String> applied = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT version, checksum FROM " + VERSION_TABLE)) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getString("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    private Map<Integer, String> createVersionTable(Connection connection) throws SQLException {
+        boolean existingSchema = tableExists(connection, BASELINE_MARKER_TABLE);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + VERSION_TABLE + " ("
+                    + "version INTEGER PRIMARY KEY, "
+                    + "description VARCHAR(200) NOT NULL, "
+                    + "checksum VARCHAR(64) NOT NULL, "
+                    + "applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, "
+                    + "execution_millis BIGINT NOT NULL)");
+        }
+
+        Map<Integer, String> applied = new HashMap<>();
+        if (existingSchema && !migrations.isEmpty()) {
+            Migration baseline = migrations.get(0);
+            record(connection, baseline, 0);
+            applied.put(baseline.version(), baseline.checksum());
+            log.info("Existing schema recorded as {} without running it", baseline.fileName());
+        }
+        return applied;
+    }
+
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        String product = connection.getMetaData().getDatabaseProductName();
+        try (Statement statement = connection.createStatement()) {
+            if (!migration.runsOn(product)) {
+                record(connection, migration, 0);
+                connection.commit();
+                log.warn("Skipped {}: written for {}, database is {}", migration.fileName(), migration.dialect(), product);
+                return;
+            }
+            statement.execute(migration.script());
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            record(connection, migration, millis);
+            connection.commit();
+            log.info("Applied {} in {} ms", migration.fileName(), millis);
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw new IllegalStateException("Migration " + migration.fileName() + " failed: " + e.getMessage(), e);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static void record(Connection connection, Migration migration, long executionMillis) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + VERSION_TABLE
+                + " (version, description, checksum, execution_millis) VALUES (?, ?, ?, ?)")) {
+            statement.setInt(1, migration.version());
+            statement.setString(2, migration.description());
+            statement.setString(3, migration.checksum());
+            statement.setLong(4, executionMillis);
+            statement.executeUpdate();
+        }
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        // PostgreSQL folds unquoted names to lower case, H2 by default to upper case
+        for (String name : new String[]{table, table.toUpperCase()}) {
+            try (ResultSet rs = metaData.getTables(null, null, name, new String[]{"TABLE"})) {
+                if (rs.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static List<Migration> loadFromClasspath() {
+        List<Migration> migrations = new ArrayList<>();
+        for (String line : readResource(MIGRATION_INDEX).split("\\R")) {
+            String fileName = line.strip();
+            if (!fileName.isEmpty() && !fileName.startsWith("#")) {
+                migrations.add(Migration.of(fileName, readResource(MIGRATION_DIRECTORY + fileName)));
+            }
+        }
+        return migrations;
+    }
+
+    private static String readResource(String path) {
+        try (InputStream input = SchemaMigrator.class.getClassLoader().getResourceAsStream(path)) {
+            if (input == null) {
+                throw new IllegalStateException(path + " not found on classpath");
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read " + path, e);
+        }
+    }
+
+    public record Migration(int version, String description, String fileName, String script, String checksum) {
+
+        static Migration of(String fileName, String script) {
+            Matcher matcher = FILE_NAME.matcher(fileName);
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Migration file name must look like V1__description.sql: " + fileName);
+            }
+            return new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '),
+                    fileName, script, checksum(script));
+        }
+
+        /** The database product named by the script's {@code -- dialect:} line, or {@code null} when it is portable. */
+        public String dialect() {
+            Matcher matcher = DIALECT.matcher(script);
+            return matcher.find() ? matcher.group(1) : null;
+        }
+
+        boolean runsOn(String databaseProduct) {
+            String dialect = dialect();
+            return dialect == null || dialect.equalsIgnoreCase(databaseProduct);
+        }
+
+        /** SHA-256 of the script with line endings normalised, so a checkout on Windows matches. */
+        static String checksum(String script) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                byte[] hash = digest.digest(script.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(hash);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package nl.hu.bep.data;
 
 import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.summary.AccessorySummary;
 import nl.hu.bep.data.interfaces.AccessoryRepository;
 import jakarta.inject.Inject;
 import nl.hu.bep.config.DatabaseManager;
@@ -10,6 +11,24 @@ import java.time.LocalTime;
 import java.util.List;
 
 public class AccessoryRepositoryImpl extends RepositoryImpl<Accessory, Long> implements AccessoryRepository {
+
+    static final Table TABLE = Table.named("accessories");
+    static final Column<Long> ID = TABLE.column("id", Long.class);
+    static final Column<Long> OWNER_ID = TABLE.column("owner_id", Long.class);
+    static final Column<Long> AQUARIUM_ID = TABLE.column("aquarium_id", Long.class);
+    static final Column<String> ACCESSORY_TYPE = TABLE.column("accessory_type", String.class);
+
+    private static final String COLUMNS = "id, accessory_type, model, serial_number, color, description, date_created, "
+            + "owner_id, aquarium_id, is_external, capacity_liters, is_led, time_on, time_off, "
+            + "min_temperature, max_temperature, current_temperature";
+    private static final Projection<AccessorySummary> SUMMARY = Projection.of(columns -> {
+        int id = columns.indexOf("id");
+        int accessoryType = columns.indexOf("accessory_type");
+        int model = columns.indexOf("model");
+        int aquariumId = columns.indexOf("aquarium_id");
+        return row -> new AccessorySummary(row.getLong(id), row.getString(accessoryType), row.getString(model),
+                getLong(row, aquariumId));
+    }, "id", "accessory_type", "model", "aquarium_id");
     
     @Inject
     public AccessoryRepositoryImpl(DatabaseManager databaseManager) {
@@ -17,11 +36,14 @@ public class AccessoryRepositoryImpl extends RepositoryImpl<Accessory, Long> imp
     }
     
     @Override
-    protected String getTableName() { return "accessories"; }
+    protected String getTableName() { return TABLE.name(); }
     
     @Override
     protected String getIdColumn() { return "id"; }
     
+    @Override
+    protected String getSelectColumns() { return COLUMNS; }
+    
     @Override
     protected String getInsertSql() {
         return "INSERT INTO accessories (model, serial_number, owner_id, aquarium_id, color, description, date_created, accessory_type, is_external, capacity_liters, is_led, time_on, time_off, min_temperature, max_temperature, current_temperature) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
@@ -33,28 +55,60 @@ public class AccessoryRepositoryImpl extends RepositoryImpl<Accessory, Long> imp
     }
     
     @Override
-    protected Accessory mapRow(ResultSet rs) throws SQLException {
-        return Accessory.reconstruct(
-                rs.getString("accessory_type"),
-                rs.getLong("id"),
-                rs.getString("model"),
-                rs.getString("serial_number"),
-                rs.getLong("owner_id"),
-                getLong(rs, "aquarium_id"),
-                rs.getString("color"),
-                rs.getString("description"),
-                rs.getTimestamp("date_created").toLocalDateTime(),
-                rs.getBoolean("is_external"),
-                rs.getInt("capacity_liters"),
-                rs.getBoolean("is_led"),
-                rs.getTime("time_on") != null ? rs.getTime("time_on").toLocalTime() : LocalTime.MIDNIGHT,
-                rs.getTime("time_off") != null ? rs.getTime("time_off").toLocalTime() : LocalTime.MIDNIGHT,
-                rs.getDouble("min_temperature"),
-                rs.getDouble("max_temperature"),
-                rs.getDouble("current_temperature")
+    protected RowMapper<Accessory> rowMapper(ResultSet rs) throws SQLException {
+        Columns columns = Columns.of(rs);
+        int accessoryType = columns.indexOf("accessory_type");
+        int id = columns.indexOf("id");
+        int model = columns.indexOf("model");
+        int serialNumber = columns.indexOf("serial_number");
+        int ownerId = columns.indexOf("owner_id");
+        int aquariumId = columns.indexOf("aquarium_id");
+        int color = columns.indexOf("color");
+        int description = columns.indexOf("description");
+        int dateCreated = columns.indexOf("date_created");
+        int isExternal = columns.indexOf("is_external");
+        int capacityLiters = columns.indexOf("capacity_liters");
+        int isLed = columns.indexOf("is_led");
+        int timeOn = columns.indexOf("time_on");
+        int timeOff = columns.indexOf("time_off");
+        int minTemperature = columns.indexOf("min_temperature");
+        int maxTemperature = columns.indexOf("max_temperature");
+        int currentTemperature = columns.indexOf("current_temperature");
+        return row -> Accessory.reconstruct(
+                row.getString(accessoryType),
+                row.getLong(id),
+                row.getString(model),
+                row.getString(serialNumber),
+                row.getLong(ownerId),
+                getLong(row, aquariumId),
+                row.getString(color),
+                row.getString(description),
+                row.getTimestamp(dateCreated).toLocalDateTime(),
+                row.getBoolean(isExternal),
+                row.getInt(capacityLiters),
+                row.getBoolean(isLed),
+                getTimeOrMidnight(row, timeOn),
+                getTimeOrMidnight(row, timeOff),
+                row.getDouble(minTemperature),
+                row.getDouble(maxTemperature),
+                row.getDouble(currentTemperature)
         );
     }
+
+    private static LocalTime getTimeOrMidnight(ResultSet rs, int column) throws SQLException {
+        Time time = rs.getTime(column);
+        return time != null ? time.toLocalTime() : LocalTime.MIDNIGHT;
+    }
     
+    @Override
+    protected Accessory withGeneratedId(Accessory accessory, Long id) {
+        return Accessory.reconstruct(accessory.getAccessoryType(), id, accessory.getModel(), accessory.getSerialNumber(),
+                accessory.getOwnerId(), accessory.getAquariumId(), accessory.getColor(), accessory.getDescription(),
+                accessory.getDateCreated(), accessory.isExternal(), accessory.getCapacityLiters(), accessory.isLed(),
+                accessory.getTurnOnTime(), accessory.getTurnOffTime(), accessory.getMinTemperature(),
+                accessory.getMaxTemperature(), accessory.getCurrentTemperature());
+    }
+
     @Override
     protected void setInsertParameters(PreparedStatement ps, Accessory accessory) throws SQLException {
         ps.setString(1, accessory.getModel());
@@ -83,10 +137,19 @@ public class AccessoryRepositoryImpl extends RepositoryImpl<Accessory, Long> imp
     }
     
     public List<Accessory> findByOwnerId(Long ownerId) {
-        return findByField("owner_id", ownerId);
+        return find(Query.from(TABLE).where(OWNER_ID, ownerId).orderBy(ID));
+    }
+
+    @Override
+    public List<AccessorySummary> findSummariesByOwnerId(Long ownerId) {
+        return find(Query.from(TABLE).where(OWNER_ID, ownerId).orderBy(ID), SUMMARY);
     }
     
     public List<Accessory> findByAquariumId(Long aquariumId) {
-        return findByField("aquarium_id", aquariumId);
+        return find(Query.from(TABLE).where(AQUARIUM_ID, aquariumId).orderBy(ID));
+    }
+
+    public List<Accessory> findByType(String accessoryType) {
+        return find(Query.from(TABLE).where(ACCESSORY_TYPE, accessoryType));
     }
 }
\ No newline at end of file
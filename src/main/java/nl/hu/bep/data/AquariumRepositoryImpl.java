@@ -1,6 +1,7 @@
 package nl.hu.bep.data;
 
 import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.summary.AquariumSummary;
 import nl.hu.bep.domain.enums.AquariumState;
 import nl.hu.bep.domain.enums.SubstrateType;
 import nl.hu.bep.domain.enums.WaterType;
@@ -13,6 +14,22 @@ import java.sql.*;
 import java.util.List;
 
 public class AquariumRepositoryImpl extends RepositoryImpl<Aquarium, Long> implements AquariumRepository {
+
+    private static final EnumColumn<SubstrateType> SUBSTRATE = EnumColumn.of(SubstrateType.class);
+    private static final EnumColumn<WaterType> WATER_TYPE = EnumColumn.of(WaterType.class);
+    private static final EnumColumn<AquariumState> STATE = EnumColumn.of(AquariumState.class);
+    static final Table TABLE = Table.named("aquariums");
+    static final Column<Long> ID = TABLE.column("id", Long.class);
+    static final Column<Long> OWNER_ID = TABLE.column("owner_id", Long.class);
+
+    private static final String COLUMNS = "id, name, length, width, height, substrate, water_type, temperature, "
+            + "state, current_state_start_time, color, description, date_created, owner_id, aquarium_manager_id";
+    private static final Projection<AquariumSummary> SUMMARY = Projection.of(columns -> {
+        int id = columns.indexOf("id");
+        int name = columns.indexOf("name");
+        int state = columns.indexOf("state");
+        return row -> new AquariumSummary(row.getLong(id), row.getString(name), STATE.get(row, state));
+    }, "id", "name", "state");
     
     @Inject
     public AquariumRepositoryImpl(DatabaseManager databaseManager) {
@@ -20,11 +37,14 @@ public class AquariumRepositoryImpl extends RepositoryImpl<Aquarium, Long> imple
     }
     
     @Override
-    protected String getTableName() { return "aquariums"; }
+    protected String getTableName() { return TABLE.name(); }
     
     @Override
     protected String getIdColumn() { return "id"; }
     
+    @Override
+    protected String getSelectColumns() { return COLUMNS; }
+    
     @Override
     protected String getInsertSql() {
         return "INSERT INTO aquariums (name, length, width, height, substrate, water_type, temperature, state, current_state_start_time, color, description, owner_id, aquarium_manager_id, date_created) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
@@ -36,24 +56,48 @@ public class AquariumRepositoryImpl extends RepositoryImpl<Aquarium, Long> imple
     }
     
     @Override
-    protected Aquarium mapRow(ResultSet rs) throws SQLException {
-        return Aquarium.reconstruct(
-                rs.getLong("id"),
-                rs.getString("name"),
-                new Dimensions(rs.getDouble("length"), rs.getDouble("width"), rs.getDouble("height")),
-                SubstrateType.valueOf(rs.getString("substrate")),
-                WaterType.valueOf(rs.getString("water_type")),
-                rs.getDouble("temperature"),
-                AquariumState.valueOf(rs.getString("state")),
-                rs.getTimestamp("current_state_start_time").toLocalDateTime(),
-                rs.getString("color"),
-                rs.getString("description"),
-                rs.getTimestamp("date_created").toLocalDateTime(),
-                getLong(rs, "aquarium_manager_id"),
-                getLong(rs, "owner_id")
+    protected RowMapper<Aquarium> rowMapper(ResultSet rs) throws SQLException {
+        Columns columns = Columns.of(rs);
+        int id = columns.indexOf("id");
+        int name = columns.indexOf("name");
+        int length = columns.indexOf("length");
+        int width = columns.indexOf("width");
+        int height = columns.indexOf("height");
+        int substrate = columns.indexOf("substrate");
+        int waterType = columns.indexOf("water_type");
+        int temperature = columns.indexOf("temperature");
+        int state = columns.indexOf("state");
+        int currentStateStartTime = columns.indexOf("current_state_start_time");
+        int color = columns.indexOf("color");
+        int description = columns.indexOf("description");
+        int dateCreated = columns.indexOf("date_created");
+        int aquariumManagerId = columns.indexOf("aquarium_manager_id");
+        int ownerId = columns.indexOf("owner_id");
+        return row -> Aquarium.reconstruct(
+                row.getLong(id),
+                row.getString(name),
+                new Dimensions(row.getDouble(length), row.getDouble(width), row.getDouble(height)),
+                SUBSTRATE.get(row, substrate),
+                WATER_TYPE.get(row, waterType),
+                row.getDouble(temperature),
+                STATE.get(row, state),
+                row.getTimestamp(currentStateStartTime).toLocalDateTime(),
+                row.getString(color),
+                row.getString(description),
+                row.getTimestamp(dateCreated).toLocalDateTime(),
+                getLong(row, aquariumManagerId),
+                getLong(row, ownerId)
         );
     }
     
+    @Override
+    protected Aquarium withGeneratedId(Aquarium aquarium, Long id) {
+        return Aquarium.reconstruct(id, aquarium.getName(), aquarium.getDimensions(), aquarium.getSubstrate(),
+                aquarium.getWaterType(), aquarium.getTemperature(), aquarium.getState(), aquarium.getCurrentStateStartTime(),
+                aquarium.getColor(), aquarium.getDescription(), aquarium.getDateCreated(),
+                aquarium.getAquariumManagerId(), aquarium.getOwnerId());
+    }
+
     @Override
     protected void setInsertParameters(PreparedStatement ps, Aquarium aquarium) throws SQLException {
         ps.setString(1, aquarium.getName());
@@ -79,6 +123,11 @@ public class AquariumRepositoryImpl extends RepositoryImpl<Aquarium, Long> imple
     }
     
     public List<Aquarium> findByOwnerId(Long ownerId) {
-        return findByField("owner_id", ownerId);
+        return find(Query.from(TABLE).where(OWNER_ID, ownerId).orderBy(ID));
+    }
+
+    @Override
+    public List<AquariumSummary> findSummariesByOwnerId(Long ownerId) {
+        return find(Query.from(TABLE).where(OWNER_ID, ownerId).orderBy(ID), SUMMARY);
     }
 }
\ No newline at end of file
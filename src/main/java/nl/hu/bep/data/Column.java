@@ -0,0 +1,35 @@
+package nl.hu.bep.data;
+
+/**
+ * A whitelisted column of a {@link Table}. The type parameter is what callers pass as a filter value;
+ * enums are bound by name.
+ */
+public final class Column<V> {
+
+    private final Table table;
+    private final String name;
+    private final Class<V> type;
+
+    Column(Table table, String name, Class<V> type) {
+        this.table = table;
+        this.name = name;
+        this.type = type;
+    }
+
+    public Table table() {
+        return table;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Class<V> type() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return table.name() + "." + name;
+    }
+}
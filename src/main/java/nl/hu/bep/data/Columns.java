@@ -0,0 +1,40 @@
+package nl.hu.bep.data;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Column label to index table for one result set, read from its metadata once so row mappers can use
+ * the index getters. Labels are matched case-insensitively and, as with {@link ResultSet#findColumn},
+ * the first column wins when a join returns the same label twice.
+ */
+public final class Columns {
+
+    private final Map<String, Integer> indexes;
+
+    private Columns(Map<String, Integer> indexes) {
+        this.indexes = indexes;
+    }
+
+    public static Columns of(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        int count = metaData.getColumnCount();
+        Map<String, Integer> indexes = new HashMap<>(count * 2);
+        for (int i = 1; i <= count; i++) {
+            indexes.putIfAbsent(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+        return new Columns(indexes);
+    }
+
+    public int indexOf(String column) throws SQLException {
+        Integer index = indexes.get(column);
+        if (index == null) {
+            throw new SQLException("Column not in result set: " + column);
+        }
+        return index;
+    }
+}
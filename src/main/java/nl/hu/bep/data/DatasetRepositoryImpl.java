@@ -0,0 +1,139 @@
+package nl.hu.bep.data;
+
+import jakarta.inject.Inject;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.data.interfaces.DatasetRepository;
+import nl.hu.bep.domain.enums.DatasetEntity;
+import nl.hu.bep.exception.ApplicationException;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads whole tables of one owner for export. Rows are fetched through a cursor
+ * {@value AquariumConstants#EXPORT_FETCH_SIZE} at a time and handed on one by one, never collected.
+ * Owner and manager ids are left out: an export belongs to whoever imports it.
+ */
+public class DatasetRepositoryImpl implements DatasetRepository {
+    private static final Map<DatasetEntity, String> COLUMNS = new EnumMap<>(DatasetEntity.class);
+    private static final Map<DatasetEntity, List<String>> FIELDS = new EnumMap<>(DatasetEntity.class);
+
+    static {
+        COLUMNS.put(DatasetEntity.AQUARIUM, "id, name, length, width, height, substrate, water_type, temperature, "
+                + "state, current_state_start_time, color, description, date_created");
+        COLUMNS.put(DatasetEntity.ACCESSORY, "id, accessory_type, model, serial_number, color, description, "
+                + "date_created, aquarium_id, is_external, capacity_liters, is_led, time_on, time_off, "
+                + "min_temperature, max_temperature, current_temperature");
+        COLUMNS.put(DatasetEntity.ORNAMENT, "id, name, material, color, description, is_air_pump_compatible, "
+                + "date_created, aquarium_id");
+        COLUMNS.put(DatasetEntity.INHABITANT, "id, inhabitant_type, species, name, color, count, is_schooling, "
+                + "water_type, description, date_created, aquarium_id, is_aggressive_eater, requires_special_food, "
+                + "is_snail_eater");
+        COLUMNS.forEach((entity, columns) -> FIELDS.put(entity,
+                Arrays.stream(columns.split(", ")).map(DatasetRepositoryImpl::toFieldName).toList()));
+    }
+
+    private final DatabaseManager databaseManager;
+
+    @Inject
+    public DatasetRepositoryImpl(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+    }
+
+    @Override
+    public void streamOwnedRows(DatasetEntity entity, Long ownerId, RowSink sink) {
+        Query query = ownedRows(entity, ownerId);
+        IndexCatalog.getInstance().verify(query);
+        String sql = query.toSql(COLUMNS.get(entity));
+        try (Connection conn = databaseManager.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            // PostgreSQL only honours the fetch size inside a transaction; in auto-commit it reads every row up front
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                ps.setFetchSize(AquariumConstants.EXPORT_FETCH_SIZE);
+                query.bind(ps);
+                long start = System.nanoTime();
+                int rowCount = 0;
+                try (ResultSet rs = ps.executeQuery()) {
+                    int[] types = columnTypes(rs.getMetaData());
+                    Object[] values = new Object[types.length];
+                    sink.begin(entity, FIELDS.get(entity));
+                    while (rs.next()) {
+                        for (int i = 0; i < types.length; i++) {
+                            values[i] = read(rs, i + 1, types[i]);
+                        }
+                        sink.row(values);
+                        rowCount++;
+                    }
+                } catch (SQLException | RuntimeException e) {
+                    databaseManager.recordFailedQuery(sql, start);
+                    throw e;
+                }
+                // Includes the time the sink spent writing rows to the client
+                databaseManager.recordQuery(sql, start, rowCount);
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new ApplicationException.ConflictException("Export of " + entity.label() + " rows failed", e);
+        }
+    }
+
+    private static Query ownedRows(DatasetEntity entity, Long ownerId) {
+        return switch (entity) {
+            case AQUARIUM -> Query.from(AquariumRepositoryImpl.TABLE)
+                    .where(AquariumRepositoryImpl.OWNER_ID, ownerId).orderBy(AquariumRepositoryImpl.ID);
+            case ACCESSORY -> Query.from(AccessoryRepositoryImpl.TABLE)
+                    .where(AccessoryRepositoryImpl.OWNER_ID, ownerId).orderBy(AccessoryRepositoryImpl.ID);
+            case ORNAMENT -> Query.from(OrnamentRepositoryImpl.TABLE)
+                    .where(OrnamentRepositoryImpl.OWNER_ID, ownerId).orderBy(OrnamentRepositoryImpl.ID);
+            case INHABITANT -> Query.from(InhabitantRepositoryImpl.TABLE)
+                    .where(InhabitantRepositoryImpl.OWNER_ID, ownerId).orderBy(InhabitantRepositoryImpl.ID);
+        };
+    }
+
+    private static int[] columnTypes(ResultSetMetaData metaData) throws SQLException {
+        int[] types = new int[metaData.getColumnCount()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = metaData.getColumnType(i + 1);
+        }
+        return types;
+    }
+
+    /** Temporal columns as java.time values and text of any length as a String; everything else as the driver maps it. */
+    private static Object read(ResultSet rs, int column, int sqlType) throws SQLException {
+        return switch (sqlType) {
+            case Types.TIMESTAMP -> rs.getObject(column, LocalDateTime.class);
+            case Types.TIME -> rs.getObject(column, LocalTime.class);
+            case Types.DATE -> rs.getObject(column, LocalDate.class);
+            case Types.CLOB, Types.NCLOB, Types.LONGVARCHAR -> rs.getString(column);
+            default -> rs.getObject(column);
+        };
+    }
+
+    /** {@code water_type} becomes {@code waterType}, matching the field names of the API. */
+    private static String toFieldName(String column) {
+        StringBuilder field = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                field.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return field.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package nl.hu.bep.data;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Parses an enum stored by name. The constants are kept in an array and compared with
+ * {@code equals}, which for the handful of constants these enums have is cheaper than
+ * {@link Enum#valueOf}'s class check and map lookup. Create one per enum type and share it.
+ */
+public final class EnumColumn<E extends Enum<E>> {
+
+    private final Class<E> type;
+    private final E[] constants;
+
+    private EnumColumn(Class<E> type) {
+        this.type = type;
+        this.constants = type.getEnumConstants();
+    }
+
+    public static <E extends Enum<E>> EnumColumn<E> of(Class<E> type) {
+        return new EnumColumn<>(type);
+    }
+
+    public E get(ResultSet rs, int column) throws SQLException {
+        return parse(rs.getString(column));
+    }
+
+    public E parse(String name) {
+        for (E constant : constants) {
+            if (constant.name().equals(name)) {
+                return constant;
+            }
+        }
+        // Same failure as valueOf for unknown or missing names
+        return Enum.valueOf(type, name);
+    }
+}
@@ -0,0 +1,124 @@
+package nl.hu.bep.data;
+
+import jakarta.inject.Inject;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.data.interfaces.FiltrationRepository;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.AquariumFiltration;
+import nl.hu.bep.domain.accessories.Filter;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.value.Dimensions;
+import nl.hu.bep.exception.ApplicationException;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads aquariums and their filters with a single LEFT JOIN instead of one accessory lookup per aquarium.
+ */
+public class FiltrationRepositoryImpl implements FiltrationRepository {
+    private static final String SELECT_SQL =
+            "SELECT a.id, a.owner_id, a.name, a.length, a.width, a.height, a.state, " +
+            "f.id AS filter_id, f.model, f.serial_number, f.is_external, f.capacity_liters " +
+            "FROM aquariums a " +
+            "LEFT JOIN accessories f ON f.aquarium_id = a.id AND f.accessory_type = 'Filter'";
+    private static final EnumColumn<AquariumState> STATE = EnumColumn.of(AquariumState.class);
+
+    private final DatabaseManager databaseManager;
+
+    @Inject
+    public FiltrationRepositoryImpl(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+    }
+
+    @Override
+    public List<AquariumFiltration> findByOwnerId(Long ownerId) {
+        return query(SELECT_SQL + " WHERE a.owner_id = ? ORDER BY a.id, f.id", ownerId);
+    }
+
+    @Override
+    public List<AquariumFiltration> findAll() {
+        return query(SELECT_SQL + " ORDER BY a.id, f.id", null);
+    }
+
+    @Override
+    public Optional<AquariumFiltration> findByAquariumId(Long aquariumId) {
+        return query(SELECT_SQL + " WHERE a.id = ? ORDER BY f.id", aquariumId).stream().findFirst();
+    }
+
+    private List<AquariumFiltration> query(String sql, Long parameter) {
+        Map<Long, Row> rows = new LinkedHashMap<>();
+        try (Connection conn = databaseManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            if (parameter != null) {
+                ps.setLong(1, parameter);
+            }
+            long start = System.nanoTime();
+            int rowCount = 0;
+            try (ResultSet rs = ps.executeQuery()) {
+                Columns columns = Columns.of(rs);
+                int id = columns.indexOf("id");
+                int ownerId = columns.indexOf("owner_id");
+                int name = columns.indexOf("name");
+                int length = columns.indexOf("length");
+                int width = columns.indexOf("width");
+                int height = columns.indexOf("height");
+                int state = columns.indexOf("state");
+                int filterIdColumn = columns.indexOf("filter_id");
+                int model = columns.indexOf("model");
+                int serialNumber = columns.indexOf("serial_number");
+                int isExternal = columns.indexOf("is_external");
+                int capacityLiters = columns.indexOf("capacity_liters");
+                while (rs.next()) {
+                    rowCount++;
+                    long aquariumId = rs.getLong(id);
+                    Row row = rows.get(aquariumId);
+                    if (row == null) {
+                        row = new Row(aquariumId, rs.getLong(ownerId), rs.getString(name), STATE.get(rs, state),
+                                new Dimensions(rs.getDouble(length), rs.getDouble(width), rs.getDouble(height)));
+                        rows.put(aquariumId, row);
+                    }
+                    Long filterId = RepositoryImpl.getLong(rs, filterIdColumn);
+                    if (filterId != null) {
+                        row.filters.add((Filter) Accessory.reconstruct("Filter", filterId,
+                                rs.getString(model), rs.getString(serialNumber), row.ownerId, aquariumId,
+                                null, null, null, rs.getBoolean(isExternal), rs.getInt(capacityLiters),
+                                false, null, null, 0, 0, 0));
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                databaseManager.recordFailedQuery(sql, start);
+                throw e;
+            }
+            databaseManager.recordQuery(sql, start, rowCount);
+        } catch (SQLException e) {
+            throw new ApplicationException.ConflictException("Find aquarium filtration failed", e);
+        }
+        List<AquariumFiltration> result = new ArrayList<>(rows.size());
+        for (Row row : rows.values()) {
+            result.add(new AquariumFiltration(row.aquariumId, row.ownerId, row.name, row.state, row.dimensions, row.filters));
+        }
+        return result;
+    }
+
+    private static final class Row {
+        private final Long aquariumId;
+        private final Long ownerId;
+        private final String name;
+        private final AquariumState state;
+        private final Dimensions dimensions;
+        private final List<Filter> filters = new ArrayList<>();
+
+        private Row(long aquariumId, long ownerId, String name, AquariumState state, Dimensions dimensions) {
+            this.aquariumId = aquariumId;
+            this.ownerId = ownerId;
+            this.name = name;
+            this.state = state;
+            this.dimensions = dimensions;
+        }
+    }
+}
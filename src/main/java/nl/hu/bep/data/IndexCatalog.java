@@ -0,0 +1,190 @@
+package nl.hu.bep.data;
+
+import nl.hu.bep.config.SchemaMigrator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * B-tree indexes declared by the migration scripts, used to reject a {@link Query} whose predicates
+ * would make the database scan the table. A predicate on a column is backed when some index contains
+ * that column and every column in front of it is fixed by an equality or {@code IS NULL} predicate of
+ * the same query, which is the prefix a B-tree can seek on.
+ *
+ * <p>Primary keys, {@code UNIQUE} columns and {@code CREATE INDEX} statements are recognised; indexes
+ * with another access method (such as GIN) or on expressions are ignored. Each query shape is checked
+ * once.
+ */
+public final class IndexCatalog {
+
+    private static final Pattern CREATE_TABLE = Pattern.compile(
+            "CREATE TABLE (?:IF NOT EXISTS )?(\\w+)\\s*\\((.*?)\\n\\);", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "CREATE (?:UNIQUE )?INDEX (?:IF NOT EXISTS )?(\\w+) ON (\\w+)\\s*(?:USING (\\w+)\\s*)?\\(([^;]*)\\)\\s*;",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern DROP_INDEX = Pattern.compile(
+            "DROP INDEX (?:IF EXISTS )?(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern COLUMN_CONSTRAINT = Pattern.compile(
+            "^\\s*(\\w+)\\s+[^,]*?\\b(PRIMARY KEY|UNIQUE)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TABLE_CONSTRAINT = Pattern.compile(
+            "^\\s*(?:CONSTRAINT \\w+ )?(?:PRIMARY KEY|UNIQUE)\\s*\\(([^)]*)\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PLAIN_COLUMN = Pattern.compile("\\w+");
+
+    private static volatile IndexCatalog instance;
+
+    /** Index name to its table and ordered columns. Constraint indexes get a generated name. */
+    private final Map<String, Index> indexes = new LinkedHashMap<>();
+    private final Set<String> verifiedShapes = ConcurrentHashMap.newKeySet();
+
+    record Index(String name, String table, List<String> columns) {
+    }
+
+    IndexCatalog(List<String> scripts) {
+        for (String script : scripts) {
+            parse(stripComments(script));
+        }
+    }
+
+    public static IndexCatalog getInstance() {
+        IndexCatalog catalog = instance;
+        if (catalog == null) {
+            synchronized (IndexCatalog.class) {
+                catalog = instance;
+                if (catalog == null) {
+                    catalog = new IndexCatalog(new SchemaMigrator().getMigrations().stream()
+                            .map(SchemaMigrator.Migration::script)
+                            .toList());
+                    instance = catalog;
+                }
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * @throws IllegalStateException naming the predicates no index can serve
+     */
+    public void verify(Query query) {
+        String shape = query.shape();
+        if (verifiedShapes.contains(shape)) {
+            return;
+        }
+        List<String> unbacked = findUnbacked(query);
+        if (!unbacked.isEmpty()) {
+            throw new IllegalStateException("Query on " + query.table().name() + " would scan the table: no index serves "
+                    + String.join(", ", unbacked) + ". Add an index in a new migration.");
+        }
+        verifiedShapes.add(shape);
+    }
+
+    List<String> findUnbacked(Query query) {
+        String table = query.table().name();
+        List<Query.Predicate> predicates = query.predicates();
+        if (predicates.isEmpty()) {
+            return List.of("(no predicate)");
+        }
+        Set<String> fixed = new HashSet<>();
+        for (Query.Predicate predicate : predicates) {
+            if (predicate.operator() != Query.Operator.STARTS_WITH) {
+                fixed.add(predicate.column().name());
+            }
+        }
+        List<String> unbacked = new ArrayList<>();
+        for (Query.Predicate predicate : predicates) {
+            if (!isBacked(table, predicate.column().name(), fixed)) {
+                unbacked.add(predicate.column().name());
+            }
+        }
+        return unbacked;
+    }
+
+    List<Index> indexesOn(String table) {
+        return indexes.values().stream().filter(index -> index.table().equals(table)).toList();
+    }
+
+    private boolean isBacked(String table, String column, Set<String> fixed) {
+        for (Index index : indexes.values()) {
+            if (!index.table().equals(table)) {
+                continue;
+            }
+            for (String indexed : index.columns()) {
+                if (indexed.equals(column)) {
+                    return true;
+                }
+                if (!fixed.contains(indexed)) {
+                    break;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void parse(String script) {
+        Matcher table = CREATE_TABLE.matcher(script);
+        while (table.find()) {
+            parseConstraints(table.group(1).toLowerCase(Locale.ROOT), table.group(2));
+        }
+        // Statements are applied in order, so a later DROP removes an earlier CREATE
+        Map<Integer, Runnable> statements = new HashMap<>();
+        Matcher create = CREATE_INDEX.matcher(script);
+        while (create.find()) {
+            String name = create.group(1).toLowerCase(Locale.ROOT);
+            String tableName = create.group(2).toLowerCase(Locale.ROOT);
+            String method = create.group(3);
+            List<String> columns = plainColumns(create.group(4));
+            if ((method == null || method.equalsIgnoreCase("btree")) && columns != null) {
+                statements.put(create.start(), () -> indexes.put(name, new Index(name, tableName, columns)));
+            }
+        }
+        Matcher drop = DROP_INDEX.matcher(script);
+        while (drop.find()) {
+            String name = drop.group(1).toLowerCase(Locale.ROOT);
+            statements.put(drop.start(), () -> indexes.remove(name));
+        }
+        statements.keySet().stream().sorted().forEach(position -> statements.get(position).run());
+    }
+
+    private void parseConstraints(String table, String body) {
+        int generated = 0;
+        for (String line : body.split("\\R")) {
+            Matcher tableConstraint = TABLE_CONSTRAINT.matcher(line);
+            Matcher columnConstraint = COLUMN_CONSTRAINT.matcher(line);
+            List<String> columns = null;
+            if (tableConstraint.find()) {
+                columns = plainColumns(tableConstraint.group(1));
+            } else if (columnConstraint.find()) {
+                columns = List.of(columnConstraint.group(1).toLowerCase(Locale.ROOT));
+            }
+            if (columns != null) {
+                String name = table + "_constraint_" + generated++;
+                indexes.put(name, new Index(name, table, columns));
+            }
+        }
+    }
+
+    /** The column names of an index definition, or {@code null} when it indexes an expression. */
+    private static List<String> plainColumns(String definition) {
+        List<String> columns = new ArrayList<>();
+        for (String part : definition.split(",")) {
+            String[] tokens = part.strip().split("\\s+");
+            if (!PLAIN_COLUMN.matcher(tokens[0]).matches()) {
+                return null;
+            }
+            columns.add(tokens[0].toLowerCase(Locale.ROOT));
+        }
+        return columns;
+    }
+
+    private static String stripComments(String script) {
+        return script.replaceAll("--[^\\n]*", "");
+    }
+}
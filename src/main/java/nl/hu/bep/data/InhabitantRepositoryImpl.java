@@ -1,15 +1,43 @@
 package nl.hu.bep.data;
 
 import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.domain.summary.InhabitantSummary;
 import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.domain.InhabitantFilter;
 import nl.hu.bep.data.interfaces.InhabitantRepository;
 import jakarta.inject.Inject;
 import nl.hu.bep.config.DatabaseManager;
 
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class InhabitantRepositoryImpl extends RepositoryImpl<Inhabitant, Long> implements InhabitantRepository {
+
+    private static final EnumColumn<WaterType> WATER_TYPES = EnumColumn.of(WaterType.class);
+    static final Table TABLE = Table.named("inhabitants");
+    static final Column<Long> ID = TABLE.column("id", Long.class);
+    static final Column<Long> OWNER_ID = TABLE.column("owner_id", Long.class);
+    static final Column<Long> AQUARIUM_ID = TABLE.column("aquarium_id", Long.class);
+    static final Column<String> INHABITANT_TYPE = TABLE.column("inhabitant_type", String.class);
+    static final Column<WaterType> WATER_TYPE = TABLE.column("water_type", WaterType.class);
+    static final Column<String> SPECIES = TABLE.column("species", String.class);
+    static final Column<String> NAME = TABLE.column("name", String.class);
+    static final Column<Integer> COUNT = TABLE.column("count", Integer.class);
+    static final Column<LocalDateTime> DATE_CREATED = TABLE.column("date_created", LocalDateTime.class);
+
+    private static final String COLUMNS = "id, inhabitant_type, species, color, count, is_schooling, water_type, owner_id, "
+            + "name, description, date_created, aquarium_id, is_aggressive_eater, requires_special_food, is_snail_eater";
+    private static final Projection<InhabitantSummary> SUMMARY = Projection.of(columns -> {
+        int id = columns.indexOf("id");
+        int inhabitantType = columns.indexOf("inhabitant_type");
+        int species = columns.indexOf("species");
+        int name = columns.indexOf("name");
+        int count = columns.indexOf("count");
+        int aquariumId = columns.indexOf("aquarium_id");
+        return row -> new InhabitantSummary(row.getLong(id), row.getString(inhabitantType), row.getString(species),
+                row.getString(name), row.getInt(count), getLong(row, aquariumId));
+    }, "id", "inhabitant_type", "species", "name", "count", "aquarium_id");
     
     @Inject
     public InhabitantRepositoryImpl(DatabaseManager databaseManager) {
@@ -17,11 +45,14 @@ public class InhabitantRepositoryImpl extends RepositoryImpl<Inhabitant, Long> i
     }
     
     @Override
-    protected String getTableName() { return "inhabitants"; }
+    protected String getTableName() { return TABLE.name(); }
     
     @Override
     protected String getIdColumn() { return "id"; }
     
+    @Override
+    protected String getSelectColumns() { return COLUMNS; }
+    
     @Override
     protected String getInsertSql() {
         return "INSERT INTO inhabitants (species, color, count, is_schooling, water_type, owner_id, name, description, date_created, inhabitant_type, is_aggressive_eater, requires_special_food, is_snail_eater, aquarium_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
@@ -33,26 +64,51 @@ public class InhabitantRepositoryImpl extends RepositoryImpl<Inhabitant, Long> i
     }
     
     @Override
-    protected Inhabitant mapRow(ResultSet rs) throws SQLException {
-        return Inhabitant.reconstruct(
-                rs.getString("inhabitant_type"),
-                rs.getLong("id"),
-                rs.getString("species"),
-                rs.getString("color"),
-                rs.getInt("count"),
-                rs.getBoolean("is_schooling"),
-                WaterType.valueOf(rs.getString("water_type")),
-                getLong(rs, "owner_id"),
-                rs.getString("name"),
-                rs.getString("description"),
-                getDateTime(rs, "date_created"),
-                getLong(rs, "aquarium_id"),
-                rs.getBoolean("is_aggressive_eater"),
-                rs.getBoolean("requires_special_food"),
-                rs.getBoolean("is_snail_eater")
+    protected RowMapper<Inhabitant> rowMapper(ResultSet rs) throws SQLException {
+        Columns columns = Columns.of(rs);
+        int inhabitantType = columns.indexOf("inhabitant_type");
+        int id = columns.indexOf("id");
+        int species = columns.indexOf("species");
+        int color = columns.indexOf("color");
+        int count = columns.indexOf("count");
+        int isSchooling = columns.indexOf("is_schooling");
+        int waterType = columns.indexOf("water_type");
+        int ownerId = columns.indexOf("owner_id");
+        int name = columns.indexOf("name");
+        int description = columns.indexOf("description");
+        int dateCreated = columns.indexOf("date_created");
+        int aquariumId = columns.indexOf("aquarium_id");
+        int isAggressiveEater = columns.indexOf("is_aggressive_eater");
+        int requiresSpecialFood = columns.indexOf("requires_special_food");
+        int isSnailEater = columns.indexOf("is_snail_eater");
+        return row -> Inhabitant.reconstruct(
+                row.getString(inhabitantType),
+                row.getLong(id),
+                row.getString(species),
+                row.getString(color),
+                row.getInt(count),
+                row.getBoolean(isSchooling),
+                WATER_TYPES.get(row, waterType),
+                getLong(row, ownerId),
+                row.getString(name),
+                row.getString(description),
+                getDateTime(row, dateCreated),
+                getLong(row, aquariumId),
+                row.getBoolean(isAggressiveEater),
+                row.getBoolean(requiresSpecialFood),
+                row.getBoolean(isSnailEater)
         );
     }
     
+    @Override
+    protected Inhabitant withGeneratedId(Inhabitant inhabitant, Long id) {
+        Inhabitant.InhabitantProperties props = inhabitant.getTypeSpecificProperties();
+        return Inhabitant.reconstruct(inhabitant.getType(), id, inhabitant.getSpecies(), inhabitant.getColor(),
+                inhabitant.getCount(), inhabitant.isSchooling(), inhabitant.getWaterType(), inhabitant.getOwnerId(),
+                inhabitant.getName(), inhabitant.getDescription(), inhabitant.getDateCreated(), inhabitant.getAquariumId(),
+                props.isAggressiveEater, props.requiresSpecialFood, props.isSnailEater);
+    }
+
     @Override
     protected void setInsertParameters(PreparedStatement ps, Inhabitant inhabitant) throws SQLException {
         ps.setString(1, inhabitant.getSpecies());
@@ -92,10 +148,57 @@ public class InhabitantRepositoryImpl extends RepositoryImpl<Inhabitant, Long> i
     }
     
     public List<Inhabitant> findByOwnerId(Long ownerId) {
-        return findByField("owner_id", ownerId);
+        return findByOwnerId(ownerId, InhabitantFilter.none());
+    }
+
+    @Override
+    public List<Inhabitant> findByOwnerId(Long ownerId, InhabitantFilter filter) {
+        return find(filteredQuery(ownerId, filter));
+    }
+
+    @Override
+    public List<InhabitantSummary> findSummariesByOwnerId(Long ownerId) {
+        return findSummariesByOwnerId(ownerId, InhabitantFilter.none());
+    }
+
+    @Override
+    public List<InhabitantSummary> findSummariesByOwnerId(Long ownerId, InhabitantFilter filter) {
+        return find(filteredQuery(ownerId, filter), SUMMARY);
+    }
+
+    static Query filteredQuery(Long ownerId, InhabitantFilter filter) {
+        Query query = Query.from(TABLE).where(OWNER_ID, ownerId);
+        if (filter.type() != null) {
+            query.where(INHABITANT_TYPE, filter.type());
+        }
+        if (filter.waterType() != null) {
+            query.where(WATER_TYPE, filter.waterType());
+        }
+        if (filter.aquariumId() != null) {
+            query.where(AQUARIUM_ID, filter.aquariumId());
+        }
+        if (filter.speciesPrefix() != null) {
+            query.whereStartsWith(SPECIES, filter.speciesPrefix());
+        }
+        Column<?> sortColumn = switch (filter.sortField()) {
+            case ID -> ID;
+            case SPECIES -> SPECIES;
+            case NAME -> NAME;
+            case COUNT -> COUNT;
+            case DATE_CREATED -> DATE_CREATED;
+        };
+        if (filter.descending()) {
+            query.orderByDescending(sortColumn);
+        } else {
+            query.orderBy(sortColumn);
+        }
+        if (sortColumn != ID) {
+            query.orderBy(ID);
+        }
+        return query;
     }
     
     public List<Inhabitant> findByAquariumId(Long aquariumId) {
-        return findByField("aquarium_id", aquariumId);
+        return find(Query.from(TABLE).where(AQUARIUM_ID, aquariumId).orderBy(ID));
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package nl.hu.bep.data;
 
 import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.summary.OrnamentSummary;
 import nl.hu.bep.data.interfaces.OrnamentRepository;
 import jakarta.inject.Inject;
 import nl.hu.bep.config.DatabaseManager;
@@ -10,6 +11,21 @@ import java.util.List;
 
 
 public class OrnamentRepositoryImpl extends RepositoryImpl<Ornament, Long> implements OrnamentRepository {
+
+    static final Table TABLE = Table.named("ornaments");
+    static final Column<Long> ID = TABLE.column("id", Long.class);
+    static final Column<Long> OWNER_ID = TABLE.column("owner_id", Long.class);
+    static final Column<Long> AQUARIUM_ID = TABLE.column("aquarium_id", Long.class);
+
+    private static final String COLUMNS = "id, name, description, color, material, is_air_pump_compatible, owner_id, aquarium_id, date_created";
+    private static final Projection<OrnamentSummary> SUMMARY = Projection.of(columns -> {
+        int id = columns.indexOf("id");
+        int name = columns.indexOf("name");
+        int material = columns.indexOf("material");
+        int aquariumId = columns.indexOf("aquarium_id");
+        return row -> new OrnamentSummary(row.getLong(id), row.getString(name), row.getString(material),
+                getLong(row, aquariumId));
+    }, "id", "name", "material", "aquarium_id");
     
     @Inject
     public OrnamentRepositoryImpl(DatabaseManager databaseManager) {
@@ -18,7 +34,7 @@ public class OrnamentRepositoryImpl extends RepositoryImpl<Ornament, Long> imple
     
     @Override
     protected String getTableName() {
-        return "ornaments";
+        return TABLE.name();
     }
     
     @Override
@@ -26,6 +42,11 @@ public class OrnamentRepositoryImpl extends RepositoryImpl<Ornament, Long> imple
         return "id";
     }
     
+    @Override
+    protected String getSelectColumns() {
+        return COLUMNS;
+    }
+    
     @Override
     protected String getInsertSql() {
         return "INSERT INTO ornaments (name, description, color, material, is_air_pump_compatible, owner_id, aquarium_id, date_created) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
@@ -37,20 +58,37 @@ public class OrnamentRepositoryImpl extends RepositoryImpl<Ornament, Long> imple
     }
     
     @Override
-    protected Ornament mapRow(ResultSet rs) throws SQLException {
-        return Ornament.reconstruct(
-                rs.getLong("id"),
-                rs.getString("name"),
-                rs.getString("description"),
-                rs.getString("color"),
-                rs.getString("material"),
-                rs.getBoolean("is_air_pump_compatible"),
-                rs.getLong("owner_id"),
-                getLongOrNull(rs, "aquarium_id"),
-                rs.getTimestamp("date_created").toLocalDateTime()
+    protected RowMapper<Ornament> rowMapper(ResultSet rs) throws SQLException {
+        Columns columns = Columns.of(rs);
+        int id = columns.indexOf("id");
+        int name = columns.indexOf("name");
+        int description = columns.indexOf("description");
+        int color = columns.indexOf("color");
+        int material = columns.indexOf("material");
+        int isAirPumpCompatible = columns.indexOf("is_air_pump_compatible");
+        int ownerId = columns.indexOf("owner_id");
+        int aquariumId = columns.indexOf("aquarium_id");
+        int dateCreated = columns.indexOf("date_created");
+        return row -> Ornament.reconstruct(
+                row.getLong(id),
+                row.getString(name),
+                row.getString(description),
+                row.getString(color),
+                row.getString(material),
+                row.getBoolean(isAirPumpCompatible),
+                row.getLong(ownerId),
+                getLong(row, aquariumId),
+                row.getTimestamp(dateCreated).toLocalDateTime()
         );
     }
     
+    @Override
+    protected Ornament withGeneratedId(Ornament ornament, Long id) {
+        return Ornament.reconstruct(id, ornament.getName(), ornament.getDescription(), ornament.getColor(),
+                ornament.getMaterial(), ornament.isAirPumpCompatible(), ornament.getOwnerId(), ornament.getAquariumId(),
+                ornament.getDateCreated());
+    }
+
     @Override
     protected void setInsertParameters(PreparedStatement ps, Ornament ornament) throws SQLException {
         ps.setString(1, ornament.getName());
@@ -69,11 +107,6 @@ public class OrnamentRepositoryImpl extends RepositoryImpl<Ornament, Long> imple
         ps.setLong(9, ornament.getId());
     }
 
-    private Long getLongOrNull(ResultSet rs, String columnName) throws SQLException {
-        long value = rs.getLong(columnName);
-        return rs.wasNull() ? null : value;
-    }
-    
     private void setLongOrNull(PreparedStatement ps, int parameterIndex, Long value) throws SQLException {
         if (value != null) {
             ps.setLong(parameterIndex, value);
@@ -83,10 +116,15 @@ public class OrnamentRepositoryImpl extends RepositoryImpl<Ornament, Long> imple
     }
     
     public List<Ornament> findByOwnerId(Long ownerId) {
-        return findByField("owner_id", ownerId);
+        return find(Query.from(TABLE).where(OWNER_ID, ownerId).orderBy(ID));
+    }
+
+    @Override
+    public List<OrnamentSummary> findSummariesByOwnerId(Long ownerId) {
+        return find(Query.from(TABLE).where(OWNER_ID, ownerId).orderBy(ID), SUMMARY);
     }
     
     public List<Ornament> findByAquariumId(Long aquariumId) {
-        return findByField("aquarium_id", aquariumId);
+        return find(Query.from(TABLE).where(AQUARIUM_ID, aquariumId).orderBy(ID));
     }
 }
\ No newline at end of file
@@ -12,6 +12,13 @@ import java.util.List;
 import java.util.Optional;
 
 public class OwnerRepositoryImpl extends RepositoryImpl<Owner, Long> implements OwnerRepository {
+
+    private static final EnumColumn<Role> ROLE = EnumColumn.of(Role.class);
+    static final Table TABLE = Table.named("owners");
+    static final Column<String> EMAIL = TABLE.column("email", String.class);
+    static final Column<Long> AQUARIUM_MANAGER_ID = TABLE.column("aquarium_manager_id", Long.class);
+
+    private static final String COLUMNS = "id, first_name, last_name, email, password, role, last_login, date_created, aquarium_manager_id";
     
     @Inject
     public OwnerRepositoryImpl(DatabaseManager databaseManager) {
@@ -19,11 +26,14 @@ public class OwnerRepositoryImpl extends RepositoryImpl<Owner, Long> implements
     }
     
     @Override
-    protected String getTableName() { return "owners"; }
+    protected String getTableName() { return TABLE.name(); }
     
     @Override
     protected String getIdColumn() { return "id"; }
     
+    @Override
+    protected String getSelectColumns() { return COLUMNS; }
+    
     @Override
     protected String getInsertSql() {
         return "INSERT INTO owners (first_name, last_name, email, password, role, last_login, date_created, aquarium_manager_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
@@ -35,21 +45,38 @@ public class OwnerRepositoryImpl extends RepositoryImpl<Owner, Long> implements
     }
     
     @Override
-    protected Owner mapRow(ResultSet rs) throws SQLException {
-        return Owner.reconstruct(
-                rs.getLong("id"),
-                rs.getString("first_name"),
-                rs.getString("last_name"),
-                rs.getString("email"),
-                rs.getString("password"),
-                Role.valueOf(rs.getString("role")),
-                getDateTime(rs, "last_login"),
-                rs.getTimestamp("date_created").toLocalDateTime(),
-                getLong(rs, "aquarium_manager_id"),
+    protected RowMapper<Owner> rowMapper(ResultSet rs) throws SQLException {
+        Columns columns = Columns.of(rs);
+        int id = columns.indexOf("id");
+        int firstName = columns.indexOf("first_name");
+        int lastName = columns.indexOf("last_name");
+        int email = columns.indexOf("email");
+        int password = columns.indexOf("password");
+        int role = columns.indexOf("role");
+        int lastLogin = columns.indexOf("last_login");
+        int dateCreated = columns.indexOf("date_created");
+        int aquariumManagerId = columns.indexOf("aquarium_manager_id");
+        return row -> Owner.reconstruct(
+                row.getLong(id),
+                row.getString(firstName),
+                row.getString(lastName),
+                row.getString(email),
+                row.getString(password),
+                ROLE.get(row, role),
+                getDateTime(row, lastLogin),
+                row.getTimestamp(dateCreated).toLocalDateTime(),
+                getLong(row, aquariumManagerId),
                 new HashSet<>()
         );
     }
     
+    @Override
+    protected Owner withGeneratedId(Owner owner, Long id) {
+        return Owner.reconstruct(id, owner.getFirstName(), owner.getLastName(), owner.getEmail(), owner.getPassword(),
+                owner.getRole(), owner.getLastLogin(), owner.getDateCreated(), owner.getAquariumManagerId(),
+                owner.getAquariumIds());
+    }
+
     @Override
     protected void setInsertParameters(PreparedStatement ps, Owner owner) throws SQLException {
         ps.setString(1, owner.getFirstName());
@@ -75,12 +102,13 @@ public class OwnerRepositoryImpl extends RepositoryImpl<Owner, Long> implements
     }
     
     public Optional<Owner> findByEmail(String email) {
-        return findByField("email", email).stream().findFirst();
+        return find(Query.from(TABLE).where(EMAIL, email).limit(1)).stream().findFirst();
     }
     
+    /** Usernames are the e-mail address the owner registered with; there is no separate column. */
     @Override
     public Owner findByUsername(String username) {
-        return findByField("username", username).stream().findFirst().orElse(null);
+        return findByEmail(username).orElse(null);
     }
     
     @Override
@@ -89,6 +117,6 @@ public class OwnerRepositoryImpl extends RepositoryImpl<Owner, Long> implements
     }
     
     public List<Owner> findByAquariumManagerId(Long managerId) {
-        return findByField("aquarium_manager_id", managerId);
+        return find(Query.from(TABLE).where(AQUARIUM_MANAGER_ID, managerId));
     }
 }
\ No newline at end of file
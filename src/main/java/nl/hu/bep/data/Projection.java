@@ -0,0 +1,40 @@
+package nl.hu.bep.data;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * An explicit select list together with the mapper for the rows it produces. Repositories declare one
+ * projection per shape they serve, so list queries only transfer the columns the response needs.
+ */
+public final class Projection<P> {
+
+    private final String selectList;
+    private final Binder<P> binder;
+
+    private Projection(String selectList, Binder<P> binder) {
+        this.selectList = selectList;
+        this.binder = binder;
+    }
+
+    public static <P> Projection<P> of(Binder<P> binder, String... columns) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("A projection needs at least one column");
+        }
+        return new Projection<>(String.join(", ", columns), binder);
+    }
+
+    public String selectList() {
+        return selectList;
+    }
+
+    public RowMapper<P> rowMapper(ResultSet rs) throws SQLException {
+        return binder.bind(Columns.of(rs));
+    }
+
+    /** Resolves the column indexes a mapper needs, once per result set. */
+    @FunctionalInterface
+    public interface Binder<P> {
+        RowMapper<P> bind(Columns columns) throws SQLException;
+    }
+}
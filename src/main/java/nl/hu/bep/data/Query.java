@@ -0,0 +1,153 @@
+package nl.hu.bep.data;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A filtered, ordered and optionally limited read of one {@link Table}. Predicates are combined with
+ * {@code AND}; every value is bound as a parameter. Before it runs, {@link IndexCatalog} checks that each
+ * predicate can use an index.
+ *
+ * <pre>
+ * Query.from(TABLE).where(OWNER_ID, ownerId).whereStartsWith(SPECIES, "Neon").orderBy(NAME).limit(50)
+ * </pre>
+ */
+public final class Query {
+
+    public enum Operator {
+        EQUALS,
+        IS_NULL,
+        STARTS_WITH
+    }
+
+    public record Predicate(Column<?> column, Operator operator, Object value) {
+    }
+
+    public record Order(Column<?> column, boolean descending) {
+    }
+
+    private final Table table;
+    private final List<Predicate> predicates = new ArrayList<>();
+    private final List<Order> orders = new ArrayList<>();
+    private Integer limit;
+
+    private Query(Table table) {
+        this.table = table;
+    }
+
+    public static Query from(Table table) {
+        return new Query(table);
+    }
+
+    /** Equality on {@code column}, or {@code IS NULL} when {@code value} is null. */
+    public <V> Query where(Column<V> column, V value) {
+        requireOwned(column);
+        predicates.add(value == null
+                ? new Predicate(column, Operator.IS_NULL, null)
+                : new Predicate(column, Operator.EQUALS, value));
+        return this;
+    }
+
+    public Query whereStartsWith(Column<String> column, String prefix) {
+        requireOwned(column);
+        Objects.requireNonNull(prefix, "prefix");
+        predicates.add(new Predicate(column, Operator.STARTS_WITH, escapeLike(prefix) + "%"));
+        return this;
+    }
+
+    public Query orderBy(Column<?> column) {
+        requireOwned(column);
+        orders.add(new Order(column, false));
+        return this;
+    }
+
+    public Query orderByDescending(Column<?> column) {
+        requireOwned(column);
+        orders.add(new Order(column, true));
+        return this;
+    }
+
+    public Query limit(int maxRows) {
+        if (maxRows < 1) {
+            throw new IllegalArgumentException("limit must be at least 1: " + maxRows);
+        }
+        this.limit = maxRows;
+        return this;
+    }
+
+    public Table table() {
+        return table;
+    }
+
+    public List<Predicate> predicates() {
+        return List.copyOf(predicates);
+    }
+
+    public List<Order> orders() {
+        return List.copyOf(orders);
+    }
+
+    String toSql(String selectList) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(selectList).append(" FROM ").append(table.name());
+        for (int i = 0; i < predicates.size(); i++) {
+            Predicate predicate = predicates.get(i);
+            sql.append(i == 0 ? " WHERE " : " AND ").append(predicate.column().name());
+            sql.append(switch (predicate.operator()) {
+                case EQUALS -> " = ?";
+                case IS_NULL -> " IS NULL";
+                case STARTS_WITH -> " LIKE ? ESCAPE '\\'";
+            });
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            sql.append(i == 0 ? " ORDER BY " : ", ").append(order.column().name());
+            if (order.descending()) {
+                sql.append(" DESC");
+            }
+        }
+        if (limit != null) {
+            sql.append(" LIMIT ?");
+        }
+        return sql.toString();
+    }
+
+    void bind(PreparedStatement ps) throws SQLException {
+        int index = 1;
+        for (Predicate predicate : predicates) {
+            if (predicate.operator() == Operator.IS_NULL) {
+                continue;
+            }
+            Object value = predicate.value();
+            if (value instanceof Enum<?> constant) {
+                ps.setString(index++, constant.name());
+            } else {
+                ps.setObject(index++, value);
+            }
+        }
+        if (limit != null) {
+            ps.setInt(index, limit);
+        }
+    }
+
+    /** Columns and operators without values, identifying queries that need the same indexes. */
+    String shape() {
+        StringBuilder shape = new StringBuilder(table.name());
+        for (Predicate predicate : predicates) {
+            shape.append('|').append(predicate.column().name()).append(':').append(predicate.operator());
+        }
+        return shape.toString();
+    }
+
+    private void requireOwned(Column<?> column) {
+        if (column.table() != table) {
+            throw new IllegalArgumentException(column + " does not belong to " + table.name());
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -17,36 +17,55 @@ public abstract class RepositoryImpl<T, ID> implements Repository<T, ID> {
         this.databaseManager = databaseManager;
     }
 
-    protected abstract T mapRow(ResultSet rs) throws SQLException;
+    /**
+     * Resolves the columns of {@code rs} once and returns a mapper that reads them by index for every
+     * row of that result set.
+     */
+    protected abstract RowMapper<T> rowMapper(ResultSet rs) throws SQLException;
+    /** The full column list read for detail views, in place of {@code SELECT *}. */
+    protected abstract String getSelectColumns();
     protected abstract void setInsertParameters(PreparedStatement ps, T entity) throws SQLException;
     protected abstract void setUpdateParameters(PreparedStatement ps, T entity) throws SQLException;
     protected abstract String getTableName();
     protected abstract String getIdColumn();
     protected abstract String getInsertSql();
     protected abstract String getUpdateSql();
+    /** {@code entity} as it was inserted, now carrying the id the database generated for it. */
+    protected abstract T withGeneratedId(T entity, ID id);
 
     public Optional<T> findById(ID id) {
-        String sql = "SELECT * FROM " + getTableName() + " WHERE " + getIdColumn() + " = ?";
+        String sql = "SELECT " + getSelectColumns() + " FROM " + getTableName() + " WHERE " + getIdColumn() + " = ?";
         try (Connection conn = databaseManager.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setObject(1, id);
+            long start = System.nanoTime();
+            Optional<T> result;
             try (ResultSet rs = ps.executeQuery()) {
-                return rs.next() ? Optional.of(mapRow(rs)) : Optional.empty();
+                result = rs.next() ? Optional.of(rowMapper(rs).map(rs)) : Optional.empty();
+            } catch (SQLException | RuntimeException e) {
+                databaseManager.recordFailedQuery(sql, start);
+                throw e;
             }
+            databaseManager.recordQuery(sql, start, result.isPresent() ? 1 : 0);
+            return result;
         } catch (SQLException e) {
             throw new ApplicationException.ConflictException("Find by ID failed: " + id, e);
         }
     }
 
     public List<T> findAll() {
-        String sql = "SELECT * FROM " + getTableName();
+        String sql = "SELECT " + getSelectColumns() + " FROM " + getTableName();
         List<T> result = new ArrayList<>();
         try (Connection conn = databaseManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql);
-             ResultSet rs = ps.executeQuery()) {
-            while (rs.next()) {
-                result.add(mapRow(rs));
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            long start = System.nanoTime();
+            try (ResultSet rs = ps.executeQuery()) {
+                mapAll(rs, result);
+            } catch (SQLException | RuntimeException e) {
+                databaseManager.recordFailedQuery(sql, start);
+                throw e;
             }
+            databaseManager.recordQuery(sql, start, result.size());
         } catch (SQLException e) {
             throw new ApplicationException.ConflictException("Find all failed", e);
         }
@@ -54,29 +73,75 @@ public abstract class RepositoryImpl<T, ID> implements Repository<T, ID> {
     }
 
     public T insert(T entity) {
+        ID generatedId;
         try (Connection conn = databaseManager.getConnection();
              PreparedStatement ps = conn.prepareStatement(getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
             setInsertParameters(ps, entity);
-            ps.executeUpdate();
-            
+            executeUpdate(ps, getInsertSql());
+
             try (ResultSet rs = ps.getGeneratedKeys()) {
-                if (rs.next()) {
-                    @SuppressWarnings("unchecked")
-                    ID generatedId = (ID) rs.getObject(1);
-                    return findById(generatedId).orElse(entity);
+                if (!rs.next()) {
+                    return entity;
                 }
+                @SuppressWarnings("unchecked")
+                ID id = (ID) rs.getObject(1);
+                generatedId = id;
             }
-            return entity;
         } catch (SQLException e) {
             throw new ApplicationException.ConflictException("Insert failed", e);
         }
+        // Read back only after the insert's connection is closed: holding its permit while findById waits
+        // for a second one lets concurrent inserts take every permit and block each other
+        return findById(generatedId).orElse(entity);
+    }
+
+    public List<T> insertAll(List<T> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        String sql = getInsertSql();
+        try (Connection conn = databaseManager.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            long start = System.nanoTime();
+            try (PreparedStatement ps = conn.prepareStatement(sql, new String[] {getIdColumn()})) {
+                for (T entity : entities) {
+                    setInsertParameters(ps, entity);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<T> persisted = new ArrayList<>(entities.size());
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    for (T entity : entities) {
+                        if (!rs.next()) {
+                            throw new SQLException("No generated id for row " + (persisted.size() + 1) + " of the batch");
+                        }
+                        @SuppressWarnings("unchecked")
+                        ID generatedId = (ID) rs.getObject(1);
+                        persisted.add(withGeneratedId(entity, generatedId));
+                    }
+                }
+                conn.commit();
+                databaseManager.recordQuery(sql, start, entities.size());
+                return persisted;
+            } catch (SQLException | RuntimeException e) {
+                databaseManager.recordFailedQuery(sql, start);
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new ApplicationException.ConflictException("Batch insert of " + entities.size() + " rows failed", e);
+        }
     }
 
     public T update(T entity) {
         try (Connection conn = databaseManager.getConnection();
              PreparedStatement ps = conn.prepareStatement(getUpdateSql())) {
             setUpdateParameters(ps, entity);
-            ps.executeUpdate();
+            executeUpdate(ps, getUpdateSql());
             return entity;
         } catch (SQLException e) {
             throw new ApplicationException.ConflictException("Update failed", e);
@@ -88,34 +153,88 @@ public abstract class RepositoryImpl<T, ID> implements Repository<T, ID> {
         try (Connection conn = databaseManager.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setObject(1, id);
-            ps.executeUpdate();
+            executeUpdate(ps, sql);
         } catch (SQLException e) {
             throw new ApplicationException.ConflictException("Delete failed: " + id, e);
         }
     }
 
-    public List<T> findByField(String fieldName, Object value) {
-        String sql = "SELECT * FROM " + getTableName() + " WHERE " + fieldName + " = ?";
-        List<T> result = new ArrayList<>();
+    /** Runs an INSERT, UPDATE or DELETE and records it against {@code sql}, whether it succeeds or not. */
+    private int executeUpdate(PreparedStatement ps, String sql) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            int rows = ps.executeUpdate();
+            databaseManager.recordQuery(sql, start, rows);
+            return rows;
+        } catch (SQLException | RuntimeException e) {
+            databaseManager.recordFailedQuery(sql, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs {@code query} with the full column list. The query's predicates must be served by an index,
+     * see {@link IndexCatalog}.
+     */
+    protected List<T> find(Query query) {
+        return find(query, getSelectColumns(), this::rowMapper);
+    }
+
+    /** Like {@link #find(Query)} but reads only the columns of {@code projection}. */
+    protected <P> List<P> find(Query query, Projection<P> projection) {
+        return find(query, projection.selectList(), projection::rowMapper);
+    }
+
+    private <P> List<P> find(Query query, String selectList, MapperFactory<P> mapperFactory) {
+        IndexCatalog.getInstance().verify(query);
+        String sql = query.toSql(selectList);
+        List<P> result = new ArrayList<>();
         try (Connection conn = databaseManager.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, value);
+            query.bind(ps);
+            long start = System.nanoTime();
             try (ResultSet rs = ps.executeQuery()) {
+                RowMapper<P> mapper = mapperFactory.create(rs);
                 while (rs.next()) {
-                    result.add(mapRow(rs));
+                    result.add(mapper.map(rs));
                 }
+            } catch (SQLException | RuntimeException e) {
+                databaseManager.recordFailedQuery(sql, start);
+                throw e;
             }
+            databaseManager.recordQuery(sql, start, result.size());
         } catch (SQLException e) {
-            throw new ApplicationException.ConflictException("Find by field failed: " + fieldName, e);
+            throw new ApplicationException.ConflictException("Find on " + query.table().name() + " failed", e);
         }
         return result;
     }
 
+    @FunctionalInterface
+    private interface MapperFactory<P> {
+        RowMapper<P> create(ResultSet rs) throws SQLException;
+    }
+
+    protected void mapAll(ResultSet rs, List<T> result) throws SQLException {
+        RowMapper<T> mapper = rowMapper(rs);
+        while (rs.next()) {
+            result.add(mapper.map(rs));
+        }
+    }
+
+    protected T mapRow(ResultSet rs) throws SQLException {
+        return rowMapper(rs).map(rs);
+    }
+
     protected static Long getLong(ResultSet rs, String col) throws SQLException {
         long val = rs.getLong(col);
         return rs.wasNull() ? null : val;
     }
 
+    protected static Long getLong(ResultSet rs, int col) throws SQLException {
+        long val = rs.getLong(col);
+        return rs.wasNull() ? null : val;
+    }
+
     protected static void setLong(PreparedStatement ps, int idx, Long val) throws SQLException {
         if (val != null) ps.setLong(idx, val);
         else ps.setNull(idx, Types.BIGINT);
@@ -126,6 +245,11 @@ public abstract class RepositoryImpl<T, ID> implements Repository<T, ID> {
         return ts != null ? ts.toLocalDateTime() : null;
     }
 
+    protected static LocalDateTime getDateTime(ResultSet rs, int col) throws SQLException {
+        Timestamp ts = rs.getTimestamp(col);
+        return ts != null ? ts.toLocalDateTime() : null;
+    }
+
     protected static void setDateTime(PreparedStatement ps, int idx, LocalDateTime val) throws SQLException {
         if (val != null) ps.setTimestamp(idx, Timestamp.valueOf(val));
         else ps.setNull(idx, Types.TIMESTAMP);
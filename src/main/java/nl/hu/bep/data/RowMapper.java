@@ -0,0 +1,13 @@
+package nl.hu.bep.data;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a result set. Instances come from {@link RepositoryImpl#rowMapper} with their
+ * column indexes already resolved, so one mapper serves every row of the same result set.
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+    T map(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,92 @@
+package nl.hu.bep.data;
+
+import jakarta.inject.Inject;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.data.interfaces.SearchRepository;
+import nl.hu.bep.domain.summary.SearchHit;
+import nl.hu.bep.exception.ApplicationException;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Full-text search over the {@code search_vector} columns of migration V5, one GIN-indexed query per
+ * entity type. PostgreSQL only; the in-memory test database has no text search.
+ *
+ * <p>{@code ts_rank} normalisation 32 scales every rank into [0, 1), which keeps ranks from different
+ * tables comparable.
+ */
+public class SearchRepositoryImpl implements SearchRepository {
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final Map<SearchHit.Type, String> SEARCH_SQL = new EnumMap<>(SearchHit.Type.class);
+
+    static {
+        SEARCH_SQL.put(SearchHit.Type.AQUARIUM, searchSql("aquariums", "name", "state"));
+        SEARCH_SQL.put(SearchHit.Type.INHABITANT, searchSql("inhabitants", "COALESCE(name, species)", "species"));
+        SEARCH_SQL.put(SearchHit.Type.ORNAMENT, searchSql("ornaments", "name", "material"));
+    }
+
+    private final DatabaseManager databaseManager;
+
+    @Inject
+    public SearchRepositoryImpl(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+    }
+
+    @Override
+    public List<SearchHit> search(SearchHit.Type type, Long ownerId, String terms, int maxHits) {
+        String tsQuery = toPrefixQuery(terms);
+        if (tsQuery.isEmpty()) {
+            return List.of();
+        }
+        String sql = SEARCH_SQL.get(type);
+        List<SearchHit> hits = new ArrayList<>();
+        try (Connection conn = databaseManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, tsQuery);
+            ps.setLong(2, ownerId);
+            ps.setInt(3, maxHits);
+            long start = System.nanoTime();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    hits.add(new SearchHit(type, rs.getLong(1), rs.getString(2), rs.getString(3), rs.getDouble(4)));
+                }
+            } catch (SQLException | RuntimeException e) {
+                databaseManager.recordFailedQuery(sql, start);
+                throw e;
+            }
+            databaseManager.recordQuery(sql, start, hits.size());
+        } catch (SQLException e) {
+            throw new ApplicationException.ConflictException("Search of " + type + " failed", e);
+        }
+        return hits;
+    }
+
+    /**
+     * Turns free text into a {@code to_tsquery} expression requiring every word as a prefix:
+     * {@code "Neon tet"} becomes {@code "neon:* & tet:*"}. Only letters and digits are kept, so user
+     * input can never carry tsquery operators. Returns an empty string when no word remains.
+     */
+    static String toPrefixQuery(String terms) {
+        StringJoiner query = new StringJoiner(" & ");
+        Matcher word = WORD.matcher(terms.toLowerCase(Locale.ROOT));
+        while (word.find()) {
+            query.add(word.group() + ":*");
+        }
+        return query.toString();
+    }
+
+    private static String searchSql(String table, String title, String detail) {
+        return "SELECT id, " + title + ", " + detail + ", ts_rank(search_vector, q, 32) AS rank"
+                + " FROM " + table + ", to_tsquery('simple', ?) q"
+                + " WHERE owner_id = ? AND search_vector @@ q"
+                + " ORDER BY rank DESC, id LIMIT ?";
+    }
+}
@@ -0,0 +1,84 @@
+package nl.hu.bep.data;
+
+import jakarta.inject.Inject;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.data.interfaces.StatisticsRepository;
+import nl.hu.bep.exception.ApplicationException;
+
+import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
+
+public class StatisticsRepositoryImpl implements StatisticsRepository {
+    private final DatabaseManager databaseManager;
+
+    @Inject
+    public StatisticsRepositoryImpl(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+    }
+
+    @Override
+    public Map<String, Long> countAquariumsByState() {
+        return countGroupedBy("aquariums", "state");
+    }
+
+    @Override
+    public Map<String, Long> countInhabitantsByType() {
+        return countGroupedBy("inhabitants", "inhabitant_type");
+    }
+
+    @Override
+    public Map<String, Long> countInhabitantsByWaterType() {
+        return countGroupedBy("inhabitants", "water_type");
+    }
+
+    @Override
+    public Map<String, Long> countAccessoriesByType() {
+        return countGroupedBy("accessories", "accessory_type");
+    }
+
+    @Override
+    public SpeciesCounts countInhabitantsBySpecies() {
+        String sql = "SELECT species, COUNT(*), MAX(id) FROM inhabitants GROUP BY species";
+        Map<String, Long> counts = new HashMap<>();
+        long lastId = 0;
+        try (Connection conn = databaseManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            long start = System.nanoTime();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    counts.put(rs.getString(1), rs.getLong(2));
+                    lastId = Math.max(lastId, rs.getLong(3));
+                }
+            } catch (SQLException | RuntimeException e) {
+                databaseManager.recordFailedQuery(sql, start);
+                throw e;
+            }
+            databaseManager.recordQuery(sql, start, counts.size());
+        } catch (SQLException e) {
+            throw new ApplicationException.ConflictException("Count by species failed", e);
+        }
+        return new SpeciesCounts(counts, lastId);
+    }
+
+    private Map<String, Long> countGroupedBy(String table, String column) {
+        String sql = "SELECT " + column + ", COUNT(*) FROM " + table + " GROUP BY " + column;
+        Map<String, Long> counts = new HashMap<>();
+        try (Connection conn = databaseManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            long start = System.nanoTime();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    counts.put(rs.getString(1), rs.getLong(2));
+                }
+            } catch (SQLException | RuntimeException e) {
+                databaseManager.recordFailedQuery(sql, start);
+                throw e;
+            }
+            databaseManager.recordQuery(sql, start, counts.size());
+        } catch (SQLException e) {
+            throw new ApplicationException.ConflictException("Count by " + column + " failed", e);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,54 @@
+package nl.hu.bep.data;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A table and the columns a repository may filter or sort on. Queries can only reference {@link Column}s
+ * declared here, so no caller-supplied string ever reaches the SQL text.
+ */
+public final class Table {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final String name;
+    private final Map<String, Column<?>> columns = new LinkedHashMap<>();
+
+    private Table(String name) {
+        this.name = requireIdentifier(name);
+    }
+
+    public static Table named(String name) {
+        return new Table(name);
+    }
+
+    public <V> Column<V> column(String columnName, Class<V> type) {
+        Column<V> column = new Column<>(this, requireIdentifier(columnName), type);
+        if (columns.putIfAbsent(columnName, column) != null) {
+            throw new IllegalArgumentException(name + "." + columnName + " is declared twice");
+        }
+        return column;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Map<String, Column<?>> columns() {
+        return Collections.unmodifiableMap(columns);
+    }
+
+    private static String requireIdentifier(String identifier) {
+        if (!IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalArgumentException("Not a plain lower-case identifier: " + identifier);
+        }
+        return identifier;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
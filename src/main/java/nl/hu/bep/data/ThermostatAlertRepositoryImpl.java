@@ -0,0 +1,103 @@
+package nl.hu.bep.data;
+
+import jakarta.inject.Inject;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.data.interfaces.ThermostatAlertRepository;
+import nl.hu.bep.domain.ThermostatAlert;
+import nl.hu.bep.exception.ApplicationException;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ThermostatAlertRepositoryImpl implements ThermostatAlertRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO thermostat_alerts (accessory_id, owner_id, aquarium_id, alert_type, temperature, " +
+            "min_temperature, max_temperature, raised_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String FIND_RECENT_SQL =
+            "SELECT id, accessory_id, owner_id, aquarium_id, alert_type, temperature, min_temperature, max_temperature, " +
+            "raised_at FROM thermostat_alerts WHERE owner_id = ? ORDER BY raised_at DESC, id DESC LIMIT ?";
+    private static final EnumColumn<ThermostatAlert.Type> ALERT_TYPE = EnumColumn.of(ThermostatAlert.Type.class);
+
+    private final DatabaseManager databaseManager;
+
+    @Inject
+    public ThermostatAlertRepositoryImpl(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+    }
+
+    @Override
+    public void insertAll(List<ThermostatAlert> alerts) {
+        if (alerts.isEmpty()) {
+            return;
+        }
+        try (Connection conn = databaseManager.getConnection()) {
+            conn.setAutoCommit(false);
+            long start = System.nanoTime();
+            try (PreparedStatement ps = conn.prepareStatement(INSERT_SQL)) {
+                for (ThermostatAlert alert : alerts) {
+                    ps.setLong(1, alert.accessoryId());
+                    ps.setLong(2, alert.ownerId());
+                    RepositoryImpl.setLong(ps, 3, alert.aquariumId());
+                    ps.setString(4, alert.type().name());
+                    ps.setDouble(5, alert.temperature());
+                    ps.setDouble(6, alert.minTemperature());
+                    ps.setDouble(7, alert.maxTemperature());
+                    RepositoryImpl.setDateTime(ps, 8, alert.raisedAt());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                conn.commit();
+                databaseManager.recordQuery(INSERT_SQL, start, alerts.size());
+            } catch (SQLException e) {
+                databaseManager.recordFailedQuery(INSERT_SQL, start);
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new ApplicationException.ConflictException("Insert of " + alerts.size() + " alerts failed", e);
+        }
+    }
+
+    @Override
+    public List<ThermostatAlert> findRecentByOwner(Long ownerId, int limit) {
+        List<ThermostatAlert> result = new ArrayList<>();
+        try (Connection conn = databaseManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_RECENT_SQL)) {
+            ps.setLong(1, ownerId);
+            ps.setInt(2, limit);
+            long start = System.nanoTime();
+            try (ResultSet rs = ps.executeQuery()) {
+                Columns columns = Columns.of(rs);
+                int id = columns.indexOf("id");
+                int accessoryId = columns.indexOf("accessory_id");
+                int ownerIdColumn = columns.indexOf("owner_id");
+                int aquariumId = columns.indexOf("aquarium_id");
+                int alertType = columns.indexOf("alert_type");
+                int temperature = columns.indexOf("temperature");
+                int minTemperature = columns.indexOf("min_temperature");
+                int maxTemperature = columns.indexOf("max_temperature");
+                int raisedAt = columns.indexOf("raised_at");
+                while (rs.next()) {
+                    result.add(new ThermostatAlert(
+                            rs.getLong(id),
+                            rs.getLong(accessoryId),
+                            rs.getLong(ownerIdColumn),
+                            RepositoryImpl.getLong(rs, aquariumId),
+                            ALERT_TYPE.get(rs, alertType),
+                            rs.getDouble(temperature),
+                            rs.getDouble(minTemperature),
+                            rs.getDouble(maxTemperature),
+                            RepositoryImpl.getDateTime(rs, raisedAt)));
+                }
+            } catch (SQLException | RuntimeException e) {
+                databaseManager.recordFailedQuery(FIND_RECENT_SQL, start);
+                throw e;
+            }
+            databaseManager.recordQuery(FIND_RECENT_SQL, start, result.size());
+        } catch (SQLException e) {
+            throw new ApplicationException.ConflictException("Find alerts failed for owner: " + ownerId, e);
+        }
+        return result;
+    }
+}
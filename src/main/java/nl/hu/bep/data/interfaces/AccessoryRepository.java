@@ -1,11 +1,14 @@
 package nl.hu.bep.data.interfaces;
 
 import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.summary.AccessorySummary;
 
 import java.util.List;
 
 public interface AccessoryRepository extends Repository<Accessory, Long> {
     
     List<Accessory> findByOwnerId(Long ownerId);
+    List<AccessorySummary> findSummariesByOwnerId(Long ownerId);
     List<Accessory> findByAquariumId(Long aquariumId);
+    List<Accessory> findByType(String accessoryType);
 }
@@ -1,10 +1,12 @@
 package nl.hu.bep.data.interfaces;
 
 import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.summary.AquariumSummary;
 
 import java.util.List;
 
 public interface AquariumRepository extends Repository<Aquarium, Long> {
   
     List<Aquarium> findByOwnerId(Long ownerId);
+    List<AquariumSummary> findSummariesByOwnerId(Long ownerId);
 }
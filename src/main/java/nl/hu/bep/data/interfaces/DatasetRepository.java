@@ -0,0 +1,24 @@
+package nl.hu.bep.data.interfaces;
+
+import nl.hu.bep.domain.enums.DatasetEntity;
+
+import java.util.List;
+
+public interface DatasetRepository {
+
+    /**
+     * Receives the rows of one entity as they are read. {@code values} holds one value per field, in
+     * field order, and is reused for every row, so it is only valid during the call.
+     */
+    interface RowSink {
+        void begin(DatasetEntity entity, List<String> fields);
+
+        void row(Object[] values);
+    }
+
+    /**
+     * Streams every row of {@code entity} owned by {@code ownerId} to {@code sink} in id order, through a
+     * database cursor, so memory use does not depend on how many rows there are.
+     */
+    void streamOwnedRows(DatasetEntity entity, Long ownerId, RowSink sink);
+}
@@ -0,0 +1,13 @@
+package nl.hu.bep.data.interfaces;
+
+import nl.hu.bep.domain.AquariumFiltration;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface FiltrationRepository {
+
+    List<AquariumFiltration> findByOwnerId(Long ownerId);
+    List<AquariumFiltration> findAll();
+    Optional<AquariumFiltration> findByAquariumId(Long aquariumId);
+}
@@ -1,11 +1,16 @@
 package nl.hu.bep.data.interfaces;
 
 import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.domain.InhabitantFilter;
+import nl.hu.bep.domain.summary.InhabitantSummary;
 
 import java.util.List;
 
 public interface InhabitantRepository extends Repository<Inhabitant, Long> {
   
     List<Inhabitant> findByOwnerId(Long ownerId);
+    List<Inhabitant> findByOwnerId(Long ownerId, InhabitantFilter filter);
+    List<InhabitantSummary> findSummariesByOwnerId(Long ownerId);
+    List<InhabitantSummary> findSummariesByOwnerId(Long ownerId, InhabitantFilter filter);
     List<Inhabitant> findByAquariumId(Long aquariumId);
 }
@@ -1,11 +1,13 @@
 package nl.hu.bep.data.interfaces;
 
 import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.summary.OrnamentSummary;
 
 import java.util.List;
 
 public interface OrnamentRepository extends Repository<Ornament, Long> {
     
     List<Ornament> findByOwnerId(Long ownerId);
+    List<OrnamentSummary> findSummariesByOwnerId(Long ownerId);
     List<Ornament> findByAquariumId(Long aquariumId);
 }
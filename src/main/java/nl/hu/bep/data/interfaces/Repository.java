@@ -9,7 +9,11 @@ public interface Repository<T, ID> {
     Optional<T> findById(ID id);
     List<T> findAll();
     T insert(T entity);
+    /**
+     * Inserts all {@code entities} in one batch and one transaction, so either every row is written or
+     * none. Returns the persisted entities with their generated ids, in the same order.
+     */
+    List<T> insertAll(List<T> entities);
     T update(T entity);
     void deleteById(ID id);
-    List<T> findByField(String fieldName, Object value);
 }
@@ -0,0 +1,14 @@
+package nl.hu.bep.data.interfaces;
+
+import nl.hu.bep.domain.summary.SearchHit;
+
+import java.util.List;
+
+public interface SearchRepository {
+
+    /**
+     * The best matches of one type among an owner's entities, highest rank first. Every word of
+     * {@code terms} must match, as a word or the start of one.
+     */
+    List<SearchHit> search(SearchHit.Type type, Long ownerId, String terms, int maxHits);
+}
@@ -0,0 +1,17 @@
+package nl.hu.bep.data.interfaces;
+
+import java.util.Map;
+
+public interface StatisticsRepository {
+
+    Map<String, Long> countAquariumsByState();
+    Map<String, Long> countInhabitantsByType();
+    Map<String, Long> countInhabitantsByWaterType();
+    Map<String, Long> countAccessoriesByType();
+    SpeciesCounts countInhabitantsBySpecies();
+
+    /**
+     * Inhabitants per species, read in one statement together with the highest inhabitant id they include.
+     */
+    record SpeciesCounts(Map<String, Long> bySpecies, long lastInhabitantId) {}
+}
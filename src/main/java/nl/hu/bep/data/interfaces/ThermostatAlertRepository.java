@@ -0,0 +1,11 @@
+package nl.hu.bep.data.interfaces;
+
+import nl.hu.bep.domain.ThermostatAlert;
+
+import java.util.List;
+
+public interface ThermostatAlertRepository {
+
+    void insertAll(List<ThermostatAlert> alerts);
+    List<ThermostatAlert> findRecentByOwner(Long ownerId, int limit);
+}
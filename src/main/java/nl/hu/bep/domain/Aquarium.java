@@ -282,26 +282,30 @@ public class Aquarium {
         return true; // might do something gwith this
     }
 
-    // public int getRecommendedMaintenanceIntervalDays() {
-    //     double volume = getVolume();
-
-    //     if (volume < 50) {
-    //         return 3; // Small tanks need frequent maintenance
-    //     } else if (volume < 200) {
-    //         return 7; // Medium tanks weekly maintenance
-    //     } else {
-    //         return 14; // Large tanks bi-weekly maintenance
-    //     }
-    // }
-
-    // public boolean isMaintenanceOverdue() {
-    //     if (state != AquariumState.RUNNING) {
-    //         return false; // Not relevant if not running
-    //     }
-
-    //     long daysSinceLastMaintenance = getCurrentStateDurationMinutes() / (24 * 60);
-    //     return daysSinceLastMaintenance > getRecommendedMaintenanceIntervalDays();
-    // }
+    public int getRecommendedMaintenanceIntervalDays() {
+        double volume = getVolume();
+
+        if (volume < 50) {
+            return 3; // Small tanks need frequent maintenance
+        } else if (volume < 200) {
+            return 7; // Medium tanks weekly maintenance
+        } else {
+            return 14; // Large tanks bi-weekly maintenance
+        }
+    }
+
+    // Maintenance is counted from the moment the tank (re)entered RUNNING, i.e. the end of the last maintenance
+    public LocalDateTime getNextMaintenanceDue() {
+        if (state != AquariumState.RUNNING || currentStateStartTime == null) {
+            return null;
+        }
+        return currentStateStartTime.plusDays(getRecommendedMaintenanceIntervalDays());
+    }
+
+    public boolean isMaintenanceOverdue() {
+        LocalDateTime due = getNextMaintenanceDue();
+        return due != null && due.isBefore(LocalDateTime.now());
+    }
 
     public boolean canTransitionTo(AquariumState newState) {
         return switch (this.state) {
@@ -0,0 +1,45 @@
+package nl.hu.bep.domain;
+
+import nl.hu.bep.domain.accessories.Filter;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.value.Dimensions;
+
+import java.util.List;
+
+/**
+ * An aquarium together with the filters installed in it, as read in one joined query.
+ */
+public record AquariumFiltration(
+    Long aquariumId,
+    Long ownerId,
+    String aquariumName,
+    AquariumState state,
+    Dimensions dimensions,
+    List<Filter> filters
+) {
+
+    public AquariumFiltration {
+        filters = List.copyOf(filters);
+    }
+
+    public double getVolumeInLiters() {
+        return dimensions.getVolumeInLiters();
+    }
+
+    public int getTotalCapacityLiters() {
+        return filters.stream().mapToInt(Filter::getCapacityLiters).sum();
+    }
+
+    public boolean hasFilter() {
+        return !filters.isEmpty();
+    }
+
+    public boolean hasExternalFilter() {
+        return filters.stream().anyMatch(Filter::isExternal);
+    }
+
+    public boolean isUnderFiltered() {
+        double volume = getVolumeInLiters();
+        return filters.stream().noneMatch(filter -> filter.isSuitableForAquarium(volume));
+    }
+}
@@ -0,0 +1,38 @@
+package nl.hu.bep.domain;
+
+import nl.hu.bep.domain.enums.WaterType;
+
+/**
+ * Optional criteria for an owner's inhabitant list, applied in SQL. {@code null} fields do not filter.
+ * Results are always ordered, with the id breaking ties.
+ */
+public record InhabitantFilter(
+    String type,
+    WaterType waterType,
+    String speciesPrefix,
+    Long aquariumId,
+    SortField sortField,
+    boolean descending
+) {
+
+    public enum SortField {
+        ID,
+        SPECIES,
+        NAME,
+        COUNT,
+        DATE_CREATED
+    }
+
+    public InhabitantFilter {
+        if (sortField == null) {
+            sortField = SortField.ID;
+        }
+        if (speciesPrefix != null && speciesPrefix.isBlank()) {
+            speciesPrefix = null;
+        }
+    }
+
+    public static InhabitantFilter none() {
+        return new InhabitantFilter(null, null, null, null, SortField.ID, false);
+    }
+}
@@ -0,0 +1,25 @@
+package nl.hu.bep.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * A thermostat reading that crossed (or came back into) its configured temperature range.
+ */
+public record ThermostatAlert(
+    Long id,
+    Long accessoryId,
+    Long ownerId,
+    Long aquariumId,
+    Type type,
+    double temperature,
+    double minTemperature,
+    double maxTemperature,
+    LocalDateTime raisedAt
+) {
+
+    public enum Type {
+        TOO_COLD,
+        TOO_HOT,
+        BACK_IN_RANGE
+    }
+}
@@ -37,11 +37,14 @@ public class Lighting extends Accessory {
     }
 
     public boolean isCurrentlyOn() {
-        LocalTime now = LocalTime.now();
+        return isOnAt(LocalTime.now());
+    }
+
+    public boolean isOnAt(LocalTime time) {
         if (turnOnTime.isBefore(turnOffTime)) {
-            return !now.isBefore(turnOnTime) && now.isBefore(turnOffTime);
+            return !time.isBefore(turnOnTime) && time.isBefore(turnOffTime);
         } else {
-            return !now.isBefore(turnOnTime) || now.isBefore(turnOffTime);
+            return !time.isBefore(turnOnTime) || time.isBefore(turnOffTime);
         }
     }
 
@@ -49,8 +52,8 @@ public class Lighting extends Accessory {
         if (turnOnTime.isBefore(turnOffTime)) {
             return Duration.between(turnOnTime, turnOffTime);
         } else {
-            return Duration.between(turnOnTime, LocalTime.MIDNIGHT)
-                    .plus(Duration.between(LocalTime.MIDNIGHT, turnOffTime));
+            // schedule wraps past midnight, so it's dark only between turning off and turning on
+            return Duration.ofDays(1).minus(Duration.between(turnOffTime, turnOnTime));
         }
     }
 
@@ -0,0 +1,30 @@
+package nl.hu.bep.domain.enums;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The kinds of records in an owner's dataset, in dependency order: aquariums come before the
+ * accessories, ornaments and inhabitants placed in them.
+ */
+public enum DatasetEntity {
+    AQUARIUM,
+    ACCESSORY,
+    ORNAMENT,
+    INHABITANT;
+
+    /** The name used for this entity in exported files. */
+    public String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /** The entity with the given {@link #label()}, ignoring case. */
+    public static Optional<DatasetEntity> fromLabel(String label) {
+        for (DatasetEntity entity : values()) {
+            if (entity.label().equalsIgnoreCase(label)) {
+                return Optional.of(entity);
+            }
+        }
+        return Optional.empty();
+    }
+}
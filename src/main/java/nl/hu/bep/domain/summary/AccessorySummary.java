@@ -0,0 +1,11 @@
+package nl.hu.bep.domain.summary;
+
+/**
+ * The columns of an accessory a list needs; the type-specific settings stay on the detail view.
+ */
+public record AccessorySummary(
+    Long id,
+    String accessoryType,
+    String model,
+    Long aquariumId
+) {}
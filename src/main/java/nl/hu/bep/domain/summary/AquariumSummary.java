@@ -0,0 +1,12 @@
+package nl.hu.bep.domain.summary;
+
+import nl.hu.bep.domain.enums.AquariumState;
+
+/**
+ * The columns of an aquarium a list needs, read without its description or dimensions.
+ */
+public record AquariumSummary(
+    Long id,
+    String name,
+    AquariumState state
+) {}
@@ -0,0 +1,13 @@
+package nl.hu.bep.domain.summary;
+
+/**
+ * The columns of an inhabitant a list needs, read without its description or feeding flags.
+ */
+public record InhabitantSummary(
+    Long id,
+    String inhabitantType,
+    String species,
+    String name,
+    Integer count,
+    Long aquariumId
+) {}
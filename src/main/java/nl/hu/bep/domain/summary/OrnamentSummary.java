@@ -0,0 +1,11 @@
+package nl.hu.bep.domain.summary;
+
+/**
+ * The columns of an ornament a list needs, read without its description.
+ */
+public record OrnamentSummary(
+    Long id,
+    String name,
+    String material,
+    Long aquariumId
+) {}
@@ -0,0 +1,20 @@
+package nl.hu.bep.domain.summary;
+
+/**
+ * One entity matching a full-text search. Ranks are comparable across types, so hits of different types
+ * can be merged into one list.
+ */
+public record SearchHit(
+    Type type,
+    Long id,
+    String title,
+    String detail,
+    double rank
+) {
+
+    public enum Type {
+        AQUARIUM,
+        INHABITANT,
+        ORNAMENT
+    }
+}
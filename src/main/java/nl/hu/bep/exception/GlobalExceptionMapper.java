@@ -1,5 +1,6 @@
 package nl.hu.bep.exception;
 
+import nl.hu.bep.application.metrics.RequestMetrics;
 import nl.hu.bep.presentation.dto.response.ApiResponse;
 import nl.hu.bep.presentation.dto.response.ErrorResponse;
 
@@ -18,13 +19,28 @@ import java.util.Map;
 @Slf4j
 public class GlobalExceptionMapper implements ExceptionMapper<Throwable> {
 
+    private final RequestMetrics metrics;
+
     @Context
     private UriInfo uriInfo;
 
+    public GlobalExceptionMapper() {
+        this(RequestMetrics.getInstance());
+    }
+
+    GlobalExceptionMapper(RequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     @Override
     public Response toResponse(Throwable exception) {
         String path = uriInfo != null ? uriInfo.getPath() : "";
+        Response response = mapException(exception, path);
+        metrics.recordException(exception, response.getStatus());
+        return response;
+    }
 
+    private Response mapException(Throwable exception, String path) {
         if (exception instanceof ApplicationException.NotFoundException) {
             return createErrorResponse(Response.Status.NOT_FOUND, exception, path);
         }
@@ -1,6 +1,11 @@
 package nl.hu.bep.presentation.dto.mapper;
 
 import nl.hu.bep.domain.*;
+import nl.hu.bep.domain.summary.AccessorySummary;
+import nl.hu.bep.domain.summary.AquariumSummary;
+import nl.hu.bep.domain.summary.InhabitantSummary;
+import nl.hu.bep.domain.summary.OrnamentSummary;
+import nl.hu.bep.domain.summary.SearchHit;
 import nl.hu.bep.presentation.dto.response.*;
 
 import java.util.List;
@@ -108,6 +113,27 @@ public class EntityMapper {
         );
     }
 
+    public AquariumSummaryResponse mapToAquariumSummaryResponse(AquariumSummary summary) {
+        return new AquariumSummaryResponse(summary.id(), summary.name(), summary.state());
+    }
+
+    public AccessorySummaryResponse mapToAccessorySummaryResponse(AccessorySummary summary) {
+        return new AccessorySummaryResponse(summary.id(), summary.accessoryType(), summary.model(), summary.aquariumId());
+    }
+
+    public OrnamentSummaryResponse mapToOrnamentSummaryResponse(OrnamentSummary summary) {
+        return new OrnamentSummaryResponse(summary.id(), summary.name(), summary.material(), summary.aquariumId());
+    }
+
+    public InhabitantSummaryResponse mapToInhabitantSummaryResponse(InhabitantSummary summary) {
+        return new InhabitantSummaryResponse(summary.id(), summary.inhabitantType(), summary.species(),
+                summary.name(), summary.count(), summary.aquariumId());
+    }
+
+    public SearchHitResponse mapToSearchHitResponse(SearchHit hit) {
+        return new SearchHitResponse(hit.type(), hit.id(), hit.title(), hit.detail(), hit.rank());
+    }
+
     public List<AquariumResponse> mapToAquariumResponses(List<Aquarium> aquariums) {
         if (aquariums == null) {
             return Collections.emptyList();
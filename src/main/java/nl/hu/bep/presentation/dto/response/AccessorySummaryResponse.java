@@ -0,0 +1,8 @@
+package nl.hu.bep.presentation.dto.response;
+
+public record AccessorySummaryResponse(
+    Long id,
+    String accessoryType,
+    String model,
+    Long aquariumId
+) {}
@@ -0,0 +1,9 @@
+package nl.hu.bep.presentation.dto.response;
+
+import nl.hu.bep.domain.enums.AquariumState;
+
+public record AquariumSummaryResponse(
+    Long id,
+    String name,
+    AquariumState state
+) {}
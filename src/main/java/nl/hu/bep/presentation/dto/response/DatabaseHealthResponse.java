@@ -0,0 +1,12 @@
+package nl.hu.bep.presentation.dto.response;
+
+import java.time.LocalDateTime;
+
+public record DatabaseHealthResponse(
+    String status,
+    String message,
+    Double roundTripMillis,
+    String schemaVersion,
+    LocalDateTime checkedAt,
+    Boolean stale
+) {}
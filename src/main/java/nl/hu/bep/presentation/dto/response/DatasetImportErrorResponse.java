@@ -0,0 +1,6 @@
+package nl.hu.bep.presentation.dto.response;
+
+public record DatasetImportErrorResponse(
+    Long line,
+    String message
+) {}
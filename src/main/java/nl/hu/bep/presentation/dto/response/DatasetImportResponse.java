@@ -0,0 +1,14 @@
+package nl.hu.bep.presentation.dto.response;
+
+import nl.hu.bep.domain.enums.DatasetEntity;
+
+import java.util.List;
+import java.util.Map;
+
+public record DatasetImportResponse(
+    Long imported,
+    Map<DatasetEntity, Long> importedByEntity,
+    Long failed,
+    List<DatasetImportErrorResponse> errors,
+    Boolean errorsTruncated
+) {}
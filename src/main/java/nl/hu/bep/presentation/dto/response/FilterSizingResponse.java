@@ -0,0 +1,11 @@
+package nl.hu.bep.presentation.dto.response;
+
+public record FilterSizingResponse(
+    Long aquariumId,
+    String aquariumName,
+    Long ownerId,
+    Double volumeLiters,
+    Integer requiredCapacityLiters,
+    Integer largestFilterCapacityLiters,
+    Integer filterCount
+) {}
@@ -0,0 +1,15 @@
+package nl.hu.bep.presentation.dto.response;
+
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.enums.WaterType;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record FleetStatisticsResponse(
+    Map<AquariumState, Long> aquariumsByState,
+    Map<String, Long> inhabitantsByType,
+    Map<WaterType, Long> inhabitantsByWaterType,
+    Map<String, Long> accessoriesByType,
+    LocalDateTime lastReconciled
+) {}
@@ -0,0 +1,10 @@
+package nl.hu.bep.presentation.dto.response;
+
+public record InhabitantSummaryResponse(
+    Long id,
+    String inhabitantType,
+    String species,
+    String name,
+    Integer count,
+    Long aquariumId
+) {}
@@ -0,0 +1,10 @@
+package nl.hu.bep.presentation.dto.response;
+
+import java.time.LocalTime;
+
+public record LightingScheduleResponse(
+    Long accessoryId,
+    Long aquariumId,
+    LocalTime timeOn,
+    LocalTime timeOff
+) {}
@@ -0,0 +1,11 @@
+package nl.hu.bep.presentation.dto.response;
+
+import java.time.LocalTime;
+
+public record LightingSwitchResponse(
+    Long accessoryId,
+    Long aquariumId,
+    String action,
+    LocalTime at,
+    Integer minutesFromStart
+) {}
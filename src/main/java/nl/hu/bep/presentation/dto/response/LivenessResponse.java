@@ -0,0 +1,6 @@
+package nl.hu.bep.presentation.dto.response;
+
+public record LivenessResponse(
+    String status,
+    Long uptimeSeconds
+) {}
@@ -0,0 +1,10 @@
+package nl.hu.bep.presentation.dto.response;
+
+import java.time.LocalDateTime;
+
+public record MaintenanceDueResponse(
+    Long aquariumId,
+    String aquariumName,
+    LocalDateTime dueAt,
+    Integer intervalDays
+) {}
@@ -0,0 +1,8 @@
+package nl.hu.bep.presentation.dto.response;
+
+import java.util.List;
+
+public record MaintenanceScheduleResponse(
+    List<MaintenanceDueResponse> overdue,
+    List<MaintenanceDueResponse> upcoming
+) {}
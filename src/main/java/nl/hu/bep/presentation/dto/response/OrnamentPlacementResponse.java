@@ -0,0 +1,9 @@
+package nl.hu.bep.presentation.dto.response;
+
+public record OrnamentPlacementResponse(
+    Long ornamentId,
+    String ornamentName,
+    Long aquariumId,
+    String aquariumName,
+    String reason
+) {}
@@ -0,0 +1,8 @@
+package nl.hu.bep.presentation.dto.response;
+
+public record OrnamentSummaryResponse(
+    Long id,
+    String name,
+    String material,
+    Long aquariumId
+) {}
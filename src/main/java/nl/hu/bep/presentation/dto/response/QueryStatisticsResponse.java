@@ -0,0 +1,12 @@
+package nl.hu.bep.presentation.dto.response;
+
+import java.util.List;
+
+public record QueryStatisticsResponse(
+    Long connectionsAcquired,
+    Double connectionAcquireP50Millis,
+    Double connectionAcquireP99Millis,
+    Double connectionAcquireMaxMillis,
+    Long slowQueryThresholdMillis,
+    List<QueryTemplateResponse> slowestQueries
+) {}
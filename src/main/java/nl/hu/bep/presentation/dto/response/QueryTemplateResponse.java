@@ -0,0 +1,13 @@
+package nl.hu.bep.presentation.dto.response;
+
+public record QueryTemplateResponse(
+    String sql,
+    Long calls,
+    Long rowsMapped,
+    Long slowCalls,
+    Long failedCalls,
+    Double meanMillis,
+    Double p50Millis,
+    Double p99Millis,
+    Double maxMillis
+) {}
@@ -0,0 +1,12 @@
+package nl.hu.bep.presentation.dto.response;
+
+public record ReadinessResponse(
+    String status,
+    DatabaseHealthResponse database,
+    Long requestsInFlight,
+    Long connectionsAcquired,
+    Double connectionAcquireP99Millis,
+    Integer connectionsInUse,
+    Integer connectionsWaiting,
+    Integer maxConnections
+) {}
@@ -0,0 +1,11 @@
+package nl.hu.bep.presentation.dto.response;
+
+import nl.hu.bep.domain.summary.SearchHit;
+
+public record SearchHitResponse(
+    SearchHit.Type type,
+    Long id,
+    String title,
+    String detail,
+    Double rank
+) {}
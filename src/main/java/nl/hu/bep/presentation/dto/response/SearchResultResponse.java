@@ -0,0 +1,11 @@
+package nl.hu.bep.presentation.dto.response;
+
+import java.util.List;
+
+public record SearchResultResponse(
+    String query,
+    Integer offset,
+    Integer limit,
+    Boolean hasMore,
+    List<SearchHitResponse> hits
+) {}
@@ -0,0 +1,8 @@
+package nl.hu.bep.presentation.dto.response;
+
+public record SpanResponse(
+    String name,
+    Integer depth,
+    Double offsetMillis,
+    Double durationMillis
+) {}
@@ -0,0 +1,14 @@
+package nl.hu.bep.presentation.dto.response;
+
+import java.time.LocalDateTime;
+
+public record ThermostatAlertResponse(
+    Long id,
+    Long accessoryId,
+    Long aquariumId,
+    String type,
+    Double temperature,
+    Double minTemperature,
+    Double maxTemperature,
+    LocalDateTime raisedAt
+) {}
@@ -0,0 +1,14 @@
+package nl.hu.bep.presentation.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TraceResponse(
+    String correlationId,
+    String name,
+    Integer status,
+    LocalDateTime startedAt,
+    Double durationMillis,
+    List<SpanResponse> spans,
+    Integer droppedSpans
+) {}
@@ -2,9 +2,17 @@ package nl.hu.bep.presentation.resource;
 
 import jakarta.inject.Inject;
 import nl.hu.bep.application.service.AccessoryService;
+import nl.hu.bep.application.service.FilterSizingService;
+import nl.hu.bep.application.service.LightingScheduleService;
+import nl.hu.bep.application.service.ThermostatAlertService;
+import nl.hu.bep.exception.ApplicationException;
 import nl.hu.bep.presentation.dto.request.AccessoryRequest;
 import nl.hu.bep.presentation.dto.response.AccessoryResponse;
 import nl.hu.bep.presentation.dto.response.ApiResponse;
+import nl.hu.bep.presentation.dto.response.FilterSizingReportResponse;
+import nl.hu.bep.presentation.dto.response.LightingScheduleResponse;
+import nl.hu.bep.presentation.dto.response.LightingSwitchResponse;
+import nl.hu.bep.presentation.dto.response.ThermostatAlertResponse;
 import nl.hu.bep.security.application.annotation.RequiresOwnership;
 import nl.hu.bep.security.application.annotation.Secured;
 import nl.hu.bep.security.application.context.SecurityContextHelper;
@@ -15,6 +23,8 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import lombok.extern.slf4j.Slf4j;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 
@@ -26,16 +36,26 @@ import java.util.Map;
 public class AccessoryResource {
 
     private final AccessoryService accessoryService;
+    private final LightingScheduleService lightingScheduleService;
+    private final ThermostatAlertService thermostatAlertService;
+    private final FilterSizingService filterSizingService;
 
     @Inject
-    public AccessoryResource(AccessoryService accessoryService) {
+    public AccessoryResource(AccessoryService accessoryService, LightingScheduleService lightingScheduleService,
+                             ThermostatAlertService thermostatAlertService, FilterSizingService filterSizingService) {
         this.accessoryService = accessoryService;
+        this.lightingScheduleService = lightingScheduleService;
+        this.thermostatAlertService = thermostatAlertService;
+        this.filterSizingService = filterSizingService;
     }
 
     @GET
-    public Response getAllAccessories(@Context SecurityContext securityContext) {
+    public Response getAllAccessories(@QueryParam("view") @DefaultValue("summary") String view,
+                                      @Context SecurityContext securityContext) {
         Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
-        List<AccessoryResponse> accessories = accessoryService.getAllAccessories(ownerId);
+        List<?> accessories = ListView.parse(view) == ListView.FULL
+                ? accessoryService.getAllAccessories(ownerId)
+                : accessoryService.getAccessorySummaries(ownerId);
         return Response.ok(ApiResponse.success(accessories, "Accessories retrieved successfully")).build();
     }
 
@@ -55,6 +75,41 @@ public class AccessoryResource {
         return Response.ok(ApiResponse.success(accessories, "Accessories retrieved successfully")).build();
     }
 
+    @GET
+    @Path("/lighting/active")
+    public Response getActiveLights(@QueryParam("at") String at, @Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        List<LightingScheduleResponse> lights = lightingScheduleService.getLightsOnAt(ownerId, parseTime(at));
+        return Response.ok(ApiResponse.success(lights, "Active lights retrieved successfully")).build();
+    }
+
+    @GET
+    @Path("/lighting/switches")
+    public Response getUpcomingLightSwitches(@QueryParam("from") String from,
+                                             @QueryParam("minutes") @DefaultValue("60") int minutes,
+                                             @Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        List<LightingSwitchResponse> switches = lightingScheduleService.getUpcomingSwitches(ownerId, parseTime(from), minutes);
+        return Response.ok(ApiResponse.success(switches, "Upcoming light switches retrieved successfully")).build();
+    }
+
+    @GET
+    @Path("/thermostats/alerts")
+    public Response getThermostatAlerts(@QueryParam("limit") @DefaultValue("50") int limit,
+                                        @Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        List<ThermostatAlertResponse> alerts = thermostatAlertService.getAlerts(ownerId, limit);
+        return Response.ok(ApiResponse.success(alerts, "Thermostat alerts retrieved successfully")).build();
+    }
+
+    @GET
+    @Path("/filters/sizing")
+    public Response getFilterSizingReport(@Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        FilterSizingReportResponse report = filterSizingService.getOwnerReport(ownerId);
+        return Response.ok(ApiResponse.success(report, "Filter sizing report retrieved successfully")).build();
+    }
+
     @POST
     public Response createAccessory(AccessoryRequest request, @Context SecurityContext securityContext) {
         Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
@@ -87,4 +142,15 @@ public class AccessoryResource {
         accessoryService.deleteAccessory(id, ownerId);
         return Response.ok(ApiResponse.success(null, "Accessory deleted successfully")).build();
     }
+
+    private LocalTime parseTime(String time) {
+        if (time == null || time.isBlank()) {
+            return LocalTime.now();
+        }
+        try {
+            return LocalTime.parse(time);
+        } catch (DateTimeParseException e) {
+            throw new ApplicationException.ValidationException("Invalid time format, expected HH:mm: " + time);
+        }
+    }
 }
\ No newline at end of file
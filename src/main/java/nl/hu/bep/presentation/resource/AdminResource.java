@@ -0,0 +1,77 @@
+package nl.hu.bep.presentation.resource;
+
+import jakarta.inject.Inject;
+import nl.hu.bep.application.service.FilterSizingService;
+import nl.hu.bep.application.service.FleetStatisticsService;
+import nl.hu.bep.application.service.QueryStatisticsService;
+import nl.hu.bep.application.service.TracingService;
+import nl.hu.bep.presentation.dto.response.ApiResponse;
+import nl.hu.bep.presentation.dto.response.FilterSizingReportResponse;
+import nl.hu.bep.presentation.dto.response.FleetStatisticsResponse;
+import nl.hu.bep.presentation.dto.response.QueryStatisticsResponse;
+import nl.hu.bep.presentation.dto.response.SlowTraceReportResponse;
+import nl.hu.bep.security.application.annotation.Secured;
+import nl.hu.bep.security.application.context.SecurityContextHelper;
+
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Path("/admin")
+@Produces(MediaType.APPLICATION_JSON)
+@Secured
+public class AdminResource {
+
+    private final FleetStatisticsService fleetStatisticsService;
+    private final FilterSizingService filterSizingService;
+    private final QueryStatisticsService queryStatisticsService;
+    private final TracingService tracingService;
+
+    @Inject
+    public AdminResource(FleetStatisticsService fleetStatisticsService, FilterSizingService filterSizingService,
+                         QueryStatisticsService queryStatisticsService, TracingService tracingService) {
+        this.fleetStatisticsService = fleetStatisticsService;
+        this.filterSizingService = filterSizingService;
+        this.queryStatisticsService = queryStatisticsService;
+        this.tracingService = tracingService;
+    }
+
+    @GET
+    @Path("/statistics")
+    public Response getFleetStatistics(@Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        FleetStatisticsResponse statistics = fleetStatisticsService.getFleetStatistics(ownerId);
+        return Response.ok(ApiResponse.success(statistics, "Fleet statistics retrieved successfully")).build();
+    }
+
+    @GET
+    @Path("/filters/sizing")
+    public Response getFleetFilterSizingReport(@Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        FilterSizingReportResponse report = filterSizingService.getFleetReport(ownerId);
+        return Response.ok(ApiResponse.success(report, "Fleet filter sizing report retrieved successfully")).build();
+    }
+
+    @GET
+    @Path("/queries/slowest")
+    public Response getSlowestQueries(@QueryParam("limit") @DefaultValue("10") int limit,
+                                      @Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        QueryStatisticsResponse statistics = queryStatisticsService.getSlowestQueries(ownerId, limit);
+        return Response.ok(ApiResponse.success(statistics, "Query statistics retrieved successfully")).build();
+    }
+
+    @GET
+    @Path("/traces/slow")
+    public Response getSlowTraces(@QueryParam("limit") @DefaultValue("20") int limit,
+                                  @QueryParam("correlationId") String correlationId,
+                                  @Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        SlowTraceReportResponse report = tracingService.getSlowTraces(ownerId, limit, correlationId);
+        return Response.ok(ApiResponse.success(report, "Slow traces retrieved successfully")).build();
+    }
+}
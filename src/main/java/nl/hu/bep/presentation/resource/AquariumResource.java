@@ -2,9 +2,11 @@ package nl.hu.bep.presentation.resource;
 
 import jakarta.inject.Inject;
 import nl.hu.bep.application.service.AquariumService;
+import nl.hu.bep.application.service.MaintenanceScheduleService;
 import nl.hu.bep.presentation.dto.request.AquariumRequest;
 import nl.hu.bep.presentation.dto.response.ApiResponse;
 import nl.hu.bep.presentation.dto.response.AquariumResponse;
+import nl.hu.bep.presentation.dto.response.MaintenanceScheduleResponse;
 import nl.hu.bep.security.application.annotation.RequiresOwnership;
 import nl.hu.bep.security.application.annotation.Secured;
 import nl.hu.bep.security.application.context.SecurityContextHelper;
@@ -26,19 +28,33 @@ import java.util.Map;
 public class AquariumResource {
 
     private final AquariumService aquariumService;
+    private final MaintenanceScheduleService maintenanceScheduleService;
 
     @Inject
-    public AquariumResource(AquariumService aquariumService) {
+    public AquariumResource(AquariumService aquariumService, MaintenanceScheduleService maintenanceScheduleService) {
         this.aquariumService = aquariumService;
+        this.maintenanceScheduleService = maintenanceScheduleService;
     }
 
     @GET
-    public Response getAllAquariums(@Context SecurityContext securityContext) {
+    public Response getAllAquariums(@QueryParam("view") @DefaultValue("summary") String view,
+                                    @Context SecurityContext securityContext) {
         Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
-        List<AquariumResponse> aquariums = aquariumService.getAllAquariums(ownerId);
+        List<?> aquariums = ListView.parse(view) == ListView.FULL
+                ? aquariumService.getAllAquariums(ownerId)
+                : aquariumService.getAquariumSummaries(ownerId);
         return Response.ok(ApiResponse.success(aquariums, "Aquariums retrieved successfully")).build();
     }
 
+    @GET
+    @Path("/maintenance")
+    public Response getMaintenanceSchedule(@QueryParam("withinDays") @DefaultValue("7") int withinDays,
+                                           @Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        MaintenanceScheduleResponse schedule = maintenanceScheduleService.getMaintenanceSchedule(ownerId, withinDays);
+        return Response.ok(ApiResponse.success(schedule, "Maintenance schedule retrieved successfully")).build();
+    }
+
     @GET
     @Path("/{id}")
     @RequiresOwnership(resourceType = RequiresOwnership.ResourceType.AQUARIUM, paramName = "id")
@@ -0,0 +1,95 @@
+package nl.hu.bep.presentation.resource;
+
+import jakarta.inject.Inject;
+import nl.hu.bep.application.service.DatasetExportService;
+import nl.hu.bep.application.service.DatasetImportService;
+import nl.hu.bep.application.transfer.DatasetExport;
+import nl.hu.bep.application.transfer.DatasetFormat;
+import nl.hu.bep.domain.enums.DatasetEntity;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.ApiResponse;
+import nl.hu.bep.presentation.dto.response.DatasetImportResponse;
+import nl.hu.bep.security.application.annotation.Secured;
+import nl.hu.bep.security.application.context.SecurityContextHelper;
+
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+@Path("/dataset")
+@Secured
+public class DatasetResource {
+
+    private final DatasetExportService datasetExportService;
+    private final DatasetImportService datasetImportService;
+
+    @Inject
+    public DatasetResource(DatasetExportService datasetExportService, DatasetImportService datasetImportService) {
+        this.datasetExportService = datasetExportService;
+        this.datasetImportService = datasetImportService;
+    }
+
+    @GET
+    @Path("/export")
+    @Produces({"application/x-ndjson", "text/csv", "application/gzip", MediaType.APPLICATION_JSON})
+    public Response export(@QueryParam("format") @DefaultValue("ndjson") String format,
+                           @QueryParam("entity") String entities,
+                           @QueryParam("gzip") @DefaultValue("false") boolean gzip,
+                           @Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        DatasetExport export = datasetExportService.prepareExport(ownerId, parseFormat(format), parseEntities(entities), gzip);
+        StreamingOutput body = export.body()::writeTo;
+        return Response.ok(body, export.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + export.fileName() + "\"")
+                .build();
+    }
+
+    @POST
+    @Path("/import")
+    @Consumes({"application/x-ndjson", "text/csv", "application/gzip", MediaType.APPLICATION_OCTET_STREAM})
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response importDataset(@QueryParam("format") @DefaultValue("ndjson") String format,
+                                  @QueryParam("entity") String entities,
+                                  @QueryParam("gzip") @DefaultValue("false") boolean gzip,
+                                  InputStream body,
+                                  @Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        DatasetImportResponse report = datasetImportService.importDataset(
+                ownerId, parseFormat(format), parseEntities(entities), gzip, body);
+        return Response.ok(ApiResponse.success(report, "Import completed: " + report.imported() + " imported, "
+                + report.failed() + " failed")).build();
+    }
+
+    private DatasetFormat parseFormat(String format) {
+        try {
+            return DatasetFormat.valueOf(format.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ApplicationException.ValidationException("Invalid format, expected ndjson or csv: " + format);
+        }
+    }
+
+    private Set<DatasetEntity> parseEntities(String entities) {
+        Set<DatasetEntity> parsed = EnumSet.noneOf(DatasetEntity.class);
+        if (entities == null || entities.isBlank()) {
+            return parsed;
+        }
+        for (String entity : entities.split(",")) {
+            try {
+                parsed.add(DatasetEntity.valueOf(entity.strip().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new ApplicationException.ValidationException("Invalid entity, expected one of "
+                        + Arrays.toString(DatasetEntity.values()) + ": " + entity);
+            }
+        }
+        return parsed;
+    }
+}
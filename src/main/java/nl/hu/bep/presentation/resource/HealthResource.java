@@ -0,0 +1,41 @@
+package nl.hu.bep.presentation.resource;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import nl.hu.bep.application.service.HealthService;
+import nl.hu.bep.presentation.dto.response.ApiResponse;
+import nl.hu.bep.presentation.dto.response.ReadinessResponse;
+
+@Path("/health")
+@Produces(MediaType.APPLICATION_JSON)
+public class HealthResource {
+
+    private final HealthService healthService;
+
+    @Inject
+    public HealthResource(HealthService healthService) {
+        this.healthService = healthService;
+    }
+
+    @GET
+    @Path("/live")
+    public Response getLiveness() {
+        return Response.ok(ApiResponse.success(healthService.getLiveness(), "Service is alive")).build();
+    }
+
+    @GET
+    @Path("/ready")
+    public Response getReadiness() {
+        ReadinessResponse readiness = healthService.getReadiness();
+        if (!"READY".equals(readiness.status())) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .entity(ApiResponse.error(readiness, "Service is not ready"))
+                    .build();
+        }
+        return Response.ok(ApiResponse.success(readiness, "Service is ready")).build();
+    }
+}
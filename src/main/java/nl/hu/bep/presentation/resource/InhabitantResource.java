@@ -2,6 +2,10 @@ package nl.hu.bep.presentation.resource;
 
 import jakarta.inject.Inject;
 import nl.hu.bep.application.service.InhabitantService;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.domain.InhabitantFilter;
+import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.exception.ApplicationException;
 import nl.hu.bep.presentation.dto.request.InhabitantRequest;
 import nl.hu.bep.presentation.dto.response.ApiResponse;
 import nl.hu.bep.presentation.dto.response.InhabitantResponse;
@@ -16,6 +20,7 @@ import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import lombok.extern.slf4j.Slf4j;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @Slf4j
@@ -33,9 +38,20 @@ public class InhabitantResource {
     }
 
     @GET
-    public Response getAllInhabitants(@Context SecurityContext securityContext) {
+    public Response getAllInhabitants(@QueryParam("view") @DefaultValue("summary") String view,
+                                      @QueryParam("type") String type,
+                                      @QueryParam("waterType") String waterType,
+                                      @QueryParam("species") String speciesPrefix,
+                                      @QueryParam("aquariumId") Long aquariumId,
+                                      @QueryParam("sort") @DefaultValue("id") String sort,
+                                      @Context SecurityContext securityContext) {
         Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
-        List<InhabitantResponse> inhabitants = inhabitantService.getAllInhabitants(ownerId);
+        boolean descending = sort.startsWith("-");
+        InhabitantFilter filter = new InhabitantFilter(parseType(type), parseWaterType(waterType), speciesPrefix,
+                aquariumId, parseSortField(descending ? sort.substring(1) : sort), descending);
+        List<?> inhabitants = ListView.parse(view) == ListView.FULL
+                ? inhabitantService.getAllInhabitants(ownerId, filter)
+                : inhabitantService.getInhabitantSummaries(ownerId, filter);
         return Response.ok(ApiResponse.success(inhabitants, "Inhabitants retrieved successfully")).build();
     }
 
@@ -87,4 +103,38 @@ public class InhabitantResource {
         inhabitantService.deleteInhabitant(id, ownerId);
         return Response.ok(ApiResponse.success(null, "Inhabitant deleted successfully")).build();
     }
-}
\ No newline at end of file
+
+    private String parseType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        return AquariumConstants.INHABITANT_TYPES.stream()
+                .filter(known -> known.equalsIgnoreCase(type.strip()))
+                .findFirst()
+                .orElseThrow(() -> new ApplicationException.ValidationException(
+                        "Invalid inhabitant type, expected one of " + AquariumConstants.INHABITANT_TYPES + ": " + type));
+    }
+
+    private WaterType parseWaterType(String waterType) {
+        if (waterType == null || waterType.isBlank()) {
+            return null;
+        }
+        try {
+            return WaterType.valueOf(waterType.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ApplicationException.ValidationException("Invalid water type: " + waterType);
+        }
+    }
+
+    private InhabitantFilter.SortField parseSortField(String field) {
+        return switch (field) {
+            case "id" -> InhabitantFilter.SortField.ID;
+            case "species" -> InhabitantFilter.SortField.SPECIES;
+            case "name" -> InhabitantFilter.SortField.NAME;
+            case "count" -> InhabitantFilter.SortField.COUNT;
+            case "dateCreated" -> InhabitantFilter.SortField.DATE_CREATED;
+            default -> throw new ApplicationException.ValidationException(
+                    "Invalid sort, expected id, species, name, count or dateCreated, optionally prefixed with '-': " + field);
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package nl.hu.bep.presentation.resource;
+
+import nl.hu.bep.exception.ApplicationException;
+
+import java.util.Locale;
+
+/**
+ * Shape of a list endpoint's items, chosen with {@code ?view=}. Lists return summaries unless the client
+ * asks for the full detail projection of every item.
+ */
+enum ListView {
+    SUMMARY,
+    FULL;
+
+    static ListView parse(String view) {
+        if (view == null || view.isBlank()) {
+            return SUMMARY;
+        }
+        try {
+            return valueOf(view.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ApplicationException.ValidationException("Invalid view, expected summary or full: " + view);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package nl.hu.bep.presentation.resource;
 
 import jakarta.inject.Inject;
+import nl.hu.bep.application.service.OrnamentPlacementService;
 import nl.hu.bep.application.service.OrnamentService;
 import nl.hu.bep.presentation.dto.request.OrnamentRequest;
+import nl.hu.bep.presentation.dto.response.AirPumpPlanResponse;
 import nl.hu.bep.presentation.dto.response.ApiResponse;
 import nl.hu.bep.presentation.dto.response.OrnamentResponse;
 import nl.hu.bep.security.application.annotation.RequiresOwnership;
@@ -26,19 +28,32 @@ import java.util.Map;
 public class OrnamentResource {
 
     private final OrnamentService ornamentService;
+    private final OrnamentPlacementService ornamentPlacementService;
 
     @Inject
-    public OrnamentResource(OrnamentService ornamentService) {
+    public OrnamentResource(OrnamentService ornamentService, OrnamentPlacementService ornamentPlacementService) {
         this.ornamentService = ornamentService;
+        this.ornamentPlacementService = ornamentPlacementService;
     }
 
     @GET
-    public Response getAllOrnaments(@Context SecurityContext securityContext) {
+    public Response getAllOrnaments(@QueryParam("view") @DefaultValue("summary") String view,
+                                    @Context SecurityContext securityContext) {
         Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
-        List<OrnamentResponse> ornaments = ornamentService.getAllOrnaments(ownerId);
+        List<?> ornaments = ListView.parse(view) == ListView.FULL
+                ? ornamentService.getAllOrnaments(ownerId)
+                : ornamentService.getOrnamentSummaries(ownerId);
         return Response.ok(ApiResponse.success(ornaments, "Ornaments retrieved successfully")).build();
     }
 
+    @GET
+    @Path("/air-pump-plan")
+    public Response getAirPumpPlan(@Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        AirPumpPlanResponse plan = ornamentPlacementService.getAirPumpPlan(ownerId);
+        return Response.ok(ApiResponse.success(plan, "Air pump placement plan retrieved successfully")).build();
+    }
+
     @GET
     @Path("/{id}")
     @RequiresOwnership(resourceType = RequiresOwnership.ResourceType.ORNAMENT, paramName = "id")
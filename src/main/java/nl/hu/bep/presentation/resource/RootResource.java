@@ -6,13 +6,11 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import nl.hu.bep.application.service.HealthService;
 import nl.hu.bep.config.AquariumConstants;
-import nl.hu.bep.config.DatabaseManager;
 import nl.hu.bep.presentation.dto.response.ApiResponse;
 
 import java.io.InputStream;
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -20,11 +18,11 @@ import java.util.Map;
 @Path("/")
 public class RootResource {
 
-    private final DatabaseManager databaseManager;
+    private final HealthService healthService;
 
     @Inject
-    public RootResource(DatabaseManager databaseManager) {
-        this.databaseManager = databaseManager;
+    public RootResource(HealthService healthService) {
+        this.healthService = healthService;
     }
 
     @GET
@@ -43,10 +41,11 @@ public class RootResource {
         endpoints.put("accessories", AquariumConstants.API_BASE_PATH + AquariumConstants.ACCESSORIES_PATH);
         endpoints.put("ornaments", AquariumConstants.API_BASE_PATH + AquariumConstants.ORNAMENTS_PATH);
         endpoints.put("authentication", AquariumConstants.API_BASE_PATH + AquariumConstants.AUTH_BASE_PATH);
+        endpoints.put("admin", AquariumConstants.API_BASE_PATH + AquariumConstants.ADMIN_PATH);
+        endpoints.put("health", AquariumConstants.API_BASE_PATH + AquariumConstants.HEALTH_PATH);
         apiInfo.put("endpoints", endpoints);
         
-        Map<String, Object> databaseHealth = getDatabaseHealth();
-        apiInfo.put("database", databaseHealth);
+        apiInfo.put("database", healthService.getDatabaseHealth());
         
         apiInfo.put("timestamp", LocalDateTime.now());
         apiInfo.put("server_status", "operational");
@@ -73,20 +72,4 @@ public class RootResource {
                 .build();
         }
     }
-    
-    private Map<String, Object> getDatabaseHealth() {
-        Map<String, Object> dbHealth = new HashMap<>();
-        
-        try (Connection connection = databaseManager.getConnection()) {
-            boolean isHealthy = connection != null && !connection.isClosed();
-            dbHealth.put("status", isHealthy ? "UP" : "DOWN");
-            dbHealth.put("message", isHealthy ? "Database connection successful" : "Database connection failed");
-        } catch (SQLException e) {
-            dbHealth.put("status", "DOWN");
-            dbHealth.put("message", "Database health check failed: " + e.getMessage());
-        }
-        
-        dbHealth.put("checked_at", LocalDateTime.now());
-        return dbHealth;
-    }
 }
\ No newline at end of file
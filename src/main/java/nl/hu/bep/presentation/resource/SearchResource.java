@@ -0,0 +1,61 @@
+package nl.hu.bep.presentation.resource;
+
+import jakarta.inject.Inject;
+import nl.hu.bep.application.service.SearchService;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.domain.summary.SearchHit;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.ApiResponse;
+import nl.hu.bep.presentation.dto.response.SearchResultResponse;
+import nl.hu.bep.security.application.annotation.Secured;
+import nl.hu.bep.security.application.context.SecurityContextHelper;
+
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+@Path("/search")
+@Produces(MediaType.APPLICATION_JSON)
+@Secured
+public class SearchResource {
+
+    private final SearchService searchService;
+
+    @Inject
+    public SearchResource(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GET
+    public Response search(@QueryParam("q") String terms,
+                           @QueryParam("types") String types,
+                           @QueryParam("offset") @DefaultValue("0") int offset,
+                           @QueryParam("limit") @DefaultValue("" + AquariumConstants.DEFAULT_SEARCH_PAGE_SIZE) int limit,
+                           @Context SecurityContext securityContext) {
+        Long ownerId = SecurityContextHelper.getAuthenticatedOwnerId(securityContext);
+        SearchResultResponse result = searchService.search(ownerId, terms, parseTypes(types), offset, limit);
+        return Response.ok(ApiResponse.success(result, "Search completed successfully")).build();
+    }
+
+    private Set<SearchHit.Type> parseTypes(String types) {
+        Set<SearchHit.Type> parsed = EnumSet.noneOf(SearchHit.Type.class);
+        if (types == null || types.isBlank()) {
+            return parsed;
+        }
+        for (String type : types.split(",")) {
+            try {
+                parsed.add(SearchHit.Type.valueOf(type.strip().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new ApplicationException.ValidationException("Invalid search type, expected one of "
+                        + Arrays.toString(SearchHit.Type.values()) + ": " + type);
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,34 @@
+package nl.hu.bep.presentation.resource;
+
+import jakarta.inject.Inject;
+import nl.hu.bep.application.service.SpeciesCatalogService;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.presentation.dto.response.ApiResponse;
+import nl.hu.bep.presentation.dto.response.SpeciesSuggestionResponse;
+import nl.hu.bep.security.application.annotation.Secured;
+
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.util.List;
+
+@Path("/species")
+@Produces(MediaType.APPLICATION_JSON)
+@Secured
+public class SpeciesResource {
+
+    private final SpeciesCatalogService speciesCatalogService;
+
+    @Inject
+    public SpeciesResource(SpeciesCatalogService speciesCatalogService) {
+        this.speciesCatalogService = speciesCatalogService;
+    }
+
+    @GET
+    @Path("/suggestions")
+    public Response getSuggestions(@QueryParam("prefix") String prefix,
+                                   @QueryParam("limit") @DefaultValue("" + AquariumConstants.DEFAULT_SPECIES_SUGGESTIONS) int limit) {
+        List<SpeciesSuggestionResponse> suggestions = speciesCatalogService.suggest(prefix, limit);
+        return Response.ok(ApiResponse.success(suggestions, "Species suggestions retrieved successfully")).build();
+    }
+}
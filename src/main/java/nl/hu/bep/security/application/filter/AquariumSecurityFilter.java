@@ -1,10 +1,12 @@
 package nl.hu.bep.security.application.filter;
 
+import nl.hu.bep.application.tracing.Tracer;
 import nl.hu.bep.presentation.dto.response.ApiResponse;
 import nl.hu.bep.security.application.annotation.Secured;
 import nl.hu.bep.security.application.context.AquariumSecurityContext;
 import nl.hu.bep.security.application.service.JwtService;
 import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.config.LogSampler;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
@@ -29,6 +31,8 @@ import java.util.Map;
 public class AquariumSecurityFilter implements ContainerRequestFilter {
     private static final String AUTHENTICATION_SCHEME = AquariumConstants.BEARER_SCHEME;
     private static final String[] PUBLIC_ENDPOINTS = AquariumConstants.PUBLIC_ENDPOINTS;
+    private static final LogSampler REQUEST_LOG_SAMPLER = new LogSampler(AquariumConstants.REQUEST_LOG_SAMPLE_RATE);
+    private static final Tracer TRACER = Tracer.getInstance();
 
     private JwtService jwtService;
 
@@ -51,12 +55,19 @@ public class AquariumSecurityFilter implements ContainerRequestFilter {
 
     @Override
     public void filter(ContainerRequestContext requestContext) {
+        try (Tracer.Span span = TRACER.span("AquariumSecurityFilter")) {
+            authenticate(requestContext);
+        }
+    }
+
+    private void authenticate(ContainerRequestContext requestContext) {
         String path = requestContext.getUriInfo().getPath();
-        log.info("Security filter triggered for path: {}", path);
 
         for (String publicEndpoint : PUBLIC_ENDPOINTS) {
             if (path.endsWith(publicEndpoint)) {
-                log.info("Path {} is public, skipping authentication", path);
+                if (log.isDebugEnabled() && REQUEST_LOG_SAMPLER.sample()) {
+                    log.debug("Path {} is public, skipping authentication", path);
+                }
                 return;
             }
         }
@@ -81,7 +92,9 @@ public class AquariumSecurityFilter implements ContainerRequestFilter {
 
             requestContext.setSecurityContext(new AquariumSecurityContext(userId, username));
 
-            log.info("Authenticated request for user: {} (ID: {})", username, userId);
+            if (log.isDebugEnabled() && REQUEST_LOG_SAMPLER.sample()) {
+                log.debug("Authenticated request for user: {} (ID: {}) on {}", username, userId, path);
+            }
         } catch (JWTVerificationException e) {
             log.error("Invalid token: {}", e.getMessage());
             abortWithUnauthorized(requestContext, "Invalid token");
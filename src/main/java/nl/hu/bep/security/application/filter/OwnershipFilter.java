@@ -21,12 +21,17 @@ import nl.hu.bep.data.interfaces.InhabitantRepository;
 import nl.hu.bep.data.interfaces.OrnamentRepository;
 import nl.hu.bep.security.application.annotation.RequiresOwnership;
 import nl.hu.bep.security.application.context.SecurityContextHelper;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.config.LogSampler;
+import nl.hu.bep.application.tracing.Tracer;
 
 @Slf4j
 @Provider
 @RequiresOwnership.Checker
 @Priority(Priorities.AUTHORIZATION)
 public class OwnershipFilter implements ContainerRequestFilter {
+    private static final LogSampler REQUEST_LOG_SAMPLER = new LogSampler(AquariumConstants.REQUEST_LOG_SAMPLE_RATE);
+    private static final Tracer TRACER = Tracer.getInstance();
 
     @Context
     private ResourceInfo resourceInfo;
@@ -46,6 +51,12 @@ public class OwnershipFilter implements ContainerRequestFilter {
 
     @Override
     public void filter(ContainerRequestContext requestContext) throws IOException {
+        try (Tracer.Span span = TRACER.span("OwnershipFilter")) {
+            verifyOwnership(requestContext);
+        }
+    }
+
+    private void verifyOwnership(ContainerRequestContext requestContext) {
         var method = resourceInfo.getResourceMethod();
 
         RequiresOwnership ownershipAnnotation = method.getAnnotation(RequiresOwnership.class);
@@ -82,8 +93,10 @@ public class OwnershipFilter implements ContainerRequestFilter {
                 return;
             }
 
-            log.info("Ownership verified for owner {} on {} with ID {}",
-                    authenticatedOwnerId, resourceType, resourceId);
+            if (log.isDebugEnabled() && REQUEST_LOG_SAMPLER.sample()) {
+                log.debug("Ownership verified for owner {} on {} with ID {}",
+                        authenticatedOwnerId, resourceType, resourceId);
+            }
         } catch (Exception e) {
             log.error("Error during ownership verification: {}", e.getMessage());
             abortWithUnauthorized(requestContext, "Unable to verify ownership. Access denied.");
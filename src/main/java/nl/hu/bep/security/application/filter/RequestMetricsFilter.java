@@ -0,0 +1,61 @@
+package nl.hu.bep.security.application.filter;
+
+import nl.hu.bep.application.metrics.RequestMetrics;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Times every matched request from before authentication until the response leaves the filter chain,
+ * so requests rejected by {@link AquariumSecurityFilter} are measured as well.
+ */
+@Provider
+@Priority(Priorities.AUTHENTICATION - 100)
+public class RequestMetricsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+    static final String ENDPOINT_PROPERTY = RequestMetricsFilter.class.getName() + ".endpoint";
+    static final String START_PROPERTY = RequestMetricsFilter.class.getName() + ".start";
+
+    private final RequestMetrics metrics;
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    public RequestMetricsFilter() {
+        this(RequestMetrics.getInstance(), null);
+    }
+
+    RequestMetricsFilter(RequestMetrics metrics, ResourceInfo resourceInfo) {
+        this.metrics = metrics;
+        this.resourceInfo = resourceInfo;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (resourceInfo == null || resourceInfo.getResourceMethod() == null) {
+            return;
+        }
+        RequestMetrics.Endpoint endpoint = metrics.endpoint(resourceInfo.getResourceMethod());
+        metrics.requestStarted(endpoint);
+        requestContext.setProperty(ENDPOINT_PROPERTY, endpoint);
+        requestContext.setProperty(START_PROPERTY, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        int status = responseContext.getStatus();
+        Object endpoint = requestContext.getProperty(ENDPOINT_PROPERTY);
+        Object start = requestContext.getProperty(START_PROPERTY);
+        if (endpoint instanceof RequestMetrics.Endpoint matched && start instanceof Long startNanos) {
+            metrics.requestCompleted(matched, status, System.nanoTime() - startNanos);
+        } else {
+            metrics.recordStatus(status);
+        }
+    }
+}
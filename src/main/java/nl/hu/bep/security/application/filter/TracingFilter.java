@@ -0,0 +1,80 @@
+package nl.hu.bep.security.application.filter;
+
+import nl.hu.bep.application.tracing.Tracer;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.config.JsonLogLayout;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+import org.slf4j.MDC;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Starts a trace for every matched request, ahead of metrics and authentication, and ends it once the
+ * response filters have run. The caller's {@code X-Correlation-ID} is reused when it is safe to echo;
+ * otherwise a new one is generated. The ID is returned in the response header and added to the
+ * logging MDC for the duration of the request.
+ */
+@Provider
+@Priority(Priorities.AUTHENTICATION - 200)
+public class TracingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+    private static final Pattern SAFE_CORRELATION_ID =
+            Pattern.compile("[A-Za-z0-9._-]{1," + AquariumConstants.MAX_CORRELATION_ID_LENGTH + "}");
+    static final String CORRELATION_ID_PROPERTY = TracingFilter.class.getName() + ".correlationId";
+
+    private final Tracer tracer;
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    public TracingFilter() {
+        this(Tracer.getInstance(), null);
+    }
+
+    TracingFilter(Tracer tracer, ResourceInfo resourceInfo) {
+        this.tracer = tracer;
+        this.resourceInfo = resourceInfo;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        String correlationId = resolveCorrelationId(requestContext.getHeaderString(AquariumConstants.CORRELATION_ID_HEADER));
+        requestContext.setProperty(CORRELATION_ID_PROPERTY, correlationId);
+        MDC.put(JsonLogLayout.CORRELATION_ID_MDC_KEY, correlationId);
+        tracer.startTrace(correlationId, requestContext.getMethod() + " " + resourceName());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object correlationId = requestContext.getProperty(CORRELATION_ID_PROPERTY);
+        if (correlationId == null) {
+            return;
+        }
+        responseContext.getHeaders().putSingle(AquariumConstants.CORRELATION_ID_HEADER, correlationId);
+        tracer.finishTrace(responseContext.getStatus());
+        MDC.remove(JsonLogLayout.CORRELATION_ID_MDC_KEY);
+    }
+
+    static String resolveCorrelationId(String supplied) {
+        if (supplied != null && SAFE_CORRELATION_ID.matcher(supplied).matches()) {
+            return supplied;
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    private String resourceName() {
+        if (resourceInfo == null || resourceInfo.getResourceMethod() == null) {
+            return "unmatched";
+        }
+        return resourceInfo.getResourceClass().getSimpleName() + "." + resourceInfo.getResourceMethod().getName();
+    }
+}
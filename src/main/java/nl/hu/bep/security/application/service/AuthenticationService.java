@@ -27,7 +27,7 @@ public class AuthenticationService {
     }
 
     public AuthResponse register(RegisterRequest request) {
-        log.info("Processing registration request for: {}", request.email());
+        log.debug("Processing registration request for: {}", request.email());
 
         Optional<Owner> existingOwner = ownerRepository.findByEmail(request.email());
         if (existingOwner.isPresent()) {
@@ -44,12 +44,11 @@ public class AuthenticationService {
         log.info("New owner registered with ID: {}", owner.getId());
 
         String token = jwtService.generateToken(owner.getId(), owner.getEmail());
-        log.info("JWT token generated for user: {}", owner.getEmail());
         return new AuthResponse(owner.getId(), token);
     }
 
     public AuthResponse authenticate(AuthRequest request) {
-        log.info("Processing authentication request for: {}", request.email());
+        log.debug("Processing authentication request for: {}", request.email());
 
         Owner owner = ownerRepository.findByEmail(request.email())
                 .orElseThrow(() -> {
@@ -71,7 +70,6 @@ public class AuthenticationService {
         ownerRepository.update(owner);
 
         String token = jwtService.generateToken(owner.getId(), owner.getEmail());
-        log.info("JWT token generated for user: {}", owner.getEmail());
         return new AuthResponse(owner.getId(), token);
     }
 
@@ -0,0 +1,27 @@
+package nl.hu.bep.security.application.service;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import nl.hu.bep.data.interfaces.OwnerRepository;
+import nl.hu.bep.domain.Owner;
+import nl.hu.bep.exception.ApplicationException;
+
+@Slf4j
+public class AuthorizationService {
+    private final OwnerRepository ownerRepository;
+
+    @Inject
+    public AuthorizationService(OwnerRepository ownerRepository) {
+        this.ownerRepository = ownerRepository;
+    }
+
+    public void requireAdmin(Long ownerId) {
+        boolean isAdmin = ownerId != null && ownerRepository.findById(ownerId)
+                .map(Owner::isAdmin)
+                .orElse(false);
+        if (!isAdmin) {
+            log.warn("Owner {} attempted to access an admin-only resource", ownerId);
+            throw new ApplicationException.SecurityException("Administrator role required");
+        }
+    }
+}
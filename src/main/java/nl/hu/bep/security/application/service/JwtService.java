@@ -26,7 +26,7 @@ public class JwtService {
                 .withClaim("username", username)
                 .sign(Algorithm.HMAC256(SECRET_KEY));
 
-        log.info("Generated JWT token for owner: {} (ID: {})", username, ownerId);
+        log.debug("Generated JWT token for owner: {} (ID: {})", username, ownerId);
         return token;
     }
 
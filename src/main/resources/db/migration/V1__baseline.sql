@@ -1,15 +1,5 @@
--- AquariumManager Database Schema
--- PostgreSQL DDL for complete aquarium management system
-
--- Drop tables in reverse dependency order (child first, parent last)
-DROP TABLE IF EXISTS inhabitant_aquarium_history;
-DROP TABLE IF EXISTS aquarium_state_history;
-DROP TABLE IF EXISTS inhabitants;
-DROP TABLE IF EXISTS accessories;
-DROP TABLE IF EXISTS ornaments;
-DROP TABLE IF EXISTS aquariums;
-DROP TABLE IF EXISTS owners;
-DROP TABLE IF EXISTS aquarium_managers;
+-- V1: baseline schema, formerly docs/db/schema.sql. Databases created from that script are
+-- recorded at this version without running it again.
 
 -- Create sequences for auto-incrementing IDs
 CREATE SEQUENCE IF NOT EXISTS aquarium_manager_id_seq START 1;
@@ -21,7 +11,7 @@ CREATE SEQUENCE IF NOT EXISTS inhabitant_id_seq START 1;
 
 -- Aquarium Managers (Root aggregate)
 CREATE TABLE aquarium_managers (
-    id BIGINT PRIMARY KEY DEFAULT nextval('aquarium_manager_id_seq'),
+    id BIGINT DEFAULT nextval('aquarium_manager_id_seq') PRIMARY KEY,
     installation_date DATE NOT NULL,
     description TEXT,
     date_created TIMESTAMP DEFAULT CURRENT_TIMESTAMP
@@ -29,7 +19,7 @@ CREATE TABLE aquarium_managers (
 
 -- Owners (Users)
 CREATE TABLE owners (
-    id BIGINT PRIMARY KEY DEFAULT nextval('owner_id_seq'),
+    id BIGINT DEFAULT nextval('owner_id_seq') PRIMARY KEY,
     first_name VARCHAR(100) NOT NULL,
     last_name VARCHAR(100) NOT NULL,
     email VARCHAR(255) UNIQUE NOT NULL,
@@ -42,7 +32,7 @@ CREATE TABLE owners (
 
 -- Aquariums
 CREATE TABLE aquariums (
-    id BIGINT PRIMARY KEY DEFAULT nextval('aquarium_id_seq'),
+    id BIGINT DEFAULT nextval('aquarium_id_seq') PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
     length DOUBLE PRECISION NOT NULL CHECK (length > 0),
     width DOUBLE PRECISION NOT NULL CHECK (width > 0),
@@ -61,7 +51,7 @@ CREATE TABLE aquariums (
 
 -- Accessories (Equipment)
 CREATE TABLE accessories (
-    id BIGINT PRIMARY KEY DEFAULT nextval('accessory_id_seq'),
+    id BIGINT DEFAULT nextval('accessory_id_seq') PRIMARY KEY,
     accessory_type VARCHAR(20) NOT NULL CHECK (accessory_type IN ('Filter', 'Lighting', 'Thermostat')),
     model VARCHAR(255) NOT NULL,
     serial_number VARCHAR(255),
@@ -88,7 +78,7 @@ CREATE TABLE accessories (
 
 -- Ornaments (Decorations)
 CREATE TABLE ornaments (
-    id BIGINT PRIMARY KEY DEFAULT nextval('ornament_id_seq'),
+    id BIGINT DEFAULT nextval('ornament_id_seq') PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
     material VARCHAR(100),
     size VARCHAR(50),
@@ -102,7 +92,7 @@ CREATE TABLE ornaments (
 
 -- Inhabitants (Fish, Snails, etc.)
 CREATE TABLE inhabitants (
-    id BIGINT PRIMARY KEY DEFAULT nextval('inhabitant_id_seq'),
+    id BIGINT DEFAULT nextval('inhabitant_id_seq') PRIMARY KEY,
     inhabitant_type VARCHAR(20) NOT NULL CHECK (inhabitant_type IN ('Fish', 'Snail', 'Shrimp', 'Crayfish', 'Plant', 'Coral')),
     species VARCHAR(255) NOT NULL,
     color VARCHAR(100),
@@ -0,0 +1,17 @@
+-- V2: out-of-range readings raised by the thermostat alert engine. Not part of the baseline, so a
+-- database created from the old schema script gets the table here. IF NOT EXISTS keeps it harmless
+-- on a database that was created from a later copy of that script which already had it.
+
+CREATE TABLE IF NOT EXISTS thermostat_alerts (
+    id BIGSERIAL PRIMARY KEY,
+    accessory_id BIGINT NOT NULL REFERENCES accessories(id) ON DELETE CASCADE,
+    owner_id BIGINT NOT NULL REFERENCES owners(id) ON DELETE CASCADE,
+    aquarium_id BIGINT REFERENCES aquariums(id) ON DELETE SET NULL,
+    alert_type VARCHAR(20) NOT NULL CHECK (alert_type IN ('TOO_COLD', 'TOO_HOT', 'BACK_IN_RANGE')),
+    temperature DOUBLE PRECISION NOT NULL,
+    min_temperature DOUBLE PRECISION NOT NULL,
+    max_temperature DOUBLE PRECISION NOT NULL,
+    raised_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_thermostat_alerts_owner_raised ON thermostat_alerts(owner_id, raised_at DESC);
@@ -0,0 +1,8 @@
+-- V3: indexes for finders that scanned their table. IndexCatalog rejects a query whose predicates
+-- no index serves, so every new finder column needs an index here or in a later migration.
+
+-- AccessoryRepository.findByType (lighting schedule across all owners)
+CREATE INDEX IF NOT EXISTS idx_accessories_type ON accessories(accessory_type);
+
+-- OwnerRepository.findByAquariumManagerId
+CREATE INDEX IF NOT EXISTS idx_owners_aquarium_manager_id ON owners(aquarium_manager_id);
@@ -0,0 +1,13 @@
+-- V4: composite indexes for the filtered inhabitant list. Every filter is combined with owner_id, so
+-- each index starts with it and the database seeks straight to one owner's matching rows.
+-- idx_inhabitants_type stays for the fleet statistics, which group by type across owners.
+
+CREATE INDEX IF NOT EXISTS idx_inhabitants_owner_type ON inhabitants(owner_id, inhabitant_type);
+CREATE INDEX IF NOT EXISTS idx_inhabitants_owner_water_type ON inhabitants(owner_id, water_type);
+
+-- Serves species prefix searches (species LIKE 'Neon%') within an owner. With a non-C collation
+-- PostgreSQL only seeks on owner_id and filters species from that range.
+CREATE INDEX IF NOT EXISTS idx_inhabitants_owner_species ON inhabitants(owner_id, species);
+
+-- Every owner_id lookup is served by the composites above
+DROP INDEX IF EXISTS idx_inhabitants_owner_id;
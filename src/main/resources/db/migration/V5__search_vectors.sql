@@ -0,0 +1,24 @@
+-- dialect: PostgreSQL
+-- V5: full-text search. Each searchable table gets a generated tsvector column, kept current by the
+-- database on every insert and update, and a GIN index over it. The 'simple' configuration lower-cases
+-- words without stemming, which suits species and proper names; queries must use the same one.
+-- Names weigh more than descriptions, so a name match ranks first.
+
+ALTER TABLE inhabitants ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(species, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_inhabitants_search ON inhabitants USING gin (search_vector);
+
+ALTER TABLE aquariums ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_aquariums_search ON aquariums USING gin (search_vector);
+
+ALTER TABLE ornaments ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(material, '')), 'B')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_ornaments_search ON ornaments USING gin (search_vector);
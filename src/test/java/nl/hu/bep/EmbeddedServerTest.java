@@ -0,0 +1,90 @@
+package nl.hu.bep;
+
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmbeddedServer Tests")
+class EmbeddedServerTest {
+
+    private static final String[] JDBC_PROPERTIES = {"aquarium.jdbc.driver", "aquarium.jdbc.url"};
+
+    private static HttpServer server;
+    private static URI rootUri;
+    private static final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        System.setProperty("aquarium.jdbc.driver", "org.h2.Driver");
+        System.setProperty("aquarium.jdbc.url", "jdbc:h2:mem:embedded;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        try (ServerSocket socket = new ServerSocket(0)) {
+            rootUri = URI.create("http://localhost:" + socket.getLocalPort() + "/");
+        }
+        server = EmbeddedServer.start(rootUri);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.shutdownNow();
+        for (String property : JDBC_PROPERTIES) {
+            System.clearProperty(property);
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(rootUri.resolve(path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("Should answer the liveness check outside the API path")
+    void shouldServeHealth() throws Exception {
+        HttpResponse<String> response = send("GET", "health");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"status\":\"UP\""));
+    }
+
+    @Test
+    @DisplayName("Should serve Prometheus metrics")
+    void shouldServeMetrics() throws Exception {
+        HttpResponse<String> response = send("GET", "metrics");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("aquarium_http_requests_in_flight"));
+    }
+
+    @Test
+    @DisplayName("Should answer CORS preflight requests without authentication")
+    void shouldAnswerPreflight() throws Exception {
+        HttpResponse<String> response = send("OPTIONS", "api/aquariums");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("*", response.headers().firstValue("Access-Control-Allow-Origin").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should mount the application under /api with its security filters")
+    void shouldServeApplication() throws Exception {
+        HttpResponse<String> response = send("GET", "api/aquariums");
+
+        assertEquals(401, response.statusCode());
+        assertTrue(response.headers().firstValue("X-Correlation-ID").isPresent());
+        assertEquals("*", response.headers().firstValue("Access-Control-Allow-Origin").orElseThrow());
+    }
+}
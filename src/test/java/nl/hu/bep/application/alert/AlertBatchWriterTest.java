@@ -0,0 +1,116 @@
+package nl.hu.bep.application.alert;
+
+import nl.hu.bep.data.interfaces.ThermostatAlertRepository;
+import nl.hu.bep.domain.ThermostatAlert;
+import nl.hu.bep.exception.ApplicationException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlertBatchWriter Tests")
+class AlertBatchWriterTest {
+
+    @Mock
+    private ThermostatAlertRepository alertRepository;
+
+    private AlertBatchWriter alertWriter;
+
+    @BeforeEach
+    void setUp() {
+        alertWriter = new AlertBatchWriter(alertRepository);
+    }
+
+    private static ThermostatAlert alert(long accessoryId) {
+        return new ThermostatAlert(null, accessoryId, 1L, null, ThermostatAlert.Type.TOO_HOT,
+                30.0, 24.0, 28.0, LocalDateTime.of(2024, 6, 1, 12, 0));
+    }
+
+    private static ApplicationException.ConflictException failure(String sqlState) {
+        return new ApplicationException.ConflictException("Insert failed", new SQLException("insert failed", sqlState));
+    }
+
+    @Test
+    @DisplayName("Should write the rest of a batch when one alert violates a constraint")
+    void shouldSkipOnlyRejectedAlert() {
+        // Given
+        ThermostatAlert kept = alert(10L);
+        ThermostatAlert orphan = alert(11L);
+        doAnswer(invocation -> {
+            if (invocation.<List<ThermostatAlert>>getArgument(0).contains(orphan)) {
+                throw failure("23503");
+            }
+            return null;
+        }).when(alertRepository).insertAll(anyList());
+        alertWriter.enqueue(kept);
+        alertWriter.enqueue(orphan);
+
+        // When
+        alertWriter.flush();
+
+        // Then
+        verify(alertRepository).insertAll(List.of(kept));
+        verify(alertRepository).insertAll(List.of(orphan));
+        assertEquals(0, alertWriter.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Should keep the batch queued when the database cannot be reached")
+    void shouldRequeueOnConnectionFailure() {
+        // Given
+        doThrow(failure("08001")).when(alertRepository).insertAll(argThat(batch -> batch.size() == 2));
+        alertWriter.enqueue(alert(10L));
+        alertWriter.enqueue(alert(11L));
+
+        // When & Then
+        assertThrows(ApplicationException.ConflictException.class, () -> alertWriter.flush());
+        assertEquals(2, alertWriter.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Should drop the queued alerts of a deleted accessory")
+    void shouldDiscardAlertsOfDeletedAccessory() {
+        // Given
+        alertWriter.enqueue(alert(10L));
+        alertWriter.enqueue(alert(11L));
+        alertWriter.enqueue(alert(10L));
+
+        // When
+        alertWriter.discard(10L);
+        alertWriter.flush();
+
+        // Then
+        verify(alertRepository).insertAll(List.of(alert(11L)));
+    }
+
+    @Test
+    @DisplayName("Should list only the given owner's queued alerts, oldest first")
+    void shouldListPendingAlertsOfOwner() {
+        // Given
+        ThermostatAlert otherOwner = new ThermostatAlert(null, 20L, 2L, null, ThermostatAlert.Type.TOO_COLD,
+                20.0, 24.0, 28.0, LocalDateTime.of(2024, 6, 1, 12, 0));
+        alertWriter.enqueue(alert(10L));
+        alertWriter.enqueue(otherOwner);
+        alertWriter.enqueue(alert(11L));
+
+        // When
+        List<ThermostatAlert> pending = alertWriter.pendingFor(1L);
+
+        // Then
+        assertEquals(List.of(alert(10L), alert(11L)), pending);
+        assertEquals(3, alertWriter.pendingCount());
+    }
+}
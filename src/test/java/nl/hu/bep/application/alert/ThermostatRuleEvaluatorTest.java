@@ -0,0 +1,128 @@
+package nl.hu.bep.application.alert;
+
+import nl.hu.bep.domain.ThermostatAlert;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ThermostatRuleEvaluator Tests")
+class ThermostatRuleEvaluatorTest {
+
+    private static final double MIN = 24.0;
+    private static final double MAX = 28.0;
+    private static final long COOLDOWN = 60_000L;
+
+    private ThermostatRuleEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new ThermostatRuleEvaluator(0.5, COOLDOWN);
+    }
+
+    @Nested
+    @DisplayName("Range Transitions")
+    class RangeTransitions {
+
+        @Test
+        @DisplayName("Should stay silent while readings are in range")
+        void shouldStaySilentInRange() {
+            assertNull(evaluator.evaluate(1L, 25.0, MIN, MAX, 0L));
+            assertNull(evaluator.evaluate(1L, 27.9, MIN, MAX, 1_000L));
+        }
+
+        @Test
+        @DisplayName("Should alert once when a sensor leaves its range")
+        void shouldAlertOnceOnExcursion() {
+            assertEquals(ThermostatAlert.Type.TOO_HOT, evaluator.evaluate(1L, 28.5, MIN, MAX, 0L));
+            assertNull(evaluator.evaluate(1L, 29.0, MIN, MAX, 1_000L));
+        }
+
+        @Test
+        @DisplayName("Should only recover after clearing the hysteresis margin")
+        void shouldApplyHysteresis() {
+            evaluator.evaluate(1L, 23.0, MIN, MAX, 0L);
+
+            assertNull(evaluator.evaluate(1L, 24.2, MIN, MAX, 1_000L));
+            assertEquals(ThermostatAlert.Type.BACK_IN_RANGE, evaluator.evaluate(1L, 24.5, MIN, MAX, 2_000L));
+        }
+
+        @Test
+        @DisplayName("Should switch directly from cold to hot")
+        void shouldSwitchDirectlyBetweenExcursions() {
+            evaluator.evaluate(1L, 20.0, MIN, MAX, 0L);
+
+            assertEquals(ThermostatAlert.Type.TOO_HOT, evaluator.evaluate(1L, 30.0, MIN, MAX, 1_000L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Cooldown")
+    class Cooldown {
+
+        @Test
+        @DisplayName("Should suppress a repeated alert and its recovery within the cooldown")
+        void shouldSuppressRepeatedAlert() {
+            evaluator.evaluate(1L, 29.0, MIN, MAX, 0L);
+            evaluator.evaluate(1L, 26.0, MIN, MAX, 1_000L);
+
+            assertNull(evaluator.evaluate(1L, 29.0, MIN, MAX, 2_000L));
+            assertNull(evaluator.evaluate(1L, 26.0, MIN, MAX, 3_000L));
+        }
+
+        @Test
+        @DisplayName("Should alert again after the cooldown has passed")
+        void shouldAlertAfterCooldown() {
+            evaluator.evaluate(1L, 29.0, MIN, MAX, 0L);
+            evaluator.evaluate(1L, 26.0, MIN, MAX, 1_000L);
+
+            assertEquals(ThermostatAlert.Type.TOO_HOT, evaluator.evaluate(1L, 29.0, MIN, MAX, COOLDOWN));
+        }
+
+        @Test
+        @DisplayName("Should keep cooldowns separate per sensor")
+        void shouldTrackSensorsIndependently() {
+            evaluator.evaluate(1L, 29.0, MIN, MAX, 0L);
+
+            assertEquals(ThermostatAlert.Type.TOO_HOT, evaluator.evaluate(2L, 29.0, MIN, MAX, 0L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sensor Table")
+    class SensorTable {
+
+        @Test
+        @DisplayName("Should keep state for many sensors across resizes")
+        void shouldKeepStateAcrossResizes() {
+            for (long id = 1; id <= 1_000; id++) {
+                assertEquals(ThermostatAlert.Type.TOO_COLD, evaluator.evaluate(id, 20.0, MIN, MAX, 0L));
+            }
+
+            assertEquals(1_000, evaluator.size());
+            for (long id = 1; id <= 1_000; id++) {
+                assertNull(evaluator.evaluate(id, 21.0, MIN, MAX, 0L));
+            }
+        }
+
+        @Test
+        @DisplayName("Should reset state for forgotten sensors and keep the others")
+        void shouldForgetSensors() {
+            for (long id = 1; id <= 100; id++) {
+                evaluator.evaluate(id, 20.0, MIN, MAX, 0L);
+            }
+            for (long id = 1; id <= 100; id += 2) {
+                evaluator.forget(id);
+            }
+
+            assertEquals(50, evaluator.size());
+            for (long id = 2; id <= 100; id += 2) {
+                assertNull(evaluator.evaluate(id, 20.0, MIN, MAX, 0L));
+            }
+            assertEquals(ThermostatAlert.Type.TOO_COLD, evaluator.evaluate(1L, 20.0, MIN, MAX, 0L));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package nl.hu.bep.application.health;
+
+import nl.hu.bep.config.DatabaseManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DatabaseHealthProber Tests")
+class DatabaseHealthProberTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    @Mock
+    private DatabaseManager databaseManager;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet pingResult;
+
+    @Mock
+    private ResultSet versionResult;
+
+    private MutableClock clock;
+    private DatabaseHealthProber prober;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        prober = new DatabaseHealthProber(databaseManager, clock);
+    }
+
+    @Nested
+    @DisplayName("Probing")
+    class Probing {
+
+        @Test
+        @DisplayName("Should not be ready before the first probe")
+        void shouldStartUnknown() {
+            assertEquals(DatabaseProbe.Status.UNKNOWN, prober.getLatestProbe().status());
+            assertFalse(prober.isReady());
+            verifyNoInteractions(databaseManager);
+        }
+
+        @Test
+        @DisplayName("Should cache a successful probe with the schema version")
+        void shouldCacheSuccessfulProbe() throws SQLException {
+            // Given
+            givenReachableDatabase();
+            when(statement.executeQuery("SELECT MAX(version) FROM schema_version")).thenReturn(versionResult);
+            when(versionResult.next()).thenReturn(true);
+            when(versionResult.getString(1)).thenReturn("7");
+
+            // When
+            prober.probe();
+
+            // Then
+            DatabaseProbe probe = prober.getLatestProbe();
+            assertEquals(DatabaseProbe.Status.UP, probe.status());
+            assertEquals("7", probe.schemaVersion());
+            assertTrue(probe.roundTripNanos() >= 0);
+            assertTrue(prober.isReady());
+            verify(statement).setQueryTimeout(2);
+        }
+
+        @Test
+        @DisplayName("Should stay up without a schema version table")
+        void shouldTolerateMissingVersionTable() throws SQLException {
+            // Given
+            givenReachableDatabase();
+            when(statement.executeQuery("SELECT MAX(version) FROM schema_version"))
+                    .thenThrow(new SQLException("relation \"schema_version\" does not exist"));
+
+            // When
+            prober.probe();
+
+            // Then
+            assertTrue(prober.getLatestProbe().isUp());
+            assertNull(prober.getLatestProbe().schemaVersion());
+        }
+
+        @Test
+        @DisplayName("Should report down when no connection can be made")
+        void shouldReportDownOnConnectionFailure() throws SQLException {
+            // Given
+            when(databaseManager.getConnection()).thenThrow(new SQLException("connection refused"));
+
+            // When
+            prober.probe();
+
+            // Then
+            DatabaseProbe probe = prober.getLatestProbe();
+            assertEquals(DatabaseProbe.Status.DOWN, probe.status());
+            assertTrue(probe.message().contains("connection refused"));
+            assertFalse(prober.isReady());
+        }
+    }
+
+    @Nested
+    @DisplayName("Staleness")
+    class Staleness {
+
+        @Test
+        @DisplayName("Should stop being ready once the last probe is too old")
+        void shouldExpireOldProbe() throws SQLException {
+            // Given
+            givenReachableDatabase();
+            when(statement.executeQuery("SELECT MAX(version) FROM schema_version")).thenReturn(versionResult);
+            prober.probe();
+
+            // When
+            clock.advance(Duration.ofSeconds(14));
+            boolean readyBeforeLimit = prober.isReady();
+            clock.advance(Duration.ofSeconds(1));
+
+            // Then
+            assertTrue(readyBeforeLimit);
+            assertFalse(prober.isReady());
+            assertTrue(prober.isStale(prober.getLatestProbe()));
+        }
+    }
+
+    private void givenReachableDatabase() throws SQLException {
+        when(databaseManager.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SELECT 1")).thenReturn(pingResult);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package nl.hu.bep.application.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Nested
+    @DisplayName("Bucket Layout")
+    class BucketLayout {
+
+        @Test
+        @DisplayName("Should map small values to exact buckets")
+        void shouldMapSmallValuesExactly() {
+            for (long value = 0; value < LatencyHistogram.SUB_BUCKETS; value++) {
+                assertEquals(value, LatencyHistogram.highestValueIn(LatencyHistogram.indexOf(value)));
+            }
+        }
+
+        @Test
+        @DisplayName("Should place every value inside the bounds of its bucket")
+        void shouldKeepValuesInsideTheirBucket() {
+            for (long value = 1; value < 60_000_000_000L; value = value * 3 / 2 + 1) {
+                int index = LatencyHistogram.indexOf(value);
+                long previousUpper = index == 0 ? -1 : LatencyHistogram.highestValueIn(index - 1);
+
+                assertTrue(value > previousUpper && value <= LatencyHistogram.highestValueIn(index),
+                        "value " + value + " outside bucket " + index);
+            }
+        }
+
+        @Test
+        @DisplayName("Should clamp values beyond the trackable range into the last bucket")
+        void shouldClampHugeValues() {
+            assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.indexOf(Long.MAX_VALUE));
+        }
+    }
+
+    @Nested
+    @DisplayName("Quantiles")
+    class Quantiles {
+
+        @Test
+        @DisplayName("Should report zero for an empty histogram")
+        void shouldReportZeroWhenEmpty() {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+            assertEquals(0, snapshot.count());
+            assertEquals(0, snapshot.valueAtQuantile(0.99));
+        }
+
+        @Test
+        @DisplayName("Should report quantiles within the bucket precision")
+        void shouldReportQuantilesWithinPrecision() {
+            // Given
+            for (long millis = 1; millis <= 1000; millis++) {
+                histogram.record(millis * 1_000_000L);
+            }
+
+            // When
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+            // Then
+            assertEquals(1000, snapshot.count());
+            assertEquals(500_500L * 1_000_000L, snapshot.totalNanos());
+            assertEquals(1_000_000_000L, snapshot.maxNanos());
+            assertEquals(500_000_000L, snapshot.valueAtQuantile(0.5), 500_000_000L * 0.04);
+            assertEquals(990_000_000L, snapshot.valueAtQuantile(0.99), 990_000_000L * 0.04);
+            assertEquals(1_000_000_000L, snapshot.valueAtQuantile(0.999), 1_000_000_000L * 0.04);
+        }
+
+        @Test
+        @DisplayName("Should never report a quantile above the recorded maximum")
+        void shouldCapQuantilesAtMaximum() {
+            histogram.record(1_000_001L);
+
+            assertEquals(1_000_001L, histogram.snapshot().valueAtQuantile(0.999));
+        }
+
+        @Test
+        @DisplayName("Should treat negative durations as zero")
+        void shouldTreatNegativeAsZero() {
+            histogram.record(-5);
+
+            assertEquals(0, histogram.snapshot().totalNanos());
+            assertEquals(1, histogram.snapshot().count());
+        }
+
+        @Test
+        @DisplayName("Should not lose recordings under concurrent writers")
+        void shouldRecordConcurrently() throws InterruptedException {
+            // Given
+            Thread[] writers = new Thread[4];
+            for (int t = 0; t < writers.length; t++) {
+                writers[t] = new Thread(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        histogram.record(i);
+                    }
+                });
+            }
+
+            // When
+            for (Thread writer : writers) {
+                writer.start();
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+
+            // Then
+            assertEquals(40_000, histogram.snapshot().count());
+            assertEquals(9_999, histogram.snapshot().maxNanos());
+        }
+    }
+}
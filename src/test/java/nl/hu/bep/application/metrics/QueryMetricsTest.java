@@ -0,0 +1,115 @@
+package nl.hu.bep.application.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QueryMetrics Tests")
+class QueryMetricsTest {
+
+    private static final long MILLIS = 1_000_000L;
+    private static final String FIND_BY_ID = "SELECT * FROM aquariums WHERE id = ?";
+    private static final String FIND_ALL = "SELECT * FROM aquariums";
+
+    private QueryMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new QueryMetrics(100 * MILLIS, 60_000 * MILLIS);
+    }
+
+    @Nested
+    @DisplayName("Templates")
+    class Templates {
+
+        @Test
+        @DisplayName("Should aggregate calls and mapped rows per template")
+        void shouldAggregatePerTemplate() {
+            // Given
+            metrics.recordQuery(FIND_BY_ID, 2 * MILLIS, 1);
+            metrics.recordQuery(FIND_BY_ID, 4 * MILLIS, 0);
+            metrics.recordQuery(FIND_ALL, 8 * MILLIS, 25);
+
+            // When
+            List<QueryMetrics.TemplateStats> slowest = metrics.findSlowest(10);
+
+            // Then
+            assertEquals(2, slowest.size());
+            QueryMetrics.TemplateStats byId = slowest.get(1);
+            assertEquals(FIND_BY_ID, byId.sql());
+            assertEquals(2, byId.calls());
+            assertEquals(1, byId.rowsMapped());
+            assertEquals(3 * MILLIS, byId.meanNanos());
+            assertEquals(4 * MILLIS, byId.maxNanos());
+        }
+
+        @Test
+        @DisplayName("Should order templates by p99 latency and honour the limit")
+        void shouldOrderBySlowest() {
+            metrics.recordQuery(FIND_BY_ID, MILLIS, 1);
+            metrics.recordQuery(FIND_ALL, 50 * MILLIS, 10);
+
+            List<QueryMetrics.TemplateStats> slowest = metrics.findSlowest(1);
+
+            assertEquals(1, slowest.size());
+            assertEquals(FIND_ALL, slowest.get(0).sql());
+        }
+    }
+
+    @Nested
+    @DisplayName("Slow Queries")
+    class SlowQueries {
+
+        @Test
+        @DisplayName("Should count statements at or above the threshold as slow")
+        void shouldCountSlowCalls() {
+            metrics.recordQuery(FIND_ALL, 99 * MILLIS, 1);
+            metrics.recordQuery(FIND_ALL, 100 * MILLIS, 1);
+            metrics.recordQuery(FIND_ALL, 500 * MILLIS, 1);
+
+            assertEquals(2, metrics.findSlowest(1).get(0).slowCalls());
+            assertEquals(100, metrics.getSlowThresholdMillis());
+        }
+
+        @Test
+        @DisplayName("Should count and time failed statements against their template")
+        void shouldRecordFailures() {
+            // Given
+            metrics.recordQuery(FIND_BY_ID, 2 * MILLIS, 1);
+            metrics.recordFailure(FIND_BY_ID, 300 * MILLIS);
+
+            // When
+            QueryMetrics.TemplateStats byId = metrics.findSlowest(1).get(0);
+
+            // Then
+            assertEquals(2, byId.calls());
+            assertEquals(1, byId.failedCalls());
+            assertEquals(1, byId.slowCalls());
+            assertEquals(1, byId.rowsMapped());
+            assertEquals(300 * MILLIS, byId.maxNanos());
+        }
+    }
+
+    @Nested
+    @DisplayName("Connections")
+    class Connections {
+
+        @Test
+        @DisplayName("Should track connection acquire latency separately")
+        void shouldTrackConnectionAcquire() {
+            metrics.recordConnectionAcquire(3 * MILLIS);
+            metrics.recordConnectionAcquire(5 * MILLIS);
+
+            LatencyHistogram.Snapshot snapshot = metrics.getConnectionAcquireSnapshot();
+
+            assertEquals(2, snapshot.count());
+            assertEquals(5 * MILLIS, snapshot.maxNanos());
+            assertTrue(metrics.findSlowest(10).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package nl.hu.bep.application.metrics;
+
+import nl.hu.bep.exception.ApplicationException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequestMetrics Tests")
+class RequestMetricsTest {
+
+    private RequestMetrics metrics;
+    private Method resourceMethod;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        metrics = new RequestMetrics();
+        resourceMethod = SampleResource.class.getDeclaredMethod("getSample");
+    }
+
+    @Nested
+    @DisplayName("Recording")
+    class Recording {
+
+        @Test
+        @DisplayName("Should reuse the same endpoint for a resource method")
+        void shouldReuseEndpoint() {
+            RequestMetrics.Endpoint first = metrics.endpoint(resourceMethod);
+
+            assertSame(first, metrics.endpoint(resourceMethod));
+            assertEquals("SampleResource.getSample", first.name());
+        }
+
+        @Test
+        @DisplayName("Should track in-flight requests until they complete")
+        void shouldTrackInFlight() {
+            // Given
+            RequestMetrics.Endpoint endpoint = metrics.endpoint(resourceMethod);
+
+            // When
+            metrics.requestStarted(endpoint);
+            metrics.requestStarted(endpoint);
+            metrics.requestCompleted(endpoint, 200, 1_000L);
+
+            // Then
+            assertEquals(1, metrics.inFlight());
+            assertTrue(metrics.scrape().contains(
+                    "aquarium_http_endpoint_requests_in_flight{endpoint=\"SampleResource.getSample\"} 1\n"));
+        }
+
+        @Test
+        @DisplayName("Should ignore status codes outside the HTTP range")
+        void shouldIgnoreInvalidStatus() {
+            metrics.recordStatus(-1);
+            metrics.recordStatus(999);
+
+            assertFalse(metrics.scrape().contains("aquarium_http_responses_total{"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Prometheus Output")
+    class PrometheusOutput {
+
+        @Test
+        @DisplayName("Should expose counts, errors and latency quantiles")
+        void shouldExposeAllMetrics() {
+            // Given
+            RequestMetrics.Endpoint endpoint = metrics.endpoint(resourceMethod);
+            metrics.requestStarted(endpoint);
+            metrics.requestCompleted(endpoint, 200, 2_000_000L);
+            metrics.requestStarted(endpoint);
+            metrics.requestCompleted(endpoint, 404, 1_000_000L);
+            metrics.recordStatus(404);
+            metrics.recordException(new ApplicationException.NotFoundException("missing"), 404);
+
+            // When
+            String output = metrics.scrape();
+
+            // Then
+            assertTrue(output.contains("# TYPE aquarium_http_responses_total counter\n"));
+            assertTrue(output.contains("aquarium_http_responses_total{status=\"200\"} 1\n"));
+            assertTrue(output.contains("aquarium_http_responses_total{status=\"404\"} 2\n"));
+            assertTrue(output.contains("aquarium_http_exceptions_total{exception=\"NotFoundException\",status=\"404\"} 1\n"));
+            assertTrue(output.contains("aquarium_http_endpoint_errors_total{endpoint=\"SampleResource.getSample\"} 1\n"));
+            assertTrue(output.contains("aquarium_http_request_duration_seconds{endpoint=\"SampleResource.getSample\",quantile=\"0.999\"} "));
+            assertTrue(output.contains("aquarium_http_request_duration_seconds_sum{endpoint=\"SampleResource.getSample\"} 0.003\n"));
+            assertTrue(output.contains("aquarium_http_request_duration_seconds_count{endpoint=\"SampleResource.getSample\"} 2\n"));
+            assertTrue(output.contains("aquarium_http_requests_in_flight 0\n"));
+        }
+    }
+
+    static class SampleResource {
+        public String getSample() {
+            return "sample";
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package nl.hu.bep.application.planning;
+
+import nl.hu.bep.application.planning.AirPumpPlacementPlanner.Placement;
+import nl.hu.bep.application.planning.AirPumpPlacementPlanner.Plan;
+import nl.hu.bep.application.planning.AirPumpPlacementPlanner.Reason;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.AquariumFiltration;
+import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.accessories.Filter;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.value.Dimensions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AirPumpPlacementPlanner Tests")
+class AirPumpPlacementPlannerTest {
+
+    private static final Long OWNER_ID = 1L;
+
+    @Nested
+    @DisplayName("Prioritising Aquariums")
+    class PrioritisingAquariums {
+
+        @Test
+        @DisplayName("Should place ornaments in the tanks that need aeration most")
+        void shouldPlaceByNeed() {
+            // Given - 100 liter tanks
+            List<AquariumFiltration> aquariums = List.of(
+                    tank(1L, AquariumState.RUNNING, filter(false, 300)),
+                    tank(2L, AquariumState.RUNNING, filter(true, 300)),
+                    tank(3L, AquariumState.RUNNING),
+                    tank(4L, AquariumState.RUNNING, filter(true, 150)));
+            List<Ornament> ornaments = List.of(ornament(10L, true, null), ornament(11L, true, null),
+                    ornament(12L, true, null), ornament(13L, true, null));
+
+            // When
+            Plan plan = AirPumpPlacementPlanner.plan(aquariums, ornaments);
+
+            // Then
+            assertEquals(List.of(3L, 4L, 1L, 2L), aquariumIds(plan));
+            assertEquals(List.of(Reason.NO_FILTER, Reason.UNDER_FILTERED, Reason.INTERNAL_FILTER_ONLY, Reason.EXTERNAL_FILTER),
+                    plan.placements().stream().map(Placement::reason).toList());
+            assertTrue(plan.unmatched().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should skip inactive tanks and tanks that already have an air-pump ornament")
+        void shouldSkipInactiveAndAeratedTanks() {
+            // Given
+            List<AquariumFiltration> aquariums = List.of(
+                    tank(1L, AquariumState.INACTIVE),
+                    tank(2L, AquariumState.RUNNING),
+                    tank(3L, AquariumState.RUNNING));
+            List<Ornament> ornaments = List.of(ornament(10L, true, 2L), ornament(11L, true, null),
+                    ornament(12L, false, null));
+
+            // When
+            Plan plan = AirPumpPlacementPlanner.plan(aquariums, ornaments);
+
+            // Then
+            assertEquals(List.of(3L), aquariumIds(plan));
+            assertEquals(11L, plan.placements().get(0).ornament().getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Leftovers")
+    class Leftovers {
+
+        @Test
+        @DisplayName("Should report ornaments that have no tank left")
+        void shouldReportUnmatchedOrnaments() {
+            // When
+            Plan plan = AirPumpPlacementPlanner.plan(List.of(tank(1L, AquariumState.RUNNING)),
+                    List.of(ornament(10L, true, null), ornament(11L, true, null)));
+
+            // Then
+            assertEquals(1, plan.placements().size());
+            assertEquals(List.of(11L), plan.unmatched().stream().map(Ornament::getId).toList());
+        }
+    }
+
+    private static List<Long> aquariumIds(Plan plan) {
+        return plan.placements().stream().map(p -> p.aquarium().aquariumId()).toList();
+    }
+
+    private static AquariumFiltration tank(Long id, AquariumState state, Filter... filters) {
+        return new AquariumFiltration(id, OWNER_ID, "Tank " + id, state, new Dimensions(50.0, 40.0, 50.0), List.of(filters));
+    }
+
+    private static Filter filter(boolean external, int capacity) {
+        return (Filter) Accessory.reconstruct("Filter", null, "Filter", "SN", OWNER_ID, null, null, null, null,
+                external, capacity, false, null, null, 0, 0, 0);
+    }
+
+    private static Ornament ornament(Long id, boolean airPumpCompatible, Long aquariumId) {
+        return Ornament.reconstruct(id, "Ornament " + id, null, null, null, airPumpCompatible, OWNER_ID,
+                aquariumId, LocalDateTime.now());
+    }
+}
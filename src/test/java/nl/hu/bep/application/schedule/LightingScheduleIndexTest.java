@@ -0,0 +1,114 @@
+package nl.hu.bep.application.schedule;
+
+import nl.hu.bep.application.schedule.LightingScheduleIndex.LightSchedule;
+import nl.hu.bep.application.schedule.LightingScheduleIndex.SwitchEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LightingScheduleIndex Tests")
+class LightingScheduleIndexTest {
+
+    private LightingScheduleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new LightingScheduleIndex();
+        index.put(1L, 10L, LocalTime.of(8, 0), LocalTime.of(20, 0));
+        index.put(2L, 10L, LocalTime.of(22, 0), LocalTime.of(6, 0));
+        index.put(3L, 11L, LocalTime.of(12, 0), LocalTime.of(12, 0));
+    }
+
+    @Nested
+    @DisplayName("Point Queries")
+    class PointQueries {
+
+        @Test
+        @DisplayName("Should find daytime and always-on lights at noon")
+        void shouldFindLightsAtNoon() {
+            List<LightSchedule> result = index.findOnAt(LocalTime.of(12, 0));
+
+            assertEquals(List.of(1L, 3L), result.stream().map(LightSchedule::accessoryId).toList());
+        }
+
+        @Test
+        @DisplayName("Should handle schedules that wrap past midnight")
+        void shouldHandleMidnightWrap() {
+            assertEquals(List.of(2L, 3L), ids(index.findOnAt(LocalTime.of(23, 59))));
+            assertEquals(List.of(2L, 3L), ids(index.findOnAt(LocalTime.of(0, 0))));
+            assertEquals(List.of(3L), ids(index.findOnAt(LocalTime.of(6, 0))));
+        }
+
+        @Test
+        @DisplayName("Should treat turn-on as inclusive and turn-off as exclusive")
+        void shouldUseHalfOpenIntervals() {
+            assertTrue(ids(index.findOnAt(LocalTime.of(8, 0))).contains(1L));
+            assertFalse(ids(index.findOnAt(LocalTime.of(20, 0))).contains(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Window Queries")
+    class WindowQueries {
+
+        @Test
+        @DisplayName("Should return switches ordered by time within the window")
+        void shouldReturnOrderedSwitches() {
+            List<SwitchEvent> result = index.findSwitchesWithin(LocalTime.of(19, 30), 180);
+
+            assertEquals(2, result.size());
+            assertEquals(1L, result.get(0).light().accessoryId());
+            assertFalse(result.get(0).turningOn());
+            assertEquals(30, result.get(0).minutesFromStart());
+            assertEquals(2L, result.get(1).light().accessoryId());
+            assertTrue(result.get(1).turningOn());
+            assertEquals(150, result.get(1).minutesFromStart());
+        }
+
+        @Test
+        @DisplayName("Should wrap the window past midnight")
+        void shouldWrapWindowPastMidnight() {
+            List<SwitchEvent> result = index.findSwitchesWithin(LocalTime.of(23, 0), 8 * 60);
+
+            assertEquals(1, result.size());
+            assertEquals(2L, result.get(0).light().accessoryId());
+            assertFalse(result.get(0).turningOn());
+            assertEquals(420, result.get(0).minutesFromStart());
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Updates")
+    class IncrementalUpdates {
+
+        @Test
+        @DisplayName("Should re-index a light when its schedule changes")
+        void shouldReindexChangedSchedule() {
+            index.put(1L, 10L, LocalTime.of(14, 0), LocalTime.of(16, 0));
+
+            assertFalse(ids(index.findOnAt(LocalTime.of(9, 0))).contains(1L));
+            assertTrue(ids(index.findOnAt(LocalTime.of(15, 0))).contains(1L));
+            assertEquals(3, index.size());
+        }
+
+        @Test
+        @DisplayName("Should forget removed lights")
+        void shouldForgetRemovedLights() {
+            index.remove(2L);
+
+            assertEquals(List.of(3L), ids(index.findOnAt(LocalTime.of(23, 0))));
+            assertTrue(index.findSwitchesWithin(LocalTime.of(21, 0), 120).isEmpty());
+        }
+    }
+
+    private static List<Long> ids(List<LightSchedule> schedules) {
+        return schedules.stream().map(LightSchedule::accessoryId).toList();
+    }
+}
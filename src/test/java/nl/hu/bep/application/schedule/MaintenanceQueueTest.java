@@ -0,0 +1,90 @@
+package nl.hu.bep.application.schedule;
+
+import nl.hu.bep.application.schedule.MaintenanceQueue.Entry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MaintenanceQueue Tests")
+class MaintenanceQueueTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private MaintenanceQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new MaintenanceQueue();
+        queue.schedule(1L, "Nano", NOW.minusDays(2), 3);
+        queue.schedule(2L, "Community", NOW.plusDays(3), 7);
+        queue.schedule(3L, "Show", NOW.plusDays(10), 14);
+        queue.schedule(4L, "Reef", NOW.minusHours(1), 7);
+    }
+
+    @Nested
+    @DisplayName("Range Queries")
+    class RangeQueries {
+
+        @Test
+        @DisplayName("Should return overdue entries, most overdue first")
+        void shouldReturnOverdueInOrder() {
+            assertEquals(List.of(1L, 4L), ids(queue.findOverdue(NOW)));
+        }
+
+        @Test
+        @DisplayName("Should return entries due inside the window")
+        void shouldReturnUpcomingWithinWindow() {
+            assertEquals(List.of(2L), ids(queue.findDueBetween(NOW, NOW.plusDays(7))));
+            assertEquals(List.of(2L, 3L), ids(queue.findDueBetween(NOW, NOW.plusDays(30))));
+        }
+
+        @Test
+        @DisplayName("Should include entries due exactly at the end of the window")
+        void shouldIncludeWindowEnd() {
+            assertEquals(List.of(2L), ids(queue.findDueBetween(NOW, NOW.plusDays(3))));
+            assertTrue(queue.findDueBetween(NOW, NOW.plusDays(2)).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should expose the soonest entry at the head")
+        void shouldPeekSoonest() {
+            assertEquals(1L, queue.peek().aquariumId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rescheduling")
+    class Rescheduling {
+
+        @Test
+        @DisplayName("Should move an aquarium when it is rescheduled")
+        void shouldReplaceExistingEntry() {
+            queue.schedule(1L, "Nano", NOW.plusDays(1), 3);
+
+            assertEquals(List.of(4L), ids(queue.findOverdue(NOW)));
+            assertEquals(List.of(1L, 2L), ids(queue.findDueBetween(NOW, NOW.plusDays(7))));
+            assertEquals(4, queue.size());
+        }
+
+        @Test
+        @DisplayName("Should drop removed aquariums")
+        void shouldRemoveEntry() {
+            queue.remove(4L);
+            queue.remove(99L);
+
+            assertEquals(List.of(1L), ids(queue.findOverdue(NOW)));
+            assertEquals(3, queue.size());
+        }
+    }
+
+    private static List<Long> ids(List<Entry> entries) {
+        return entries.stream().map(Entry::aquariumId).toList();
+    }
+}
@@ -1,5 +1,6 @@
 package nl.hu.bep.application.service;
 
+import nl.hu.bep.application.event.EntityChangeNotifier;
 import nl.hu.bep.data.interfaces.AccessoryRepository;
 import nl.hu.bep.data.interfaces.AquariumRepository;
 import nl.hu.bep.domain.Accessory;
@@ -44,6 +45,9 @@ class AccessoryServiceTest {
     @Mock
     private EntityMapper entityMapper;
 
+    @Mock
+    private EntityChangeNotifier changeNotifier;
+
     private AccessoryService accessoryService;
 
     private static final Long OWNER_ID = 1L;
@@ -51,7 +55,7 @@ class AccessoryServiceTest {
     private static final Long ACCESSORY_ID = 20L;
     @BeforeEach
     void setUp() {
-        accessoryService = new AccessoryService(accessoryRepository, aquariumRepository, entityMapper);
+        accessoryService = new AccessoryService(accessoryRepository, aquariumRepository, entityMapper, changeNotifier);
     }
 
     @Nested
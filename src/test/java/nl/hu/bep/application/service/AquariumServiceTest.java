@@ -1,5 +1,6 @@
 package nl.hu.bep.application.service;
 
+import nl.hu.bep.application.event.EntityChangeNotifier;
 import nl.hu.bep.data.interfaces.AquariumRepository;
 import nl.hu.bep.data.interfaces.OwnerRepository;
 import nl.hu.bep.domain.Aquarium;
@@ -7,10 +8,12 @@ import nl.hu.bep.domain.Owner;
 import nl.hu.bep.domain.enums.AquariumState;
 import nl.hu.bep.domain.enums.SubstrateType;
 import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.domain.summary.AquariumSummary;
 import nl.hu.bep.exception.ApplicationException;
 import nl.hu.bep.presentation.dto.mapper.EntityMapper;
 import nl.hu.bep.presentation.dto.request.AquariumRequest;
 import nl.hu.bep.presentation.dto.response.AquariumResponse;
+import nl.hu.bep.presentation.dto.response.AquariumSummaryResponse;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,6 +46,9 @@ class AquariumServiceTest {
     @Mock
     private EntityMapper entityMapper;
 
+    @Mock
+    private EntityChangeNotifier changeNotifier;
+
     private AquariumService aquariumService;
 
     private static final Long OWNER_ID = 1L;
@@ -51,7 +57,7 @@ class AquariumServiceTest {
 
     @BeforeEach
     void setUp() {
-        aquariumService = new AquariumService(aquariumRepository, ownerRepository, entityMapper);
+        aquariumService = new AquariumService(aquariumRepository, ownerRepository, entityMapper, changeNotifier);
     }
 
     @Nested
@@ -100,6 +106,28 @@ class AquariumServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Aquarium Summaries")
+    class GetAquariumSummaries {
+
+        @Test
+        @DisplayName("Should map the summary projection without loading full aquariums")
+        void shouldReturnSummariesForOwner() {
+            // Given
+            AquariumSummary summary = new AquariumSummary(1L, "Tank 1", AquariumState.RUNNING);
+            AquariumSummaryResponse response = new AquariumSummaryResponse(1L, "Tank 1", AquariumState.RUNNING);
+            when(aquariumRepository.findSummariesByOwnerId(OWNER_ID)).thenReturn(List.of(summary));
+            when(entityMapper.mapToAquariumSummaryResponse(summary)).thenReturn(response);
+
+            // When
+            List<AquariumSummaryResponse> result = aquariumService.getAquariumSummaries(OWNER_ID);
+
+            // Then
+            assertEquals(List.of(response), result);
+            verify(aquariumRepository, never()).findByOwnerId(any());
+        }
+    }
+
     @Nested
     @DisplayName("Get Single Aquarium")
     class GetSingleAquarium {
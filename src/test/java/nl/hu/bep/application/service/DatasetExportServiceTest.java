@@ -0,0 +1,198 @@
+package nl.hu.bep.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nl.hu.bep.application.transfer.DatasetExport;
+import nl.hu.bep.application.transfer.DatasetFormat;
+import nl.hu.bep.data.interfaces.DatasetRepository;
+import nl.hu.bep.domain.enums.DatasetEntity;
+import nl.hu.bep.exception.ApplicationException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DatasetExportService Unit Tests")
+class DatasetExportServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+
+    @Mock
+    private DatasetRepository datasetRepository;
+
+    private DatasetExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new DatasetExportService(datasetRepository);
+    }
+
+    private void givenRows(DatasetEntity entity, List<String> fields, Object[]... rows) {
+        doAnswer(invocation -> {
+            DatasetRepository.RowSink sink = invocation.getArgument(2);
+            sink.begin(entity, fields);
+            Object[] values = new Object[fields.size()];
+            for (Object[] row : rows) {
+                // The repository reuses one array for every row
+                System.arraycopy(row, 0, values, 0, row.length);
+                sink.row(values);
+            }
+            return null;
+        }).when(datasetRepository).streamOwnedRows(eq(entity), eq(OWNER_ID), any());
+    }
+
+    private static byte[] write(DatasetExport export) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        export.body().writeTo(output);
+        return output.toByteArray();
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("Should write every entity as one tagged JSON object per line, aquariums first")
+        void shouldWriteAllEntities() throws IOException {
+            // Given
+            givenRows(DatasetEntity.AQUARIUM, List.of("id", "name", "dateCreated"),
+                    new Object[]{10L, "Reef", LocalDateTime.of(2026, 1, 2, 3, 4, 5)});
+            givenRows(DatasetEntity.ACCESSORY, List.of("id", "model"));
+            givenRows(DatasetEntity.ORNAMENT, List.of("id", "name"));
+            givenRows(DatasetEntity.INHABITANT, List.of("id", "count", "isSchooling", "aquariumId"),
+                    new Object[]{30L, 2, true, 10L}, new Object[]{31L, 1, false, null});
+            DatasetExport export = exportService.prepareExport(OWNER_ID, DatasetFormat.NDJSON, Set.of(), false);
+
+            // When
+            String[] lines = new String(write(export), StandardCharsets.UTF_8).split("\n");
+
+            // Then
+            assertEquals("application/x-ndjson", export.mediaType());
+            assertTrue(export.fileName().matches("aquarium-export-\\d{4}-\\d{2}-\\d{2}\\.ndjson"));
+            assertEquals(3, lines.length);
+            ObjectMapper mapper = new ObjectMapper();
+            JsonNode aquarium = mapper.readTree(lines[0]);
+            assertEquals("aquarium", aquarium.get("entity").asText());
+            assertEquals("2026-01-02T03:04:05", aquarium.get("dateCreated").asText());
+            JsonNode inhabitant = mapper.readTree(lines[2]);
+            assertEquals(31, inhabitant.get("id").asInt());
+            assertFalse(inhabitant.get("isSchooling").asBoolean());
+            assertTrue(inhabitant.get("aquariumId").isNull());
+        }
+
+        @Test
+        @DisplayName("Should gzip the stream when asked")
+        void shouldCompress() throws IOException {
+            // Given
+            givenRows(DatasetEntity.ORNAMENT, List.of("id", "name"), new Object[]{40L, "Castle"});
+            DatasetExport export = exportService.prepareExport(OWNER_ID, DatasetFormat.NDJSON,
+                    EnumSet.of(DatasetEntity.ORNAMENT), true);
+
+            // When
+            byte[] compressed = write(export);
+
+            // Then
+            assertEquals("application/gzip", export.mediaType());
+            assertTrue(export.fileName().endsWith(".ndjson.gz"));
+            try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                assertEquals("{\"entity\":\"ornament\",\"id\":40,\"name\":\"Castle\"}\n",
+                        new String(input.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("Should write a header and quote values that need it")
+        void shouldWriteQuotedCsv() throws IOException {
+            // Given
+            givenRows(DatasetEntity.AQUARIUM, List.of("id", "name", "description", "color"),
+                    new Object[]{10L, "Reef", "Corals, \"mostly\"\nand fish", ""},
+                    new Object[]{11L, "Pond", null, "green"});
+            DatasetExport export = exportService.prepareExport(OWNER_ID, DatasetFormat.CSV,
+                    EnumSet.of(DatasetEntity.AQUARIUM), false);
+
+            // When
+            String csv = new String(write(export), StandardCharsets.UTF_8);
+
+            // Then
+            assertEquals("text/csv", export.mediaType());
+            assertTrue(export.fileName().startsWith("aquarium-export-aquarium-"));
+            assertEquals("id,name,description,color\r\n"
+                    + "10,Reef,\"Corals, \"\"mostly\"\"\nand fish\",\"\"\r\n"
+                    + "11,Pond,,green\r\n", csv);
+        }
+
+        @Test
+        @DisplayName("Should require exactly one entity")
+        void shouldRequireOneEntity() {
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> exportService.prepareExport(OWNER_ID, DatasetFormat.CSV, Set.of(), false));
+            assertThrows(ApplicationException.ValidationException.class, () -> exportService.prepareExport(OWNER_ID,
+                    DatasetFormat.CSV, EnumSet.of(DatasetEntity.AQUARIUM, DatasetEntity.ORNAMENT), false));
+            verifyNoInteractions(datasetRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrent Exports")
+    class ConcurrentExports {
+
+        @Test
+        @DisplayName("Should refuse an export while every export slot is taken")
+        void shouldRejectWhenSlotsTaken() throws IOException {
+            // Given
+            DatasetExportService singleSlotService = new DatasetExportService(datasetRepository, 1);
+            givenRows(DatasetEntity.AQUARIUM, List.of("id"));
+            DatasetExport running = singleSlotService.prepareExport(OWNER_ID, DatasetFormat.CSV,
+                    EnumSet.of(DatasetEntity.AQUARIUM), false);
+
+            // When & Then
+            assertThrows(ApplicationException.ConflictException.class, () -> singleSlotService.prepareExport(
+                    OWNER_ID, DatasetFormat.CSV, EnumSet.of(DatasetEntity.AQUARIUM), false));
+            write(running);
+            assertNotNull(singleSlotService.prepareExport(OWNER_ID, DatasetFormat.CSV,
+                    EnumSet.of(DatasetEntity.AQUARIUM), false));
+        }
+
+        @Test
+        @DisplayName("Should free the slot when writing the export fails")
+        void shouldReleaseSlotOnFailure() {
+            // Given
+            DatasetExportService singleSlotService = new DatasetExportService(datasetRepository, 1);
+            doThrow(new ApplicationException.ConflictException("Export of aquarium rows failed"))
+                    .when(datasetRepository).streamOwnedRows(eq(DatasetEntity.AQUARIUM), eq(OWNER_ID), any());
+            DatasetExport failing = singleSlotService.prepareExport(OWNER_ID, DatasetFormat.CSV,
+                    EnumSet.of(DatasetEntity.AQUARIUM), false);
+
+            // When
+            assertThrows(ApplicationException.ConflictException.class, () -> write(failing));
+
+            // Then
+            assertNotNull(singleSlotService.prepareExport(OWNER_ID, DatasetFormat.CSV,
+                    EnumSet.of(DatasetEntity.AQUARIUM), false));
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.event.EntityChangeNotifier;
+import nl.hu.bep.application.transfer.DatasetFormat;
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.data.interfaces.AccessoryRepository;
+import nl.hu.bep.data.interfaces.AquariumRepository;
+import nl.hu.bep.data.interfaces.InhabitantRepository;
+import nl.hu.bep.data.interfaces.OrnamentRepository;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.enums.DatasetEntity;
+import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.domain.summary.AquariumSummary;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.DatasetImportErrorResponse;
+import nl.hu.bep.presentation.dto.response.DatasetImportResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DatasetImportService Unit Tests")
+class DatasetImportServiceTest {
+
+    private static final Long OWNER_ID = 2L;
+    private static final String REEF = "{\"entity\":\"aquarium\",\"id\":10,\"name\":\"Reef\",\"length\":100.0,"
+            + "\"width\":40.0,\"height\":50.0,\"substrate\":\"SAND\",\"waterType\":\"SALTWATER\",\"temperature\":25.5,"
+            + "\"state\":\"RUNNING\",\"currentStateStartTime\":null,\"color\":null,\"description\":\"Corals\","
+            + "\"dateCreated\":\"2026-01-02T03:04:05\"}";
+    private static final String NEMO = "{\"entity\":\"inhabitant\",\"id\":30,\"inhabitantType\":\"Fish\","
+            + "\"species\":\"Clownfish\",\"name\":\"Nemo\",\"color\":null,\"count\":2,\"isSchooling\":false,"
+            + "\"waterType\":\"SALTWATER\",\"description\":null,\"dateCreated\":\"2026-01-02T03:04:05\","
+            + "\"aquariumId\":10,\"isAggressiveEater\":false,\"requiresSpecialFood\":true,\"isSnailEater\":false}";
+
+    @Mock
+    private AquariumRepository aquariumRepository;
+
+    @Mock
+    private AccessoryRepository accessoryRepository;
+
+    @Mock
+    private OrnamentRepository ornamentRepository;
+
+    @Mock
+    private InhabitantRepository inhabitantRepository;
+
+    @Mock
+    private EntityChangeNotifier changeNotifier;
+
+    private DatasetImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new DatasetImportService(aquariumRepository, accessoryRepository, ornamentRepository,
+                inhabitantRepository, changeNotifier);
+    }
+
+    /** Saves aquariums as the database would, numbering them from {@code firstId}. */
+    private void givenAquariumsSavedFrom(long firstId) {
+        when(aquariumRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Aquarium> aquariums = invocation.getArgument(0);
+            List<Aquarium> saved = new ArrayList<>();
+            for (Aquarium aquarium : aquariums) {
+                saved.add(Aquarium.reconstruct(firstId + saved.size(), aquarium.getName(), aquarium.getDimensions(),
+                        aquarium.getSubstrate(), aquarium.getWaterType(), aquarium.getTemperature(), aquarium.getState(),
+                        aquarium.getCurrentStateStartTime(), aquarium.getColor(), aquarium.getDescription(),
+                        aquarium.getDateCreated(), aquarium.getAquariumManagerId(), aquarium.getOwnerId()));
+            }
+            return saved;
+        });
+    }
+
+    private void givenInhabitantsSaved() {
+        when(inhabitantRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static InputStream lines(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private DatasetImportResponse importNdjson(InputStream input) {
+        return importService.importDataset(OWNER_ID, DatasetFormat.NDJSON, Set.of(), false, input);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Inhabitant> insertedInhabitants() {
+        ArgumentCaptor<List<Inhabitant>> captor = ArgumentCaptor.forClass(List.class);
+        verify(inhabitantRepository, atLeastOnce()).insertAll(captor.capture());
+        return captor.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("Should create every record for the importing owner and place it in the new aquarium")
+        void shouldImportAndRemapAquariumIds() {
+            // Given
+            givenAquariumsSavedFrom(100L);
+            givenInhabitantsSaved();
+
+            // When
+            DatasetImportResponse report = importNdjson(lines(REEF, NEMO));
+
+            // Then
+            assertEquals(2L, report.imported());
+            assertEquals(1L, report.importedByEntity().get(DatasetEntity.AQUARIUM));
+            assertEquals(1L, report.importedByEntity().get(DatasetEntity.INHABITANT));
+            assertEquals(0L, report.failed());
+            assertTrue(report.errors().isEmpty());
+
+            Inhabitant nemo = insertedInhabitants().get(0);
+            assertEquals("Nemo", nemo.getName());
+            assertEquals(OWNER_ID, nemo.getOwnerId());
+            assertEquals(100L, nemo.getAquariumId());
+            assertEquals(WaterType.SALTWATER, nemo.getWaterType());
+            assertTrue(nemo.getTypeSpecificProperties().requiresSpecialFood);
+            verify(changeNotifier).aquariumCreated(argThat(aquarium -> aquarium.getId() == 100L
+                    && aquarium.getOwnerId().equals(OWNER_ID) && aquarium.getState() == AquariumState.RUNNING
+                    && aquarium.getTemperature() == 25.5));
+            verify(changeNotifier).inhabitantCreated(nemo);
+        }
+
+        @Test
+        @DisplayName("Should report broken and invalid lines by number and import the rest")
+        void shouldReportBadLines() {
+            // Given
+            when(ornamentRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+            String missingLength = REEF.replace("\"length\":100.0,", "");
+
+            // When
+            DatasetImportResponse report = importNdjson(lines(
+                    "{\"entity\":\"aquarium\",",
+                    "{\"entity\":\"castle\",\"name\":\"Tower\"}",
+                    "",
+                    missingLength,
+                    "{\"entity\":\"ornament\",\"name\":\"Castle\",\"isAirPumpCompatible\":true,\"aquariumId\":null}"));
+
+            // Then
+            assertEquals(1L, report.imported());
+            assertEquals(3L, report.failed());
+            assertEquals(List.of(1L, 2L, 4L), report.errors().stream().map(DatasetImportErrorResponse::line).toList());
+            assertTrue(report.errors().get(0).message().startsWith("Invalid JSON"));
+            assertEquals("Unknown entity 'castle'", report.errors().get(1).message());
+            assertEquals("Field 'length' is required", report.errors().get(2).message());
+            assertFalse(report.errorsTruncated());
+            verify(aquariumRepository, never()).insertAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Should keep an aquarium id the owner already has and reject one it does not")
+        void shouldResolveAquariumsOutsideTheFile() {
+            // Given
+            when(aquariumRepository.findSummariesByOwnerId(OWNER_ID))
+                    .thenReturn(List.of(new AquariumSummary(7L, "Existing", AquariumState.RUNNING)));
+            givenInhabitantsSaved();
+
+            // When
+            DatasetImportResponse report = importNdjson(lines(
+                    NEMO.replace("\"aquariumId\":10", "\"aquariumId\":7"),
+                    NEMO));
+
+            // Then
+            assertEquals(1L, report.imported());
+            assertEquals(7L, insertedInhabitants().get(0).getAquariumId());
+            assertEquals(new DatasetImportErrorResponse(2L, "Aquarium 10 is not in this file and not one of your aquariums"),
+                    report.errors().get(0));
+            verify(aquariumRepository).findSummariesByOwnerId(OWNER_ID);
+        }
+
+        @Test
+        @DisplayName("Should insert in batches of a fixed size")
+        void shouldInsertInFixedSizeBatches() {
+            // Given
+            givenInhabitantsSaved();
+            int batch = AquariumConstants.IMPORT_BATCH_SIZE;
+            String fish = NEMO.replace("\"aquariumId\":10", "\"aquariumId\":null");
+
+            // When
+            DatasetImportResponse report = importNdjson(lines(
+                    IntStream.range(0, batch * 2 + 1).mapToObj(i -> fish).toArray(String[]::new)));
+
+            // Then
+            assertEquals(batch * 2L + 1, report.imported());
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Inhabitant>> batches = ArgumentCaptor.forClass(List.class);
+            verify(inhabitantRepository, times(3)).insertAll(batches.capture());
+            assertEquals(List.of(batch, batch, 1), batches.getAllValues().stream().map(List::size).toList());
+            verify(changeNotifier, times(batch * 2 + 1)).inhabitantCreated(any());
+        }
+
+        @Test
+        @DisplayName("Should report every line of a batch the database rolled back")
+        void shouldReportRolledBackBatch() {
+            // Given
+            when(aquariumRepository.insertAll(anyList()))
+                    .thenThrow(new ApplicationException.ConflictException("Batch insert of 2 rows failed"));
+
+            // When
+            DatasetImportResponse report = importNdjson(lines(REEF, REEF.replace("\"id\":10", "\"id\":11")));
+
+            // Then
+            assertEquals(0L, report.imported());
+            assertEquals(2L, report.failed());
+            assertEquals(List.of(1L, 2L), report.errors().stream().map(DatasetImportErrorResponse::line).toList());
+            verifyNoInteractions(changeNotifier);
+        }
+
+        @Test
+        @DisplayName("Should count every failure but list only the first ones")
+        void shouldTruncateErrorList() {
+            // Given
+            int failures = AquariumConstants.MAX_IMPORT_ERRORS + 5;
+
+            // When
+            DatasetImportResponse report = importNdjson(lines(
+                    IntStream.range(0, failures).mapToObj(i -> "not json").toArray(String[]::new)));
+
+            // Then
+            assertEquals((long) failures, report.failed());
+            assertEquals(AquariumConstants.MAX_IMPORT_ERRORS, report.errors().size());
+            assertTrue(report.errorsTruncated());
+        }
+
+        @Test
+        @DisplayName("Should read a gzip compressed upload")
+        void shouldReadGzip() throws IOException {
+            // Given
+            givenAquariumsSavedFrom(100L);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write((REEF + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+
+            // When
+            DatasetImportResponse report = importService.importDataset(OWNER_ID, DatasetFormat.NDJSON, Set.of(), true,
+                    new ByteArrayInputStream(compressed.toByteArray()));
+
+            // Then
+            assertEquals(1L, report.imported());
+        }
+
+        @Test
+        @DisplayName("Should refuse an entity parameter, since every line names its entity")
+        void shouldRejectEntityParameter() {
+            // When & Then
+            assertThrows(ApplicationException.ValidationException.class, () -> importService.importDataset(
+                    OWNER_ID, DatasetFormat.NDJSON, Set.of(DatasetEntity.AQUARIUM), false, lines(REEF)));
+            verifyNoInteractions(aquariumRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("Should import the rows of the named entity")
+        void shouldImportRows() {
+            // Given
+            when(accessoryRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+            InputStream csv = lines(
+                    "accessoryType,model,serialNumber,description,isLed,timeOn,timeOff,aquariumId",
+                    "Lighting,Aqua LED,SN-1,\"Bright, \"\"daylight\"\"\",true,08:00,20:00,",
+                    "Heater,Basic,SN-2,,false,,,");
+
+            // When
+            DatasetImportResponse report = importService.importDataset(OWNER_ID, DatasetFormat.CSV,
+                    EnumSet.of(DatasetEntity.ACCESSORY), false, csv);
+
+            // Then
+            assertEquals(1L, report.imported());
+            assertEquals(List.of(new DatasetImportErrorResponse(3L, "Minimum temperature must be positive")),
+                    report.errors());
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Accessory>> captor = ArgumentCaptor.forClass(List.class);
+            verify(accessoryRepository).insertAll(captor.capture());
+            Accessory light = captor.getValue().get(0);
+            assertEquals("Lighting", light.getAccessoryType());
+            assertEquals("Bright, \"daylight\"", light.getDescription());
+            assertEquals(OWNER_ID, light.getOwnerId());
+            assertNull(light.getAquariumId());
+            assertEquals("08:00", light.getTurnOnTime().toString());
+        }
+
+        @Test
+        @DisplayName("Should require exactly one entity")
+        void shouldRequireEntity() {
+            // When & Then
+            assertThrows(ApplicationException.ValidationException.class, () -> importService.importDataset(
+                    OWNER_ID, DatasetFormat.CSV, Set.of(), false, lines("name", "Castle")));
+            verifyNoInteractions(ornamentRepository);
+        }
+
+        @Test
+        @DisplayName("Should import ornaments without an aquarium lookup when none is placed")
+        void shouldImportOrnaments() {
+            // Given
+            when(ornamentRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            DatasetImportResponse report = importService.importDataset(OWNER_ID, DatasetFormat.CSV,
+                    EnumSet.of(DatasetEntity.ORNAMENT), false, lines("name,material", "Castle,stone", "Arch,"));
+
+            // Then
+            assertEquals(2L, report.imported());
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Ornament>> captor = ArgumentCaptor.forClass(List.class);
+            verify(ornamentRepository).insertAll(captor.capture());
+            assertEquals(List.of("stone", "null"), captor.getValue().stream()
+                    .map(ornament -> String.valueOf(ornament.getMaterial())).collect(Collectors.toList()));
+            verify(aquariumRepository, never()).findSummariesByOwnerId(any());
+        }
+    }
+}
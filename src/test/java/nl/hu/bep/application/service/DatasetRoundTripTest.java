@@ -0,0 +1,132 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.event.EntityChangeNotifier;
+import nl.hu.bep.application.metrics.QueryMetrics;
+import nl.hu.bep.application.transfer.DatasetExport;
+import nl.hu.bep.application.transfer.DatasetFormat;
+import nl.hu.bep.config.ConnectionPermits;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.config.SchemaMigrator;
+import nl.hu.bep.data.AccessoryRepositoryImpl;
+import nl.hu.bep.data.AquariumRepositoryImpl;
+import nl.hu.bep.data.DatasetRepositoryImpl;
+import nl.hu.bep.data.InhabitantRepositoryImpl;
+import nl.hu.bep.data.OrnamentRepositoryImpl;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.enums.DatasetEntity;
+import nl.hu.bep.presentation.dto.response.DatasetImportResponse;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exports an owner's data with the real writers and imports the file into another account, so the
+ * import keeps accepting exactly what the export produces.
+ */
+@DisplayName("Dataset export and import round trip")
+class DatasetRoundTripTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:dataset_round_trip;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+    private static final long SOURCE_OWNER_ID = 2L;
+    private static final long TARGET_OWNER_ID = 1L;
+
+    private static DatasetExportService exportService;
+    private static DatasetImportService importService;
+    private static AccessoryRepositoryImpl accessoryRepository;
+
+    @BeforeAll
+    static void setUpDatabase() throws SQLException {
+        DatabaseManager databaseManager = new DatabaseManager("org.h2.Driver", JDBC_URL, "sa", "",
+                new QueryMetrics(Long.MAX_VALUE, Long.MAX_VALUE), new ConnectionPermits(2, 1000), new SchemaMigrator());
+        try (Connection connection = databaseManager.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO aquariums (id, name, length, width, height, substrate, water_type, state, "
+                    + "temperature, owner_id) VALUES (10, 'Reef', 100, 40, 50, 'SAND', 'SALTWATER', 'RUNNING', 25.5, "
+                    + SOURCE_OWNER_ID + ")");
+            // Accessories are stored as the repository writes them: capacity_liters is always set, 0 unless a filter
+            statement.execute("INSERT INTO accessories (accessory_type, model, serial_number, owner_id, aquarium_id, "
+                    + "is_external, capacity_liters, is_led, min_temperature, max_temperature, current_temperature) "
+                    + "VALUES ('Filter', 'Canister', 'SN-1', " + SOURCE_OWNER_ID + ", 10, TRUE, 120, FALSE, 0, 0, 0)");
+            statement.execute("INSERT INTO accessories (accessory_type, model, serial_number, owner_id, aquarium_id, "
+                    + "is_external, capacity_liters, is_led, time_on, time_off, min_temperature, max_temperature, "
+                    + "current_temperature) VALUES ('Lighting', 'Aqua LED', 'SN-2', " + SOURCE_OWNER_ID + ", 10, FALSE, "
+                    + "0, TRUE, '08:00', '20:00', 0, 0, 0)");
+            statement.execute("INSERT INTO accessories (accessory_type, model, serial_number, owner_id, is_external, "
+                    + "capacity_liters, is_led, min_temperature, max_temperature, current_temperature) VALUES "
+                    + "('Thermostat', 'Heat', 'SN-3', " + SOURCE_OWNER_ID + ", FALSE, 0, FALSE, 24, 28, 25)");
+            statement.execute("INSERT INTO ornaments (name, material, is_air_pump_compatible, owner_id, aquarium_id) "
+                    + "VALUES ('Castle', 'stone', TRUE, " + SOURCE_OWNER_ID + ", 10)");
+            statement.execute("INSERT INTO inhabitants (inhabitant_type, species, name, count, is_schooling, water_type, "
+                    + "owner_id, aquarium_id) VALUES ('Fish', 'Clownfish', 'Nemo', 2, FALSE, 'SALTWATER', "
+                    + SOURCE_OWNER_ID + ", 10)");
+        }
+        accessoryRepository = new AccessoryRepositoryImpl(databaseManager);
+        exportService = new DatasetExportService(new DatasetRepositoryImpl(databaseManager));
+        importService = new DatasetImportService(new AquariumRepositoryImpl(databaseManager), accessoryRepository,
+                new OrnamentRepositoryImpl(databaseManager), new InhabitantRepositoryImpl(databaseManager),
+                new EntityChangeNotifier(List.of()));
+    }
+
+    private static byte[] export(DatasetFormat format, Set<DatasetEntity> entities) throws IOException {
+        DatasetExport export = exportService.prepareExport(SOURCE_OWNER_ID, format, entities, false);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        export.body().writeTo(output);
+        return output.toByteArray();
+    }
+
+    private static List<Accessory> targetAccessories() {
+        return accessoryRepository.findByOwnerId(TARGET_OWNER_ID).stream()
+                .sorted(Comparator.comparing(Accessory::getId))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Should import a full NDJSON export without a single rejected line")
+    void shouldImportNdjsonExport() throws IOException {
+        // Given
+        byte[] file = export(DatasetFormat.NDJSON, Set.of());
+        int accessoriesBefore = targetAccessories().size();
+
+        // When
+        DatasetImportResponse report = importService.importDataset(TARGET_OWNER_ID, DatasetFormat.NDJSON, Set.of(),
+                false, new ByteArrayInputStream(file));
+
+        // Then
+        assertEquals(List.of(), report.errors());
+        assertEquals(6L, report.imported());
+        assertEquals(3L, report.importedByEntity().get(DatasetEntity.ACCESSORY));
+        List<Accessory> imported = targetAccessories().subList(accessoriesBefore, accessoriesBefore + 3);
+        assertEquals(120, imported.stream().filter(a -> a.getAccessoryType().equals("Filter"))
+                .findFirst().orElseThrow().getCapacityLiters());
+        assertTrue(imported.stream().filter(a -> !a.getAccessoryType().equals("Thermostat"))
+                .allMatch(a -> a.getAquariumId() != null && a.getAquariumId() != 10L));
+    }
+
+    @Test
+    @DisplayName("Should import a CSV export of accessories")
+    void shouldImportCsvExport() throws IOException {
+        // Given
+        byte[] file = export(DatasetFormat.CSV, EnumSet.of(DatasetEntity.ACCESSORY));
+
+        // When
+        DatasetImportResponse report = importService.importDataset(SOURCE_OWNER_ID, DatasetFormat.CSV,
+                EnumSet.of(DatasetEntity.ACCESSORY), false, new ByteArrayInputStream(file));
+
+        // Then
+        assertEquals(List.of(), report.errors());
+        assertEquals(3L, report.imported());
+    }
+}
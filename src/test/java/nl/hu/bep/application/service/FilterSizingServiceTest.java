@@ -0,0 +1,185 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.data.interfaces.FiltrationRepository;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.AquariumFiltration;
+import nl.hu.bep.domain.accessories.Filter;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.enums.SubstrateType;
+import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.domain.value.Dimensions;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.FilterSizingReportResponse;
+import nl.hu.bep.presentation.dto.response.FilterSizingResponse;
+import nl.hu.bep.security.application.service.AuthorizationService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FilterSizingService Unit Tests")
+class FilterSizingServiceTest {
+
+    @Mock
+    private FiltrationRepository filtrationRepository;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    private FilterSizingService sizingService;
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long OTHER_OWNER_ID = 2L;
+    private static final Long ADMIN_ID = 99L;
+
+    // 50 x 40 x 50 cm is 100 liters, so a filter needs at least 200 l/h
+    private static final Dimensions HUNDRED_LITERS = new Dimensions(50.0, 40.0, 50.0);
+
+    @BeforeEach
+    void setUp() {
+        sizingService = new FilterSizingService(filtrationRepository, authorizationService);
+        when(filtrationRepository.findAll()).thenReturn(List.of(
+                tank(1L, OWNER_ID, AquariumState.RUNNING, filter(10L, 1L, 150)),
+                tank(2L, OWNER_ID, AquariumState.RUNNING, filter(11L, 2L, 250)),
+                tank(3L, OWNER_ID, AquariumState.INACTIVE),
+                tank(4L, OTHER_OWNER_ID, AquariumState.RUNNING)));
+    }
+
+    @Nested
+    @DisplayName("Reports")
+    class Reports {
+
+        @Test
+        @DisplayName("Should list the owner's under-filtered tanks, skipping inactive ones")
+        void shouldListUnderFilteredTanks() {
+            // When
+            FilterSizingReportResponse report = sizingService.getOwnerReport(OWNER_ID);
+
+            // Then
+            assertEquals(2, report.aquariumsChecked());
+            assertEquals(1, report.underFiltered().size());
+            FilterSizingResponse tank = report.underFiltered().get(0);
+            assertEquals(1L, tank.aquariumId());
+            assertEquals(200, tank.requiredCapacityLiters());
+            assertEquals(150, tank.largestFilterCapacityLiters());
+        }
+
+        @Test
+        @DisplayName("Should report the whole fleet for administrators")
+        void shouldReportFleet() {
+            // When
+            FilterSizingReportResponse report = sizingService.getFleetReport(ADMIN_ID);
+
+            // Then
+            verify(authorizationService).requireAdmin(ADMIN_ID);
+            assertEquals(3, report.aquariumsChecked());
+            assertEquals(List.of(1L, 4L), report.underFiltered().stream().map(FilterSizingResponse::aquariumId).toList());
+        }
+
+        @Test
+        @DisplayName("Should refuse the fleet report to non-administrators")
+        void shouldRejectNonAdmin() {
+            // Given
+            reset(filtrationRepository);
+            doThrow(new ApplicationException.SecurityException("Administrator role required"))
+                    .when(authorizationService).requireAdmin(OWNER_ID);
+
+            // When & Then
+            assertThrows(ApplicationException.SecurityException.class, () -> sizingService.getFleetReport(OWNER_ID));
+            verifyNoInteractions(filtrationRepository);
+        }
+
+        @Test
+        @DisplayName("Should serve repeated reads from cache")
+        void shouldCacheReport() {
+            // When
+            FilterSizingReportResponse first = sizingService.getOwnerReport(OWNER_ID);
+            FilterSizingReportResponse second = sizingService.getOwnerReport(OWNER_ID);
+
+            // Then
+            assertSame(first, second);
+            verify(filtrationRepository, times(1)).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Updates")
+    class IncrementalUpdates {
+
+        @BeforeEach
+        void loadIndex() {
+            sizingService.getOwnerReport(OWNER_ID);
+        }
+
+        @Test
+        @DisplayName("Should clear a tank once a big enough filter is installed")
+        void shouldClearTankWhenFilterUpgraded() {
+            // When
+            sizingService.accessoryUpdated(filter(10L, 1L, 300));
+
+            // Then
+            assertTrue(sizingService.getOwnerReport(OWNER_ID).underFiltered().isEmpty());
+            verify(filtrationRepository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("Should flag the old tank when a filter is moved away")
+        void shouldFlagTankWhenFilterMoved() {
+            // When
+            sizingService.accessoryUpdated(filter(11L, 1L, 250));
+
+            // Then
+            assertEquals(List.of(2L), ids(sizingService.getOwnerReport(OWNER_ID)));
+        }
+
+        @Test
+        @DisplayName("Should re-evaluate a tank when its dimensions change")
+        void shouldReevaluateOnDimensionChange() {
+            // Given - 120 x 50 x 50 cm is 300 liters
+            Aquarium resized = Aquarium.reconstruct(2L, "Tank 2", new Dimensions(120.0, 50.0, 50.0),
+                    SubstrateType.SAND, WaterType.FRESHWATER, 24.0, AquariumState.RUNNING, LocalDateTime.now(),
+                    null, null, LocalDateTime.now(), 1L, OWNER_ID);
+
+            // When
+            sizingService.aquariumUpdated(AquariumState.RUNNING, resized);
+
+            // Then
+            assertEquals(List.of(1L, 2L), ids(sizingService.getOwnerReport(OWNER_ID)));
+        }
+
+        @Test
+        @DisplayName("Should flag a tank when its only filter is deleted")
+        void shouldFlagTankWhenFilterDeleted() {
+            // When
+            sizingService.accessoryDeleted(filter(11L, 2L, 250));
+
+            // Then
+            assertEquals(List.of(1L, 2L), ids(sizingService.getOwnerReport(OWNER_ID)));
+        }
+    }
+
+    private static List<Long> ids(FilterSizingReportResponse report) {
+        return report.underFiltered().stream().map(FilterSizingResponse::aquariumId).toList();
+    }
+
+    private static AquariumFiltration tank(Long id, Long ownerId, AquariumState state, Filter... filters) {
+        return new AquariumFiltration(id, ownerId, "Tank " + id, state, HUNDRED_LITERS, List.of(filters));
+    }
+
+    private static Filter filter(Long id, Long aquariumId, int capacity) {
+        return (Filter) Accessory.reconstruct("Filter", id, "Filter", "SN-" + id, OWNER_ID, aquariumId,
+                null, null, null, false, capacity, false, null, null, 0, 0, 0);
+    }
+}
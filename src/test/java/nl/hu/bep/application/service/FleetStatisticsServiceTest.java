@@ -0,0 +1,182 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.data.interfaces.StatisticsRepository;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.enums.SubstrateType;
+import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.FleetStatisticsResponse;
+import nl.hu.bep.security.application.service.AuthorizationService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FleetStatisticsService Unit Tests")
+class FleetStatisticsServiceTest {
+
+    @Mock
+    private StatisticsRepository statisticsRepository;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    private FleetStatisticsService statisticsService;
+
+    private static final Long ADMIN_ID = 1L;
+    private static final Long OWNER_ID = 2L;
+
+    @BeforeEach
+    void setUp() {
+        statisticsService = new FleetStatisticsService(statisticsRepository, authorizationService);
+        when(statisticsRepository.countAquariumsByState()).thenReturn(Map.of("RUNNING", 3L, "SETUP", 1L));
+        when(statisticsRepository.countInhabitantsByWaterType()).thenReturn(Map.of("FRESHWATER", 5L));
+        when(statisticsRepository.countInhabitantsByType()).thenReturn(Map.of("Fish", 4L, "Plant", 1L));
+        when(statisticsRepository.countAccessoriesByType()).thenReturn(Map.of("Filter", 2L));
+    }
+
+    @Nested
+    @DisplayName("Reading Statistics")
+    class ReadingStatistics {
+
+        @Test
+        @DisplayName("Should reconcile from the database on first read")
+        void shouldReconcileOnFirstRead() {
+            // When
+            FleetStatisticsResponse result = statisticsService.getFleetStatistics(ADMIN_ID);
+
+            // Then
+            assertEquals(3L, result.aquariumsByState().get(AquariumState.RUNNING));
+            assertEquals(0L, result.aquariumsByState().get(AquariumState.MAINTENANCE));
+            assertEquals(5L, result.inhabitantsByWaterType().get(WaterType.FRESHWATER));
+            assertEquals(4L, result.inhabitantsByType().get("Fish"));
+            assertEquals(2L, result.accessoriesByType().get("Filter"));
+            assertNotNull(result.lastReconciled());
+        }
+
+        @Test
+        @DisplayName("Should not query the database again once reconciled")
+        void shouldServeSubsequentReadsFromCounters() {
+            // When
+            statisticsService.getFleetStatistics(ADMIN_ID);
+            statisticsService.getFleetStatistics(ADMIN_ID);
+
+            // Then
+            verify(statisticsRepository, times(1)).countAquariumsByState();
+        }
+
+        @Test
+        @DisplayName("Should reject non-admin owners")
+        void shouldRejectNonAdminOwners() {
+            // Given
+            reset(statisticsRepository);
+            doThrow(new ApplicationException.SecurityException("Administrator role required"))
+                    .when(authorizationService).requireAdmin(OWNER_ID);
+
+            // When & Then
+            assertThrows(ApplicationException.SecurityException.class,
+                    () -> statisticsService.getFleetStatistics(OWNER_ID));
+            verifyNoInteractions(statisticsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Counters")
+    class IncrementalCounters {
+
+        @BeforeEach
+        void reconcile() {
+            statisticsService.reconcile();
+        }
+
+        @Test
+        @DisplayName("Should move aquarium between state counters on transition")
+        void shouldMoveAquariumBetweenStates() {
+            // Given
+            Aquarium aquarium = createAquarium(AquariumState.MAINTENANCE);
+
+            // When
+            statisticsService.aquariumUpdated(AquariumState.RUNNING, aquarium);
+
+            // Then
+            FleetStatisticsResponse result = statisticsService.getFleetStatistics(ADMIN_ID);
+            assertEquals(2L, result.aquariumsByState().get(AquariumState.RUNNING));
+            assertEquals(1L, result.aquariumsByState().get(AquariumState.MAINTENANCE));
+        }
+
+        @Test
+        @DisplayName("Should count created and deleted inhabitants by type and water type")
+        void shouldCountInhabitants() {
+            // Given
+            Inhabitant snail = Inhabitant.create("Snail", "Nerite", "Speedy", OWNER_ID,
+                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(WaterType.SALTWATER),
+                    Optional.empty(), Inhabitant.InhabitantProperties.defaults());
+
+            // When
+            statisticsService.inhabitantCreated(snail);
+
+            // Then
+            FleetStatisticsResponse result = statisticsService.getFleetStatistics(ADMIN_ID);
+            assertEquals(1L, result.inhabitantsByType().get("Snail"));
+            assertEquals(1L, result.inhabitantsByWaterType().get(WaterType.SALTWATER));
+
+            // When
+            statisticsService.inhabitantDeleted(snail);
+
+            // Then
+            result = statisticsService.getFleetStatistics(ADMIN_ID);
+            assertEquals(0L, result.inhabitantsByType().get("Snail"));
+            assertEquals(0L, result.inhabitantsByWaterType().get(WaterType.SALTWATER));
+        }
+
+        @Test
+        @DisplayName("Should count accessories by type")
+        void shouldCountAccessories() {
+            // Given
+            Accessory lighting = Accessory.createFromType("Lighting", "Model", "SN-1", false, 0, true,
+                    LocalTime.of(8, 0), LocalTime.of(20, 0), 0, 0, 0, OWNER_ID, "white", "");
+
+            // When
+            statisticsService.accessoryCreated(lighting);
+
+            // Then
+            FleetStatisticsResponse result = statisticsService.getFleetStatistics(ADMIN_ID);
+            assertEquals(1L, result.accessoriesByType().get("Lighting"));
+            assertEquals(2L, result.accessoriesByType().get("Filter"));
+        }
+
+        @Test
+        @DisplayName("Should overwrite drifted counters on reconciliation")
+        void shouldOverwriteDriftedCounters() {
+            // Given
+            statisticsService.aquariumCreated(createAquarium(AquariumState.RUNNING));
+
+            // When
+            statisticsService.reconcile();
+
+            // Then
+            FleetStatisticsResponse result = statisticsService.getFleetStatistics(ADMIN_ID);
+            assertEquals(3L, result.aquariumsByState().get(AquariumState.RUNNING));
+        }
+    }
+
+    private Aquarium createAquarium(AquariumState state) {
+        return Aquarium.create("Tank", 100.0, 50.0, 50.0, SubstrateType.SAND,
+                WaterType.FRESHWATER, "blue", "description", state);
+    }
+}
@@ -0,0 +1,124 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.health.DatabaseHealthProber;
+import nl.hu.bep.application.health.DatabaseProbe;
+import nl.hu.bep.application.metrics.QueryMetrics;
+import nl.hu.bep.application.metrics.RequestMetrics;
+import nl.hu.bep.config.ConnectionPermits;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.presentation.dto.response.DatabaseHealthResponse;
+import nl.hu.bep.presentation.dto.response.ReadinessResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HealthService Unit Tests")
+class HealthServiceTest {
+
+    private static final LocalDateTime CHECKED_AT = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Mock
+    private DatabaseHealthProber prober;
+
+    @Mock
+    private DatabaseManager databaseManager;
+
+    private QueryMetrics queryMetrics;
+    private HealthService healthService;
+
+    @BeforeEach
+    void setUp() {
+        queryMetrics = new QueryMetrics(Long.MAX_VALUE, Long.MAX_VALUE);
+        healthService = new HealthService(prober, databaseManager, new RequestMetrics());
+    }
+
+    @Nested
+    @DisplayName("Readiness")
+    class Readiness {
+
+        @Test
+        @DisplayName("Should report ready with the cached probe, connection latency and permits in use")
+        void shouldReportReady() throws SQLException {
+            // Given
+            DatabaseProbe probe = new DatabaseProbe(DatabaseProbe.Status.UP, 1_500_000L, "3", "ok", CHECKED_AT);
+            when(prober.getLatestProbe()).thenReturn(probe);
+            when(prober.isReady()).thenReturn(true);
+            when(prober.isStale(probe)).thenReturn(false);
+            when(databaseManager.getQueryMetrics()).thenReturn(queryMetrics);
+            ConnectionPermits permits = new ConnectionPermits(4, 1000);
+            permits.acquire();
+            when(databaseManager.getConnectionPermits()).thenReturn(permits);
+            queryMetrics.recordConnectionAcquire(4_000_000L);
+
+            // When
+            ReadinessResponse readiness = healthService.getReadiness();
+
+            // Then
+            assertEquals("READY", readiness.status());
+            assertEquals(1L, readiness.connectionsAcquired());
+            assertEquals(0L, readiness.requestsInFlight());
+            assertEquals(1.5, readiness.database().roundTripMillis());
+            assertEquals("3", readiness.database().schemaVersion());
+            assertFalse(readiness.database().stale());
+            assertEquals(1, readiness.connectionsInUse());
+            assertEquals(0, readiness.connectionsWaiting());
+            assertEquals(4, readiness.maxConnections());
+        }
+
+        @Test
+        @DisplayName("Should report not ready while the database is down")
+        void shouldReportNotReady() {
+            // Given
+            DatabaseProbe probe = new DatabaseProbe(DatabaseProbe.Status.DOWN, 0, null, "refused", CHECKED_AT);
+            when(prober.getLatestProbe()).thenReturn(probe);
+            when(prober.isReady()).thenReturn(false);
+            when(databaseManager.getQueryMetrics()).thenReturn(queryMetrics);
+            when(databaseManager.getConnectionPermits()).thenReturn(new ConnectionPermits(4, 1000));
+
+            // When
+            ReadinessResponse readiness = healthService.getReadiness();
+
+            // Then
+            assertEquals("NOT_READY", readiness.status());
+            assertEquals("DOWN", readiness.database().status());
+            assertNull(readiness.database().roundTripMillis());
+        }
+    }
+
+    @Nested
+    @DisplayName("Liveness")
+    class Liveness {
+
+        @Test
+        @DisplayName("Should report up without consulting the database")
+        void shouldReportAlive() {
+            assertEquals("UP", healthService.getLiveness().status());
+            verifyNoInteractions(prober, databaseManager);
+        }
+
+        @Test
+        @DisplayName("Should expose the cached database health")
+        void shouldExposeDatabaseHealth() {
+            DatabaseProbe probe = new DatabaseProbe(DatabaseProbe.Status.UNKNOWN, 0, null, "not yet", null);
+            when(prober.getLatestProbe()).thenReturn(probe);
+            when(prober.isStale(probe)).thenReturn(true);
+
+            DatabaseHealthResponse health = healthService.getDatabaseHealth();
+
+            assertEquals("UNKNOWN", health.status());
+            assertTrue(health.stale());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package nl.hu.bep.application.service;
 
+import nl.hu.bep.application.event.EntityChangeNotifier;
 import nl.hu.bep.data.interfaces.InhabitantRepository;
 import nl.hu.bep.data.interfaces.AquariumRepository;
 import nl.hu.bep.domain.Inhabitant;
@@ -39,6 +40,9 @@ class InhabitantServiceTest {
     @Mock
     private EntityMapper entityMapper;
 
+    @Mock
+    private EntityChangeNotifier changeNotifier;
+
     @InjectMocks
     private InhabitantService inhabitantService;
 
@@ -0,0 +1,98 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.data.interfaces.AccessoryRepository;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.accessories.Lighting;
+import nl.hu.bep.presentation.dto.response.LightingScheduleResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LightingScheduleService Unit Tests")
+class LightingScheduleServiceTest {
+
+    @Mock
+    private AccessoryRepository accessoryRepository;
+
+    private LightingScheduleService scheduleService;
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long LIGHT_ID = 10L;
+    private static final LocalTime NOON = LocalTime.of(12, 0);
+
+    @BeforeEach
+    void setUp() {
+        scheduleService = new LightingScheduleService(accessoryRepository);
+        when(accessoryRepository.findByType("Lighting")).thenReturn(List.of(createLighting(LIGHT_ID)));
+        assertEquals(List.of(LIGHT_ID), lightsOnAtNoon());
+    }
+
+    private List<Long> lightsOnAtNoon() {
+        return scheduleService.getLightsOnAt(OWNER_ID, NOON).stream()
+                .map(LightingScheduleResponse::accessoryId)
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Keeping The Index Current")
+    class KeepingTheIndexCurrent {
+
+        @Test
+        @DisplayName("Should drop a light from the schedule when an update clears one of its times")
+        void shouldUnindexLightWithoutBothTimes() {
+            // Given
+            Lighting cleared = mock(Lighting.class);
+            when(cleared.getId()).thenReturn(LIGHT_ID);
+            when(cleared.getOwnerId()).thenReturn(OWNER_ID);
+            when(cleared.getTurnOnTime()).thenReturn(null);
+
+            // When
+            scheduleService.accessoryUpdated(cleared);
+
+            // Then
+            assertEquals(List.of(), lightsOnAtNoon());
+        }
+
+        @Test
+        @DisplayName("Should move a light to its new schedule when an update changes its times")
+        void shouldReindexChangedSchedule() {
+            // Given
+            Accessory evening = Accessory.reconstruct("Lighting", LIGHT_ID, "Aqua LED", "SN-1", OWNER_ID, null,
+                    null, null, null, false, 0, true, LocalTime.of(18, 0), LocalTime.of(23, 0), 0, 0, 0);
+
+            // When
+            scheduleService.accessoryUpdated(evening);
+
+            // Then
+            assertEquals(List.of(), lightsOnAtNoon());
+            assertEquals(1, scheduleService.getLightsOnAt(OWNER_ID, LocalTime.of(20, 0)).size());
+        }
+
+        @Test
+        @DisplayName("Should drop a deleted light from the schedule")
+        void shouldUnindexDeletedLight() {
+            // When
+            scheduleService.accessoryDeleted(createLighting(LIGHT_ID));
+
+            // Then
+            assertEquals(List.of(), lightsOnAtNoon());
+        }
+    }
+
+    private Accessory createLighting(Long id) {
+        return Accessory.reconstruct("Lighting", id, "Aqua LED", "SN-1", OWNER_ID, null,
+                null, null, null, false, 0, true, LocalTime.of(8, 0), LocalTime.of(20, 0), 0, 0, 0);
+    }
+}
@@ -0,0 +1,152 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.data.interfaces.AquariumRepository;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.enums.SubstrateType;
+import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.domain.value.Dimensions;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.MaintenanceScheduleResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MaintenanceScheduleService Unit Tests")
+class MaintenanceScheduleServiceTest {
+
+    @Mock
+    private AquariumRepository aquariumRepository;
+
+    private MaintenanceScheduleService scheduleService;
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long OTHER_OWNER_ID = 2L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        scheduleService = new MaintenanceScheduleService(aquariumRepository, clock);
+    }
+
+    @Nested
+    @DisplayName("Reading The Schedule")
+    class ReadingTheSchedule {
+
+        @Test
+        @DisplayName("Should split the owner's running aquariums into overdue and upcoming")
+        void shouldSplitOverdueAndUpcoming() {
+            // Given
+            when(aquariumRepository.findAll()).thenReturn(List.of(
+                    createAquarium(1L, OWNER_ID, AquariumState.RUNNING, NOW.minusDays(10)),
+                    createAquarium(2L, OWNER_ID, AquariumState.RUNNING, NOW.minusDays(3)),
+                    createAquarium(3L, OWNER_ID, AquariumState.SETUP, NOW.minusDays(30)),
+                    createAquarium(4L, OTHER_OWNER_ID, AquariumState.RUNNING, NOW.minusDays(10))));
+
+            // When
+            MaintenanceScheduleResponse result = scheduleService.getMaintenanceSchedule(OWNER_ID, 7);
+
+            // Then
+            assertEquals(1, result.overdue().size());
+            assertEquals(1L, result.overdue().get(0).aquariumId());
+            assertEquals(1, result.upcoming().size());
+            assertEquals(2L, result.upcoming().get(0).aquariumId());
+            assertEquals(NOW.plusDays(4), result.upcoming().get(0).dueAt());
+        }
+
+        @Test
+        @DisplayName("Should load from the database only once")
+        void shouldLoadOnce() {
+            // Given
+            when(aquariumRepository.findAll()).thenReturn(List.of());
+
+            // When
+            scheduleService.getMaintenanceSchedule(OWNER_ID, 7);
+            scheduleService.getMaintenanceSchedule(OWNER_ID, 7);
+
+            // Then
+            verify(aquariumRepository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("Should reject windows outside the allowed range")
+        void shouldRejectInvalidWindow() {
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> scheduleService.getMaintenanceSchedule(OWNER_ID, -1));
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> scheduleService.getMaintenanceSchedule(OWNER_ID, 365));
+            verifyNoInteractions(aquariumRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Applying Changes")
+    class ApplyingChanges {
+
+        @BeforeEach
+        void loadQueue() {
+            when(aquariumRepository.findAll()).thenReturn(List.of(
+                    createAquarium(1L, OWNER_ID, AquariumState.RUNNING, NOW.minusDays(10))));
+            scheduleService.getMaintenanceSchedule(OWNER_ID, 7);
+        }
+
+        @Test
+        @DisplayName("Should drop an aquarium that moves into maintenance")
+        void shouldUnscheduleOnMaintenance() {
+            // When
+            scheduleService.aquariumUpdated(AquariumState.RUNNING,
+                    createAquarium(1L, OWNER_ID, AquariumState.MAINTENANCE, NOW));
+
+            // Then
+            MaintenanceScheduleResponse result = scheduleService.getMaintenanceSchedule(OWNER_ID, 7);
+            assertTrue(result.overdue().isEmpty());
+            assertTrue(result.upcoming().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should restart the interval when an aquarium resumes running")
+        void shouldRescheduleWhenRunningAgain() {
+            // When
+            scheduleService.aquariumUpdated(AquariumState.MAINTENANCE,
+                    createAquarium(1L, OWNER_ID, AquariumState.RUNNING, NOW));
+
+            // Then
+            MaintenanceScheduleResponse result = scheduleService.getMaintenanceSchedule(OWNER_ID, 7);
+            assertTrue(result.overdue().isEmpty());
+            assertEquals(NOW.plusDays(7), result.upcoming().get(0).dueAt());
+        }
+
+        @Test
+        @DisplayName("Should forget deleted aquariums")
+        void shouldRemoveDeletedAquarium() {
+            // When
+            scheduleService.aquariumDeleted(createAquarium(1L, OWNER_ID, AquariumState.RUNNING, NOW.minusDays(10)));
+
+            // Then
+            assertTrue(scheduleService.getMaintenanceSchedule(OWNER_ID, 7).overdue().isEmpty());
+        }
+    }
+
+    private Aquarium createAquarium(Long id, Long ownerId, AquariumState state, LocalDateTime stateStart) {
+        // 80 x 35 x 40 cm is 112 liters, which gives a weekly interval
+        return Aquarium.reconstruct(id, "Tank " + id, new Dimensions(80.0, 35.0, 40.0),
+                SubstrateType.SAND, WaterType.FRESHWATER, 24.0, state, stateStart,
+                null, null, stateStart, 1L, ownerId);
+    }
+}
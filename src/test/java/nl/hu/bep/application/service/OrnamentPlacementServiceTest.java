@@ -0,0 +1,98 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.data.interfaces.FiltrationRepository;
+import nl.hu.bep.data.interfaces.OrnamentRepository;
+import nl.hu.bep.domain.AquariumFiltration;
+import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.value.Dimensions;
+import nl.hu.bep.presentation.dto.response.AirPumpPlanResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrnamentPlacementService Unit Tests")
+class OrnamentPlacementServiceTest {
+
+    @Mock
+    private FiltrationRepository filtrationRepository;
+
+    @Mock
+    private OrnamentRepository ornamentRepository;
+
+    private OrnamentPlacementService placementService;
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long OTHER_OWNER_ID = 2L;
+
+    @BeforeEach
+    void setUp() {
+        placementService = new OrnamentPlacementService(filtrationRepository, ornamentRepository);
+        when(filtrationRepository.findByOwnerId(OWNER_ID)).thenReturn(List.of(
+                new AquariumFiltration(5L, OWNER_ID, "Community", AquariumState.RUNNING,
+                        new Dimensions(80.0, 35.0, 40.0), List.of())));
+        when(ornamentRepository.findByOwnerId(OWNER_ID)).thenReturn(List.of(
+                Ornament.reconstruct(10L, "Bubbler", null, null, null, true, OWNER_ID, null, LocalDateTime.now())));
+    }
+
+    @Nested
+    @DisplayName("Caching Plans")
+    class CachingPlans {
+
+        @Test
+        @DisplayName("Should build the plan once and serve it from cache")
+        void shouldCachePlan() {
+            // When
+            AirPumpPlanResponse first = placementService.getAirPumpPlan(OWNER_ID);
+            AirPumpPlanResponse second = placementService.getAirPumpPlan(OWNER_ID);
+
+            // Then
+            assertSame(first, second);
+            assertEquals(5L, first.suggestions().get(0).aquariumId());
+            assertEquals("NO_FILTER", first.suggestions().get(0).reason());
+            verify(filtrationRepository, times(1)).findByOwnerId(OWNER_ID);
+        }
+
+        @Test
+        @DisplayName("Should rebuild after the owner's ornaments change")
+        void shouldRebuildAfterOrnamentChange() {
+            // Given
+            placementService.getAirPumpPlan(OWNER_ID);
+
+            // When
+            placementService.ornamentUpdated(
+                    Ornament.reconstruct(10L, "Bubbler", null, null, null, true, OWNER_ID, 5L, LocalDateTime.now()));
+            placementService.getAirPumpPlan(OWNER_ID);
+
+            // Then
+            verify(filtrationRepository, times(2)).findByOwnerId(OWNER_ID);
+        }
+
+        @Test
+        @DisplayName("Should keep the cache when another owner's data changes")
+        void shouldIgnoreOtherOwners() {
+            // Given
+            placementService.getAirPumpPlan(OWNER_ID);
+
+            // When
+            placementService.ornamentCreated(
+                    Ornament.reconstruct(20L, "Castle", null, null, null, true, OTHER_OWNER_ID, null, LocalDateTime.now()));
+            placementService.getAirPumpPlan(OWNER_ID);
+
+            // Then
+            verify(filtrationRepository, times(1)).findByOwnerId(OWNER_ID);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package nl.hu.bep.application.service;
 
+import nl.hu.bep.application.event.EntityChangeNotifier;
 import nl.hu.bep.data.interfaces.OrnamentRepository;
 import nl.hu.bep.data.interfaces.OwnerRepository;
 import nl.hu.bep.data.interfaces.AquariumRepository;
@@ -51,6 +52,9 @@ class OrnamentServiceTest {
     @Mock
     private EntityMapper entityMapper;
 
+    @Mock
+    private EntityChangeNotifier changeNotifier;
+
     private static final Long OWNER_ID = 1L;
     private static final Long AQUARIUM_ID = 10L;
     private static final Long ORNAMENT_ID = 20L;
@@ -58,7 +62,7 @@ class OrnamentServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        ornamentService = new OrnamentService(ornamentRepository, ownerRepository, aquariumRepository, entityMapper);
+        ornamentService = new OrnamentService(ornamentRepository, ownerRepository, aquariumRepository, entityMapper, changeNotifier);
     }
 
     @Nested
@@ -0,0 +1,95 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.metrics.QueryMetrics;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.QueryStatisticsResponse;
+import nl.hu.bep.presentation.dto.response.QueryTemplateResponse;
+import nl.hu.bep.security.application.service.AuthorizationService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueryStatisticsService Unit Tests")
+class QueryStatisticsServiceTest {
+
+    private static final long MILLIS = 1_000_000L;
+    private static final Long OWNER_ID = 1L;
+    private static final Long ADMIN_ID = 99L;
+
+    @Mock
+    private DatabaseManager databaseManager;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    private QueryMetrics queryMetrics;
+    private QueryStatisticsService statisticsService;
+
+    @BeforeEach
+    void setUp() {
+        queryMetrics = new QueryMetrics(100 * MILLIS, 60_000 * MILLIS);
+        statisticsService = new QueryStatisticsService(databaseManager, authorizationService);
+    }
+
+    @Nested
+    @DisplayName("Slowest Queries")
+    class SlowestQueries {
+
+        @Test
+        @DisplayName("Should report the slowest templates in milliseconds for administrators")
+        void shouldReportSlowestTemplates() {
+            // Given
+            when(databaseManager.getQueryMetrics()).thenReturn(queryMetrics);
+            queryMetrics.recordConnectionAcquire(2 * MILLIS);
+            queryMetrics.recordQuery("SELECT * FROM owners WHERE id = ?", MILLIS, 1);
+            queryMetrics.recordQuery("SELECT * FROM aquariums", 300 * MILLIS, 40);
+
+            // When
+            QueryStatisticsResponse response = statisticsService.getSlowestQueries(ADMIN_ID, 1);
+
+            // Then
+            verify(authorizationService).requireAdmin(ADMIN_ID);
+            assertEquals(1L, response.connectionsAcquired());
+            assertEquals(100L, response.slowQueryThresholdMillis());
+            assertEquals(1, response.slowestQueries().size());
+            QueryTemplateResponse slowest = response.slowestQueries().get(0);
+            assertEquals("SELECT * FROM aquariums", slowest.sql());
+            assertEquals(40L, slowest.rowsMapped());
+            assertEquals(1L, slowest.slowCalls());
+            assertEquals(300.0, slowest.maxMillis());
+        }
+
+        @Test
+        @DisplayName("Should reject limits outside the allowed range")
+        void shouldRejectInvalidLimit() {
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> statisticsService.getSlowestQueries(ADMIN_ID, 0));
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> statisticsService.getSlowestQueries(ADMIN_ID, 51));
+            verifyNoInteractions(databaseManager);
+        }
+
+        @Test
+        @DisplayName("Should reject non-admin callers")
+        void shouldRejectNonAdmin() {
+            // Given
+            doThrow(new ApplicationException.SecurityException("Admin access required"))
+                    .when(authorizationService).requireAdmin(OWNER_ID);
+
+            // When & Then
+            assertThrows(ApplicationException.SecurityException.class,
+                    () -> statisticsService.getSlowestQueries(OWNER_ID, 10));
+            verifyNoInteractions(databaseManager);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.tracing.CompletedTrace;
+import nl.hu.bep.application.tracing.Tracer;
+import nl.hu.bep.config.ConnectionPermits;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.config.JsonLogLayout;
+import nl.hu.bep.data.interfaces.SearchRepository;
+import nl.hu.bep.domain.summary.SearchHit;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.mapper.EntityMapper;
+import nl.hu.bep.presentation.dto.response.SearchHitResponse;
+import nl.hu.bep.presentation.dto.response.SearchResultResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchService Unit Tests")
+class SearchServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+
+    @Mock
+    private SearchRepository searchRepository;
+
+    @Mock
+    private DatabaseManager databaseManager;
+
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = createSearchService(SearchHit.Type.values().length);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchService.preDestroy();
+    }
+
+    private SearchService createSearchService(int connectionPermits) {
+        when(databaseManager.getConnectionPermits()).thenReturn(new ConnectionPermits(connectionPermits, 1000));
+        SearchService service = new SearchService(searchRepository, new EntityMapper(), databaseManager);
+        service.postConstruct();
+        return service;
+    }
+
+    private static SearchHit hit(SearchHit.Type type, long id, double rank) {
+        return new SearchHit(type, id, "Title " + id, null, rank);
+    }
+
+    @Nested
+    @DisplayName("Ranking and Paging")
+    class RankingAndPaging {
+
+        @Test
+        @DisplayName("Should merge the hits of every type by rank")
+        void shouldMergeByRank() {
+            // Given
+            when(searchRepository.search(SearchHit.Type.AQUARIUM, OWNER_ID, "neon", 3))
+                    .thenReturn(List.of(hit(SearchHit.Type.AQUARIUM, 1, 0.2)));
+            when(searchRepository.search(SearchHit.Type.INHABITANT, OWNER_ID, "neon", 3))
+                    .thenReturn(List.of(hit(SearchHit.Type.INHABITANT, 2, 0.9), hit(SearchHit.Type.INHABITANT, 3, 0.1)));
+            when(searchRepository.search(SearchHit.Type.ORNAMENT, OWNER_ID, "neon", 3))
+                    .thenReturn(List.of(hit(SearchHit.Type.ORNAMENT, 4, 0.5)));
+
+            // When
+            SearchResultResponse result = searchService.search(OWNER_ID, "  neon ", Set.of(), 0, 2);
+
+            // Then
+            assertEquals("neon", result.query());
+            assertEquals(List.of(2L, 4L), result.hits().stream().map(SearchHitResponse::id).toList());
+            assertEquals(SearchHit.Type.INHABITANT, result.hits().get(0).type());
+            assertTrue(result.hasMore());
+        }
+
+        @Test
+        @DisplayName("Should fetch enough hits per type to fill a later page")
+        void shouldPageThroughMergedHits() {
+            // Given
+            when(searchRepository.search(eq(SearchHit.Type.INHABITANT), eq(OWNER_ID), eq("tetra"), eq(5)))
+                    .thenReturn(List.of(hit(SearchHit.Type.INHABITANT, 1, 0.9), hit(SearchHit.Type.INHABITANT, 2, 0.8),
+                            hit(SearchHit.Type.INHABITANT, 3, 0.7), hit(SearchHit.Type.INHABITANT, 4, 0.6)));
+
+            // When
+            SearchResultResponse result = searchService.search(OWNER_ID, "tetra",
+                    EnumSet.of(SearchHit.Type.INHABITANT), 2, 2);
+
+            // Then
+            assertEquals(List.of(3L, 4L), result.hits().stream().map(SearchHitResponse::id).toList());
+            assertFalse(result.hasMore());
+            verifyNoMoreInteractions(searchRepository);
+        }
+
+        @Test
+        @DisplayName("Should return an empty page past the last hit")
+        void shouldReturnEmptyPagePastEnd() {
+            // Given
+            when(searchRepository.search(any(), eq(OWNER_ID), eq("neon"), anyInt())).thenReturn(List.of());
+
+            // When
+            SearchResultResponse result = searchService.search(OWNER_ID, "neon", Set.of(), 40, 20);
+
+            // Then
+            assertTrue(result.hits().isEmpty());
+            assertFalse(result.hasMore());
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Queries")
+    class ParallelQueries {
+
+        @Test
+        @DisplayName("Should run the query of each type on its own thread at the same time")
+        void shouldQueryTypesConcurrently() {
+            // Given
+            CountDownLatch allStarted = new CountDownLatch(SearchHit.Type.values().length);
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            when(searchRepository.search(any(), eq(OWNER_ID), eq("neon"), anyInt())).thenAnswer(invocation -> {
+                threads.add(Thread.currentThread().getName());
+                allStarted.countDown();
+                // Only returns once every type's query has started, which a sequential search never reaches
+                assertTrue(allStarted.await(5, TimeUnit.SECONDS));
+                return List.of(hit(invocation.getArgument(0), 1, 0.5));
+            });
+
+            // When
+            SearchResultResponse result = searchService.search(OWNER_ID, "neon", Set.of(), 0, 10);
+
+            // Then
+            assertEquals(3, result.hits().size());
+            assertEquals(3, threads.size());
+        }
+
+        @Test
+        @DisplayName("Should rethrow the failure of a type's query")
+        void shouldRethrowQueryFailure() {
+            // Given
+            when(searchRepository.search(any(), eq(OWNER_ID), eq("neon"), anyInt())).thenReturn(List.of());
+            when(searchRepository.search(eq(SearchHit.Type.ORNAMENT), eq(OWNER_ID), eq("neon"), anyInt()))
+                    .thenThrow(new ApplicationException.ConflictException("Search of ORNAMENT failed"));
+
+            // When & Then
+            assertThrows(ApplicationException.ConflictException.class,
+                    () -> searchService.search(OWNER_ID, "neon", Set.of(), 0, 10));
+        }
+
+        @Test
+        @DisplayName("Should use no more workers than there are connection permits")
+        void shouldBoundWorkersByConnectionPermits() {
+            // Given
+            searchService.preDestroy();
+            searchService = createSearchService(1);
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            when(searchRepository.search(any(), eq(OWNER_ID), eq("neon"), anyInt())).thenAnswer(invocation -> {
+                threads.add(Thread.currentThread().getName());
+                return List.of(hit(invocation.getArgument(0), 1, 0.5));
+            });
+
+            // When
+            SearchResultResponse result = searchService.search(OWNER_ID, "neon", Set.of(), 0, 10);
+
+            // Then
+            assertEquals(3, result.hits().size());
+            assertEquals(Set.of("search-worker-1"), threads);
+        }
+    }
+
+    @Nested
+    @DisplayName("Request Context")
+    class RequestContext {
+
+        @Test
+        @DisplayName("Should run each query with the caller's correlation id in the MDC")
+        void shouldPropagateCorrelationId() {
+            // Given
+            Set<String> correlationIds = ConcurrentHashMap.newKeySet();
+            when(searchRepository.search(any(), eq(OWNER_ID), eq("neon"), anyInt())).thenAnswer(invocation -> {
+                correlationIds.add(String.valueOf(MDC.get(JsonLogLayout.CORRELATION_ID_MDC_KEY)));
+                return List.of();
+            });
+            MDC.put(JsonLogLayout.CORRELATION_ID_MDC_KEY, "req-42");
+
+            // When
+            try {
+                searchService.search(OWNER_ID, "neon", Set.of(), 0, 10);
+            } finally {
+                MDC.remove(JsonLogLayout.CORRELATION_ID_MDC_KEY);
+            }
+
+            // Then
+            assertEquals(Set.of("req-42"), correlationIds);
+        }
+
+        @Test
+        @DisplayName("Should record a span per searched type on the request's trace")
+        void shouldRecordSpansOnCaller() {
+            // Given
+            when(searchRepository.search(any(), eq(OWNER_ID), eq("neon"), anyInt())).thenReturn(List.of());
+            Tracer tracer = Tracer.getInstance();
+            tracer.startTrace("req-43", "GET /api/search");
+
+            // When
+            searchService.search(OWNER_ID, "neon", EnumSet.of(SearchHit.Type.AQUARIUM, SearchHit.Type.ORNAMENT), 0, 10);
+            CompletedTrace trace = tracer.finishTrace(200);
+
+            // Then
+            assertEquals(Set.of("SearchRepository.search(AQUARIUM)", "SearchRepository.search(ORNAMENT)"),
+                    trace.spans().stream().map(CompletedTrace.SpanRecord::name).collect(Collectors.toSet()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("Should reject a blank query")
+        void shouldRejectBlankQuery() {
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> searchService.search(OWNER_ID, " ", Set.of(), 0, 10));
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> searchService.search(OWNER_ID, null, Set.of(), 0, 10));
+            verifyNoInteractions(searchRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject pages outside the allowed range")
+        void shouldRejectInvalidPaging() {
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> searchService.search(OWNER_ID, "neon", Set.of(), 0, 0));
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> searchService.search(OWNER_ID, "neon", Set.of(), 0, 51));
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> searchService.search(OWNER_ID, "neon", Set.of(), -1, 10));
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> searchService.search(OWNER_ID, "neon", Set.of(), 501, 10));
+            verifyNoInteractions(searchRepository);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.data.interfaces.StatisticsRepository;
+import nl.hu.bep.data.interfaces.StatisticsRepository.SpeciesCounts;
+import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.SpeciesSuggestionResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpeciesCatalogService Unit Tests")
+class SpeciesCatalogServiceTest {
+
+    @Mock
+    private StatisticsRepository statisticsRepository;
+
+    @Mock
+    private Inhabitant inhabitant;
+
+    private SpeciesCatalogService catalogService;
+
+    @BeforeEach
+    void setUp() {
+        catalogService = new SpeciesCatalogService(statisticsRepository);
+    }
+
+    @Nested
+    @DisplayName("Suggestions")
+    class Suggestions {
+
+        @Test
+        @DisplayName("Should combine the reference list with species in use, ranked by popularity")
+        void shouldRankSpeciesInUse() {
+            // Given
+            when(statisticsRepository.countInhabitantsBySpecies()).thenReturn(new SpeciesCounts(Map.of("neon tetra", 4L, "Neon Goby", 1L), 5));
+
+            // When
+            List<SpeciesSuggestionResponse> suggestions = catalogService.suggest("neo", 5);
+
+            // Then
+            assertEquals(List.of(
+                    new SpeciesSuggestionResponse("Neon Tetra", 4),
+                    new SpeciesSuggestionResponse("Neon Goby", 1)), suggestions);
+        }
+
+        @Test
+        @DisplayName("Should offer reference species nobody uses yet")
+        void shouldOfferReferenceSpecies() {
+            // Given
+            when(statisticsRepository.countInhabitantsBySpecies()).thenReturn(new SpeciesCounts(Map.of(), 0));
+
+            // When
+            List<SpeciesSuggestionResponse> suggestions = catalogService.suggest("java", 5);
+
+            // Then
+            assertEquals(List.of("Java Fern", "Java Moss"),
+                    suggestions.stream().map(SpeciesSuggestionResponse::species).toList());
+        }
+
+        @Test
+        @DisplayName("Should load from the database only once")
+        void shouldLoadOnce() {
+            // Given
+            when(statisticsRepository.countInhabitantsBySpecies()).thenReturn(new SpeciesCounts(Map.of(), 0));
+
+            // When
+            catalogService.suggest("gu", 5);
+            catalogService.suggest("gup", 5);
+
+            // Then
+            verify(statisticsRepository, times(1)).countInhabitantsBySpecies();
+        }
+
+        @Test
+        @DisplayName("Should reject a blank prefix or a limit out of range")
+        void shouldRejectInvalidRequests() {
+            assertThrows(ApplicationException.ValidationException.class, () -> catalogService.suggest(" ", 5));
+            assertThrows(ApplicationException.ValidationException.class, () -> catalogService.suggest("ne", 0));
+            assertThrows(ApplicationException.ValidationException.class, () -> catalogService.suggest("ne", 26));
+            verifyNoInteractions(statisticsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Updates")
+    class IncrementalUpdates {
+
+        @Test
+        @DisplayName("Should count created and deleted inhabitants once loaded")
+        void shouldTrackInhabitantWrites() {
+            // Given
+            when(statisticsRepository.countInhabitantsBySpecies()).thenReturn(new SpeciesCounts(Map.of("Guppy", 1L), 1));
+            catalogService.suggest("gu", 5);
+            when(inhabitant.getSpecies()).thenReturn("Gularis Killifish", "Guppy", "Guppy", "Gularis Killifish");
+            when(inhabitant.getId()).thenReturn(2L, 3L, 4L);
+
+            // When
+            catalogService.inhabitantCreated(inhabitant);
+            catalogService.inhabitantCreated(inhabitant);
+            catalogService.inhabitantCreated(inhabitant);
+            catalogService.inhabitantDeleted(inhabitant);
+
+            // Then
+            assertEquals(List.of(
+                    new SpeciesSuggestionResponse("Guppy", 3),
+                    new SpeciesSuggestionResponse("Gularis Killifish", 0)), catalogService.suggest("gu", 5));
+        }
+
+        @Test
+        @DisplayName("Should not count an inhabitant the load already counted")
+        void shouldSkipInhabitantsInCounts() {
+            // Given
+            when(statisticsRepository.countInhabitantsBySpecies()).thenReturn(new SpeciesCounts(Map.of("Guppy", 2L), 7));
+            catalogService.suggest("gu", 5);
+            when(inhabitant.getSpecies()).thenReturn("Guppy");
+            when(inhabitant.getId()).thenReturn(7L, 8L);
+
+            // When
+            catalogService.inhabitantCreated(inhabitant);
+            catalogService.inhabitantCreated(inhabitant);
+
+            // Then
+            assertEquals(List.of(new SpeciesSuggestionResponse("Guppy", 3)), catalogService.suggest("gup", 5));
+        }
+
+        @Test
+        @DisplayName("Should ignore writes before the catalog is loaded, since loading reads them")
+        void shouldIgnoreWritesBeforeLoad() {
+            // When
+            catalogService.inhabitantCreated(inhabitant);
+
+            // Then
+            verifyNoInteractions(inhabitant, statisticsRepository);
+        }
+    }
+}
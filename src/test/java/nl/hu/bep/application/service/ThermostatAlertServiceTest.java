@@ -0,0 +1,158 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.alert.AlertBatchWriter;
+import nl.hu.bep.data.interfaces.ThermostatAlertRepository;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.ThermostatAlert;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.ThermostatAlertResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ThermostatAlertService Unit Tests")
+class ThermostatAlertServiceTest {
+
+    @Mock
+    private AlertBatchWriter alertWriter;
+
+    @Mock
+    private ThermostatAlertRepository alertRepository;
+
+    private ThermostatAlertService alertService;
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long AQUARIUM_ID = 5L;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-06-01T12:00:00Z"), ZoneOffset.UTC);
+        alertService = new ThermostatAlertService(alertWriter, alertRepository, clock);
+    }
+
+    @Nested
+    @DisplayName("Evaluating Writes")
+    class EvaluatingWrites {
+
+        @Test
+        @DisplayName("Should enqueue an alert when a thermostat reads out of range")
+        void shouldEnqueueAlertForOutOfRangeReading() {
+            // Given
+            Accessory thermostat = createThermostat(10L, 22.0);
+
+            // When
+            alertService.accessoryUpdated(thermostat);
+
+            // Then
+            ArgumentCaptor<ThermostatAlert> captor = ArgumentCaptor.forClass(ThermostatAlert.class);
+            verify(alertWriter).enqueue(captor.capture());
+            ThermostatAlert alert = captor.getValue();
+            assertEquals(ThermostatAlert.Type.TOO_COLD, alert.type());
+            assertEquals(10L, alert.accessoryId());
+            assertEquals(OWNER_ID, alert.ownerId());
+            assertEquals(AQUARIUM_ID, alert.aquariumId());
+            assertEquals(LocalDateTime.of(2024, 6, 1, 12, 0), alert.raisedAt());
+        }
+
+        @Test
+        @DisplayName("Should not enqueue anything for in-range readings or other accessories")
+        void shouldIgnoreInRangeAndNonThermostats() {
+            // Given
+            Accessory filter = Accessory.reconstruct("Filter", 11L, "Filter", "SN-2", OWNER_ID, AQUARIUM_ID,
+                    null, null, null, true, 100, false, null, null, 0, 0, 0);
+
+            // When
+            alertService.accessoryCreated(createThermostat(10L, 25.0));
+            alertService.accessoryUpdated(filter);
+
+            // Then
+            verifyNoInteractions(alertWriter);
+        }
+
+        @Test
+        @DisplayName("Should start fresh after a thermostat is deleted")
+        void shouldResetStateOnDelete() {
+            // Given
+            alertService.accessoryUpdated(createThermostat(10L, 30.0));
+
+            // When
+            alertService.accessoryDeleted(createThermostat(10L, 30.0));
+            alertService.accessoryCreated(createThermostat(10L, 25.0));
+
+            // Then
+            verify(alertWriter, times(1)).enqueue(any());
+            verify(alertWriter).discard(10L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reading The Feed")
+    class ReadingTheFeed {
+
+        @Test
+        @DisplayName("Should list the owner's queued alerts ahead of the stored ones without flushing")
+        void shouldMergePendingAlerts() {
+            // Given
+            ThermostatAlert stored = new ThermostatAlert(3L, 10L, OWNER_ID, AQUARIUM_ID, ThermostatAlert.Type.TOO_HOT,
+                    30.0, 24.0, 28.0, LocalDateTime.of(2024, 6, 1, 11, 0));
+            ThermostatAlert cooling = new ThermostatAlert(null, 10L, OWNER_ID, AQUARIUM_ID,
+                    ThermostatAlert.Type.BACK_IN_RANGE, 26.0, 24.0, 28.0, LocalDateTime.of(2024, 6, 1, 11, 30));
+            ThermostatAlert cold = new ThermostatAlert(null, 10L, OWNER_ID, AQUARIUM_ID, ThermostatAlert.Type.TOO_COLD,
+                    20.0, 24.0, 28.0, LocalDateTime.of(2024, 6, 1, 11, 45));
+            when(alertRepository.findRecentByOwner(OWNER_ID, 2)).thenReturn(List.of(stored));
+            when(alertWriter.pendingFor(OWNER_ID)).thenReturn(List.of(cooling, cold));
+
+            // When
+            List<ThermostatAlertResponse> result = alertService.getAlerts(OWNER_ID, 2);
+
+            // Then
+            assertEquals(List.of("TOO_COLD", "BACK_IN_RANGE"), result.stream().map(ThermostatAlertResponse::type).toList());
+            verify(alertWriter, never()).flush();
+        }
+
+        @Test
+        @DisplayName("Should read the stored feed before the queue")
+        void shouldReadStoredFeedFirst() {
+            // Given
+            when(alertRepository.findRecentByOwner(OWNER_ID, 20)).thenReturn(List.of());
+            when(alertWriter.pendingFor(OWNER_ID)).thenReturn(List.of());
+
+            // When
+            alertService.getAlerts(OWNER_ID, 20);
+
+            // Then
+            var inOrder = inOrder(alertWriter, alertRepository);
+            inOrder.verify(alertRepository).findRecentByOwner(OWNER_ID, 20);
+            inOrder.verify(alertWriter).pendingFor(OWNER_ID);
+        }
+
+        @Test
+        @DisplayName("Should reject limits outside the allowed range")
+        void shouldRejectInvalidLimit() {
+            assertThrows(ApplicationException.ValidationException.class, () -> alertService.getAlerts(OWNER_ID, 0));
+            assertThrows(ApplicationException.ValidationException.class, () -> alertService.getAlerts(OWNER_ID, 1_000));
+            verifyNoInteractions(alertRepository);
+        }
+    }
+
+    private Accessory createThermostat(Long id, double currentTemperature) {
+        return Accessory.reconstruct("Thermostat", id, "Heater", "SN-1", OWNER_ID, AQUARIUM_ID,
+                null, null, null, false, 0, false, null, null, 24.0, 28.0, currentTemperature);
+    }
+}
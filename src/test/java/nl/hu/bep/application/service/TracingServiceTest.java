@@ -0,0 +1,113 @@
+package nl.hu.bep.application.service;
+
+import nl.hu.bep.application.tracing.CompletedTrace;
+import nl.hu.bep.application.tracing.SlowTraceBuffer;
+import nl.hu.bep.application.tracing.Tracer;
+import nl.hu.bep.exception.ApplicationException;
+import nl.hu.bep.presentation.dto.response.SlowTraceReportResponse;
+import nl.hu.bep.presentation.dto.response.TraceResponse;
+import nl.hu.bep.security.application.service.AuthorizationService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TracingService Unit Tests")
+class TracingServiceTest {
+
+    private static final long MILLIS = 1_000_000L;
+    private static final Long OWNER_ID = 1L;
+    private static final Long ADMIN_ID = 99L;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    private SlowTraceBuffer buffer;
+    private TracingService tracingService;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new SlowTraceBuffer(8);
+        tracingService = new TracingService(new Tracer(500 * MILLIS, buffer), authorizationService);
+    }
+
+    private static CompletedTrace trace(String correlationId) {
+        return new CompletedTrace(correlationId, "GET AquariumResource.getAllAquariums", 200,
+                Instant.parse("2024-01-01T12:00:00Z"), 750 * MILLIS,
+                List.of(new CompletedTrace.SpanRecord("AquariumService.getAllAquariums", 0, 2 * MILLIS, 700 * MILLIS)),
+                0);
+    }
+
+    @Nested
+    @DisplayName("Slow Traces")
+    class SlowTraces {
+
+        @Test
+        @DisplayName("Should report the most recent slow traces in milliseconds for administrators")
+        void shouldReportSlowTraces() {
+            // Given
+            buffer.add(trace("first"));
+            buffer.add(trace("second"));
+
+            // When
+            SlowTraceReportResponse response = tracingService.getSlowTraces(ADMIN_ID, 1, null);
+
+            // Then
+            verify(authorizationService).requireAdmin(ADMIN_ID);
+            assertEquals(500L, response.slowThresholdMillis());
+            assertEquals(1, response.traces().size());
+            TraceResponse latest = response.traces().get(0);
+            assertEquals("second", latest.correlationId());
+            assertEquals(750.0, latest.durationMillis());
+            assertEquals(2.0, latest.spans().get(0).offsetMillis());
+            assertEquals(700.0, latest.spans().get(0).durationMillis());
+        }
+
+        @Test
+        @DisplayName("Should filter traces by correlation id")
+        void shouldFilterByCorrelationId() {
+            // Given
+            buffer.add(trace("first"));
+            buffer.add(trace("second"));
+
+            // When
+            SlowTraceReportResponse response = tracingService.getSlowTraces(ADMIN_ID, 20, "first");
+
+            // Then
+            assertEquals(List.of("first"), response.traces().stream().map(TraceResponse::correlationId).toList());
+        }
+
+        @Test
+        @DisplayName("Should reject limits outside the allowed range")
+        void shouldRejectInvalidLimit() {
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> tracingService.getSlowTraces(ADMIN_ID, 0, null));
+            assertThrows(ApplicationException.ValidationException.class,
+                    () -> tracingService.getSlowTraces(ADMIN_ID, 129, null));
+        }
+
+        @Test
+        @DisplayName("Should reject non-admin callers")
+        void shouldRejectNonAdmin() {
+            // Given
+            buffer.add(trace("first"));
+            doThrow(new ApplicationException.SecurityException("Admin access required"))
+                    .when(authorizationService).requireAdmin(OWNER_ID);
+
+            // When & Then
+            assertThrows(ApplicationException.SecurityException.class,
+                    () -> tracingService.getSlowTraces(OWNER_ID, 10, null));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package nl.hu.bep.application.species;
+
+import nl.hu.bep.application.species.SpeciesTrie.Match;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpeciesTrie Tests")
+class SpeciesTrieTest {
+
+    private SpeciesTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new SpeciesTrie();
+        trie.add("Neon Tetra", 5);
+        trie.add("Neocaridina", 2);
+        trie.add("Nerite Snail", 5);
+        trie.add("Cardinal Tetra", 1);
+        trie.add("Neon", 0);
+    }
+
+    private static List<String> names(List<Match> matches) {
+        return matches.stream().map(Match::species).toList();
+    }
+
+    @Nested
+    @DisplayName("Prefix Lookups")
+    class PrefixLookups {
+
+        @Test
+        @DisplayName("Should rank matches by popularity, then alphabetically")
+        void shouldRankByPopularity() {
+            List<Match> matches = trie.complete("ne", 10);
+
+            assertEquals(List.of("Neon Tetra", "Nerite Snail", "Neocaridina", "Neon"), names(matches));
+            assertEquals(5, matches.get(0).popularity());
+        }
+
+        @Test
+        @DisplayName("Should keep only the most popular matches")
+        void shouldRespectLimit() {
+            assertEquals(List.of("Neon Tetra", "Nerite Snail"), names(trie.complete("Ne", 2)));
+        }
+
+        @Test
+        @DisplayName("Should include a name equal to the prefix")
+        void shouldMatchWholeName() {
+            assertEquals(List.of("Neon Tetra", "Neon"), names(trie.complete("NEON", 10)));
+        }
+
+        @Test
+        @DisplayName("Should return nothing for an unknown prefix")
+        void shouldReturnEmptyForUnknownPrefix() {
+            assertTrue(trie.complete("xiph", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject a limit below one")
+        void shouldRejectInvalidLimit() {
+            assertThrows(IllegalArgumentException.class, () -> trie.complete("ne", 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Updates")
+    class Updates {
+
+        @Test
+        @DisplayName("Should merge names differing only in case and spacing, keeping the first spelling")
+        void shouldMergeEquivalentNames() {
+            // When
+            trie.add("  neon   tetra ", 3);
+
+            // Then
+            assertEquals(5, trie.size());
+            assertEquals(new Match("Neon Tetra", 8), trie.complete("neon t", 10).get(0));
+        }
+
+        @Test
+        @DisplayName("Should re-rank as popularity changes and never go below zero")
+        void shouldAdjustPopularity() {
+            // When
+            trie.add("Neocaridina", 10);
+            trie.add("Neon Tetra", -20);
+
+            // Then
+            assertEquals(List.of("Neocaridina", "Nerite Snail", "Neon", "Neon Tetra"), names(trie.complete("ne", 10)));
+            assertEquals(0, trie.complete("neon tetra", 1).get(0).popularity());
+        }
+
+        @Test
+        @DisplayName("Should ignore blank names")
+        void shouldIgnoreBlankNames() {
+            trie.add("   ", 1);
+            trie.add(null, 1);
+
+            assertEquals(5, trie.size());
+        }
+
+        @Test
+        @DisplayName("Should agree with a sorted scan after growing past its initial capacity")
+        void shouldMatchBruteForce() {
+            // Given
+            Random random = new Random(42);
+            SpeciesTrie large = new SpeciesTrie();
+            List<Match> all = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                String name = "Species " + Integer.toString(random.nextInt(1_000_000), 36);
+                int popularity = random.nextInt(50);
+                if (all.stream().noneMatch(match -> match.species().equals(name))) {
+                    large.add(name, popularity);
+                    all.add(new Match(name, popularity));
+                }
+            }
+
+            // When & Then
+            IntStream.range(0, 36).mapToObj(digit -> "species " + Integer.toString(digit, 36)).forEach(prefix -> {
+                List<Match> expected = all.stream()
+                        .filter(match -> match.species().toLowerCase().startsWith(prefix))
+                        .sorted(Comparator.comparingInt(Match::popularity).reversed()
+                                .thenComparing(Match::species, String.CASE_INSENSITIVE_ORDER))
+                        .limit(7)
+                        .toList();
+                assertEquals(expected, large.complete(prefix, 7), prefix);
+            });
+        }
+    }
+}
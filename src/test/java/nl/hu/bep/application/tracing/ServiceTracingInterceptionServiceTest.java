@@ -0,0 +1,61 @@
+package nl.hu.bep.application.tracing;
+
+import nl.hu.bep.application.service.AquariumService;
+import nl.hu.bep.application.service.FleetStatisticsService;
+import nl.hu.bep.data.AquariumRepositoryImpl;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ServiceTracingInterceptionService Tests")
+class ServiceTracingInterceptionServiceTest {
+
+    private final SlowTraceBuffer buffer = new SlowTraceBuffer(4);
+    private final Tracer tracer = new Tracer(0, buffer);
+    private final ServiceTracingInterceptionService interceptionService = new ServiceTracingInterceptionService(tracer);
+
+    @Test
+    @DisplayName("Should trace public service methods only")
+    void shouldSelectServiceMethods() throws NoSuchMethodException {
+        assertTrue(ServiceTracingInterceptionService.isTraced(
+                AquariumService.class.getMethod("getAllAquariums", Long.class)));
+        assertFalse(ServiceTracingInterceptionService.isTraced(Object.class.getMethod("toString")));
+        assertFalse(ServiceTracingInterceptionService.isTraced(
+                FleetStatisticsService.class.getMethod("postConstruct")));
+        assertFalse(ServiceTracingInterceptionService.isTraced(
+                AquariumRepositoryImpl.class.getMethod("findAll")));
+    }
+
+    @Test
+    @DisplayName("Should wrap the invocation in a span named after the service method")
+    void shouldWrapInvocationInSpan() throws Throwable {
+        // Given
+        Method method = AquariumService.class.getMethod("getAllAquariums", Long.class);
+        List<MethodInterceptor> interceptors = interceptionService.getMethodInterceptors(method);
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.proceed()).thenReturn(List.of());
+        tracer.startTrace("corr-1", "GET AquariumResource.getAllAquariums");
+
+        // When
+        Object result = interceptors.get(0).invoke(invocation);
+        CompletedTrace trace = tracer.finishTrace(200);
+
+        // Then
+        assertEquals(List.of(), result);
+        assertEquals("AquariumService.getAllAquariums", trace.spans().get(0).name());
+    }
+
+    @Test
+    @DisplayName("Should return no interceptors for untraced methods")
+    void shouldSkipUntracedMethods() throws NoSuchMethodException {
+        assertNull(interceptionService.getMethodInterceptors(Object.class.getMethod("hashCode")));
+    }
+}
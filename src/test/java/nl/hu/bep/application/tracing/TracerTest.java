@@ -0,0 +1,130 @@
+package nl.hu.bep.application.tracing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tracer Tests")
+class TracerTest {
+
+    private SlowTraceBuffer buffer;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new SlowTraceBuffer(4);
+        tracer = new Tracer(0, buffer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracer.finishTrace(200);
+    }
+
+    @Nested
+    @DisplayName("Spans")
+    class Spans {
+
+        @Test
+        @DisplayName("Should record nested spans with their depth in start order")
+        void shouldRecordNestedSpans() {
+            // Given
+            tracer.startTrace("corr-1", "GET AquariumResource.getAquarium");
+
+            // When
+            try (Tracer.Span outer = tracer.span("AquariumService.getAquarium")) {
+                long start = System.nanoTime();
+                tracer.recordSpan("SELECT * FROM aquariums WHERE id = ?", start, start + 1_000);
+            }
+            try (Tracer.Span next = tracer.span("EntityMapper.toAquariumResponse")) {
+                // no nested work
+            }
+            CompletedTrace trace = tracer.finishTrace(200);
+
+            // Then
+            assertEquals("corr-1", trace.correlationId());
+            assertEquals(200, trace.status());
+            List<CompletedTrace.SpanRecord> spans = trace.spans();
+            assertEquals(List.of("AquariumService.getAquarium", "SELECT * FROM aquariums WHERE id = ?",
+                    "EntityMapper.toAquariumResponse"), spans.stream().map(CompletedTrace.SpanRecord::name).toList());
+            assertEquals(List.of(0, 1, 0), spans.stream().map(CompletedTrace.SpanRecord::depth).toList());
+            assertEquals(1_000, spans.get(1).durationNanos());
+        }
+
+        @Test
+        @DisplayName("Should ignore spans when no trace is active")
+        void shouldIgnoreSpansWithoutTrace() {
+            try (Tracer.Span span = tracer.span("AquariumService.getAquarium")) {
+                tracer.recordSpan("SELECT 1", 0, 1);
+            }
+
+            assertNull(tracer.finishTrace(200));
+            assertNull(tracer.currentCorrelationId());
+            assertTrue(buffer.findRecent().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should cap the number of spans per trace")
+        void shouldCapSpans() {
+            tracer.startTrace("corr-1", "GET list");
+            for (int i = 0; i < 300; i++) {
+                tracer.recordSpan("SELECT 1", 0, 1);
+            }
+
+            CompletedTrace trace = tracer.finishTrace(200);
+
+            assertEquals(256, trace.spans().size());
+            assertEquals(44, trace.droppedSpans());
+        }
+    }
+
+    @Nested
+    @DisplayName("Slow Traces")
+    class SlowTraces {
+
+        @Test
+        @DisplayName("Should only retain traces at or above the threshold")
+        void shouldRetainOnlySlowTraces() {
+            Tracer strictTracer = new Tracer(Long.MAX_VALUE, buffer);
+            strictTracer.startTrace("fast", "GET list");
+
+            strictTracer.finishTrace(200);
+
+            assertTrue(buffer.findRecent().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should keep the correlation id on the thread until the trace ends")
+        void shouldExposeCorrelationId() {
+            tracer.startTrace("corr-7", "GET list");
+
+            assertEquals("corr-7", tracer.currentCorrelationId());
+            tracer.finishTrace(500);
+            assertEquals("corr-7", buffer.findRecent().get(0).correlationId());
+        }
+
+        @Test
+        @DisplayName("Should overwrite the oldest traces once the buffer is full")
+        void shouldOverwriteOldestTraces() {
+            // Given
+            for (int i = 0; i < 6; i++) {
+                buffer.add(new CompletedTrace("corr-" + i, "GET list", 200,
+                        Instant.ofEpochSecond(i), 1, List.of(), 0));
+            }
+
+            // When
+            List<CompletedTrace> recent = buffer.findRecent();
+
+            // Then
+            assertEquals(List.of("corr-5", "corr-4", "corr-3", "corr-2"),
+                    recent.stream().map(CompletedTrace::correlationId).toList());
+        }
+    }
+}
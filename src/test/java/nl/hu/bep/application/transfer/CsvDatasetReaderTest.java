@@ -0,0 +1,104 @@
+package nl.hu.bep.application.transfer;
+
+import nl.hu.bep.config.AquariumConstants;
+import nl.hu.bep.domain.enums.DatasetEntity;
+import nl.hu.bep.exception.ApplicationException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvDatasetReader Tests")
+class CsvDatasetReaderTest {
+
+    private static List<DatasetRecord> readAll(String csv) throws IOException {
+        DatasetReader reader = new CsvDatasetReader(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), DatasetEntity.ORNAMENT);
+        List<DatasetRecord> records = new ArrayList<>();
+        for (DatasetRecord record = reader.next(); record != null; record = reader.next()) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("Should read what the writer quotes: commas, quotes, line breaks and empty strings")
+    void shouldReadQuotedFields() throws IOException {
+        // When
+        List<DatasetRecord> records = readAll("name,description,color\r\n"
+                + "\"Castle, small\",\"Says \"\"hi\"\"\r\ntwice\",\"\"\r\n"
+                + "Arch,,red\r\n");
+
+        // Then
+        assertEquals(2, records.size());
+        DatasetRecord castle = records.get(0);
+        assertEquals(DatasetEntity.ORNAMENT, castle.entity());
+        assertEquals(2L, castle.line());
+        assertEquals("Castle, small", castle.text("name"));
+        assertEquals("Says \"hi\"\r\ntwice", castle.text("description"));
+        assertEquals("", castle.text("color"));
+        DatasetRecord arch = records.get(1);
+        assertEquals(4L, arch.line());
+        assertNull(arch.text("description"));
+        assertEquals("red", arch.text("color"));
+    }
+
+    @Test
+    @DisplayName("Should report a row with the wrong number of fields and carry on")
+    void shouldReportFieldCountMismatch() throws IOException {
+        // When
+        List<DatasetRecord> records = readAll("name,color\nCastle\n\nArch,red");
+
+        // Then
+        assertEquals(2, records.size());
+        assertTrue(records.get(0).isMalformed());
+        assertEquals(2L, records.get(0).line());
+        assertEquals("Expected 2 fields but found 1", records.get(0).problem());
+        assertEquals("Arch", records.get(1).text("name"));
+        assertEquals(4L, records.get(1).line());
+    }
+
+    @Test
+    @DisplayName("Should report text after a closing quote and a quote inside an unquoted field")
+    void shouldReportStrayQuotes() throws IOException {
+        // When
+        List<DatasetRecord> records = readAll("name\n\"Castle\"x\nArch\"\nTower\n");
+
+        // Then
+        assertEquals(List.of("Unexpected text after a closing quote", "Quote inside an unquoted field"),
+                records.subList(0, 2).stream().map(DatasetRecord::problem).toList());
+        assertEquals("Tower", records.get(2).text("name"));
+    }
+
+    @Test
+    @DisplayName("Should stop buffering a record with an unclosed quote")
+    void shouldBoundUnclosedQuote() throws IOException {
+        // When
+        List<DatasetRecord> records = readAll("name\n\"" + "x".repeat(AquariumConstants.MAX_IMPORT_RECORD_LENGTH + 10));
+
+        // Then
+        assertEquals(1, records.size());
+        assertTrue(records.get(0).problem().startsWith("Record is longer than"));
+    }
+
+    @Test
+    @DisplayName("Should reject a file whose header has an empty field name")
+    void shouldRejectEmptyHeaderField() {
+        // When & Then
+        assertThrows(ApplicationException.ValidationException.class, () -> readAll("name,,color\nCastle,x,red"));
+    }
+
+    @Test
+    @DisplayName("Should read nothing from an empty file")
+    void shouldReadEmptyFile() throws IOException {
+        // When & Then
+        assertTrue(readAll("").isEmpty());
+    }
+}
@@ -1,5 +1,6 @@
 package nl.hu.bep.common;
 
+import nl.hu.bep.application.event.EntityChangeNotifier;
 import nl.hu.bep.application.service.AccessoryService;
 import nl.hu.bep.application.service.AquariumService;
 import nl.hu.bep.application.service.InhabitantService;
@@ -34,6 +35,7 @@ public class TestBinder extends AbstractBinder {
         bindAsContract(AccessoryService.class).in(Singleton.class);
         bindAsContract(InhabitantService.class).in(Singleton.class);
         bindAsContract(OrnamentService.class).in(Singleton.class);
+        bindAsContract(EntityChangeNotifier.class).in(Singleton.class);
         bindAsContract(AuthenticationService.class).in(Singleton.class);
 
         bindAsContract(JwtService.class).in(Singleton.class);
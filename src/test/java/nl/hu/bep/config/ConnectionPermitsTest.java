@@ -0,0 +1,69 @@
+package nl.hu.bep.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ConnectionPermits Tests")
+class ConnectionPermitsTest {
+
+    @Test
+    @DisplayName("Should fail fast once every permit is taken")
+    void shouldTimeOutWhenExhausted() throws SQLException {
+        // Given
+        ConnectionPermits permits = new ConnectionPermits(1, 10);
+        permits.acquire();
+
+        // When & Then
+        assertThrows(SQLTransientConnectionException.class, permits::acquire);
+        assertEquals(1, permits.getInUse());
+    }
+
+    @Test
+    @DisplayName("Should return the permit exactly once when the connection is closed")
+    void shouldReleaseOnClose() throws SQLException {
+        // Given
+        ConnectionPermits permits = new ConnectionPermits(2, 10);
+        Connection delegate = mock(Connection.class);
+        permits.acquire();
+        Connection connection = permits.releaseOnClose(delegate);
+
+        // When
+        connection.setAutoCommit(false);
+        connection.close();
+        connection.close();
+
+        // Then
+        verify(delegate).setAutoCommit(false);
+        verify(delegate, times(2)).close();
+        assertEquals(0, permits.getInUse());
+    }
+
+    @Test
+    @DisplayName("Should still return the permit when closing the connection fails")
+    void shouldReleaseWhenCloseFails() throws SQLException {
+        // Given
+        ConnectionPermits permits = new ConnectionPermits(1, 10);
+        Connection delegate = mock(Connection.class);
+        doThrow(new SQLException("connection reset")).when(delegate).close();
+        permits.acquire();
+        Connection connection = permits.releaseOnClose(delegate);
+
+        // When & Then
+        SQLException exception = assertThrows(SQLException.class, connection::close);
+        assertEquals("connection reset", exception.getMessage());
+        assertEquals(0, permits.getInUse());
+    }
+
+    @Test
+    @DisplayName("Should reject a limit below one")
+    void shouldRejectInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionPermits(0, 10));
+    }
+}
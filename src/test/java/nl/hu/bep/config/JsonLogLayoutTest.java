@@ -0,0 +1,79 @@
+package nl.hu.bep.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JsonLogLayout Tests")
+class JsonLogLayoutTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Logger logger;
+    private JsonLogLayout layout;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        logger = context.getLogger("nl.hu.bep.Sample");
+        layout = new JsonLogLayout();
+        layout.setContext(context);
+        layout.start();
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line with the formatted message")
+    void shouldWriteSingleLineJson() throws Exception {
+        // Given
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, Level.WARN,
+                "Aquarium {} is \"cloudy\"\nand warm", null, new Object[]{42});
+        event.setThreadName("worker-1");
+        event.setMDCPropertyMap(Map.of());
+
+        // When
+        String line = layout.doLayout(event);
+
+        // Then
+        assertTrue(line.endsWith(System.lineSeparator()));
+        assertEquals(1, line.strip().lines().count());
+        JsonNode json = objectMapper.readTree(line);
+        assertEquals("WARN", json.get("level").asText());
+        assertEquals("nl.hu.bep.Sample", json.get("logger").asText());
+        assertEquals("worker-1", json.get("thread").asText());
+        assertEquals("Aquarium 42 is \"cloudy\"\nand warm", json.get("message").asText());
+        assertFalse(json.has("exception"));
+    }
+
+    @Test
+    @DisplayName("Should include the stack trace of an attached exception")
+    void shouldIncludeException() throws Exception {
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, Level.ERROR,
+                "Failed", new IllegalStateException("boom"), null);
+        event.setMDCPropertyMap(Map.of());
+
+        JsonNode json = objectMapper.readTree(layout.doLayout(event));
+
+        assertTrue(json.get("exception").asText().contains("IllegalStateException: boom"));
+    }
+
+    @Test
+    @DisplayName("Should include the correlation id from the MDC")
+    void shouldIncludeCorrelationId() throws Exception {
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, Level.INFO,
+                "Handled", null, null);
+        event.setMDCPropertyMap(Map.of(JsonLogLayout.CORRELATION_ID_MDC_KEY, "corr-1"));
+
+        JsonNode json = objectMapper.readTree(layout.doLayout(event));
+
+        assertEquals("corr-1", json.get("correlationId").asText());
+    }
+}
@@ -0,0 +1,37 @@
+package nl.hu.bep.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LogSampler Tests")
+class LogSamplerTest {
+
+    @Test
+    @DisplayName("Should let the first and then every n-th call through")
+    void shouldSampleOneInN() {
+        LogSampler sampler = new LogSampler(3);
+
+        assertTrue(sampler.sample());
+        assertFalse(sampler.sample());
+        assertFalse(sampler.sample());
+        assertTrue(sampler.sample());
+    }
+
+    @Test
+    @DisplayName("Should let every call through at rate one")
+    void shouldPassEverythingAtRateOne() {
+        LogSampler sampler = new LogSampler(1);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(sampler.sample());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject rates below one")
+    void shouldRejectInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> new LogSampler(0));
+    }
+}
@@ -0,0 +1,255 @@
+package nl.hu.bep.config;
+
+import nl.hu.bep.application.metrics.QueryMetrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SchemaMigrator Tests")
+class SchemaMigratorTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:migrations;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    private static SchemaMigrator.Migration migration(String fileName, String script) {
+        return SchemaMigrator.Migration.of(fileName, script);
+    }
+
+    private int queryInt(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Applying Migrations")
+    class ApplyingMigrations {
+
+        @Test
+        @DisplayName("Should create the bundled schema on an empty database and record it")
+        void shouldApplyBundledMigrations() throws SQLException {
+            // Given
+            SchemaMigrator migrator = new SchemaMigrator();
+
+            // When
+            int applied = migrator.migrate(connection);
+
+            // Then
+            assertEquals(migrator.getMigrations().size(), applied);
+            assertEquals(2, queryInt("SELECT COUNT(*) FROM owners"));
+            assertEquals(migrator.getMigrations().size(), queryInt("SELECT MAX(version) FROM schema_version"));
+        }
+
+        @Test
+        @DisplayName("Should do nothing when the database is already current")
+        void shouldSkipWhenCurrent() throws SQLException {
+            // Given
+            SchemaMigrator migrator = new SchemaMigrator(List.of(
+                    migration("V1__tanks.sql", "CREATE TABLE tanks (id INT PRIMARY KEY)")));
+            migrator.migrate(connection);
+
+            // When
+            int applied = migrator.migrate(connection);
+
+            // Then
+            assertEquals(0, applied);
+            assertEquals(1, queryInt("SELECT COUNT(*) FROM schema_version"));
+        }
+
+        @Test
+        @DisplayName("Should only apply migrations newer than the recorded version")
+        void shouldApplyPendingOnly() throws SQLException {
+            // Given
+            SchemaMigrator.Migration first = migration("V1__tanks.sql", "CREATE TABLE tanks (id INT PRIMARY KEY)");
+            new SchemaMigrator(List.of(first)).migrate(connection);
+            SchemaMigrator migrator = new SchemaMigrator(List.of(first,
+                    migration("V2__tank_name.sql", "ALTER TABLE tanks ADD COLUMN name VARCHAR(50)")));
+
+            // When
+            int applied = migrator.migrate(connection);
+
+            // Then
+            assertEquals(1, applied);
+            assertEquals(2, queryInt("SELECT MAX(version) FROM schema_version"));
+            assertEquals(0, queryInt("SELECT COUNT(name) FROM tanks"));
+        }
+
+        @Test
+        @DisplayName("Should not record a migration that fails")
+        void shouldNotRecordFailedMigration() throws SQLException {
+            // Given
+            SchemaMigrator migrator = new SchemaMigrator(List.of(
+                    migration("V1__broken.sql", "INSERT INTO missing_table VALUES (1)")));
+
+            // When & Then
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> migrator.migrate(connection));
+            assertTrue(exception.getMessage().startsWith("Migration V1__broken.sql failed"));
+            assertEquals(0, queryInt("SELECT COUNT(*) FROM schema_version"));
+            assertTrue(connection.getAutoCommit());
+        }
+        @Test
+        @DisplayName("Should record a migration for another database without running it")
+        void shouldSkipOtherDialect() throws SQLException {
+            // Given
+            SchemaMigrator migrator = new SchemaMigrator(List.of(
+                    migration("V1__tanks.sql", "CREATE TABLE tanks (id INT PRIMARY KEY)"),
+                    migration("V2__tank_search.sql", "-- dialect: PostgreSQL\nCREATE INDEX idx_tanks_search ON tanks USING gin (id)"),
+                    migration("V3__tank_name.sql", "ALTER TABLE tanks ADD COLUMN name VARCHAR(50)")));
+
+            // When
+            int applied = migrator.migrate(connection);
+
+            // Then
+            assertEquals(3, applied);
+            assertEquals(3, queryInt("SELECT MAX(version) FROM schema_version"));
+            assertEquals(0, queryInt("SELECT COUNT(*) FROM information_schema.indexes WHERE index_name = 'idx_tanks_search'"));
+        }
+
+        @Test
+        @DisplayName("Should run a migration written for the connected database")
+        void shouldRunMatchingDialect() throws SQLException {
+            // Given
+            SchemaMigrator migrator = new SchemaMigrator(List.of(
+                    migration("V1__tanks.sql", "-- dialect: H2\nCREATE TABLE tanks (id INT PRIMARY KEY)")));
+
+            // When
+            migrator.migrate(connection);
+
+            // Then
+            assertEquals(0, queryInt("SELECT COUNT(*) FROM tanks"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Existing Databases")
+    class ExistingDatabases {
+
+        @Test
+        @DisplayName("Should record a database created before migrations at the baseline without running it")
+        void shouldBaselineExistingSchema() throws SQLException {
+            // Given
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE owners (id INT PRIMARY KEY)");
+            }
+            SchemaMigrator migrator = new SchemaMigrator(List.of(
+                    migration("V1__baseline.sql", "CREATE TABLE owners (id INT PRIMARY KEY)")));
+
+            // When
+            int applied = migrator.migrate(connection);
+
+            // Then
+            assertEquals(0, applied);
+            assertEquals(1, queryInt("SELECT MAX(version) FROM schema_version"));
+        }
+
+        @Test
+        @DisplayName("Should add the tables introduced after the baseline to a database created from the old script")
+        void shouldUpgradeBaselinedSchema() throws SQLException {
+            // Given
+            SchemaMigrator migrator = new SchemaMigrator();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(migrator.getMigrations().get(0).script());
+            }
+
+            // When
+            int applied = migrator.migrate(connection);
+
+            // Then
+            assertEquals(migrator.getMigrations().size() - 1, applied);
+            assertEquals(0, queryInt("SELECT COUNT(*) FROM thermostat_alerts"));
+            assertEquals(1, queryInt("SELECT COUNT(*) FROM information_schema.indexes "
+                    + "WHERE index_name = 'idx_thermostat_alerts_owner_raised'"));
+        }
+
+        @Test
+        @DisplayName("Should refuse to continue when an applied migration was edited")
+        void shouldRejectChangedChecksum() throws SQLException {
+            // Given
+            new SchemaMigrator(List.of(migration("V1__tanks.sql", "CREATE TABLE tanks (id INT PRIMARY KEY)")))
+                    .migrate(connection);
+            SchemaMigrator edited = new SchemaMigrator(List.of(
+                    migration("V1__tanks.sql", "CREATE TABLE tanks (id BIGINT PRIMARY KEY)")));
+
+            // When & Then
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> edited.migrate(connection));
+            assertTrue(exception.getMessage().contains("has changed since it was applied"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Migration Files")
+    class MigrationFiles {
+
+        @Test
+        @DisplayName("Should parse version and description from the file name")
+        void shouldParseFileName() {
+            SchemaMigrator.Migration migration = migration("V12__add_species_index.sql", "SELECT 1");
+
+            assertEquals(12, migration.version());
+            assertEquals("add species index", migration.description());
+        }
+
+        @Test
+        @DisplayName("Should ignore line-ending differences in the checksum")
+        void shouldNormaliseLineEndings() {
+            assertEquals(SchemaMigrator.Migration.checksum("SELECT 1;\nSELECT 2;"),
+                    SchemaMigrator.Migration.checksum("SELECT 1;\r\nSELECT 2;"));
+        }
+
+        @Test
+        @DisplayName("Should reject badly named or out-of-order migrations")
+        void shouldRejectInvalidMigrations() {
+            assertThrows(IllegalStateException.class, () -> migration("baseline.sql", "SELECT 1"));
+            assertThrows(IllegalStateException.class, () -> new SchemaMigrator(List.of(
+                    migration("V2__b.sql", "SELECT 1"), migration("V1__a.sql", "SELECT 1"))));
+        }
+    }
+
+    @Test
+    @DisplayName("Should migrate lazily and only once through DatabaseManager")
+    void shouldMigrateOnFirstConnection() throws SQLException {
+        // Given
+        DatabaseManager databaseManager = new DatabaseManager("org.h2.Driver", JDBC_URL, "sa", "",
+                new QueryMetrics(Long.MAX_VALUE, Long.MAX_VALUE),
+                new ConnectionPermits(2, 1000),
+                new SchemaMigrator(List.of(migration("V1__tanks.sql", "CREATE TABLE tanks (id INT PRIMARY KEY)"))));
+        assertEquals(0, queryInt("SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'tanks'"));
+
+        // When
+        try (Connection first = databaseManager.getConnection(); Connection second = databaseManager.getConnection()) {
+            assertNotNull(first);
+            assertNotNull(second);
+        }
+
+        // Then
+        assertEquals(1, queryInt("SELECT COUNT(*) FROM schema_version"));
+        assertEquals(0, databaseManager.getConnectionPermits().getInUse());
+    }
+}
@@ -0,0 +1,65 @@
+package nl.hu.bep.data;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Columns Tests")
+class ColumnsTest {
+
+    private static ResultSet resultSetWith(String... labels) throws SQLException {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            when(metaData.getColumnLabel(i + 1)).thenReturn(labels[i]);
+        }
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getMetaData()).thenReturn(metaData);
+        return rs;
+    }
+
+    @Test
+    @DisplayName("Should resolve labels case-insensitively")
+    void shouldResolveCaseInsensitively() throws SQLException {
+        // Given
+        ResultSet rs = resultSetWith("ID", "Water_Type", "date_created");
+
+        // When
+        Columns columns = Columns.of(rs);
+
+        // Then
+        assertEquals(1, columns.indexOf("id"));
+        assertEquals(2, columns.indexOf("water_type"));
+        assertEquals(3, columns.indexOf("date_created"));
+    }
+
+    @Test
+    @DisplayName("Should keep the first column when a label repeats")
+    void shouldKeepFirstDuplicate() throws SQLException {
+        // Given
+        ResultSet rs = resultSetWith("id", "name", "id");
+
+        // When
+        Columns columns = Columns.of(rs);
+
+        // Then
+        assertEquals(1, columns.indexOf("id"));
+    }
+
+    @Test
+    @DisplayName("Should fail when the column is not in the result set")
+    void shouldFailForMissingColumn() throws SQLException {
+        // Given
+        Columns columns = Columns.of(resultSetWith("id"));
+
+        // When & Then
+        SQLException exception = assertThrows(SQLException.class, () -> columns.indexOf("owner_id"));
+        assertTrue(exception.getMessage().contains("owner_id"));
+    }
+}
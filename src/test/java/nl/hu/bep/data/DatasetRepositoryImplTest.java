@@ -0,0 +1,139 @@
+package nl.hu.bep.data;
+
+import nl.hu.bep.application.metrics.QueryMetrics;
+import nl.hu.bep.config.ConnectionPermits;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.config.SchemaMigrator;
+import nl.hu.bep.data.interfaces.DatasetRepository;
+import nl.hu.bep.domain.enums.DatasetEntity;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Streams rows from the migrated schema, so an export column that drifts from the tables fails here.
+ */
+@DisplayName("DatasetRepositoryImpl Tests")
+class DatasetRepositoryImplTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:dataset_export;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+    private static final long OWNER_ID = 2L;
+    private static final long OTHER_OWNER_ID = 1L;
+
+    private static DatasetRepositoryImpl repository;
+
+    @BeforeAll
+    static void setUpDatabase() throws SQLException {
+        DatabaseManager databaseManager = new DatabaseManager("org.h2.Driver", JDBC_URL, "sa", "",
+                new QueryMetrics(Long.MAX_VALUE, Long.MAX_VALUE), new ConnectionPermits(2, 1000), new SchemaMigrator());
+        try (Connection connection = databaseManager.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO aquariums (id, name, length, width, height, substrate, water_type, state, "
+                    + "description, date_created, owner_id) VALUES (10, 'Reef', 100, 40, 50, 'SAND', 'SALTWATER', "
+                    + "'RUNNING', 'Corals, \"mostly\"', TIMESTAMP '2026-01-02 03:04:05', " + OWNER_ID + ")");
+            statement.execute("INSERT INTO aquariums (id, name, length, width, height, substrate, water_type, owner_id) "
+                    + "VALUES (11, 'Someone else''s', 10, 10, 10, 'SAND', 'FRESHWATER', " + OTHER_OWNER_ID + ")");
+            statement.execute("INSERT INTO accessories (id, accessory_type, model, serial_number, owner_id, aquarium_id, "
+                    + "is_led, time_on, time_off) VALUES (20, 'Lighting', 'Aqua LED', 'SN-1', " + OWNER_ID + ", 10, TRUE, "
+                    + "'08:00', '20:00')");
+            statement.execute("INSERT INTO inhabitants (id, inhabitant_type, species, count, water_type, owner_id) "
+                    + "VALUES (31, 'Snail', 'Nerite', 1, 'SALTWATER', " + OWNER_ID + ")");
+            statement.execute("INSERT INTO inhabitants (id, inhabitant_type, species, count, water_type, name, owner_id, "
+                    + "aquarium_id) VALUES (30, 'Fish', 'Clownfish', 2, 'SALTWATER', 'Nemo', " + OWNER_ID + ", 10)");
+        }
+        repository = new DatasetRepositoryImpl(databaseManager);
+    }
+
+    private static final class CollectingSink implements DatasetRepository.RowSink {
+        private List<String> fields;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        @Override
+        public void begin(DatasetEntity entity, List<String> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public void row(Object[] values) {
+            rows.add(values.clone());
+        }
+
+        Object value(int row, String field) {
+            return rows.get(row)[fields.indexOf(field)];
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream only the owner's aquariums with typed values and camel-case fields")
+    void shouldStreamOwnedAquariums() {
+        // Given
+        CollectingSink sink = new CollectingSink();
+
+        // When
+        repository.streamOwnedRows(DatasetEntity.AQUARIUM, OWNER_ID, sink);
+
+        // Then
+        assertEquals(1, sink.rows.size());
+        assertFalse(sink.fields.contains("ownerId"));
+        assertEquals(sink.fields.size(), sink.rows.get(0).length);
+        assertEquals(10L, ((Number) sink.value(0, "id")).longValue());
+        assertEquals("SALTWATER", sink.value(0, "waterType"));
+        assertEquals("Corals, \"mostly\"", sink.value(0, "description"));
+        assertEquals(LocalDateTime.of(2026, 1, 2, 3, 4, 5), sink.value(0, "dateCreated"));
+    }
+
+    @Test
+    @DisplayName("Should read time columns as local times")
+    void shouldStreamAccessoryTimes() {
+        // Given
+        CollectingSink sink = new CollectingSink();
+
+        // When
+        repository.streamOwnedRows(DatasetEntity.ACCESSORY, OWNER_ID, sink);
+
+        // Then
+        assertEquals(LocalTime.of(8, 0), sink.value(0, "timeOn"));
+        assertEquals(Boolean.TRUE, sink.value(0, "isLed"));
+        assertEquals(10L, ((Number) sink.value(0, "aquariumId")).longValue());
+    }
+
+    @Test
+    @DisplayName("Should stream rows in id order")
+    void shouldStreamInIdOrder() {
+        // Given
+        CollectingSink sink = new CollectingSink();
+
+        // When
+        repository.streamOwnedRows(DatasetEntity.INHABITANT, OWNER_ID, sink);
+
+        // Then
+        assertEquals(List.of(30L, 31L), sink.rows.stream().map(row -> ((Number) row[0]).longValue()).toList());
+        assertNull(sink.value(1, "aquariumId"));
+    }
+
+    @Test
+    @DisplayName("Should still describe the fields when the owner has no rows")
+    void shouldBeginEmptyEntity() {
+        // Given
+        CollectingSink sink = new CollectingSink();
+
+        // When
+        repository.streamOwnedRows(DatasetEntity.ORNAMENT, OWNER_ID, sink);
+
+        // Then
+        assertTrue(sink.rows.isEmpty());
+        assertEquals(Arrays.asList("id", "name", "material", "color", "description", "isAirPumpCompatible",
+                "dateCreated", "aquariumId"), sink.fields);
+    }
+}
@@ -0,0 +1,46 @@
+package nl.hu.bep.data;
+
+import nl.hu.bep.domain.enums.WaterType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EnumColumn Tests")
+class EnumColumnTest {
+
+    private final EnumColumn<WaterType> column = EnumColumn.of(WaterType.class);
+
+    @Test
+    @DisplayName("Should parse every constant by name")
+    void shouldParseEveryConstant() {
+        for (WaterType type : WaterType.values()) {
+            assertSame(type, column.parse(type.name()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should read the constant from a column index")
+    void shouldReadFromIndex() throws SQLException {
+        // Given
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(3)).thenReturn(WaterType.values()[0].name());
+
+        // When
+        WaterType result = column.get(rs, 3);
+
+        // Then
+        assertSame(WaterType.values()[0], result);
+    }
+
+    @Test
+    @DisplayName("Should fail like valueOf for unknown or missing names")
+    void shouldFailLikeValueOf() {
+        assertThrows(IllegalArgumentException.class, () -> column.parse("BRACKISH_LAVA"));
+        assertThrows(NullPointerException.class, () -> column.parse(null));
+    }
+}
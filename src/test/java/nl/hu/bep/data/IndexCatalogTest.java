@@ -0,0 +1,119 @@
+package nl.hu.bep.data;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IndexCatalog Tests")
+class IndexCatalogTest {
+
+    private static final String SCHEMA = """
+            -- test schema
+            CREATE TABLE tanks (
+                id BIGSERIAL PRIMARY KEY,
+                code VARCHAR(20) UNIQUE NOT NULL,
+                owner_id BIGINT NOT NULL,
+                kind VARCHAR(20) NOT NULL,
+                species VARCHAR(100),
+                notes TEXT
+            );
+
+            CREATE INDEX idx_tanks_owner_kind ON tanks(owner_id, kind DESC);
+            CREATE INDEX idx_tanks_notes ON tanks USING gin (to_tsvector('simple', notes));
+            CREATE INDEX idx_tanks_species ON tanks(species);
+            DROP INDEX IF EXISTS idx_tanks_species;
+            """;
+
+    private static final Table TANKS = Table.named("tanks");
+    private static final Column<Long> ID = TANKS.column("id", Long.class);
+    private static final Column<String> CODE = TANKS.column("code", String.class);
+    private static final Column<Long> OWNER_ID = TANKS.column("owner_id", Long.class);
+    private static final Column<String> KIND = TANKS.column("kind", String.class);
+    private static final Column<String> SPECIES = TANKS.column("species", String.class);
+    private static final Column<String> NOTES = TANKS.column("notes", String.class);
+
+    private final IndexCatalog catalog = new IndexCatalog(List.of(SCHEMA));
+
+    @Nested
+    @DisplayName("Parsing")
+    class Parsing {
+
+        @Test
+        @DisplayName("Should collect primary key, unique and created B-tree indexes")
+        void shouldCollectIndexes() {
+            // When
+            List<List<String>> columns = catalog.indexesOn("tanks").stream().map(IndexCatalog.Index::columns).toList();
+
+            // Then
+            assertEquals(List.of(List.of("id"), List.of("code"), List.of("owner_id", "kind")), columns);
+        }
+    }
+
+    @Nested
+    @DisplayName("Verification")
+    class Verification {
+
+        @Test
+        @DisplayName("Should accept predicates on a leading index column")
+        void shouldAcceptLeadingColumn() {
+            assertDoesNotThrow(() -> catalog.verify(Query.from(TANKS).where(ID, 1L)));
+            assertDoesNotThrow(() -> catalog.verify(Query.from(TANKS).where(CODE, "A1")));
+            assertDoesNotThrow(() -> catalog.verify(Query.from(TANKS).where(OWNER_ID, 1L)));
+        }
+
+        @Test
+        @DisplayName("Should accept a later index column once the columns before it are fixed")
+        void shouldAcceptCompositePrefix() {
+            assertDoesNotThrow(() -> catalog.verify(Query.from(TANKS).where(OWNER_ID, 1L).where(KIND, "reef")));
+            assertDoesNotThrow(() -> catalog.verify(Query.from(TANKS).where(OWNER_ID, 1L).whereStartsWith(KIND, "re")));
+        }
+
+        @Test
+        @DisplayName("Should reject a later index column on its own")
+        void shouldRejectMissingPrefix() {
+            // When
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> catalog.verify(Query.from(TANKS).where(KIND, "reef")));
+
+            // Then
+            assertTrue(exception.getMessage().contains("kind"));
+        }
+
+        @Test
+        @DisplayName("Should reject a column that is only indexed by a dropped or expression index")
+        void shouldRejectUnindexedColumns() {
+            assertEquals(List.of("species"), catalog.findUnbacked(Query.from(TANKS).where(OWNER_ID, 1L).where(SPECIES, "x")));
+            assertEquals(List.of("notes"), catalog.findUnbacked(Query.from(TANKS).where(OWNER_ID, 1L).where(NOTES, "x")));
+        }
+
+        @Test
+        @DisplayName("Should reject a query without predicates")
+        void shouldRejectFullScan() {
+            assertThrows(IllegalStateException.class, () -> catalog.verify(Query.from(TANKS).orderBy(ID)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should back every repository finder with the shipped migrations")
+    void shouldBackRepositoryFinders() {
+        // Given
+        IndexCatalog shipped = IndexCatalog.getInstance();
+
+        // When & Then
+        assertAll(
+                () -> shipped.verify(Query.from(AquariumRepositoryImpl.TABLE).where(AquariumRepositoryImpl.OWNER_ID, 1L)),
+                () -> shipped.verify(Query.from(AccessoryRepositoryImpl.TABLE).where(AccessoryRepositoryImpl.OWNER_ID, 1L)),
+                () -> shipped.verify(Query.from(AccessoryRepositoryImpl.TABLE).where(AccessoryRepositoryImpl.AQUARIUM_ID, 1L)),
+                () -> shipped.verify(Query.from(AccessoryRepositoryImpl.TABLE).where(AccessoryRepositoryImpl.ACCESSORY_TYPE, "Lighting")),
+                () -> shipped.verify(Query.from(InhabitantRepositoryImpl.TABLE).where(InhabitantRepositoryImpl.OWNER_ID, 1L)),
+                () -> shipped.verify(Query.from(InhabitantRepositoryImpl.TABLE).where(InhabitantRepositoryImpl.AQUARIUM_ID, 1L)),
+                () -> shipped.verify(Query.from(OrnamentRepositoryImpl.TABLE).where(OrnamentRepositoryImpl.OWNER_ID, 1L)),
+                () -> shipped.verify(Query.from(OrnamentRepositoryImpl.TABLE).where(OrnamentRepositoryImpl.AQUARIUM_ID, 1L)),
+                () -> shipped.verify(Query.from(OwnerRepositoryImpl.TABLE).where(OwnerRepositoryImpl.EMAIL, "a@b.nl")),
+                () -> shipped.verify(Query.from(OwnerRepositoryImpl.TABLE).where(OwnerRepositoryImpl.AQUARIUM_MANAGER_ID, 1L)));
+    }
+}
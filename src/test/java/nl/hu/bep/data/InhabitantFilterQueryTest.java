@@ -0,0 +1,104 @@
+package nl.hu.bep.data;
+
+import nl.hu.bep.application.metrics.QueryMetrics;
+import nl.hu.bep.config.ConnectionPermits;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.config.SchemaMigrator;
+import nl.hu.bep.domain.InhabitantFilter;
+import nl.hu.bep.domain.InhabitantFilter.SortField;
+import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.domain.summary.InhabitantSummary;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Inhabitant Filter Query Tests")
+class InhabitantFilterQueryTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:inhabitant-filters;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+    private static final long OWNER_ID = 2L;
+    private static final long OTHER_OWNER_ID = 1L;
+
+    private static InhabitantRepositoryImpl repository;
+
+    @BeforeAll
+    static void setUpDatabase() throws SQLException {
+        DatabaseManager databaseManager = new DatabaseManager("org.h2.Driver", JDBC_URL, "sa", "",
+                new QueryMetrics(Long.MAX_VALUE, Long.MAX_VALUE), new ConnectionPermits(2, 1000), new SchemaMigrator());
+        try (Connection connection = databaseManager.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO aquariums (id, name, length, width, height, substrate, water_type, owner_id) "
+                    + "VALUES (10, 'Community', 100, 40, 50, 'SAND', 'FRESHWATER', " + OWNER_ID + ")");
+            insert(statement, 1, "Fish", "Neon Tetra", "FRESHWATER", 12, 10L, OWNER_ID);
+            insert(statement, 2, "Fish", "Neon Goby", "SALTWATER", 2, null, OWNER_ID);
+            insert(statement, 3, "Snail", "Nerite", "FRESHWATER", 3, 10L, OWNER_ID);
+            insert(statement, 4, "Fish", "Guppy", "FRESHWATER", 6, null, OWNER_ID);
+            insert(statement, 5, "Fish", "Neon Tetra", "FRESHWATER", 20, null, OTHER_OWNER_ID);
+        }
+        repository = new InhabitantRepositoryImpl(databaseManager);
+    }
+
+    private static void insert(Statement statement, long id, String type, String species, String waterType, int count,
+                               Long aquariumId, long ownerId) throws SQLException {
+        statement.execute("INSERT INTO inhabitants (id, inhabitant_type, species, count, water_type, owner_id, aquarium_id) "
+                + "VALUES (" + id + ", '" + type + "', '" + species + "', " + count + ", '" + waterType + "', "
+                + ownerId + ", " + aquariumId + ")");
+    }
+
+    private static List<Long> ids(InhabitantFilter filter) {
+        return repository.findSummariesByOwnerId(OWNER_ID, filter).stream().map(InhabitantSummary::id).toList();
+    }
+
+    @Test
+    @DisplayName("Should return the owner's inhabitants in id order without a filter")
+    void shouldReturnAllForOwner() {
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(InhabitantFilter.none()));
+    }
+
+    @Test
+    @DisplayName("Should filter on type, water type, aquarium and species prefix together")
+    void shouldCombineFilters() {
+        assertEquals(List.of(1L, 2L, 4L), ids(new InhabitantFilter("Fish", null, null, null, SortField.ID, false)));
+        assertEquals(List.of(1L, 3L, 4L), ids(new InhabitantFilter(null, WaterType.FRESHWATER, null, null, SortField.ID, false)));
+        assertEquals(List.of(1L, 3L), ids(new InhabitantFilter(null, null, null, 10L, SortField.ID, false)));
+        assertEquals(List.of(1L, 2L), ids(new InhabitantFilter(null, null, "Neon", null, SortField.ID, false)));
+        assertEquals(List.of(1L), ids(new InhabitantFilter("Fish", WaterType.FRESHWATER, "Neon", 10L, SortField.ID, false)));
+    }
+
+    @Test
+    @DisplayName("Should treat LIKE wildcards in the species prefix literally")
+    void shouldEscapeWildcards() {
+        assertEquals(List.of(), ids(new InhabitantFilter(null, null, "%", null, SortField.ID, false)));
+        assertEquals(List.of(), ids(new InhabitantFilter(null, null, "Ne_n", null, SortField.ID, false)));
+    }
+
+    @Test
+    @DisplayName("Should sort by the requested field with the id breaking ties")
+    void shouldSort() {
+        assertEquals(List.of(1L, 4L, 3L, 2L), ids(new InhabitantFilter(null, null, null, null, SortField.COUNT, true)));
+        assertEquals(List.of(4L, 2L, 1L, 3L), ids(new InhabitantFilter(null, null, null, null, SortField.SPECIES, false)));
+    }
+
+    @Test
+    @DisplayName("Should have an index for every combination of filters")
+    void shouldBackEveryFilterCombination() {
+        IndexCatalog catalog = IndexCatalog.getInstance();
+        for (int mask = 0; mask < 16; mask++) {
+            InhabitantFilter filter = new InhabitantFilter(
+                    (mask & 1) != 0 ? "Fish" : null,
+                    (mask & 2) != 0 ? WaterType.FRESHWATER : null,
+                    (mask & 4) != 0 ? "Neon" : null,
+                    (mask & 8) != 0 ? 10L : null,
+                    SortField.NAME, false);
+            Query query = InhabitantRepositoryImpl.filteredQuery(OWNER_ID, filter);
+            assertDoesNotThrow(() -> catalog.verify(query), query.shape());
+        }
+    }
+}
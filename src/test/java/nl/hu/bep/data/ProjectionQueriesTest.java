@@ -0,0 +1,148 @@
+package nl.hu.bep.data;
+
+import nl.hu.bep.application.metrics.QueryMetrics;
+import nl.hu.bep.config.ConnectionPermits;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.config.SchemaMigrator;
+import nl.hu.bep.domain.Accessory;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.AquariumFiltration;
+import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.domain.Ornament;
+import nl.hu.bep.domain.Owner;
+import nl.hu.bep.domain.enums.AquariumState;
+import nl.hu.bep.domain.summary.AccessorySummary;
+import nl.hu.bep.domain.summary.AquariumSummary;
+import nl.hu.bep.domain.summary.InhabitantSummary;
+import nl.hu.bep.domain.summary.OrnamentSummary;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the summary and full projections against the migrated schema, so a column list that drifts from
+ * the tables fails here instead of on the first request.
+ */
+@DisplayName("Projection Queries Tests")
+class ProjectionQueriesTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:projections;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+    private static final long OWNER_ID = 2L;
+
+    private static QueryMetrics queryMetrics;
+    private static DatabaseManager databaseManager;
+
+    @BeforeAll
+    static void setUpDatabase() throws SQLException {
+        queryMetrics = new QueryMetrics(Long.MAX_VALUE, Long.MAX_VALUE);
+        databaseManager = new DatabaseManager("org.h2.Driver", JDBC_URL, "sa", "", queryMetrics,
+                new ConnectionPermits(2, 1000), new SchemaMigrator());
+        try (Connection connection = databaseManager.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO aquariums (id, name, length, width, height, substrate, water_type, state, "
+                    + "description, owner_id) VALUES (10, 'Reef', 100, 40, 50, 'SAND', 'SALTWATER', 'RUNNING', "
+                    + "'A long description', " + OWNER_ID + ")");
+            statement.execute("INSERT INTO accessories (id, accessory_type, model, serial_number, owner_id, aquarium_id, "
+                    + "is_led, time_on, time_off) VALUES (20, 'Lighting', 'Aqua LED', 'SN-1', " + OWNER_ID + ", 10, TRUE, "
+                    + "'08:00', '20:00')");
+            statement.execute("INSERT INTO inhabitants (id, inhabitant_type, species, count, water_type, name, owner_id, "
+                    + "aquarium_id) VALUES (30, 'Fish', 'Clownfish', 2, 'SALTWATER', 'Nemo', " + OWNER_ID + ", 10)");
+            statement.execute("INSERT INTO ornaments (id, name, material, owner_id) VALUES (40, 'Castle', 'Resin', "
+                    + OWNER_ID + ")");
+            statement.execute("INSERT INTO aquariums (id, name, length, width, height, substrate, water_type, state, "
+                    + "owner_id) VALUES (11, 'Pond', 200, 100, 60, 'GRAVEL', 'FRESHWATER', 'MAINTENANCE', 1)");
+            statement.execute("INSERT INTO accessories (id, accessory_type, model, serial_number, owner_id, aquarium_id, "
+                    + "is_external, capacity_liters) VALUES (21, 'Filter', 'Canister', 'SN-2', 1, 11, TRUE, 900)");
+        }
+    }
+
+    private static boolean recorded(String sqlPrefix) {
+        return queryMetrics.findSlowest(100).stream().anyMatch(stats -> stats.sql().startsWith(sqlPrefix));
+    }
+
+    @Nested
+    @DisplayName("Summary projections")
+    class SummaryProjections {
+
+        @Test
+        @DisplayName("Should read aquarium summaries without the other columns")
+        void shouldReadAquariumSummaries() {
+            // When
+            List<AquariumSummary> result = new AquariumRepositoryImpl(databaseManager).findSummariesByOwnerId(OWNER_ID);
+
+            // Then
+            assertEquals(List.of(new AquariumSummary(10L, "Reef", AquariumState.RUNNING)), result);
+            assertTrue(recorded("SELECT id, name, state FROM aquariums WHERE owner_id = ?"));
+        }
+
+        @Test
+        @DisplayName("Should read accessory, inhabitant and ornament summaries")
+        void shouldReadOtherSummaries() {
+            // When
+            List<AccessorySummary> accessories = new AccessoryRepositoryImpl(databaseManager).findSummariesByOwnerId(OWNER_ID);
+            List<InhabitantSummary> inhabitants = new InhabitantRepositoryImpl(databaseManager).findSummariesByOwnerId(OWNER_ID);
+            List<OrnamentSummary> ornaments = new OrnamentRepositoryImpl(databaseManager).findSummariesByOwnerId(OWNER_ID);
+
+            // Then
+            assertEquals(List.of(new AccessorySummary(20L, "Lighting", "Aqua LED", 10L)), accessories);
+            assertEquals(List.of(new InhabitantSummary(30L, "Fish", "Clownfish", "Nemo", 2, 10L)), inhabitants);
+            assertEquals(List.of(new OrnamentSummary(40L, "Castle", "Resin", null)), ornaments);
+        }
+
+        @Test
+        @DisplayName("Should return an empty list for an owner without rows")
+        void shouldReturnEmptyList() {
+            assertTrue(new AquariumRepositoryImpl(databaseManager).findSummariesByOwnerId(999L).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Full projections")
+    class FullProjections {
+
+        @Test
+        @DisplayName("Should map every entity through its explicit column list")
+        void shouldMapFullEntities() {
+            // When
+            Aquarium aquarium = new AquariumRepositoryImpl(databaseManager).findById(10L).orElseThrow();
+            Accessory accessory = new AccessoryRepositoryImpl(databaseManager).findById(20L).orElseThrow();
+            Inhabitant inhabitant = new InhabitantRepositoryImpl(databaseManager).findById(30L).orElseThrow();
+            Ornament ornament = new OrnamentRepositoryImpl(databaseManager).findById(40L).orElseThrow();
+            Owner owner = new OwnerRepositoryImpl(databaseManager).findById(OWNER_ID).orElseThrow();
+
+            // Then
+            assertEquals("A long description", aquarium.getDescription());
+            assertEquals("Aqua LED", accessory.getModel());
+            assertEquals("Clownfish", inhabitant.getSpecies());
+            assertEquals("Resin", ornament.getMaterial());
+            assertEquals("test@aquarium.com", owner.getEmail());
+            assertFalse(recorded("SELECT * "));
+        }
+
+        @Test
+        @DisplayName("Should map aquariums joined with their filters")
+        void shouldMapAquariumFiltration() {
+            // When
+            FiltrationRepositoryImpl repository = new FiltrationRepositoryImpl(databaseManager);
+            AquariumFiltration withFilter = repository.findByAquariumId(11L).orElseThrow();
+            AquariumFiltration withoutFilter = repository.findByAquariumId(10L).orElseThrow();
+
+            // Then
+            assertEquals("Pond", withFilter.aquariumName());
+            assertEquals(AquariumState.MAINTENANCE, withFilter.state());
+            assertEquals(1, withFilter.filters().size());
+            assertEquals("Canister", withFilter.filters().get(0).getModel());
+            assertEquals(900, withFilter.filters().get(0).getCapacityLiters());
+            assertEquals(AquariumState.RUNNING, withoutFilter.state());
+            assertEquals(List.of(), withoutFilter.filters());
+        }
+    }
+}
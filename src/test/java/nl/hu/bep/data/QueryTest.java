@@ -0,0 +1,121 @@
+package nl.hu.bep.data;
+
+import nl.hu.bep.domain.enums.WaterType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Query Tests")
+class QueryTest {
+
+    private static final Table TABLE = Table.named("inhabitants");
+    private static final Column<Long> ID = TABLE.column("id", Long.class);
+    private static final Column<Long> OWNER_ID = TABLE.column("owner_id", Long.class);
+    private static final Column<Long> AQUARIUM_ID = TABLE.column("aquarium_id", Long.class);
+    private static final Column<String> SPECIES = TABLE.column("species", String.class);
+    private static final Column<WaterType> WATER_TYPE = TABLE.column("water_type", WaterType.class);
+
+    @Nested
+    @DisplayName("SQL generation")
+    class SqlGeneration {
+
+        @Test
+        @DisplayName("Should combine predicates, ordering and limit with placeholders only")
+        void shouldRenderFullQuery() {
+            // Given
+            Query query = Query.from(TABLE)
+                    .where(OWNER_ID, 7L)
+                    .where(AQUARIUM_ID, null)
+                    .whereStartsWith(SPECIES, "Neon")
+                    .orderByDescending(SPECIES)
+                    .orderBy(ID)
+                    .limit(25);
+
+            // When
+            String sql = query.toSql("id, species");
+
+            // Then
+            assertEquals("SELECT id, species FROM inhabitants WHERE owner_id = ? AND aquarium_id IS NULL"
+                    + " AND species LIKE ? ESCAPE '\\' ORDER BY species DESC, id LIMIT ?", sql);
+        }
+
+        @Test
+        @DisplayName("Should bind values in order, enums by name and the limit last")
+        void shouldBindValues() throws SQLException {
+            // Given
+            PreparedStatement ps = mock(PreparedStatement.class);
+            Query query = Query.from(TABLE)
+                    .where(OWNER_ID, 7L)
+                    .where(AQUARIUM_ID, null)
+                    .where(WATER_TYPE, WaterType.FRESHWATER)
+                    .whereStartsWith(SPECIES, "50%_off")
+                    .limit(10);
+
+            // When
+            query.bind(ps);
+
+            // Then
+            verify(ps).setObject(1, 7L);
+            verify(ps).setString(2, "FRESHWATER");
+            verify(ps).setObject(3, "50\\%\\_off%");
+            verify(ps).setInt(4, 10);
+            verifyNoMoreInteractions(ps);
+        }
+
+        @Test
+        @DisplayName("Should describe the shape without values")
+        void shouldDescribeShape() {
+            // Given
+            Query first = Query.from(TABLE).where(OWNER_ID, 1L).whereStartsWith(SPECIES, "a");
+            Query second = Query.from(TABLE).where(OWNER_ID, 2L).whereStartsWith(SPECIES, "b");
+
+            // When & Then
+            assertEquals(first.shape(), second.shape());
+            assertNotEquals(first.shape(), Query.from(TABLE).where(OWNER_ID, 1L).shape());
+        }
+    }
+
+    @Nested
+    @DisplayName("Whitelisting")
+    class Whitelisting {
+
+        @Test
+        @DisplayName("Should reject a column of another table")
+        void shouldRejectForeignColumn() {
+            // Given
+            Table other = Table.named("ornaments");
+            Column<Long> otherOwner = other.column("owner_id", Long.class);
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> Query.from(TABLE).where(otherOwner, 1L));
+        }
+
+        @Test
+        @DisplayName("Should reject identifiers that are not plain column names")
+        void shouldRejectUnsafeIdentifiers() {
+            Table table = Table.named("owners");
+            assertThrows(IllegalArgumentException.class, () -> table.column("email = '' OR 1=1 --", String.class));
+            assertThrows(IllegalArgumentException.class, () -> Table.named("owners; DROP TABLE owners"));
+        }
+
+        @Test
+        @DisplayName("Should reject a column declared twice")
+        void shouldRejectDuplicateColumn() {
+            Table table = Table.named("owners");
+            table.column("email", String.class);
+            assertThrows(IllegalArgumentException.class, () -> table.column("email", String.class));
+        }
+
+        @Test
+        @DisplayName("Should reject a limit below one")
+        void shouldRejectInvalidLimit() {
+            assertThrows(IllegalArgumentException.class, () -> Query.from(TABLE).limit(0));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package nl.hu.bep.data;
+
+import nl.hu.bep.application.metrics.QueryMetrics;
+import nl.hu.bep.config.ConnectionPermits;
+import nl.hu.bep.config.DatabaseManager;
+import nl.hu.bep.config.SchemaMigrator;
+import nl.hu.bep.domain.Aquarium;
+import nl.hu.bep.domain.Inhabitant;
+import nl.hu.bep.domain.enums.SubstrateType;
+import nl.hu.bep.domain.enums.WaterType;
+import nl.hu.bep.exception.ApplicationException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Batch inserts against the migrated schema, including reading back the ids the database generated.
+ */
+@DisplayName("RepositoryImpl Tests")
+class RepositoryImplTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:repository_batch;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+    private static final long OWNER_ID = 2L;
+
+    private static QueryMetrics queryMetrics;
+    private static AquariumRepositoryImpl aquariumRepository;
+    private static InhabitantRepositoryImpl inhabitantRepository;
+
+    @BeforeAll
+    static void setUpDatabase() {
+        queryMetrics = new QueryMetrics(Long.MAX_VALUE, Long.MAX_VALUE);
+        DatabaseManager databaseManager = new DatabaseManager("org.h2.Driver", JDBC_URL, "sa", "",
+                queryMetrics, new ConnectionPermits(2, 1000), new SchemaMigrator());
+        aquariumRepository = new AquariumRepositoryImpl(databaseManager);
+        inhabitantRepository = new InhabitantRepositoryImpl(databaseManager);
+    }
+
+    private static Aquarium aquarium(String name) {
+        Aquarium aquarium = Aquarium.create(name, 60, 30, 40, SubstrateType.GRAVEL, WaterType.FRESHWATER,
+                null, null, null);
+        aquarium.assignToOwner(OWNER_ID);
+        return aquarium;
+    }
+
+    private static Inhabitant fish(String name, Long aquariumId) {
+        Inhabitant fish = Inhabitant.create("fish", "Neon tetra", name, OWNER_ID, Optional.empty(), Optional.of(6),
+                Optional.of(true), Optional.empty(), Optional.empty(), Inhabitant.InhabitantProperties.defaults());
+        fish.assignToAquarium(aquariumId, OWNER_ID);
+        return fish;
+    }
+
+    @Nested
+    @DisplayName("insert")
+    class Insert {
+
+        @Test
+        @DisplayName("Should insert and read back the row with a single connection permit")
+        void shouldNotHoldTwoPermits() {
+            // Given
+            AquariumRepositoryImpl singlePermitRepository = new AquariumRepositoryImpl(new DatabaseManager(
+                    "org.h2.Driver", JDBC_URL, "sa", "", new QueryMetrics(Long.MAX_VALUE, Long.MAX_VALUE),
+                    new ConnectionPermits(1, 200), new SchemaMigrator()));
+
+            // When
+            Aquarium saved = singlePermitRepository.insert(aquarium("Nano"));
+
+            // Then
+            assertNotNull(saved.getId());
+            assertEquals("Nano", saved.getName());
+        }
+    }
+
+    @Nested
+    @DisplayName("insertAll")
+    class InsertAll {
+
+        @Test
+        @DisplayName("Should insert every entity and return them with their generated ids, in order")
+        void shouldReturnGeneratedIds() {
+            // Given
+            List<Aquarium> aquariums = IntStream.range(0, 3).mapToObj(i -> aquarium("Tank " + i)).toList();
+
+            // When
+            List<Aquarium> saved = aquariumRepository.insertAll(aquariums);
+
+            // Then
+            assertEquals(List.of("Tank 0", "Tank 1", "Tank 2"), saved.stream().map(Aquarium::getName).toList());
+            assertEquals(3, saved.stream().map(Aquarium::getId).distinct().count());
+            for (Aquarium aquarium : saved) {
+                Aquarium stored = aquariumRepository.findById(aquarium.getId()).orElseThrow();
+                assertEquals(aquarium.getName(), stored.getName());
+                assertEquals(OWNER_ID, stored.getOwnerId());
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep the type-specific state of the entities it returns")
+        void shouldKeepEntityState() {
+            // Given
+            Long aquariumId = aquariumRepository.insertAll(List.of(aquarium("Community"))).get(0).getId();
+
+            // When
+            List<Inhabitant> saved = inhabitantRepository.insertAll(List.of(fish("Blue", aquariumId), fish("Red", aquariumId)));
+
+            // Then
+            assertEquals(2, saved.size());
+            Inhabitant blue = saved.get(0);
+            assertNotNull(blue.getId());
+            assertEquals("Fish", blue.getType());
+            assertEquals(6, blue.getCount());
+            assertEquals(aquariumId, blue.getAquariumId());
+            assertEquals("Blue", inhabitantRepository.findById(blue.getId()).orElseThrow().getName());
+        }
+
+        @Test
+        @DisplayName("Should roll back the whole batch when one row fails")
+        void shouldRollBackFailedBatch() {
+            // Given
+            long before = inhabitantRepository.findAll().size();
+            List<Inhabitant> batch = List.of(fish("Kept back", null), fish("Orphan", Long.MAX_VALUE));
+
+            // When & Then
+            assertThrows(ApplicationException.ConflictException.class, () -> inhabitantRepository.insertAll(batch));
+            assertEquals(before, inhabitantRepository.findAll().size());
+        }
+
+        @Test
+        @DisplayName("Should record a failed batch in the query statistics")
+        void shouldRecordFailedBatch() {
+            // Given
+            List<Inhabitant> batch = List.of(fish("Orphan", Long.MAX_VALUE));
+
+            // When
+            assertThrows(ApplicationException.ConflictException.class, () -> inhabitantRepository.insertAll(batch));
+
+            // Then
+            QueryMetrics.TemplateStats insert = queryMetrics.findSlowest(Integer.MAX_VALUE).stream()
+                    .filter(stats -> stats.sql().startsWith("INSERT INTO inhabitants"))
+                    .findFirst().orElseThrow();
+            assertTrue(insert.failedCalls() >= 1);
+        }
+
+        @Test
+        @DisplayName("Should do nothing for an empty list")
+        void shouldAcceptEmptyList() {
+            // When & Then
+            assertEquals(List.of(), aquariumRepository.insertAll(List.of()));
+        }
+    }
+}
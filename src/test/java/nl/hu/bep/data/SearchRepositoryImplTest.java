@@ -0,0 +1,25 @@
+package nl.hu.bep.data;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SearchRepositoryImpl Tests")
+class SearchRepositoryImplTest {
+
+    @Test
+    @DisplayName("Should require every word as a prefix")
+    void shouldBuildPrefixQuery() {
+        assertEquals("neon:* & tet:*", SearchRepositoryImpl.toPrefixQuery("Neon tet"));
+        assertEquals("cardinal:* & tetra:*", SearchRepositoryImpl.toPrefixQuery("  cardinal-tetra "));
+        assertEquals("poisson:* & clown:* & 2:*", SearchRepositoryImpl.toPrefixQuery("Poisson-Clown 2"));
+    }
+
+    @Test
+    @DisplayName("Should drop tsquery operators from user input")
+    void shouldStripOperators() {
+        assertEquals("neon:* & tetra:*", SearchRepositoryImpl.toPrefixQuery("neon | !tetra:* & ("));
+        assertEquals("", SearchRepositoryImpl.toPrefixQuery("&|!():*"));
+    }
+}
@@ -208,6 +208,50 @@ class AquariumTest {
         }
     }
 
+    @Nested
+    @DisplayName("Maintenance Scheduling")
+    class MaintenanceScheduling {
+
+        @Test
+        @DisplayName("Should recommend shorter intervals for smaller tanks")
+        void shouldScaleIntervalWithVolume() {
+            // Arrange
+            Aquarium small = Aquarium.create("Nano", 30.0, 30.0, 30.0, SubstrateType.SAND, WaterType.FRESHWATER, null, null, AquariumState.RUNNING);
+            Aquarium medium = Aquarium.create("Community", 80.0, 35.0, 40.0, SubstrateType.SAND, WaterType.FRESHWATER, null, null, AquariumState.RUNNING);
+            Aquarium large = Aquarium.create("Show", 150.0, 60.0, 60.0, SubstrateType.SAND, WaterType.FRESHWATER, null, null, AquariumState.RUNNING);
+
+            // Assert
+            assertEquals(3, small.getRecommendedMaintenanceIntervalDays());
+            assertEquals(7, medium.getRecommendedMaintenanceIntervalDays());
+            assertEquals(14, large.getRecommendedMaintenanceIntervalDays());
+        }
+
+        @Test
+        @DisplayName("Should count the due date from when the aquarium started running")
+        void shouldComputeDueDateFromRunningStart() {
+            // Arrange
+            java.time.LocalDateTime runningSince = java.time.LocalDateTime.now().minusDays(10);
+            Aquarium aquarium = Aquarium.reconstruct(1L, "Community", new nl.hu.bep.domain.value.Dimensions(80.0, 35.0, 40.0),
+                    SubstrateType.SAND, WaterType.FRESHWATER, 24.0, AquariumState.RUNNING, runningSince,
+                    null, null, runningSince, 1L, OWNER_ID);
+
+            // Assert
+            assertEquals(runningSince.plusDays(7), aquarium.getNextMaintenanceDue());
+            assertTrue(aquarium.isMaintenanceOverdue());
+        }
+
+        @Test
+        @DisplayName("Should not schedule maintenance for aquariums that are not running")
+        void shouldNotScheduleWhenNotRunning() {
+            // Arrange
+            Aquarium aquarium = Aquarium.create("Setup", 80.0, 35.0, 40.0, SubstrateType.SAND, WaterType.FRESHWATER, null, null, AquariumState.SETUP);
+
+            // Assert
+            assertNull(aquarium.getNextMaintenanceDue());
+            assertFalse(aquarium.isMaintenanceOverdue());
+        }
+    }
+
     @Nested
     @DisplayName("Aquarium Equality and Hash Code")
     class AquariumEqualityAndHashCode {
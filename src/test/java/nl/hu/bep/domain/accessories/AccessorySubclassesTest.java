@@ -39,6 +39,16 @@ class AccessorySubclassesTest {
         assertEquals(timeOff, lighting.getTurnOffTime());
     }
 
+    @Test
+    void lighting_ScheduleWrapsPastMidnight_ReportsPositiveDurationAndState() {
+        Lighting lighting = new Lighting("Moonlight", "11111", true, LocalTime.of(6, 0), LocalTime.of(20, 0), 1L);
+
+        assertEquals(java.time.Duration.ofHours(10), lighting.getDailyLightDuration());
+        assertTrue(lighting.isOnAt(LocalTime.of(23, 30)));
+        assertTrue(lighting.isOnAt(LocalTime.of(2, 0)));
+        assertFalse(lighting.isOnAt(LocalTime.of(12, 0)));
+    }
+
     @Test
     void createThermostat_ValidParameters_CreatesThermostat() {
         Accessory thermostat = Accessory.createFromType(
@@ -0,0 +1,53 @@
+package nl.hu.bep.load;
+
+import java.util.Arrays;
+
+/**
+ * Collects raw latencies for one operation on one worker thread. Workers never share a recorder,
+ * so recording is a plain array write; recorders are merged once the run is over.
+ */
+final class LatencyRecorder {
+
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long latencyNanos, boolean success) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    static Summary summarize(Iterable<LatencyRecorder> recorders, double seconds) {
+        int total = 0;
+        int errors = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.count;
+            errors += recorder.errors;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.latenciesNanos, 0, merged, offset, recorder.count);
+            offset += recorder.count;
+        }
+        Arrays.sort(merged);
+        return new Summary(total, errors, total / seconds,
+                percentile(merged, 0.50), percentile(merged, 0.99), percentile(merged, 0.999),
+                merged.length == 0 ? 0 : merged[merged.length - 1]);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    record Summary(int count, int errors, double throughput, long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {}
+}
@@ -0,0 +1,232 @@
+package nl.hu.bep.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nl.hu.bep.AquariumApplication;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots {@link AquariumApplication} on Grizzly against an in-memory H2 database in PostgreSQL mode
+ * and drives it over HTTP with a weighted mix of realistic requests.
+ *
+ * <p>Run with {@code mvn -Pload-test test-compile exec:exec}. Tune with the system properties
+ * {@code load.threads}, {@code load.warmupSeconds}, {@code load.durationSeconds} and {@code load.port}.
+ */
+public final class LoadHarness {
+
+    private static final String PASSWORD = "LoadTest123!";
+    private static final String JDBC_URL =
+            "jdbc:h2:mem:aquarium-load;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+
+    enum Operation {
+        LOGIN(5),
+        LIST_AQUARIUMS(40),
+        GET_AQUARIUM(35),
+        CREATE_INHABITANT(20);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+
+    private LoadHarness(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = Integer.getInteger("load.threads", 8);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 5);
+        int durationSeconds = Integer.getInteger("load.durationSeconds", 20);
+        int port = Integer.getInteger("load.port", 8095);
+
+        startDatabase();
+
+        // Grizzly honours @ApplicationPath("/api"), so the server is mounted at the root
+        URI rootUri = URI.create("http://localhost:" + port + "/");
+        HttpServer server = GrizzlyHttpServerFactory.createHttpServer(rootUri, new AquariumApplication());
+        try {
+            LoadHarness harness = new LoadHarness(rootUri + "api");
+            List<VirtualUser> users = harness.createUsers(threads);
+
+            System.out.printf("Warming up %d users for %ds%n", threads, warmupSeconds);
+            harness.run(users, warmupSeconds);
+            System.out.printf("Measuring %d users for %ds%n", threads, durationSeconds);
+            List<Map<Operation, LatencyRecorder>> results = harness.run(users, durationSeconds);
+            report(results, durationSeconds);
+        } finally {
+            server.shutdownNow();
+        }
+    }
+
+    private static void startDatabase() {
+        // The schema is created by the migrations on the application's first connection
+        System.setProperty("aquarium.jdbc.driver", "org.h2.Driver");
+        System.setProperty("aquarium.jdbc.url", JDBC_URL);
+        System.setProperty("aquarium.jdbc.username", "sa");
+        System.setProperty("aquarium.jdbc.password", "");
+    }
+
+    private List<VirtualUser> createUsers(int count) throws IOException, InterruptedException {
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String email = "load-user-" + i + "@example.com";
+            JsonNode registered = send("POST", "/auth/register", null, """
+                    {"firstName":"Load","lastName":"User%d","email":"%s","password":"%s"}""".formatted(i, email, PASSWORD));
+            String token = "Bearer " + registered.path("data").path("token").asText();
+
+            JsonNode aquarium = send("POST", "/aquariums", token, """
+                    {"name":"Load tank %d","length":100.0,"width":40.0,"height":50.0,
+                     "substrate":"SAND","waterType":"FRESHWATER","state":"RUNNING"}""".formatted(i));
+            long aquariumId = aquarium.path("data").path("id").asLong();
+            users.add(new VirtualUser(email, token, aquariumId, new SplittableRandom(i)));
+        }
+        return users;
+    }
+
+    private List<Map<Operation, LatencyRecorder>> run(List<VirtualUser> users, int seconds) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(users.size());
+        CountDownLatch done = new CountDownLatch(users.size());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Map<Operation, LatencyRecorder>> results = new ArrayList<>();
+
+        for (VirtualUser user : users) {
+            Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                recorders.put(operation, new LatencyRecorder());
+            }
+            results.add(recorders);
+            workers.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = user.nextOperation();
+                        long start = System.nanoTime();
+                        boolean success = execute(user, operation);
+                        recorders.get(operation).record(System.nanoTime() - start, success);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        workers.shutdown();
+        return results;
+    }
+
+    private boolean execute(VirtualUser user, Operation operation) {
+        try {
+            int status = switch (operation) {
+                case LOGIN -> status("POST", "/auth/login", null,
+                        "{\"email\":\"%s\",\"password\":\"%s\"}".formatted(user.email, PASSWORD));
+                case LIST_AQUARIUMS -> status("GET", "/aquariums", user.token, null);
+                case GET_AQUARIUM -> status("GET", "/aquariums/" + user.aquariumId, user.token, null);
+                case CREATE_INHABITANT -> status("POST", "/inhabitants", user.token, """
+                        {"type":"Fish","species":"Paracheirodon innesi","name":"Neon","count":6,
+                         "isSchooling":true,"waterType":"FRESHWATER","aquariumId":%d}""".formatted(user.aquariumId));
+            };
+            return status >= 200 && status < 300;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private JsonNode send(String method, String path, String token, String body) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(method, path, token, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(method + " " + path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private int status(String method, String path, String token, String body) throws IOException, InterruptedException {
+        return client.send(request(method, path, token, body), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest request(String method, String path, String token, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        return builder.build();
+    }
+
+    private static void report(List<Map<Operation, LatencyRecorder>> results, int seconds) {
+        System.out.printf("%n%-18s %8s %7s %10s %10s %10s %10s %10s%n",
+                "operation", "count", "errors", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        List<LatencyRecorder> all = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            List<LatencyRecorder> recorders = results.stream().map(r -> r.get(operation)).toList();
+            all.addAll(recorders);
+            print(operation.name(), LatencyRecorder.summarize(recorders, seconds));
+        }
+        print("TOTAL", LatencyRecorder.summarize(all, seconds));
+    }
+
+    private static void print(String name, LatencyRecorder.Summary summary) {
+        System.out.printf("%-18s %8d %7d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                name, summary.count(), summary.errors(), summary.throughput(),
+                millis(summary.p50Nanos()), millis(summary.p99Nanos()), millis(summary.p999Nanos()), millis(summary.maxNanos()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class VirtualUser {
+        private final String email;
+        private final String token;
+        private final long aquariumId;
+        private final SplittableRandom random;
+
+        private VirtualUser(String email, String token, long aquariumId, SplittableRandom random) {
+            this.email = email;
+            this.token = token;
+            this.aquariumId = aquariumId;
+            this.random = random;
+        }
+
+        private Operation nextOperation() {
+            int roll = random.nextInt(100);
+            for (Operation operation : Operation.values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return Operation.LIST_AQUARIUMS;
+        }
+    }
+}
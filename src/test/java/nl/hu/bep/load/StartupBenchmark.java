@@ -0,0 +1,143 @@
+package nl.hu.bep.load;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cold-starts the embedded launcher jar repeatedly, with and without the AppCDS archive, and reports
+ * the time from process launch until {@code /health} first answers 200. Each run is a fresh JVM, so
+ * nothing is shared between runs except the archive itself.
+ *
+ * <p>Build the jar and archive with {@code mvn -Pembedded,appcds package -DskipTests}, then run
+ * {@code mvn -Pstartup-benchmark test-compile exec:exec}. Tune with {@code startup.runs},
+ * {@code startup.jar} and {@code startup.archive}.
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+    private final Path jar;
+
+    private StartupBenchmark(Path jar) {
+        this.jar = jar;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        Path jar = Path.of(System.getProperty("startup.jar", "target/embedded/aquarium-api-embedded.jar")).toAbsolutePath();
+        Path archive = Path.of(System.getProperty("startup.archive", "target/embedded/aquarium-api.jsa")).toAbsolutePath();
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar + " not found; build it with mvn -Pembedded,appcds package -DskipTests");
+        }
+
+        StartupBenchmark benchmark = new StartupBenchmark(jar);
+        // One discarded launch so both variants start with a warm file-system cache
+        benchmark.measure(List.of());
+
+        List<String> withoutArchive = List.of("-Xshare:auto");
+        long[] baseline = benchmark.measureRuns("no archive", withoutArchive, runs);
+        long[] shared = null;
+        if (Files.isRegularFile(archive)) {
+            shared = benchmark.measureRuns("AppCDS", List.of("-XX:SharedArchiveFile=" + archive), runs);
+        } else {
+            System.out.printf("No archive at %s, skipping the AppCDS runs%n", archive);
+        }
+
+        System.out.printf("%n%-12s %6s %10s %10s %10s%n", "variant", "runs", "min ms", "median ms", "max ms");
+        report("no archive", baseline);
+        if (shared != null) {
+            report("AppCDS", shared);
+            System.out.printf("%nMedian startup %.1f%% faster with the archive%n",
+                    100.0 * (median(baseline) - median(shared)) / median(baseline));
+        }
+    }
+
+    private long[] measureRuns(String variant, List<String> jvmOptions, int runs) throws Exception {
+        long[] millis = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            millis[run] = measure(jvmOptions);
+            System.out.printf("%-12s run %d: %d ms%n", variant, run + 1, millis[run]);
+        }
+        return millis;
+    }
+
+    private long measure(List<String> jvmOptions) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(jar.getFileName().toString());
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(jar.getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        Map<String, String> environment = builder.environment();
+        environment.put("PORT", String.valueOf(port));
+        environment.putIfAbsent("DATABASE_URL", "jdbc:postgresql://localhost:5432/aquarium");
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            awaitHealthy(URI.create("http://localhost:" + port + "/health"), process);
+            return (System.nanoTime() - start) / 1_000_000;
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private void awaitHealthy(URI health, Process process) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(health).timeout(Duration.ofSeconds(1)).GET().build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Launcher exited with status " + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("Launcher did not become healthy within " + STARTUP_TIMEOUT);
+    }
+
+    private static void report(String variant, long[] millis) {
+        long[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-12s %6d %10d %10d %10d%n", variant, sorted.length, sorted[0], median(sorted),
+                sorted[sorted.length - 1]);
+    }
+
+    private static long median(long[] millis) {
+        long[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package nl.hu.bep.security.application.filter;
+
+import nl.hu.bep.application.metrics.RequestMetrics;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ResourceInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RequestMetricsFilter Tests")
+class RequestMetricsFilterTest {
+
+    @Mock
+    private ResourceInfo resourceInfo;
+
+    @Mock
+    private ContainerRequestContext requestContext;
+
+    @Mock
+    private ContainerResponseContext responseContext;
+
+    private RequestMetrics metrics;
+    private RequestMetricsFilter filter;
+    private Method resourceMethod;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        metrics = new RequestMetrics();
+        filter = new RequestMetricsFilter(metrics, resourceInfo);
+        resourceMethod = SampleResource.class.getDeclaredMethod("list");
+    }
+
+    @Nested
+    @DisplayName("Matched Requests")
+    class MatchedRequests {
+
+        @Test
+        @DisplayName("Should mark the request in flight and remember its endpoint")
+        void shouldStartTimingMatchedRequest() {
+            // Given
+            when(resourceInfo.getResourceMethod()).thenReturn(resourceMethod);
+
+            // When
+            filter.filter(requestContext);
+
+            // Then
+            ArgumentCaptor<Object> endpoint = ArgumentCaptor.forClass(Object.class);
+            verify(requestContext).setProperty(eq(RequestMetricsFilter.ENDPOINT_PROPERTY), endpoint.capture());
+            verify(requestContext).setProperty(eq(RequestMetricsFilter.START_PROPERTY), any(Long.class));
+            assertSame(metrics.endpoint(resourceMethod), endpoint.getValue());
+            assertEquals(1, metrics.inFlight());
+        }
+
+        @Test
+        @DisplayName("Should record latency and status when the response leaves")
+        void shouldCompleteTimedRequest() {
+            // Given
+            RequestMetrics.Endpoint endpoint = metrics.endpoint(resourceMethod);
+            metrics.requestStarted(endpoint);
+            when(requestContext.getProperty(RequestMetricsFilter.ENDPOINT_PROPERTY)).thenReturn(endpoint);
+            when(requestContext.getProperty(RequestMetricsFilter.START_PROPERTY)).thenReturn(System.nanoTime());
+            when(responseContext.getStatus()).thenReturn(403);
+
+            // When
+            filter.filter(requestContext, responseContext);
+
+            // Then
+            String output = metrics.scrape();
+            assertEquals(0, metrics.inFlight());
+            assertTrue(output.contains("aquarium_http_responses_total{status=\"403\"} 1\n"));
+            assertTrue(output.contains("aquarium_http_request_duration_seconds_count{endpoint=\"SampleResource.list\"} 1\n"));
+            assertTrue(output.contains("aquarium_http_endpoint_errors_total{endpoint=\"SampleResource.list\"} 1\n"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Unmatched Requests")
+    class UnmatchedRequests {
+
+        @Test
+        @DisplayName("Should skip timing when no resource method matched")
+        void shouldSkipTimingWithoutResourceMethod() {
+            when(resourceInfo.getResourceMethod()).thenReturn(null);
+
+            filter.filter(requestContext);
+
+            verify(requestContext, never()).setProperty(anyString(), any());
+            assertEquals(0, metrics.inFlight());
+        }
+
+        @Test
+        @DisplayName("Should still count the response status")
+        void shouldCountStatusWithoutTiming() {
+            when(responseContext.getStatus()).thenReturn(404);
+
+            filter.filter(requestContext, responseContext);
+
+            assertTrue(metrics.scrape().contains("aquarium_http_responses_total{status=\"404\"} 1\n"));
+            assertFalse(metrics.scrape().contains("aquarium_http_request_duration_seconds_count"));
+        }
+    }
+
+    static class SampleResource {
+        public String list() {
+            return "list";
+        }
+    }
+}
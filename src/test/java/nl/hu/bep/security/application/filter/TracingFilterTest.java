@@ -0,0 +1,134 @@
+package nl.hu.bep.security.application.filter;
+
+import nl.hu.bep.application.tracing.CompletedTrace;
+import nl.hu.bep.application.tracing.SlowTraceBuffer;
+import nl.hu.bep.application.tracing.Tracer;
+import nl.hu.bep.config.JsonLogLayout;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TracingFilter Tests")
+class TracingFilterTest {
+
+    @Mock
+    private ResourceInfo resourceInfo;
+
+    @Mock
+    private ContainerRequestContext requestContext;
+
+    @Mock
+    private ContainerResponseContext responseContext;
+
+    private SlowTraceBuffer buffer;
+    private Tracer tracer;
+    private TracingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new SlowTraceBuffer(4);
+        tracer = new Tracer(0, buffer);
+        filter = new TracingFilter(tracer, resourceInfo);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracer.finishTrace(200);
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("Correlation IDs")
+    class CorrelationIds {
+
+        @Test
+        @DisplayName("Should reuse a safe caller-supplied correlation id")
+        void shouldReuseSafeId() {
+            assertEquals("checkout-42.a_b", TracingFilter.resolveCorrelationId("checkout-42.a_b"));
+        }
+
+        @Test
+        @DisplayName("Should generate a new id when the supplied one is missing or unsafe")
+        void shouldGenerateIdForUnsafeInput() {
+            assertDoesNotThrow(() -> UUID.fromString(TracingFilter.resolveCorrelationId(null)));
+            assertDoesNotThrow(() -> UUID.fromString(TracingFilter.resolveCorrelationId("bad\r\nheader")));
+            assertDoesNotThrow(() -> UUID.fromString(TracingFilter.resolveCorrelationId("x".repeat(65))));
+        }
+    }
+
+    @Nested
+    @DisplayName("Request Lifecycle")
+    class RequestLifecycle {
+
+        @Test
+        @DisplayName("Should trace the request and echo the correlation id on the response")
+        void shouldTraceRequest() throws NoSuchMethodException {
+            // Given
+            Method method = SampleResource.class.getDeclaredMethod("list");
+            when(resourceInfo.getResourceMethod()).thenReturn(method);
+            doReturn(SampleResource.class).when(resourceInfo).getResourceClass();
+            when(requestContext.getHeaderString("X-Correlation-ID")).thenReturn("corr-1");
+            when(requestContext.getMethod()).thenReturn("GET");
+
+            // When
+            filter.filter(requestContext);
+
+            // Then
+            verify(requestContext).setProperty(eq(TracingFilter.CORRELATION_ID_PROPERTY), eq("corr-1"));
+            assertEquals("corr-1", MDC.get(JsonLogLayout.CORRELATION_ID_MDC_KEY));
+            assertEquals("corr-1", tracer.currentCorrelationId());
+
+            // Given
+            MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+            when(requestContext.getProperty(TracingFilter.CORRELATION_ID_PROPERTY)).thenReturn("corr-1");
+            when(responseContext.getHeaders()).thenReturn(headers);
+            when(responseContext.getStatus()).thenReturn(200);
+
+            // When
+            filter.filter(requestContext, responseContext);
+
+            // Then
+            assertEquals("corr-1", headers.getFirst("X-Correlation-ID"));
+            assertNull(MDC.get(JsonLogLayout.CORRELATION_ID_MDC_KEY));
+            CompletedTrace trace = buffer.findRecent().get(0);
+            assertEquals("GET SampleResource.list", trace.name());
+            assertEquals(200, trace.status());
+        }
+
+        @Test
+        @DisplayName("Should leave responses untouched when the request was never traced")
+        void shouldIgnoreUntracedResponse() {
+            // When
+            filter.filter(requestContext, responseContext);
+
+            // Then
+            verifyNoInteractions(responseContext);
+            assertTrue(buffer.findRecent().isEmpty());
+        }
+    }
+
+    static class SampleResource {
+        void list() {
+        }
+    }
+}